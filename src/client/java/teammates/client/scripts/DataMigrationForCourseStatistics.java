@@ -0,0 +1,75 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStatistics;
+
+/**
+ * Script to create the {@link CourseStatistics} entities of existing courses.
+ *
+ * <p>Courses created before {@link CourseStatistics} was introduced are not tracked, so that their statistics
+ * are counted from their students each time they are shown until their statistics are rebuilt.
+ * The statistics of every course without them are rebuilt from the students of the course.</p>
+ *
+ * <p>This script is to be run once the version which introduced {@link CourseStatistics} is the default version.
+ * As courses which are already tracked are skipped, the script can be re-run safely.</p>
+ */
+public class DataMigrationForCourseStatistics extends DataMigrationBaseScript<Key<Course>> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForCourseStatistics().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<Course>> getEntities() {
+        return ofy().load().type(Course.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<Course> courseKey) {
+        return ofy().load().type(CourseStatistics.class).id(courseKey.getName()).now() == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<Course> courseKey) {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<Course> courseKey) {
+        StudentsLogic.inst().rebuildCourseStats(courseKey.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+}
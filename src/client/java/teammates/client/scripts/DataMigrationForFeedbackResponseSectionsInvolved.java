@@ -0,0 +1,83 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to populate the sectionsInvolved field of all {@link FeedbackResponse} entities.
+ *
+ * <p>The field is derived from the giver and receiver sections whenever a response is saved,
+ * and is used to find the responses involving a section with a single query.
+ * Responses saved before the field was introduced are not found by such queries until this script is run.</p>
+ *
+ * <p>The actual load/save operation happens in a transaction to prevent possible inconsistencies arising from concurrent
+ * modification of the entity, e.g. if a student edits the response in the midst of the load/save.
+ * The last update time stamp of the responses is preserved.</p>
+ */
+public class DataMigrationForFeedbackResponseSectionsInvolved extends DataMigrationBaseScript<Key<FeedbackResponse>> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackResponseSectionsInvolved().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<FeedbackResponse>> getEntities() {
+        return ofy().load().type(FeedbackResponse.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackResponse> responseKey) {
+        FeedbackResponse response = ofy().load().key(responseKey).now();
+        return response.getSectionsInvolved().isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<FeedbackResponse> responseKey) {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<FeedbackResponse> responseKey) {
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackResponse response = ofy().load().key(responseKey).now();
+                response.keepUpdateTimestamp = true;
+                ofy().save().entity(response).now();
+            }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+}
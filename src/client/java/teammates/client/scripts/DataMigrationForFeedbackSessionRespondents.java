@@ -0,0 +1,87 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
+
+/**
+ * Script to create the {@link FeedbackSessionRespondent} entities of existing feedback sessions.
+ *
+ * <p>Respondents used to be kept in lists in the {@link FeedbackSession} entity, which are no longer read.
+ * The respondents of every session are rebuilt from the responses of the session.</p>
+ *
+ * <p>This script must be run when deploying the version which introduced {@link FeedbackSessionRespondent}:</p>
+ * <ol>
+ * <li>Deploy the new version without making it the default version.</li>
+ * <li>Make the new version the default version, so that new respondents are recorded as entities.</li>
+ * <li>Run this script right away. Until it completes, existing sessions show fewer respondents
+ * than they have, and students who have submitted may be reminded to submit.</li>
+ * </ol>
+ *
+ * <p>As the respondents are rebuilt from the responses, the script can be re-run safely,
+ * e.g. to cover responses submitted to the old version while the default version was being switched.</p>
+ */
+public class DataMigrationForFeedbackSessionRespondents extends DataMigrationBaseScript<Key<FeedbackSession>> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackSessionRespondents().doOperationRemotely();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected List<Key<FeedbackSession>> getEntities() {
+        return ofy().load().type(FeedbackSession.class).keys().list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isMigrationNeeded(Key<FeedbackSession> sessionKey) {
+        // sessions with respondents may still miss those who responded before the new version was the default
+        return ofy().load().key(sessionKey).now() != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void printPreviewInformation(Key<FeedbackSession> sessionKey) {
+        // nothing to do
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void migrate(Key<FeedbackSession> sessionKey)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackSession session = ofy().load().key(sessionKey).now();
+        FeedbackSessionsLogic.inst().updateRespondentsForSession(session.getFeedbackSessionName(), session.getCourseId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void postAction() {
+        // nothing to do
+    }
+}
@@ -0,0 +1,113 @@
+package teammates.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Template;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.logic.core.EmailSenderService;
+import teammates.logic.core.MailgunService;
+import teammates.logic.core.SendgridService;
+import teammates.test.driver.EmailServiceStub;
+
+/**
+ * Compares sending the feedback session emails of a session one request per email
+ * against sending them in batches, against a local stub of the email service APIs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailSenderBenchmark {
+
+    private static final int NUMBER_OF_RECIPIENTS = 200;
+
+    private EmailServiceStub stub;
+    private EmailSenderService sendgridService;
+    private EmailSenderService mailgunService;
+    private List<EmailWrapper> emails;
+
+    @Setup
+    public void setUp() throws IOException {
+        stub = EmailServiceStub.start();
+        sendgridService = new SendgridService(stub.getHost(), "sendgrid-key");
+        mailgunService = new MailgunService(stub.getUrl(), "mailgun-key", "mailgun.domain");
+
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION.bind(
+                "${courseName}", "Programming Methodology",
+                "${courseId}", "CS1101",
+                "${feedbackSessionName}", "Mid-term feedback",
+                "${deadline}", "Sun, 01 Apr 2018, 11:59 PM SGT",
+                "${instructorFragment}", "",
+                "${sessionInstructions}", "<p>Please answer all the questions of the session honestly.</p>",
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", "",
+                "${status}", "is now open");
+        emails = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_RECIPIENTS; i++) {
+            String submitUrl = "https://teammatesv4.appspot.com/page/studentFeedbackSubmissionEditPage"
+                    + "?courseid=CS1101&fsname=Mid-term+feedback&key=" + i;
+            EmailWrapper email = new EmailWrapper();
+            email.setSenderName("TEAMMATES Admin");
+            email.setSenderEmail("admin@teammates.com");
+            email.setReplyTo("teammates@comp.nus.edu.sg");
+            email.setRecipient("student" + i + "@example.com");
+            email.setSubject("TEAMMATES: Feedback session now open [Course: CS1101][Feedback Session: Mid-term feedback]");
+            email.setContent(template, "${userName}", "Student " + i,
+                    "${submitUrl}", submitUrl, "${reportUrl}", submitUrl);
+            emails.add(email);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        stub.close();
+    }
+
+    @Benchmark
+    public void sendgridSendOneByOne() throws EmailSendingException {
+        for (EmailWrapper email : emails) {
+            sendgridService.sendEmail(email);
+        }
+        stub.clear();
+    }
+
+    @Benchmark
+    public void sendgridSendInBatches() throws EmailSendingException {
+        sendgridService.sendEmails(emails);
+        stub.clear();
+    }
+
+    @Benchmark
+    public void mailgunSendOneByOne() throws EmailSendingException {
+        for (EmailWrapper email : emails) {
+            mailgunService.sendEmail(email);
+        }
+        stub.clear();
+    }
+
+    @Benchmark
+    public void mailgunSendInBatches() throws EmailSendingException {
+        mailgunService.sendEmails(emails);
+        stub.clear();
+    }
+
+}
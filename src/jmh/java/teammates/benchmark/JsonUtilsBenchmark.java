@@ -0,0 +1,84 @@
+package teammates.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Compares parsing JSON with the shared Gson of {@link JsonUtils} against creating a new Gson per call,
+ * which was how {@link JsonUtils} used to work.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+
+    private String responseDetailsJson;
+    private String privilegesJson;
+
+    @Setup
+    public void setUp() {
+        FeedbackMsqResponseDetails responseDetails = new FeedbackMsqResponseDetails();
+        responseDetails.answers = Arrays.asList("Option 1", "Option 3", "Other answer");
+        responseDetailsJson = JsonUtils.toJson(responseDetails, FeedbackMsqResponseDetails.class);
+
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        privilegesJson = JsonUtils.toJson(privileges, InstructorPrivileges.class);
+    }
+
+    @Benchmark
+    public FeedbackMsqResponseDetails parseResponseDetailsWithNewGsonPerCall() {
+        return createGson().fromJson(responseDetailsJson, FeedbackMsqResponseDetails.class);
+    }
+
+    @Benchmark
+    public FeedbackMsqResponseDetails parseResponseDetailsWithSharedGson() {
+        return JsonUtils.fromJson(responseDetailsJson, FeedbackMsqResponseDetails.class);
+    }
+
+    @Benchmark
+    public InstructorPrivileges parsePrivilegesWithNewGsonPerCall() {
+        return createGson().fromJson(privilegesJson, InstructorPrivileges.class);
+    }
+
+    @Benchmark
+    public InstructorPrivileges parsePrivilegesWithSharedGson() {
+        return JsonUtils.fromJson(privilegesJson, InstructorPrivileges.class);
+    }
+
+    /**
+     * Creates a Gson the same way as {@link JsonUtils} used to before every conversion.
+     * The adapters for date-time types are omitted as the benchmarked types do not use them.
+     */
+    private static Gson createGson() {
+        return new GsonBuilder()
+                .setPrettyPrinting()
+                .disableHtmlEscaping()
+                .create();
+    }
+
+}
@@ -0,0 +1,193 @@
+package teammates.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantSet;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Compares finding the missing responses of a session, i.e. the pairs of possible givers and recipients
+ * of each question without a response, with the participant sets of {@link FeedbackSessionResultsBundle}
+ * against sorting a fresh list of participants per giver and removing the participants with responses from it,
+ * which was how the missing responses used to be found.
+ *
+ * <p>The session has 1,000 students in teams of 5 and 20 questions from students, half of whom have responded
+ * to two recipients of each question.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MissingResponsesBenchmark {
+
+    private static final String COURSE_ID = "CS1101";
+    private static final int NUMBER_OF_STUDENTS = 1000;
+    private static final int TEAM_SIZE = 5;
+    private static final int TEAMS_PER_SECTION = 10;
+    private static final int NUMBER_OF_QUESTIONS = 20;
+    private static final FeedbackParticipantType[] RECIPIENT_TYPES = {
+            FeedbackParticipantType.STUDENTS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+            FeedbackParticipantType.TEAMS, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF,
+    };
+
+    private CourseRoster roster;
+    private FeedbackSessionResultsBundle bundle;
+    private List<FeedbackQuestionAttributes> questions;
+
+    /** The recipients of the responses to each question, by giver in the order of the responses. */
+    private Map<String, Map<String, List<String>>> responseRecipientsByQuestionAndGiver;
+
+    @Setup
+    public void setUp() {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_STUDENTS; i++) {
+            int team = i / TEAM_SIZE;
+            students.add(StudentAttributes.builder(COURSE_ID, "Student " + i, "student" + i + "@example.com")
+                    .withTeam(String.format("Team %03d", team))
+                    .withSection(String.format("Section %02d", team / TEAMS_PER_SECTION))
+                    .build());
+        }
+        roster = new CourseRoster(students, null);
+
+        FeedbackSessionAttributes session =
+                FeedbackSessionAttributes.builder("Mid-term feedback", COURSE_ID, "instructor@example.com").build();
+        Map<String, FeedbackQuestionAttributes> questionsById = new LinkedHashMap<>();
+        for (int i = 0; i < NUMBER_OF_QUESTIONS; i++) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withFeedbackSessionName(session.getFeedbackSessionName())
+                    .withCourseId(COURSE_ID)
+                    .withFeedbackQuestionId("question" + i)
+                    .withQuestionNumber(i + 1)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(RECIPIENT_TYPES[i % RECIPIENT_TYPES.length])
+                    .build();
+            questionsById.put(question.getId(), question);
+        }
+        questions = new ArrayList<>(questionsById.values());
+        bundle = new FeedbackSessionResultsBundle(session, questionsById, roster);
+
+        responseRecipientsByQuestionAndGiver = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, List<String>> responseRecipientsByGiver = new LinkedHashMap<>();
+            for (int i = 0; i < NUMBER_OF_STUDENTS; i += 2) {
+                String giver = students.get(i).email;
+                List<String> possibleRecipients = bundle.getPossibleRecipients(question, giver);
+                responseRecipientsByGiver.put(giver,
+                        new ArrayList<>(possibleRecipients.subList(0, Math.min(2, possibleRecipients.size()))));
+            }
+            responseRecipientsByQuestionAndGiver.put(question.getId(), responseRecipientsByGiver);
+        }
+    }
+
+    @Benchmark
+    public int findMissingResponsesWithParticipantSets() {
+        int numberOfMissingResponses = 0;
+        for (FeedbackQuestionAttributes question : questions) {
+            ParticipantSet giversWithoutResponses = bundle.getPossibleGiverSet(question);
+            for (Map.Entry<String, List<String>> responses
+                    : responseRecipientsByQuestionAndGiver.get(question.getId()).entrySet()) {
+                giversWithoutResponses.remove(responses.getKey());
+                ParticipantSet recipientsWithoutResponses =
+                        bundle.getPossibleRecipientSet(question, responses.getKey());
+                for (String recipient : responses.getValue()) {
+                    recipientsWithoutResponses.remove(recipient);
+                }
+                numberOfMissingResponses += count(recipientsWithoutResponses);
+            }
+            for (String giver : giversWithoutResponses) {
+                numberOfMissingResponses += count(bundle.getPossibleRecipientSet(question, giver));
+            }
+        }
+        return numberOfMissingResponses;
+    }
+
+    @Benchmark
+    public int findMissingResponsesWithSortedListsPerGiver() {
+        int numberOfMissingResponses = 0;
+        for (FeedbackQuestionAttributes question : questions) {
+            List<String> giversWithoutResponses = getSortedListOfStudentEmails();
+            for (Map.Entry<String, List<String>> responses
+                    : responseRecipientsByQuestionAndGiver.get(question.getId()).entrySet()) {
+                giversWithoutResponses.remove(responses.getKey());
+                List<String> recipientsWithoutResponses = getSortedListOfRecipients(question, responses.getKey());
+                for (String recipient : responses.getValue()) {
+                    recipientsWithoutResponses.remove(recipient);
+                }
+                numberOfMissingResponses += count(recipientsWithoutResponses);
+            }
+            for (String giver : giversWithoutResponses) {
+                numberOfMissingResponses += count(getSortedListOfRecipients(question, giver));
+            }
+        }
+        return numberOfMissingResponses;
+    }
+
+    private static int count(Iterable<String> participants) {
+        int count = 0;
+        for (String participant : participants) {
+            count += participant.isEmpty() ? 0 : 1;
+        }
+        return count;
+    }
+
+    private List<String> getSortedListOfRecipients(FeedbackQuestionAttributes question, String giver) {
+        StudentAttributes student = roster.getStudentForEmail(giver);
+        List<String> recipients;
+        switch (question.recipientType) {
+        case STUDENTS:
+            recipients = getSortedListOfStudentEmails();
+            recipients.remove(giver);
+            return recipients;
+        case TEAMS:
+            Set<String> teams = new TreeSet<>(bundle.rosterTeamNameMembersTable.keySet());
+            recipients = new ArrayList<>(teams);
+            recipients.remove(student.team);
+            return recipients;
+        case OWN_TEAM_MEMBERS:
+            recipients = new ArrayList<>(bundle.getTeamMembersFromRoster(student.team));
+            recipients.sort(null);
+            recipients.remove(giver);
+            return recipients;
+        default:
+            recipients = new ArrayList<>(bundle.getTeamMembersFromRoster(student.team));
+            recipients.sort(null);
+            return recipients;
+        }
+    }
+
+    private List<String> getSortedListOfStudentEmails() {
+        List<String> emails = new ArrayList<>();
+        List<StudentAttributes> students = roster.getStudents();
+        StudentAttributes.sortBySectionName(students);
+        for (StudentAttributes student : students) {
+            emails.add(student.email);
+        }
+        return emails;
+    }
+
+}
@@ -0,0 +1,85 @@
+package teammates.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teammates.common.util.Template;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+
+/**
+ * Compares rendering the feedback session email for every recipient with the compiled {@link Template}
+ * against replacing each placeholder in turn in the template string, which was how all templates used to be populated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplatesBenchmark {
+
+    private static final int NUMBER_OF_RECIPIENTS = 5000;
+
+    private String templateText;
+    private String sessionInstructions;
+
+    @Setup
+    public void setUp() {
+        templateText = EmailTemplates.USER_FEEDBACK_SESSION.getText();
+
+        StringBuilder instructions = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            instructions.append("<p>Please answer all the questions of the session honestly.</p>");
+        }
+        sessionInstructions = instructions.toString();
+    }
+
+    @Benchmark
+    public void renderWithStringReplace(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_RECIPIENTS; i++) {
+            blackhole.consume(Templates.populateTemplate(templateText, getKeyValuePairs(i)));
+        }
+    }
+
+    @Benchmark
+    public void renderWithCompiledTemplate(Blackhole blackhole) {
+        for (int i = 0; i < NUMBER_OF_RECIPIENTS; i++) {
+            blackhole.consume(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, getKeyValuePairs(i)));
+        }
+    }
+
+    /**
+     * Returns the values used by the email generator for the recipient with the given index.
+     */
+    private String[] getKeyValuePairs(int recipientIndex) {
+        String submitUrl = "https://teammatesv4.appspot.com/page/studentFeedbackSubmissionEditPage"
+                + "?courseid=CS1101&fsname=Mid-term+feedback&key=" + recipientIndex;
+        return new String[] {
+                "${userName}", "Student " + recipientIndex,
+                "${courseName}", "Programming Methodology",
+                "${courseId}", "CS1101",
+                "${feedbackSessionName}", "Mid-term feedback",
+                "${deadline}", "Sun, 01 Apr 2018, 11:59 PM SGT",
+                "${instructorFragment}", "",
+                "${sessionInstructions}", sessionInstructions,
+                "${submitUrl}", submitUrl,
+                "${reportUrl}", submitUrl,
+                "${feedbackAction}", "submit",
+                "${additionalContactInformation}", "",
+                "${status}", "is now open"
+        };
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains JMH micro-benchmarks for hot paths of the application.
+ */
+package teammates.benchmark;
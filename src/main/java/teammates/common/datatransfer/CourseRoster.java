@@ -1,26 +1,42 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 
 /**
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The students are also indexed by team, and the students, instructors and teams are kept sorted
+ * in the order in which they are displayed, so that the participants of a course can be found
+ * in time proportional to the number of participants found. These sorted lists are computed once
+ * when the roster is created and are returned as unmodifiable views.
  */
 public class CourseRoster {
 
     Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
     Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private final Map<String, List<StudentAttributes>> studentListByTeam = new HashMap<>();
+    private final List<StudentAttributes> sortedStudentList;
+    private final List<InstructorAttributes> sortedInstructorList;
+    private final List<String> sortedTeamNames;
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
+        sortedStudentList = Collections.unmodifiableList(sortStudents());
+        sortedInstructorList = Collections.unmodifiableList(sortInstructors());
+        sortedTeamNames = Collections.unmodifiableList(indexStudentsByTeam());
     }
 
     public List<StudentAttributes> getStudents() {
@@ -31,6 +47,58 @@ public class CourseRoster {
         return new ArrayList<>(instructorListByEmail.values());
     }
 
+    /**
+     * Returns the students in the course sorted by name and then by email.
+     */
+    public List<StudentAttributes> getSortedStudents() {
+        return sortedStudentList;
+    }
+
+    /**
+     * Returns the instructors in the course sorted by name and then by email.
+     */
+    public List<InstructorAttributes> getSortedInstructors() {
+        return sortedInstructorList;
+    }
+
+    /**
+     * Returns the names of the teams in the course in alphabetical order.
+     */
+    public List<String> getSortedTeamNames() {
+        return sortedTeamNames;
+    }
+
+    /**
+     * Returns the section of the team {@code teamName}, or the default section if there is no such team.
+     */
+    public String getSectionForTeam(String teamName) {
+        List<StudentAttributes> teamMembers = studentListByTeam.get(teamName);
+        return teamMembers == null ? Const.DEFAULT_SECTION : teamMembers.get(0).section;
+    }
+
+    public int getNumberOfStudents() {
+        return studentListByEmail.size();
+    }
+
+    public int getNumberOfInstructors() {
+        return instructorListByEmail.size();
+    }
+
+    /**
+     * Returns the names of the teams in the course, i.e. of the teams with at least one student.
+     */
+    public Set<String> getTeamNames() {
+        return Collections.unmodifiableSet(studentListByTeam.keySet());
+    }
+
+    /**
+     * Returns the students in the team {@code teamName} sorted by name and then by email,
+     * or an empty list if there is no such team.
+     */
+    public List<StudentAttributes> getStudentsInTeam(String teamName) {
+        return studentListByTeam.getOrDefault(teamName, Collections.emptyList());
+    }
+
     /**
      * Checks if an instructor is the instructor of a course by providing an email address.
      * @param instructorEmail email of the instructor to be checked.
@@ -86,4 +154,32 @@ public class CourseRoster {
         }
     }
 
+    private List<StudentAttributes> sortStudents() {
+        List<StudentAttributes> students = new ArrayList<>(studentListByEmail.values());
+        StudentAttributes.sortByNameAndThenByEmail(students);
+        return students;
+    }
+
+    private List<InstructorAttributes> sortInstructors() {
+        List<InstructorAttributes> instructors = new ArrayList<>(instructorListByEmail.values());
+        instructors.sort(Comparator.comparing((InstructorAttributes instructor) -> instructor.name)
+                .thenComparing(instructor -> instructor.email));
+        return instructors;
+    }
+
+    /**
+     * Groups the sorted students by team, and returns the names of the teams in alphabetical order.
+     */
+    private List<String> indexStudentsByTeam() {
+        Map<String, List<StudentAttributes>> studentsByTeam = new HashMap<>();
+        for (StudentAttributes s : sortedStudentList) {
+            studentsByTeam.computeIfAbsent(s.team, team -> new ArrayList<>()).add(s);
+        }
+        studentsByTeam.forEach((team, students) -> studentListByTeam.put(team, Collections.unmodifiableList(students)));
+
+        List<String> teamNames = new ArrayList<>(studentListByTeam.keySet());
+        Collections.sort(teamNames);
+        return teamNames;
+    }
+
 }
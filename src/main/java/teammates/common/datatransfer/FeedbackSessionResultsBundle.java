@@ -76,82 +76,65 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Set<String>> sectionTeamNameTable;
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverSection =
-            Comparator.comparing(fra -> fra.giverSection);
-
-    private Comparator<FeedbackResponseAttributes> compareByRecipientSection =
-            Comparator.comparing(fra -> fra.recipientSection);
-
-    private Comparator<FeedbackResponseAttributes> compareByGiverName =
-            (fra1, fra2) ->
-                    compareByNames(emailNameTable.get(fra1.giver), emailNameTable.get(fra2.giver),
-                            isGiverVisible(fra1), isGiverVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByRecipientName =
-            (fra1, fra2) ->
-                    compareByNames(emailNameTable.get(fra1.recipient), emailNameTable.get(fra2.recipient),
-                            isRecipientVisible(fra1), isRecipientVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByGiverEmail =
-            (fra1, fra2) -> compareByNames(fra1.giver, fra2.giver, isGiverVisible(fra1), isGiverVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByRecipientEmail =
-            (fra1, fra2) ->
-                    compareByNames(fra1.recipient, fra2.recipient, isRecipientVisible(fra1), isRecipientVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByGiverDisplayName =
-            (fra1, fra2) ->
-                    compareByNames(getNameForEmail(fra1.giver), getNameForEmail(fra2.giver),
-                            isGiverVisible(fra1), isGiverVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByRecipientDisplayName =
-            (fra1, fra2) ->
-                    compareByNames(getNameForEmail(fra1.recipient), getNameForEmail(fra2.recipient),
-                            isRecipientVisible(fra1), isRecipientVisible(fra2));
-
-    private Comparator<FeedbackResponseAttributes> compareByQuestionNumber = (r1, r2) -> {
-        FeedbackQuestionAttributes q1 = questions.get(r1.feedbackQuestionId);
-        FeedbackQuestionAttributes q2 = questions.get(r2.feedbackQuestionId);
-        if (q1 == null || q2 == null) {
-            return 0;
-        }
-        return q1.compareTo(q2);
-    };
+    // The participants of the course in the order in which they are listed, built once when first needed
+    // so that the possible givers and recipients of each question are copied from them instead of sorted again
+    private ParticipantSet sortedStudentEmails;
+    private ParticipantSet sortedInstructorEmails;
+    private ParticipantSet sortedTeams;
+    private Map<String, ParticipantSet> sortedTeamMembersEmailsTable = new HashMap<>();
 
-    private Comparator<FeedbackResponseAttributes> compareByGiverTeam = (o1, o2) -> {
+    private Comparator<ResponseSortKey> compareByGiverSection =
+            Comparator.comparing(key -> key.response.giverSection);
 
-        boolean isGiverVisible1 = isGiverVisible(o1);
-        boolean isGiverVisible2 = isGiverVisible(o2);
+    private Comparator<ResponseSortKey> compareByRecipientSection =
+            Comparator.comparing(key -> key.response.recipientSection);
 
-        String t1 = getTeamNameForEmail(o1.giver).isEmpty() ? getNameForEmail(o1.giver)
-                : getTeamNameForEmail(o1.giver);
-        String t2 = getTeamNameForEmail(o2.giver).isEmpty() ? getNameForEmail(o2.giver)
-                : getTeamNameForEmail(o2.giver);
-        return compareByNames(t1, t2, isGiverVisible1, isGiverVisible2);
-    };
+    private Comparator<ResponseSortKey> compareByGiverName =
+            (key1, key2) -> compareByNames(key1.giverName, key2.giverName, key1.isGiverVisible, key2.isGiverVisible);
+
+    private Comparator<ResponseSortKey> compareByRecipientName =
+            (key1, key2) -> compareByNames(key1.recipientName, key2.recipientName,
+                    key1.isRecipientVisible, key2.isRecipientVisible);
 
-    private Comparator<FeedbackResponseAttributes> compareByRecipientTeam = (o1, o2) -> {
+    private Comparator<ResponseSortKey> compareByGiverEmail =
+            (key1, key2) -> compareByNames(key1.response.giver, key2.response.giver,
+                    key1.isGiverVisible, key2.isGiverVisible);
 
-        boolean isRecipientVisible1 = isRecipientVisible(o1);
-        boolean isRecipientVisible2 = isRecipientVisible(o2);
+    private Comparator<ResponseSortKey> compareByRecipientEmail =
+            (key1, key2) -> compareByNames(key1.response.recipient, key2.response.recipient,
+                    key1.isRecipientVisible, key2.isRecipientVisible);
 
-        String t1 = getTeamNameForEmail(o1.recipient).isEmpty() ? getNameForEmail(o1.recipient)
-                : getTeamNameForEmail(o1.recipient);
-        String t2 = getTeamNameForEmail(o2.recipient).isEmpty() ? getNameForEmail(o2.recipient)
-                : getTeamNameForEmail(o2.recipient);
-        return compareByNames(t1, t2, isRecipientVisible1, isRecipientVisible2);
+    private Comparator<ResponseSortKey> compareByGiverDisplayName =
+            (key1, key2) -> compareByNames(key1.giverDisplayName, key2.giverDisplayName,
+                    key1.isGiverVisible, key2.isGiverVisible);
 
+    private Comparator<ResponseSortKey> compareByRecipientDisplayName =
+            (key1, key2) -> compareByNames(key1.recipientDisplayName, key2.recipientDisplayName,
+                    key1.isRecipientVisible, key2.isRecipientVisible);
+
+    private Comparator<ResponseSortKey> compareByQuestionNumber = (key1, key2) -> {
+        if (key1.question == null || key2.question == null) {
+            return 0;
+        }
+        return key1.question.compareTo(key2.question);
     };
 
-    private Comparator<FeedbackResponseAttributes> compareByResponseString =
-            Comparator.comparing(fra -> fra.getResponseDetails().getAnswerString());
+    private Comparator<ResponseSortKey> compareByGiverTeam =
+            (key1, key2) -> compareByNames(key1.giverTeam, key2.giverTeam, key1.isGiverVisible, key2.isGiverVisible);
+
+    private Comparator<ResponseSortKey> compareByRecipientTeam =
+            (key1, key2) -> compareByNames(key1.recipientTeam, key2.recipientTeam,
+                    key1.isRecipientVisible, key2.isRecipientVisible);
 
-    private Comparator<FeedbackResponseAttributes> compareByFeedbackResponseAttributeId =
-            Comparator.comparing(fra -> fra.getId());
+    private Comparator<ResponseSortKey> compareByResponseString =
+            Comparator.comparing(ResponseSortKey::getAnswerString);
+
+    private Comparator<ResponseSortKey> compareByFeedbackResponseAttributeId =
+            Comparator.comparing(key -> key.response.getId());
 
     // Sorts by giverName > recipientName > qnNumber
     // General questions and team questions at the bottom.
-    public Comparator<FeedbackResponseAttributes> compareByGiverRecipientQuestion = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByGiverRecipientQuestion = compareByGiverSection
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
@@ -159,13 +142,13 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverName > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByGiverRecipient = compareByGiverName
+    private Comparator<ResponseSortKey> compareByGiverRecipient = compareByGiverName
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByResponseString)
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by teamName > giverName > recipientName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByTeamGiverRecipientQuestion = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByTeamGiverRecipientQuestion = compareByGiverSection
             .thenComparing(compareByGiverTeam)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientName)
@@ -174,7 +157,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > giverName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByRecipientGiverQuestion = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByRecipientGiverQuestion = compareByRecipientSection
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
@@ -182,7 +165,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by teamName > recipientName > giverName > qnNumber
-    private Comparator<FeedbackResponseAttributes> compareByTeamRecipientGiverQuestion = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByTeamRecipientGiverQuestion = compareByRecipientSection
             .thenComparing(compareByRecipientTeam)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverName)
@@ -191,7 +174,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverName > question > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByGiverQuestionTeamRecipient = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByGiverQuestionTeamRecipient = compareByGiverSection
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByRecipientTeam)
@@ -200,7 +183,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverTeam > giverName > question > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByTeamGiverQuestionTeamRecipient = compareByGiverSection
+    private Comparator<ResponseSortKey> compareByTeamGiverQuestionTeamRecipient = compareByGiverSection
             .thenComparing(compareByGiverTeam)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByQuestionNumber)
@@ -210,7 +193,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > question > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByRecipientQuestionTeamGiver = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByRecipientQuestionTeamGiver = compareByRecipientSection
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByGiverTeam)
@@ -219,7 +202,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientTeam > recipientName > question > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByTeamRecipientQuestionTeamGiver = compareByRecipientSection
+    private Comparator<ResponseSortKey> compareByTeamRecipientQuestionTeamGiver = compareByRecipientSection
             .thenComparing(compareByRecipientTeam)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByQuestionNumber)
@@ -229,7 +212,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientTeam > question > recipientName > giverTeam > giverName
-    private Comparator<FeedbackResponseAttributes> compareByTeamQuestionRecipientTeamGiver = compareByRecipientTeam
+    private Comparator<ResponseSortKey> compareByTeamQuestionRecipientTeamGiver = compareByRecipientTeam
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByRecipientName)
             .thenComparing(compareByGiverTeam)
@@ -238,7 +221,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by giverTeam > question > giverName > recipientTeam > recipientName
-    private Comparator<FeedbackResponseAttributes> compareByTeamQuestionGiverTeamRecipient = compareByGiverTeam
+    private Comparator<ResponseSortKey> compareByTeamQuestionGiverTeamRecipient = compareByGiverTeam
             .thenComparing(compareByQuestionNumber)
             .thenComparing(compareByGiverName)
             .thenComparing(compareByRecipientTeam)
@@ -247,7 +230,7 @@ public class FeedbackSessionResultsBundle {
             .thenComparing(compareByFeedbackResponseAttributeId);
 
     // Sorts by recipientName > recipientEmail > giverName > giverEmail
-    private Comparator<FeedbackResponseAttributes> compareByRecipientNameEmailGiverNameEmail =
+    private Comparator<ResponseSortKey> compareByRecipientNameEmailGiverNameEmail =
             compareByRecipientDisplayName.thenComparing(compareByRecipientEmail)
                     .thenComparing(compareByGiverDisplayName)
                     .thenComparing(compareByGiverEmail)
@@ -601,60 +584,69 @@ public class FeedbackSessionResultsBundle {
      */
     public List<String> getPossibleGivers(FeedbackQuestionAttributes fqa,
                                           String recipientParticipantIdentifier) {
+        return getPossibleGiverSet(fqa, recipientParticipantIdentifier).toList();
+    }
+
+    /**
+     * Get the possible givers for a recipient specified by its participant identifier for
+     * a question, as a set which can be updated cheaply as givers with responses are found.
+     *
+     * @see #getPossibleGivers(FeedbackQuestionAttributes, String)
+     */
+    public ParticipantSet getPossibleGiverSet(FeedbackQuestionAttributes fqa,
+                                              String recipientParticipantIdentifier) {
         if (recipientParticipantIdentifier.contains("@@")) {
-            return new ArrayList<>();
+            return ParticipantSet.of();
         }
 
         if (isParticipantIdentifierStudent(recipientParticipantIdentifier)) {
             StudentAttributes student = roster.getStudentForEmail(recipientParticipantIdentifier);
-            return getPossibleGivers(fqa, student);
+            return getPossibleGiverSet(fqa, student);
         } else if (isParticipantIdentifierInstructor(recipientParticipantIdentifier)) {
-            return getPossibleGivers(fqa);
+            return getPossibleGiverSet(fqa);
         } else if (recipientParticipantIdentifier.equals(Const.GENERAL_QUESTION)) {
             switch (fqa.giverType) {
             case STUDENTS:
-                return getSortedListOfStudentEmails();
+                return getSortedSetOfStudentEmails();
             case TEAMS:
-                return getSortedListOfTeams();
+                return getSortedSetOfTeams();
             case INSTRUCTORS:
-                return getSortedListOfInstructorEmails();
+                return getSortedSetOfInstructorEmails();
             case SELF:
-                List<String> creatorEmail = new ArrayList<>();
-                creatorEmail.add(fqa.creatorEmail);
-                return creatorEmail;
+                return ParticipantSet.of(fqa.creatorEmail);
             default:
                 log.severe("Invalid giver type specified");
-                return new ArrayList<>();
+                return ParticipantSet.of();
             }
         } else {
-            return getPossibleGiversForTeam(fqa, recipientParticipantIdentifier);
+            return getPossibleGiverSetForTeam(fqa, recipientParticipantIdentifier);
         }
     }
 
     /**
      * Get the possible givers for a TEAM recipient for the question specified.
-     * @return a list of possible givers that can give a response to the team
+     * @return a set of possible givers that can give a response to the team
      *         specified as the recipient
      */
-    private List<String> getPossibleGiversForTeam(FeedbackQuestionAttributes fqa,
-                                                  String recipientTeam) {
+    private ParticipantSet getPossibleGiverSetForTeam(FeedbackQuestionAttributes fqa,
+                                                      String recipientTeam) {
         FeedbackParticipantType giverType = fqa.giverType;
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleGivers = new ArrayList<>();
+        ParticipantSet possibleGivers = ParticipantSet.of();
 
         if (recipientType == FeedbackParticipantType.TEAMS) {
             switch (giverType) {
             case TEAMS:
-                possibleGivers = getSortedListOfTeams();
+                possibleGivers = getSortedSetOfTeams();
                 break;
             case STUDENTS:
-                possibleGivers = getSortedListOfStudentEmails();
+                possibleGivers = getSortedSetOfStudentEmails();
                 break;
             case INSTRUCTORS:
-                possibleGivers = getSortedListOfInstructorEmails();
+                possibleGivers = getSortedSetOfInstructorEmails();
                 break;
             case SELF:
-                possibleGivers.add(fqa.creatorEmail);
+                possibleGivers = ParticipantSet.of(fqa.creatorEmail);
                 break;
             default:
                 log.severe("Invalid giver type specified");
@@ -662,9 +654,9 @@ public class FeedbackSessionResultsBundle {
             }
         } else if (recipientType == FeedbackParticipantType.OWN_TEAM) {
             if (giverType == FeedbackParticipantType.TEAMS) {
-                possibleGivers.add(recipientTeam);
+                possibleGivers = ParticipantSet.of(recipientTeam);
             } else {
-                possibleGivers = new ArrayList<>(getTeamMembersFromRoster(recipientTeam));
+                possibleGivers = ParticipantSet.of(new ArrayList<>(getTeamMembersFromRoster(recipientTeam)));
             }
         }
 
@@ -673,27 +665,27 @@ public class FeedbackSessionResultsBundle {
 
     /**
      * Get the possible givers for a STUDENT recipient for the question specified.
-     * @return a list of possible givers that can give a response to the student
+     * @return a set of possible givers that can give a response to the student
      *         specified as the recipient
      */
-    private List<String> getPossibleGivers(FeedbackQuestionAttributes fqa,
-                                           StudentAttributes studentRecipient) {
+    private ParticipantSet getPossibleGiverSet(FeedbackQuestionAttributes fqa,
+                                               StudentAttributes studentRecipient) {
         FeedbackParticipantType giverType = fqa.giverType;
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleGivers = new ArrayList<>();
+        ParticipantSet possibleGivers = ParticipantSet.of();
 
         switch (giverType) {
         case STUDENTS:
-            possibleGivers = getSortedListOfStudentEmails();
+            possibleGivers = getSortedSetOfStudentEmails();
             break;
         case INSTRUCTORS:
-            possibleGivers = getSortedListOfInstructorEmails();
+            possibleGivers = getSortedSetOfInstructorEmails();
             break;
         case TEAMS:
-            possibleGivers = getSortedListOfTeams();
+            possibleGivers = getSortedSetOfTeams();
             break;
         case SELF:
-            possibleGivers.add(fqa.creatorEmail);
+            possibleGivers = ParticipantSet.of(fqa.creatorEmail);
             break;
         default:
             log.severe("Invalid giver type specified");
@@ -705,14 +697,15 @@ public class FeedbackSessionResultsBundle {
         case TEAMS:
             break;
         case SELF:
-            possibleGivers = new ArrayList<>();
-            possibleGivers.add(studentRecipient.email);
+            possibleGivers = ParticipantSet.of(studentRecipient.email);
             break;
         case OWN_TEAM_MEMBERS:
-            possibleGivers.retainAll(getSortedListOfTeamMembersEmailsExcludingSelf(studentRecipient));
+            Set<String> teamMembersExcludingSelf = getTeamMembersFromRoster(studentRecipient.team);
+            teamMembersExcludingSelf.remove(studentRecipient.email);
+            possibleGivers.retainAll(teamMembersExcludingSelf);
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            possibleGivers.retainAll(getSortedListOfTeamMembersEmails(studentRecipient));
+            possibleGivers.retainAll(getTeamMembersFromRoster(studentRecipient.team));
             break;
         default:
             break;
@@ -726,40 +719,51 @@ public class FeedbackSessionResultsBundle {
      * @return a list of possible givers within given section
      */
     public List<String> getPossibleGiversInSection(FeedbackQuestionAttributes fqa, String section) {
-        List<String> allPossibleGivers = getPossibleGivers(fqa);
-
-        if (section == null || "All".equals(section)) {
-            return allPossibleGivers;
-        }
+        return getPossibleGiverSetInSection(fqa, section).toList();
+    }
 
-        List<String> giversInSection = new ArrayList<>();
+    /**
+     * Get the possible givers for the question specified within specified section, as a set which
+     * can be updated cheaply as givers with responses are found.
+     *
+     * @see #getPossibleGiversInSection(FeedbackQuestionAttributes, String)
+     */
+    public ParticipantSet getPossibleGiverSetInSection(FeedbackQuestionAttributes fqa, String section) {
+        ParticipantSet possibleGivers = getPossibleGiverSet(fqa);
 
-        for (String giverIdentifier : allPossibleGivers) {
-            if (getSectionFromRoster(giverIdentifier).equals(section)) {
-                giversInSection.add(giverIdentifier);
-            }
+        if (section != null && !"All".equals(section)) {
+            possibleGivers.removeIf(giverIdentifier -> !getSectionFromRoster(giverIdentifier).equals(section));
         }
 
-        return giversInSection;
+        return possibleGivers;
     }
 
     public List<String> getPossibleGivers(FeedbackQuestionAttributes fqa) {
+        return getPossibleGiverSet(fqa).toList();
+    }
+
+    /**
+     * Get the possible givers for the question specified, as a set which can be updated cheaply
+     * as givers with responses are found.
+     *
+     * @see #getPossibleGivers(FeedbackQuestionAttributes)
+     */
+    public ParticipantSet getPossibleGiverSet(FeedbackQuestionAttributes fqa) {
         FeedbackParticipantType giverType = fqa.giverType;
-        List<String> possibleGivers = new ArrayList<>();
+        ParticipantSet possibleGivers = ParticipantSet.of();
 
         switch (giverType) {
         case STUDENTS:
-            possibleGivers = getSortedListOfStudentEmails();
+            possibleGivers = getSortedSetOfStudentEmails();
             break;
         case INSTRUCTORS:
-            possibleGivers = getSortedListOfInstructorEmails();
+            possibleGivers = getSortedSetOfInstructorEmails();
             break;
         case TEAMS:
-            possibleGivers = getSortedListOfTeams();
+            possibleGivers = getSortedSetOfTeams();
             break;
         case SELF:
-            possibleGivers = new ArrayList<>();
-            possibleGivers.add(fqa.creatorEmail);
+            possibleGivers = ParticipantSet.of(fqa.creatorEmail);
             break;
         default:
             log.severe("Invalid giver type specified");
@@ -782,14 +786,14 @@ public class FeedbackSessionResultsBundle {
         case STUDENTS:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            possibleRecipients = getSortedListOfStudentEmails();
+            possibleRecipients = getSortedSetOfStudentEmails().toList();
             break;
         case INSTRUCTORS:
-            possibleRecipients = getSortedListOfInstructorEmails();
+            possibleRecipients = getSortedSetOfInstructorEmails().toList();
             break;
         case TEAMS:
         case OWN_TEAM:
-            possibleRecipients = getSortedListOfTeams();
+            possibleRecipients = getSortedSetOfTeams().toList();
             break;
         case NONE:
             possibleRecipients = new ArrayList<>();
@@ -811,50 +815,61 @@ public class FeedbackSessionResultsBundle {
      */
     public List<String> getPossibleRecipients(FeedbackQuestionAttributes fqa,
                                               String giverParticipantIdentifier) {
+        return getPossibleRecipientSet(fqa, giverParticipantIdentifier).toList();
+    }
+
+    /**
+     * Get the possible recipients for a giver for the question specified, as a set which can be
+     * updated cheaply as recipients with responses are found.
+     *
+     * @see #getPossibleRecipients(FeedbackQuestionAttributes, String)
+     */
+    public ParticipantSet getPossibleRecipientSet(FeedbackQuestionAttributes fqa,
+                                                  String giverParticipantIdentifier) {
         if (giverParticipantIdentifier.contains("@@")) {
-            return new ArrayList<>();
+            return ParticipantSet.of();
         }
 
         if (isParticipantIdentifierStudent(giverParticipantIdentifier)) {
             StudentAttributes student = roster.getStudentForEmail(giverParticipantIdentifier);
-            return getPossibleRecipients(fqa, student);
+            return getPossibleRecipientSet(fqa, student);
         } else if (isParticipantIdentifierInstructor(giverParticipantIdentifier)) {
             InstructorAttributes instructor = roster.getInstructorForEmail(giverParticipantIdentifier);
-            return getPossibleRecipients(fqa, instructor);
+            return getPossibleRecipientSet(fqa, instructor);
         } else {
-            return getPossibleRecipientsForTeam(fqa, giverParticipantIdentifier);
+            return getPossibleRecipientSetForTeam(fqa, giverParticipantIdentifier);
         }
     }
 
     /**
      * Get the possible recipients for a INSTRUCTOR giver for the question specified.
-     * @return a list of possible recipients that can receive a response from giver specified by
+     * @return a set of possible recipients that can receive a response from giver specified by
      *         the instructorGiver
      */
-    private List<String> getPossibleRecipients(FeedbackQuestionAttributes fqa,
-                                               InstructorAttributes instructorGiver) {
+    private ParticipantSet getPossibleRecipientSet(FeedbackQuestionAttributes fqa,
+                                                   InstructorAttributes instructorGiver) {
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleRecipients = new ArrayList<>();
+        ParticipantSet possibleRecipients = ParticipantSet.of();
 
         switch (recipientType) {
         case STUDENTS:
-            possibleRecipients = getSortedListOfStudentEmails();
+            possibleRecipients = getSortedSetOfStudentEmails();
             break;
         case INSTRUCTORS:
-            possibleRecipients = getSortedListOfInstructorEmails();
+            possibleRecipients = getSortedSetOfInstructorEmails();
             possibleRecipients.remove(instructorGiver.email);
             break;
         case TEAMS:
-            possibleRecipients = getSortedListOfTeams();
+            possibleRecipients = getSortedSetOfTeams();
             break;
         case SELF:
-            possibleRecipients.add(instructorGiver.email);
+            possibleRecipients = ParticipantSet.of(instructorGiver.email);
             break;
         case OWN_TEAM:
-            possibleRecipients.add(Const.USER_TEAM_FOR_INSTRUCTOR);
+            possibleRecipients = ParticipantSet.of(Const.USER_TEAM_FOR_INSTRUCTOR);
             break;
         case NONE:
-            possibleRecipients.add(Const.GENERAL_QUESTION);
+            possibleRecipients = ParticipantSet.of(Const.GENERAL_QUESTION);
             break;
         default:
             log.severe("Invalid recipient type specified");
@@ -866,39 +881,41 @@ public class FeedbackSessionResultsBundle {
 
     /**
      * Get the possible recipients for a STUDENT giver for the question specified.
-     * @return a list of possible recipients that can receive a response from giver specified by
+     * @return a set of possible recipients that can receive a response from giver specified by
      *         the studentGiver
      */
-    private List<String> getPossibleRecipients(FeedbackQuestionAttributes fqa,
-                                               StudentAttributes studentGiver) {
+    private ParticipantSet getPossibleRecipientSet(FeedbackQuestionAttributes fqa,
+                                                   StudentAttributes studentGiver) {
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleRecipients = new ArrayList<>();
+        ParticipantSet possibleRecipients = ParticipantSet.of();
 
         switch (recipientType) {
         case STUDENTS:
-            possibleRecipients = getSortedListOfStudentEmails();
+            possibleRecipients = getSortedSetOfStudentEmails();
             possibleRecipients.remove(studentGiver.email);
             break;
         case OWN_TEAM_MEMBERS:
-            possibleRecipients = getSortedListOfTeamMembersEmailsExcludingSelf(studentGiver);
+            possibleRecipients = getSortedSetOfTeamMembersEmails(studentGiver.team);
+            possibleRecipients.remove(studentGiver.email);
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            possibleRecipients = getSortedListOfTeamMembersEmails(studentGiver);
+            possibleRecipients = getSortedSetOfTeamMembersEmails(studentGiver.team);
             break;
         case INSTRUCTORS:
-            possibleRecipients = getSortedListOfInstructorEmails();
+            possibleRecipients = getSortedSetOfInstructorEmails();
             break;
         case TEAMS:
-            possibleRecipients = getSortedListOfTeamsExcludingOwnTeam(studentGiver);
+            possibleRecipients = getSortedSetOfTeams();
+            possibleRecipients.remove(studentGiver.team);
             break;
         case OWN_TEAM:
-            possibleRecipients.add(studentGiver.team);
+            possibleRecipients = ParticipantSet.of(studentGiver.team);
             break;
         case SELF:
-            possibleRecipients.add(studentGiver.email);
+            possibleRecipients = ParticipantSet.of(studentGiver.email);
             break;
         case NONE:
-            possibleRecipients.add(Const.GENERAL_QUESTION);
+            possibleRecipients = ParticipantSet.of(Const.GENERAL_QUESTION);
             break;
         default:
             log.severe("Invalid recipient type specified");
@@ -910,38 +927,36 @@ public class FeedbackSessionResultsBundle {
 
     /**
      * Get the possible recipients for a TEAM giver for the question specified.
-     * @return a list of possible recipients that can receive a response from giver specified by
+     * @return a set of possible recipients that can receive a response from giver specified by
      *         the givingTeam
      */
-    private List<String> getPossibleRecipientsForTeam(FeedbackQuestionAttributes fqa,
-                                                      String givingTeam) {
+    private ParticipantSet getPossibleRecipientSetForTeam(FeedbackQuestionAttributes fqa,
+                                                          String givingTeam) {
         FeedbackParticipantType recipientType = fqa.recipientType;
-        List<String> possibleRecipients = new ArrayList<>();
+        ParticipantSet possibleRecipients = ParticipantSet.of();
 
         switch (recipientType) {
         case TEAMS:
-            possibleRecipients = getSortedListOfTeams();
+            possibleRecipients = getSortedSetOfTeams();
             possibleRecipients.remove(givingTeam);
             break;
         case SELF:
         case OWN_TEAM:
-            possibleRecipients.add(givingTeam);
+            possibleRecipients = ParticipantSet.of(givingTeam);
             break;
         case INSTRUCTORS:
-            possibleRecipients = getSortedListOfInstructorEmails();
+            possibleRecipients = getSortedSetOfInstructorEmails();
             break;
         case STUDENTS:
-            possibleRecipients = getSortedListOfStudentEmails();
+            possibleRecipients = getSortedSetOfStudentEmails();
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
             if (rosterTeamNameMembersTable.containsKey(givingTeam)) {
-                Set<String> studentEmailsToNames = rosterTeamNameMembersTable.get(givingTeam);
-                possibleRecipients = new ArrayList<>(studentEmailsToNames);
-                possibleRecipients.sort(null);
+                possibleRecipients = getSortedSetOfTeamMembersEmails(givingTeam);
             }
             break;
         case NONE:
-            possibleRecipients.add(Const.GENERAL_QUESTION);
+            possibleRecipients = ParticipantSet.of(Const.GENERAL_QUESTION);
             break;
         default:
             log.severe("Invalid recipient type specified");
@@ -951,22 +966,18 @@ public class FeedbackSessionResultsBundle {
         return possibleRecipients;
     }
 
-    private List<String> getSortedListOfTeamsExcludingOwnTeam(StudentAttributes student) {
-        String studentTeam = student.team;
-        List<String> listOfTeams = getSortedListOfTeams();
-        listOfTeams.remove(studentTeam);
-        return listOfTeams;
-    }
-
     /**
-     * Get a sorted list of teams for the feedback session.<br>
+     * Get a sorted set of teams for the feedback session.<br>
      * Instructors are not present as a team.
      */
-    private List<String> getSortedListOfTeams() {
-        List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
-        teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
-        teams.sort(null);
-        return teams;
+    private ParticipantSet getSortedSetOfTeams() {
+        if (sortedTeams == null) {
+            List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
+            teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
+            teams.sort(null);
+            sortedTeams = ParticipantSet.of(teams);
+        }
+        return sortedTeams.copy();
     }
 
     /**
@@ -974,54 +985,49 @@ public class FeedbackSessionResultsBundle {
      * This list includes the student.
      *
      * @return a list of team members, including the original student
-     * @see #getSortedListOfTeamMembersEmailsExcludingSelf
      */
     public List<String> getSortedListOfTeamMembersEmails(StudentAttributes student) {
-        String teamName = student.team;
-        Set<String> teamMembersEmailsToNames = rosterTeamNameMembersTable.get(teamName);
-        List<String> teamMembers = new ArrayList<>(teamMembersEmailsToNames);
-        teamMembers.sort(null);
-        return teamMembers;
+        return getSortedSetOfTeamMembersEmails(student.team).toList();
     }
 
-    /**
-     * Get a sorted list of team members, who are in the same team as the student,
-     * EXCLUDING the student.
-     *
-     * @return a list of team members, excluding the original student
-     * @see #getSortedListOfTeamMembersEmails
-     */
-    private List<String> getSortedListOfTeamMembersEmailsExcludingSelf(StudentAttributes student) {
-        List<String> teamMembers = getSortedListOfTeamMembersEmails(student);
-        String currentStudentEmail = student.email;
-        teamMembers.remove(currentStudentEmail);
-        return teamMembers;
+    private ParticipantSet getSortedSetOfTeamMembersEmails(String teamName) {
+        return sortedTeamMembersEmailsTable.computeIfAbsent(teamName, team -> {
+            List<String> teamMembers = new ArrayList<>(rosterTeamNameMembersTable.get(team));
+            teamMembers.sort(null);
+            return ParticipantSet.of(teamMembers);
+        }).copy();
     }
 
     /**
-     * Returns a list of student emails, sorted by section name.
+     * Returns a set of student emails, sorted by section name.
      */
-    private List<String> getSortedListOfStudentEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
-        StudentAttributes.sortBySectionName(students);
-        for (StudentAttributes student : students) {
-            emailList.add(student.email);
+    private ParticipantSet getSortedSetOfStudentEmails() {
+        if (sortedStudentEmails == null) {
+            List<String> emailList = new ArrayList<>();
+            List<StudentAttributes> students = roster.getStudents();
+            StudentAttributes.sortBySectionName(students);
+            for (StudentAttributes student : students) {
+                emailList.add(student.email);
+            }
+            sortedStudentEmails = ParticipantSet.of(emailList);
         }
-        return emailList;
+        return sortedStudentEmails.copy();
     }
 
     /**
-     * Returns a list of instructor emails, sorted alphabetically.
+     * Returns a set of instructor emails, sorted alphabetically.
      */
-    private List<String> getSortedListOfInstructorEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<InstructorAttributes> instructors = roster.getInstructors();
-        for (InstructorAttributes instructor : instructors) {
-            emailList.add(instructor.email);
+    private ParticipantSet getSortedSetOfInstructorEmails() {
+        if (sortedInstructorEmails == null) {
+            List<String> emailList = new ArrayList<>();
+            List<InstructorAttributes> instructors = roster.getInstructors();
+            for (InstructorAttributes instructor : instructors) {
+                emailList.add(instructor.email);
+            }
+            emailList.sort(null);
+            sortedInstructorEmails = ParticipantSet.of(emailList);
         }
-        emailList.sort(null);
-        return emailList;
+        return sortedInstructorEmails.copy();
     }
 
     /**
@@ -1210,7 +1216,7 @@ public class FeedbackSessionResultsBundle {
         }
 
         for (List<FeedbackResponseAttributes> responsesForQuestion : sortedMap.values()) {
-            responsesForQuestion.sort(compareByGiverRecipient);
+            sortResponses(responsesForQuestion, compareByGiverRecipient);
         }
 
         return sortedMap;
@@ -1237,7 +1243,7 @@ public class FeedbackSessionResultsBundle {
         }
 
         for (List<FeedbackResponseAttributes> responsesForQuestion : sortedMap.values()) {
-            responsesForQuestion.sort(compareByRecipientNameEmailGiverNameEmail);
+            sortResponses(responsesForQuestion, compareByRecipientNameEmailGiverNameEmail);
         }
 
         return sortedMap;
@@ -1252,7 +1258,7 @@ public class FeedbackSessionResultsBundle {
         LinkedHashMap<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap =
                 new LinkedHashMap<>();
 
-        responses.sort(compareByTeamQuestionRecipientTeamGiver);
+        sortResponses(responses, compareByTeamQuestionRecipientTeamGiver);
 
         for (FeedbackResponseAttributes response : responses) {
             String recipientTeam = getTeamNameForEmail(response.recipient);
@@ -1283,7 +1289,7 @@ public class FeedbackSessionResultsBundle {
         LinkedHashMap<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap =
                 new LinkedHashMap<>();
 
-        responses.sort(compareByTeamQuestionGiverTeamRecipient);
+        sortResponses(responses, compareByTeamQuestionGiverTeamRecipient);
 
         for (FeedbackResponseAttributes response : responses) {
             String giverTeam = getTeamNameForEmail(response.giver);
@@ -1313,9 +1319,9 @@ public class FeedbackSessionResultsBundle {
         Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
         if (sortByTeam) {
-            responses.sort(compareByTeamRecipientQuestionTeamGiver);
+            sortResponses(responses, compareByTeamRecipientQuestionTeamGiver);
         } else {
-            responses.sort(compareByRecipientQuestionTeamGiver);
+            sortResponses(responses, compareByRecipientQuestionTeamGiver);
         }
 
         for (FeedbackResponseAttributes response : responses) {
@@ -1351,9 +1357,9 @@ public class FeedbackSessionResultsBundle {
         Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
         if (sortByTeam) {
-            responses.sort(compareByTeamRecipientGiverQuestion);
+            sortResponses(responses, compareByTeamRecipientGiverQuestion);
         } else {
-            responses.sort(compareByRecipientGiverQuestion);
+            sortResponses(responses, compareByRecipientGiverQuestion);
         }
 
         for (FeedbackResponseAttributes response : responses) {
@@ -1393,9 +1399,9 @@ public class FeedbackSessionResultsBundle {
         LinkedHashMap<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
         if (sortByTeam) {
-            responses.sort(compareByTeamRecipientGiverQuestion);
+            sortResponses(responses, compareByTeamRecipientGiverQuestion);
         } else {
-            responses.sort(compareByRecipientGiverQuestion);
+            sortResponses(responses, compareByRecipientGiverQuestion);
         }
 
         for (FeedbackResponseAttributes response : responses) {
@@ -1422,9 +1428,9 @@ public class FeedbackSessionResultsBundle {
         Map<String, Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
         if (sortByTeam) {
-            responses.sort(compareByTeamGiverQuestionTeamRecipient);
+            sortResponses(responses, compareByTeamGiverQuestionTeamRecipient);
         } else {
-            responses.sort(compareByGiverQuestionTeamRecipient);
+            sortResponses(responses, compareByGiverQuestionTeamRecipient);
         }
 
         for (FeedbackResponseAttributes response : responses) {
@@ -1461,9 +1467,9 @@ public class FeedbackSessionResultsBundle {
         Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
 
         if (sortByTeam) {
-            responses.sort(compareByTeamGiverRecipientQuestion);
+            sortResponses(responses, compareByTeamGiverRecipientQuestion);
         } else {
-            responses.sort(compareByGiverRecipientQuestion);
+            sortResponses(responses, compareByGiverRecipientQuestion);
         }
 
         for (FeedbackResponseAttributes response : responses) {
@@ -1500,9 +1506,9 @@ public class FeedbackSessionResultsBundle {
     public Map<String, Map<String, List<FeedbackResponseAttributes>>>
             getResponsesSortedByGiverRecipientQuestion(boolean sortByTeam) {
         if (sortByTeam) {
-            responses.sort(compareByTeamGiverRecipientQuestion);
+            sortResponses(responses, compareByTeamGiverRecipientQuestion);
         } else {
-            responses.sort(compareByGiverRecipientQuestion);
+            sortResponses(responses, compareByGiverRecipientQuestion);
         }
 
         Map<String, Map<String, List<FeedbackResponseAttributes>>> sortedMap = new LinkedHashMap<>();
@@ -1576,6 +1582,30 @@ public class FeedbackSessionResultsBundle {
         return sectionToTeam;
     }
 
+    /**
+     * Sorts {@code responses} by giver section > giver name > recipient name > question number.
+     */
+    public void sortResponsesByGiverRecipientQuestion(List<FeedbackResponseAttributes> responses) {
+        sortResponses(responses, compareByGiverRecipientQuestion);
+    }
+
+    /**
+     * Sorts {@code responses} in place using {@code comparator}.
+     *
+     * <p>The names, teams, visibility and answer of each response are computed once before sorting,
+     * rather than once per comparison.
+     */
+    private void sortResponses(List<FeedbackResponseAttributes> responses, Comparator<ResponseSortKey> comparator) {
+        List<ResponseSortKey> keys = new ArrayList<>(responses.size());
+        for (FeedbackResponseAttributes response : responses) {
+            keys.add(new ResponseSortKey(response));
+        }
+        keys.sort(comparator);
+        for (int i = 0; i < keys.size(); i++) {
+            responses.set(i, keys.get(i).response);
+        }
+    }
+
     /**
      * Compares the values of {@code name1} and {@code name2}.
      * Anonymous names are ordered later than non-anonymous names.
@@ -1732,4 +1762,47 @@ public class FeedbackSessionResultsBundle {
         }
         return false;
     }
+
+    /**
+     * Holds the values of a response that are used for sorting responses.
+     */
+    private class ResponseSortKey {
+        final FeedbackResponseAttributes response;
+        final FeedbackQuestionAttributes question;
+        final boolean isGiverVisible;
+        final boolean isRecipientVisible;
+        final String giverName;
+        final String recipientName;
+        final String giverDisplayName;
+        final String recipientDisplayName;
+        final String giverTeam;
+        final String recipientTeam;
+        private String answerString;
+
+        ResponseSortKey(FeedbackResponseAttributes response) {
+            this.response = response;
+            this.question = questions.get(response.feedbackQuestionId);
+            this.isGiverVisible = isGiverVisible(response);
+            this.isRecipientVisible = isRecipientVisible(response);
+            this.giverName = emailNameTable.get(response.giver);
+            this.recipientName = emailNameTable.get(response.recipient);
+            this.giverDisplayName = getNameForEmail(response.giver);
+            this.recipientDisplayName = getNameForEmail(response.recipient);
+            this.giverTeam = getTeamNameForEmail(response.giver).isEmpty()
+                    ? giverDisplayName : getTeamNameForEmail(response.giver);
+            this.recipientTeam = getTeamNameForEmail(response.recipient).isEmpty()
+                    ? recipientDisplayName : getTeamNameForEmail(response.recipient);
+        }
+
+        /**
+         * Returns the answer of the response, which is only parsed when it is first needed to break a tie.
+         */
+        String getAnswerString() {
+            if (answerString == null) {
+                answerString = response.getResponseDetails().getAnswerString();
+            }
+            return answerString;
+        }
+    }
+
 }
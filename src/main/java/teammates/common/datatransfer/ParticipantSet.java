@@ -0,0 +1,149 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * A set of participant identifiers (emails or team names) taken from a fixed list of participants,
+ * which is iterated in the order of that list.
+ *
+ * <p>The set is kept as a bitset over the positions (ordinals) of its participants in the list.
+ * The list and the ordinals are shared by all copies of the set, so copying the set takes time proportional
+ * to the number of participants divided by the word size, and removing a participant takes constant time.
+ * This makes it suitable for tracking the givers and recipients who have no response to a question,
+ * starting from the same sorted list of participants many times.
+ */
+public final class ParticipantSet implements Iterable<String> {
+
+    private final List<String> participants;
+    private final Map<String, Integer> ordinals;
+    private final BitSet members;
+
+    private ParticipantSet(List<String> participants, Map<String, Integer> ordinals, BitSet members) {
+        this.participants = participants;
+        this.ordinals = ordinals;
+        this.members = members;
+    }
+
+    /**
+     * Creates a set of all of {@code orderedParticipants}, iterated in the given order.
+     * Repeated participants are kept only at their first position.
+     */
+    public static ParticipantSet of(List<String> orderedParticipants) {
+        List<String> participants = Collections.unmodifiableList(new ArrayList<>(orderedParticipants));
+        Map<String, Integer> ordinals = new HashMap<>();
+        BitSet members = new BitSet(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
+            if (ordinals.putIfAbsent(participants.get(i), i) == null) {
+                members.set(i);
+            }
+        }
+        return new ParticipantSet(participants, ordinals, members);
+    }
+
+    /**
+     * Creates a set of all of {@code orderedParticipants}, iterated in the given order.
+     */
+    public static ParticipantSet of(String... orderedParticipants) {
+        return of(Arrays.asList(orderedParticipants));
+    }
+
+    /**
+     * Returns a copy of this set, which shares the list of participants of this set
+     * but can be modified independently.
+     */
+    public ParticipantSet copy() {
+        return new ParticipantSet(participants, ordinals, (BitSet) members.clone());
+    }
+
+    public boolean contains(String participant) {
+        Integer ordinal = ordinals.get(participant);
+        return ordinal != null && members.get(ordinal);
+    }
+
+    /**
+     * Removes {@code participant} from the set.
+     *
+     * @return true if the set contained the participant
+     */
+    public boolean remove(String participant) {
+        if (!contains(participant)) {
+            return false;
+        }
+        members.clear(ordinals.get(participant));
+        return true;
+    }
+
+    /**
+     * Removes the participants of the set that satisfy {@code filter}.
+     */
+    public void removeIf(Predicate<String> filter) {
+        for (int i = members.nextSetBit(0); i >= 0; i = members.nextSetBit(i + 1)) {
+            if (filter.test(participants.get(i))) {
+                members.clear(i);
+            }
+        }
+    }
+
+    /**
+     * Removes the participants of the set that are not in {@code participantsToRetain}.
+     */
+    public void retainAll(Collection<String> participantsToRetain) {
+        removeIf(participant -> !participantsToRetain.contains(participant));
+    }
+
+    public void clear() {
+        members.clear();
+    }
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    public int size() {
+        return members.cardinality();
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<String>() {
+            private int nextOrdinal = members.nextSetBit(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextOrdinal >= 0;
+            }
+
+            @Override
+            public String next() {
+                if (nextOrdinal < 0) {
+                    throw new NoSuchElementException();
+                }
+                String participant = participants.get(nextOrdinal);
+                nextOrdinal = members.nextSetBit(nextOrdinal + 1);
+                return participant;
+            }
+        };
+    }
+
+    /**
+     * Returns the participants of the set as a new list, in the order of the set.
+     */
+    public List<String> toList() {
+        List<String> list = new ArrayList<>(size());
+        for (String participant : this) {
+            list.add(participant);
+        }
+        return list;
+    }
+
+}
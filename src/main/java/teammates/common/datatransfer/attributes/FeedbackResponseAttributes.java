@@ -44,6 +44,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Instant updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * The {@link #responseMetaData} and {@link #feedbackQuestionType} from which {@link #parsedResponseDetails}
+     * was parsed. The parsed details are reused as long as both are unchanged.
+     */
+    private transient Text parsedResponseMetaData;
+    private transient FeedbackQuestionType parsedFeedbackQuestionType;
+    private transient FeedbackResponseDetails parsedResponseDetails;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -91,6 +99,9 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         this.responseMetaData = copy.responseMetaData;
         this.createdAt = copy.createdAt;
         this.updatedAt = copy.updatedAt;
+        this.parsedResponseMetaData = copy.parsedResponseMetaData;
+        this.parsedFeedbackQuestionType = copy.parsedFeedbackQuestionType;
+        this.parsedResponseDetails = copy.parsedResponseDetails;
     }
 
     public String getId() {
@@ -183,10 +194,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         } else {
             responseMetaData = new Text(JsonUtils.toJson(responseDetails, getFeedbackResponseDetailsClass()));
         }
+        parsedResponseDetails = null;
     }
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The details are parsed only once for the same {@link #responseMetaData}, and the same object is
+     * returned on subsequent calls. Callers should not modify the returned object.
      * @return The Feedback*ResponseDetails object representing the response's details
      */
     public FeedbackResponseDetails getResponseDetails() {
@@ -195,6 +210,16 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
             return null;
         }
 
+        if (parsedResponseDetails == null || parsedResponseMetaData != responseMetaData
+                || parsedFeedbackQuestionType != feedbackQuestionType) {
+            parsedResponseDetails = parseResponseDetails();
+            parsedResponseMetaData = responseMetaData;
+            parsedFeedbackQuestionType = feedbackQuestionType;
+        }
+        return parsedResponseDetails;
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
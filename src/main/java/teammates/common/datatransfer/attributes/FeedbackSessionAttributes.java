@@ -41,6 +41,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     private boolean isOpeningEmailEnabled;
     private boolean isClosingEmailEnabled;
     private boolean isPublishedEmailEnabled;
+    // Respondents are not stored in the session entity and are filled in only where they are needed
     private transient Set<String> respondingInstructorList;
     private transient Set<String> respondingStudentList;
 
@@ -73,8 +74,6 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 .withSentPublishedEmail(fs.isSentPublishedEmail())
                 .withOpeningEmailEnabled(fs.isOpeningEmailEnabled())
                 .withPublishedEmailEnabled(fs.isPublishedEmailEnabled())
-                .withRespondingInstructorList(fs.getRespondingInstructorList())
-                .withRespondingStudentList(fs.getRespondingStudentList())
                 .withClosingEmailEnabled(fs.isClosingEmailEnabled())
                 .build();
     }
@@ -96,7 +95,10 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     }
 
     public FeedbackSessionAttributes getCopy() {
-        return valueOf(toEntity());
+        FeedbackSessionAttributes copy = valueOf(toEntity());
+        copy.setRespondingInstructorList(new HashSet<>(respondingInstructorList));
+        copy.setRespondingStudentList(new HashSet<>(respondingStudentList));
+        return copy;
     }
 
     public String getCourseId() {
@@ -137,8 +139,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
                 createdTime, startTime, endTime, sessionVisibleFromTime, resultsVisibleFromTime,
                 timeZone.getId(), getGracePeriodMinutes(),
                 sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail,
-                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled,
-                respondingInstructorList, respondingStudentList);
+                isOpeningEmailEnabled, isClosingEmailEnabled, isPublishedEmailEnabled);
     }
 
     @Override
@@ -257,6 +258,17 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         return given.isBefore(now) && Duration.between(given, now).compareTo(Duration.ofHours(1)) < 0;
     }
 
+    /**
+     * Checks if the session accepted responses, including in its grace period,
+     * some time in the last one day from calling this function.
+     *
+     * @return true if the session accepted responses within the past day; false otherwise.
+     */
+    public boolean isAcceptingResponsesWithinPastDay() {
+        Instant now = Instant.now();
+        return !now.isBefore(startTime) && endTime.plus(gracePeriod).isAfter(now.minus(Duration.ofDays(1)));
+    }
+
     /**
      * Returns {@code true} if it is after the closing time of this feedback session; {@code false} if not.
      */
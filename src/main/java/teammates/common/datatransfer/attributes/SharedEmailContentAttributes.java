@@ -0,0 +1,128 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.SharedEmailContent;
+
+/**
+ * A data transfer object for {@link SharedEmailContent} entities.
+ */
+public class SharedEmailContentAttributes extends EntityAttributes<SharedEmailContent> {
+
+    public String contentId;
+    public String content;
+    public Instant createdAt;
+
+    SharedEmailContentAttributes() {
+        // Empty constructor for builder to construct object
+    }
+
+    public static SharedEmailContentAttributes valueOf(SharedEmailContent sharedEmailContent) {
+        return builder(sharedEmailContent.getContent())
+                .withContentId(sharedEmailContent.getId())
+                .withCreatedAt(sharedEmailContent.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * Returns a builder for the attributes of {@code content}.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>a new random ID for {@code contentId}, so that each content stored has an ID of its own</li>
+     * <li>the current time for {@code createdAt}</li>
+     * </ul>
+     */
+    public static Builder builder(String content) {
+        return new Builder(content);
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        // contents are generated from email templates, not entered by users
+        return new ArrayList<>();
+    }
+
+    @Override
+    public SharedEmailContent toEntity() {
+        return new SharedEmailContent(contentId, content, createdAt);
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return contentId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Shared Email Content";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return "Shared Email Content: " + contentId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, SharedEmailContentAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the content is the HTML of an email and is stored as is
+    }
+
+    public String getContentId() {
+        return contentId;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * A Builder class for {@link SharedEmailContentAttributes}.
+     */
+    public static class Builder {
+        private final SharedEmailContentAttributes sharedEmailContentAttributes;
+
+        public Builder(String content) {
+            Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, content);
+
+            sharedEmailContentAttributes = new SharedEmailContentAttributes();
+            sharedEmailContentAttributes.content = content;
+            sharedEmailContentAttributes.contentId = UUID.randomUUID().toString();
+            sharedEmailContentAttributes.createdAt = Instant.now();
+        }
+
+        public Builder withContentId(String contentId) {
+            if (contentId != null) {
+                sharedEmailContentAttributes.contentId = contentId;
+            }
+            return this;
+        }
+
+        public Builder withCreatedAt(Instant createdAt) {
+            if (createdAt != null) {
+                sharedEmailContentAttributes.createdAt = createdAt;
+            }
+            return this;
+        }
+
+        public SharedEmailContentAttributes build() {
+            return sharedEmailContentAttributes;
+        }
+    }
+
+}
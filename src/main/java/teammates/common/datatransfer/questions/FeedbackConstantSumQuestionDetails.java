@@ -20,6 +20,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
@@ -170,7 +171,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         FeedbackConstantSumResponseDetails existingConstSumResponse =
                 (FeedbackConstantSumResponseDetails) existingResponseDetails;
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         if (distributeToRecipients) {
             String optionFragment =
@@ -246,7 +247,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
             StudentAttributes student) {
 
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         if (distributeToRecipients) {
             String optionFragment =
@@ -319,7 +320,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     @Override
     public String getQuestionSpecificEditFormHtml(int questionNumber) {
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.CONSTSUM_EDIT_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.CONSTSUM_EDIT_FORM_OPTIONFRAGMENT;
         for (int i = 0; i < numOfConstSumOptions; i++) {
             String optionFragment =
                     Templates.populateTemplate(optionFragmentTemplate,
@@ -395,7 +396,7 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     public String getQuestionAdditionalInfoHtml(int questionNumber,
             String additionalInfoId) {
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.MSQ_ADDITIONAL_INFO_FRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.MSQ_ADDITIONAL_INFO_FRAGMENT;
         StringBuilder additionalInfo = new StringBuilder();
 
         if (distributeToRecipients) {
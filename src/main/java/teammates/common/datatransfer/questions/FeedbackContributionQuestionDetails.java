@@ -212,7 +212,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 Slots.LESS, "[less]",
                 Slots.QUESTION_NUMBER, Integer.toString(question.questionNumber),
                 Slots.ADDITIONAL_INFO_ID, "contributionInfo",
-                Slots.QUESTION_ADDITIONAL_INFO, FormTemplates.CONTRIB_RESULT_STATS_STUDENT_INFO);
+                Slots.QUESTION_ADDITIONAL_INFO, FormTemplates.CONTRIB_RESULT_STATS_STUDENT_INFO.getText());
 
         return Templates.populateTemplate(
                 FormTemplates.CONTRIB_RESULT_STATS_STUDENT,
@@ -594,7 +594,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 responses.add(response);
             }
         }
-        responses.sort(bundle.compareByGiverRecipientQuestion);
+        bundle.sortResponsesByGiverRecipientQuestion(responses);
         return responses;
     }
 
@@ -21,6 +21,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
@@ -241,7 +242,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         List<String> choices = generateOptionList(courseId);
 
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
         Boolean isOtherSelected = existingMcqResponse.isOtherOptionAnswer();
 
         for (int i = 0; i < choices.size(); i++) {
@@ -257,7 +258,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             optionListHtml.append(optionFragment).append(System.lineSeparator());
         }
         if (otherEnabled) {
-            String otherOptionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT;
+            Template otherOptionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT;
             String otherOptionFragment =
                     Templates.populateTemplate(otherOptionFragmentTemplate,
                             Slots.QUESTION_INDEX, Integer.toString(qnIdx),
@@ -286,7 +287,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         List<String> choices = generateOptionList(courseId);
 
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         for (int i = 0; i < choices.size(); i++) {
             String optionFragment =
@@ -301,7 +302,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         }
 
         if (otherEnabled) {
-            String otherOptionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT;
+            Template otherOptionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT;
             String otherOptionFragment =
                        Templates.populateTemplate(otherOptionFragmentTemplate,
                             Slots.QUESTION_INDEX, Integer.toString(qnIdx),
@@ -384,7 +385,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
     @Override
     public String getQuestionSpecificEditFormHtml(int questionNumber) {
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.MCQ_EDIT_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.MCQ_EDIT_FORM_OPTIONFRAGMENT;
         DecimalFormat weightFormat = new DecimalFormat("#.##");
 
         // Create MCQ options
@@ -400,7 +401,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
 
         // Create MCQ weights
         StringBuilder weightFragmentHtml = new StringBuilder();
-        String weightFragmentTemplate = FormTemplates.MCQ_EDIT_FORM_WEIGHTFRAGMENT;
+        Template weightFragmentTemplate = FormTemplates.MCQ_EDIT_FORM_WEIGHTFRAGMENT;
         for (int i = 0; i < numOfMcqChoices; i++) {
             String weightFragment =
                     Templates.populateTemplate(weightFragmentTemplate,
@@ -462,7 +463,7 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
     @Override
     public String getQuestionAdditionalInfoHtml(int questionNumber, String additionalInfoId) {
         StringBuilder optionListHtml = new StringBuilder(200);
-        String optionFragmentTemplate = FormTemplates.MCQ_ADDITIONAL_INFO_FRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.MCQ_ADDITIONAL_INFO_FRAGMENT;
 
         if (generateOptionsFor != FeedbackParticipantType.NONE) {
             String optionHelpText = String.format(
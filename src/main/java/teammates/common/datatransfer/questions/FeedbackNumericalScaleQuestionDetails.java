@@ -19,6 +19,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
@@ -203,9 +204,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
 
         boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
 
-        String fragmentTemplateToUse = showAvgExcludingSelf
-                                     ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
-                                     : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
+        Template fragmentTemplateToUse = showAvgExcludingSelf
+                                       ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
+                                       : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
 
         DecimalFormat df = new DecimalFormat();
         df.setMinimumFractionDigits(0);
@@ -242,9 +243,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
         }
 
         String statsTitle = "Response Summary";
-        String templateToUse = showAvgExcludingSelf
-                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
-                             : FormTemplates.NUMSCALE_RESULT_STATS;
+        Template templateToUse = showAvgExcludingSelf
+                               ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
+                               : FormTemplates.NUMSCALE_RESULT_STATS;
         return Templates.populateTemplate(
                         templateToUse,
                         Slots.SUMMARY_TITLE, statsTitle,
@@ -271,9 +272,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
                                                totalExcludingSelf, numResponses, numResponsesExcludingSelf);
         boolean showAvgExcludingSelf = showAverageExcludingSelf(question, averageExcludingSelf);
 
-        String fragmentTemplateToUse = showAvgExcludingSelf
-                                     ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
-                                     : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
+        Template fragmentTemplateToUse = showAvgExcludingSelf
+                                       ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
+                                       : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
 
         DecimalFormat df = new DecimalFormat();
         df.setMinimumFractionDigits(0);
@@ -375,9 +376,9 @@ public class FeedbackNumericalScaleQuestionDetails extends
         String statsTitle = getStatsTitle(
                 isRecipientTypeGeneral, isRecipientTypeTeam,
                 hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
-        String templateToUse = showAvgExcludingSelf
-                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
-                             : FormTemplates.NUMSCALE_RESULT_STATS;
+        Template templateToUse = showAvgExcludingSelf
+                               ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
+                               : FormTemplates.NUMSCALE_RESULT_STATS;
         return Templates.populateTemplate(templateToUse,
                 Slots.SUMMARY_TITLE, statsTitle,
                 Slots.STATS_FRAGMENTS, fragmentHtml.toString());
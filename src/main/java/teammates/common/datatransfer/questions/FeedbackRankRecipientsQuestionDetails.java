@@ -20,6 +20,7 @@ import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
@@ -63,7 +64,7 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         FeedbackRankRecipientsResponseDetails existingResponse =
                 (FeedbackRankRecipientsResponseDetails) existingResponseDetails;
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         String optionFragment =
                 Templates.populateTemplate(optionFragmentTemplate,
@@ -110,7 +111,7 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             StudentAttributes student) {
 
         StringBuilder optionListHtml = new StringBuilder();
-        String optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
+        Template optionFragmentTemplate = FormTemplates.RANK_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         String optionFragment =
                 Templates.populateTemplate(optionFragmentTemplate,
@@ -263,8 +264,8 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
 
         Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
 
-        String fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
-        String templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
+        Template fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
+        Template templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
 
         recipientRanks.forEach((participantIdentifier, ranks) -> {
 
@@ -20,6 +20,7 @@ import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.FeedbackQuestion.FormTemplates;
 import teammates.common.util.Templates.FeedbackQuestion.Slots;
@@ -290,7 +291,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
     private String getSubmissionFormTableHeaderFragmentHtml(String questionNumberString, String responseNumberString) {
         StringBuilder tableHeaderFragmentHtml = new StringBuilder();
-        String tableHeaderFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT;
+        Template tableHeaderFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT;
 
         for (int i = 0; i < numOfRubricChoices; i++) {
             String tableHeaderCell =
@@ -309,8 +310,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                                                   boolean sessionIsOpen, boolean isExistingResponse,
                                                   FeedbackRubricResponseDetails frd) {
         StringBuilder tableBodyHtml = new StringBuilder();
-        String tableBodyFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT;
-        String tableBodyTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_BODY;
+        Template tableBodyFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT;
+        Template tableBodyTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_BODY;
 
         for (int i = 0; i < numOfRubricSubQuestions; i++) {
             StringBuilder tableBodyFragmentHtml = new StringBuilder();
@@ -345,8 +346,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     private String getSubmissionFormMobileHtml(String questionNumberString, String responseNumberString,
             boolean sessionIsOpen, boolean isExistingResponse, FeedbackRubricResponseDetails frd) {
         StringBuilder mobileHtml = new StringBuilder();
-        String mobilePanelTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_MOBILE_PANEL;
-        String mobilePanelFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT;
+        Template mobilePanelTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_MOBILE_PANEL;
+        Template mobilePanelFragmentTemplate = FormTemplates.RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT;
 
         for (int i = 0; i < numOfRubricSubQuestions; i++) {
             StringBuilder panelBody = new StringBuilder();
@@ -380,7 +381,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         // Create table row header fragments
         StringBuilder tableHeaderFragmentHtml = new StringBuilder();
-        String tableHeaderFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_HEADER_FRAGMENT;
+        Template tableHeaderFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_HEADER_FRAGMENT;
         for (int i = 0; i < numOfRubricChoices; i++) {
             String tableHeaderCell =
                     Templates.populateTemplate(tableHeaderFragmentTemplate,
@@ -393,7 +394,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         // Create rubric weights row
         StringBuilder tableWeightFragmentHtml = new StringBuilder();
-        String tableWeightFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT;
+        Template tableWeightFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT;
         for (int i = 0; i < numOfRubricChoices; i++) {
             String tableWeightCell =
                     Templates.populateTemplate(tableWeightFragmentTemplate,
@@ -407,8 +408,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         // Create table body
         StringBuilder tableBodyHtml = new StringBuilder();
 
-        String tableBodyFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_BODY_FRAGMENT;
-        String tableBodyTemplate = FormTemplates.RUBRIC_EDIT_FORM_BODY;
+        Template tableBodyFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_BODY_FRAGMENT;
+        Template tableBodyTemplate = FormTemplates.RUBRIC_EDIT_FORM_BODY;
 
         for (int j = 0; j < numOfRubricSubQuestions; j++) {
             StringBuilder tableBodyFragmentHtml = new StringBuilder();
@@ -436,8 +437,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         // Create rubric column options as the last row of the table
         StringBuilder rubricColumnOptionsFragments = new StringBuilder();
-        String tableOptionsTemplate = FormTemplates.RUBRIC_EDIT_FORM_TABLE_OPTIONS;
-        String tableOptionsFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_TABLE_OPTIONS_FRAGMENT;
+        Template tableOptionsTemplate = FormTemplates.RUBRIC_EDIT_FORM_TABLE_OPTIONS;
+        Template tableOptionsFragmentTemplate = FormTemplates.RUBRIC_EDIT_FORM_TABLE_OPTIONS_FRAGMENT;
 
         for (int i = 0; i < numOfRubricChoices; i++) {
             String tableBodyCell = Templates.populateTemplate(tableOptionsFragmentTemplate,
@@ -599,7 +600,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         // Create table row header fragments
         StringBuilder tableHeaderFragmentHtml = new StringBuilder();
-        String tableHeaderFragmentTemplate = FormTemplates.RUBRIC_RESULT_STATS_HEADER_FRAGMENT;
+        Template tableHeaderFragmentTemplate = FormTemplates.RUBRIC_RESULT_STATS_HEADER_FRAGMENT;
         for (int i = 0; i < numOfRubricChoices; i++) {
 
             String header = SanitizationHelper.sanitizeForHtml(rubricChoices.get(i))
@@ -690,8 +691,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         DecimalFormat df = new DecimalFormat("#");
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        String tableBodyFragmentTemplate = FormTemplates.RUBRIC_RESULT_STATS_BODY_FRAGMENT;
-        String tableBodyTemplate = FormTemplates.RUBRIC_RESULT_STATS_BODY;
+        Template tableBodyFragmentTemplate = FormTemplates.RUBRIC_RESULT_STATS_BODY_FRAGMENT;
+        Template tableBodyTemplate = FormTemplates.RUBRIC_RESULT_STATS_BODY;
 
         StringBuilder tableBodyHtml = new StringBuilder();
 
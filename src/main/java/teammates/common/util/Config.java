@@ -2,7 +2,10 @@ package teammates.common.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
 
 import com.google.appengine.api.utils.SystemProperty;
 import com.google.apphosting.api.ApiProxy;
@@ -63,6 +66,24 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.cache.roster.size" in build.properties file, or 0 if it is not specified. */
+    public static final int ROSTER_CACHE_SIZE;
+
+    /** The value of the "app.cache.roster.expiry" in build.properties file, or 0 if it is not specified. */
+    public static final int ROSTER_CACHE_EXPIRY_SECONDS;
+
+    /**
+     * The entity kinds listed in "app.cache.entity.kinds" in build.properties file,
+     * which are read through the global entity cache.
+     */
+    public static final Set<String> ENTITY_CACHE_KINDS;
+
+    /**
+     * The value of the "app.migrated.feedbackresponse.sections" in build.properties file, or false if it is not specified.
+     * Indicates that the sections involved in all feedback responses have been populated.
+     */
+    public static final boolean IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -86,6 +107,11 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        ROSTER_CACHE_SIZE = Integer.parseInt(properties.getProperty("app.cache.roster.size", "0").trim());
+        ROSTER_CACHE_EXPIRY_SECONDS = Integer.parseInt(properties.getProperty("app.cache.roster.expiry", "0").trim());
+        ENTITY_CACHE_KINDS = readCommaSeparatedValues(properties.getProperty("app.cache.entity.kinds", ""));
+        IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED =
+                Boolean.parseBoolean(properties.getProperty("app.migrated.feedbackresponse.sections", "false").trim());
     }
 
     private Config() {
@@ -108,6 +134,16 @@ public final class Config {
         return appVersion == null ? null : appVersion.split("\\.")[0].replace("-", ".");
     }
 
+    private static Set<String> readCommaSeparatedValues(String commaSeparatedValues) {
+        Set<String> values = new HashSet<>();
+        for (String value : commaSeparatedValues.split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return Collections.unmodifiableSet(values);
+    }
+
     private static String readAppUrl() {
         ApiProxy.Environment serverEnvironment = ApiProxy.getCurrentEnvironment();
         if (serverEnvironment == null) {
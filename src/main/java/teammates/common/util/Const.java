@@ -140,6 +140,15 @@ public final class Const {
 
         public static final String DEFAULT_PROFILE_PICTURE_PATH = "/images/profile_picture_default.png";
 
+        /** The width and height in pixels that thumbnails of profile pictures are resized to fit in. */
+        public static final int PROFILE_PICTURE_THUMBNAIL_SIZE = 150;
+
+        /** How long in seconds browsers may cache images whose URL always refers to the same content. */
+        public static final int IMMUTABLE_IMAGE_MAX_AGE_SECONDS = 365 * 24 * 60 * 60;
+
+        /** How long in hours after it is due a queued email which has not been sent is given up on. */
+        public static final int QUEUED_EMAIL_MAX_DELAY_HOURS = 24;
+
         public static final List<String> PAGES_REQUIRING_ORIGIN_VALIDATION = Collections.unmodifiableList(
                 Arrays.asList(
                         ActionURIs.ADMIN_ACCOUNT_DELETE,
@@ -674,8 +683,7 @@ public final class Const {
         public static final String ADMIN_EMAIL_EMPTY_TRASH_BIN = "emptytrashbin";
         public static final String ADMIN_EMAIL_TRASH_ACTION_REDIRECT = "redirect";
 
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX = "emaillistindex";
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_INDEX = "emailindex";
+        public static final String ADMIN_GROUP_RECEIVER_LIST_OFFSET = "receiverlistoffset";
 
         public static final String FEEDBACK_SESSION_NAME = "fsname";
         public static final String FEEDBACK_SESSION_INDEX = "fsindex";
@@ -795,6 +803,7 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_GROUPBYSECTION = "frgroupbysection";
         public static final String FEEDBACK_RESULTS_SHOWSTATS = "frshowstats";
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
+        public static final String FEEDBACK_RESULTS_STREAM_DOWNLOAD = "frstreamdownload";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
 
@@ -845,6 +854,9 @@ public final class Const {
         public static final String OPEN_OR_PUBLISHED_EMAIL_SEND_CHECK = "openorpublishedemailsent";
 
         public static final String EMAIL_CONTENT = "content";
+        public static final String EMAIL_CONTENT_ID = "contentid";
+        public static final String EMAIL_CONTENT_VALUES = "contentvalues";
+        public static final String EMAIL_DUE_TIME = "duetime";
         public static final String EMAIL_SENDER = "sender";
         public static final String EMAIL_SENDERNAME = "sendername";
         public static final String EMAIL_SUBJECT = "subject";
@@ -1057,6 +1069,9 @@ public final class Const {
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS = "/auto/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_FEEDBACK_RESPONSE_AGGREGATES_REPAIR = "/auto/feedbackResponseAggregatesRepair";
+        public static final String AUTOMATED_COURSE_STATS_REPAIR = "/auto/courseStatsRepair";
+        public static final String AUTOMATED_SEND_QUEUED_EMAILS = "/auto/sendQueuedEmails";
 
         public static final String ERROR_FEEDBACK_SUBMIT = "/page/errorFeedbackSubmit";
 
@@ -1078,9 +1093,17 @@ public final class Const {
         public static final String ADMIN_SEND_EMAIL_QUEUE_NAME = "admin-send-email-queue";
         public static final String ADMIN_SEND_EMAIL_WORKER_URL = "/worker/adminSendEmail";
 
+        public static final String COURSE_STATS_REBUILD_QUEUE_NAME = "course-stats-rebuild-queue";
+        public static final String COURSE_STATS_REBUILD_WORKER_URL = "/worker/courseStatsRebuild";
+
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
+        public static final String FEEDBACK_RESPONSE_AGGREGATES_REBUILD_QUEUE_NAME =
+                "feedback-response-aggregates-rebuild-queue";
+        public static final String FEEDBACK_RESPONSE_AGGREGATES_REBUILD_WORKER_URL =
+                "/worker/feedbackResponseAggregatesRebuild";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1112,8 +1135,11 @@ public final class Const {
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_QUEUE_NAME = "instructor-course-join-email-queue";
         public static final String INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/instructorCourseJoinEmail";
 
+        public static final String SEND_EMAIL_BATCH_QUEUE_NAME = "send-email-batch-queue";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = "/worker/sendEmailBatch";
+
+        /** Pull queue of the emails to be sent, which are leased and sent in batches by the send email batch worker. */
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
-        public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = "/worker/studentCourseJoinEmail";
@@ -1373,9 +1399,6 @@ public final class Const {
         public static final String FEEDBACK_SESSION_DELETED = "The feedback session has been deleted.";
         public static final String FEEDBACK_SESSION_DELETED_NO_ACCESS =
                 "The feedback session has been deleted and is no longer accessible.";
-        public static final String FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED = "This session has more responses than "
-                + "that can be downloaded in one go. Please download responses for one question at a time instead. "
-                + "To download responses for a specific question, click on the corresponding question number.";
         public static final String FEEDBACK_SESSION_PUBLISHED =
                 "The feedback session has been published. "
                 + "Please allow up to 1 hour for all the notification emails to be sent out.";
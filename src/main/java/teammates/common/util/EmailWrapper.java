@@ -12,6 +12,8 @@ public class EmailWrapper {
     private String bcc;
     private String subject;
     private String content;
+    private Template contentTemplate;
+    private String[] contentValues;
 
     public String getSenderName() {
         return senderName;
@@ -61,12 +63,46 @@ public class EmailWrapper {
         this.subject = subject;
     }
 
+    /**
+     * Returns the content of the email, rendering it first if it was set as a template.
+     */
     public String getContent() {
+        if (content == null && contentTemplate != null) {
+            content = contentTemplate.render(contentValues);
+        }
         return content;
     }
 
     public void setContent(String content) {
         this.content = content;
+        this.contentTemplate = null;
+        this.contentValues = null;
+    }
+
+    /**
+     * Sets the content of the email as a template, which can be shared with other emails,
+     * and the values of its placeholders which are specific to this email.
+     *
+     * @see Template#render(String...)
+     */
+    public void setContent(Template contentTemplate, String... contentValues) {
+        this.content = null;
+        this.contentTemplate = contentTemplate;
+        this.contentValues = contentValues;
+    }
+
+    /**
+     * Returns the template of the content, or null if the content was not set as a template.
+     */
+    public Template getContentTemplate() {
+        return contentTemplate;
+    }
+
+    /**
+     * Returns the values for the placeholders of {@link #getContentTemplate()}.
+     */
+    public String[] getContentValues() {
+        return contentValues;
     }
 
     public String getInfoForLogging() {
@@ -1,31 +1,35 @@
 package teammates.common.util;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
 
-import com.google.appengine.api.blobstore.BlobInfoFactory;
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
+import com.google.appengine.api.images.Image;
+import com.google.appengine.api.images.ImagesService;
+import com.google.appengine.api.images.ImagesServiceFactory;
+import com.google.appengine.api.images.OutputSettings;
+import com.google.appengine.tools.cloudstorage.GcsFileMetadata;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
 import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
+import com.google.appengine.tools.cloudstorage.GcsService;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
+import teammates.common.exception.TeammatesException;
+
 /**
  * Holds functions for operations related to Google Cloud Storage.
  */
 public final class GoogleCloudStorageHelper {
 
-    private static final int MAX_READING_LENGTH = 900000;
     private static final Logger log = Logger.getLogger();
 
+    private static final String THUMBNAIL_SUFFIX = "-thumbnail";
+
     private GoogleCloudStorageHelper() {
         // utility class
     }
@@ -58,19 +62,106 @@ public final class GoogleCloudStorageHelper {
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
      * with the {@code googleId} as the identifier name for the image.
      *
+     * <p>A thumbnail of {@link Const.SystemParams#PROFILE_PICTURE_THUMBNAIL_SIZE} pixels is stored alongside
+     * the image, to be served where many pictures are shown at once. No thumbnail is kept for images
+     * that are already that small or that cannot be read as images.
+     *
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
+     * @see #getImageThumbnail(String)
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
-        try (GcsOutputChannel outputChannel =
-                GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
-                .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
+        Image image = ImagesServiceFactory.makeImage(imageData);
+        String mimeType = getMimeType(image);
+        writeFileToGcs(googleId, imageData, mimeType == null ? "image/png" : mimeType);
+
+        byte[] thumbnailData = mimeType == null ? null : makeThumbnail(image);
+        if (thumbnailData == null) {
+            getGcsService().delete(getThumbnailFilename(googleId));
+        } else {
+            writeFileToGcs(googleId + THUMBNAIL_SUFFIX, thumbnailData, "image/png");
+        }
+
+        return getBlobKey(googleId);
+    }
+
+    /**
+     * Returns the metadata of the thumbnail stored by {@link #writeImageDataToGcs(String, byte[])}
+     * for the image of {@code googleId}, or null if the image has no thumbnail.
+     * The blob key of the thumbnail can be obtained through {@link #getBlobKey(GcsFileMetadata)}.
+     */
+    public static GcsFileMetadata getImageThumbnail(String googleId) throws IOException {
+        return getGcsService().getMetadata(getThumbnailFilename(googleId));
+    }
 
-            outputChannel.write(ByteBuffer.wrap(imageData));
+    /**
+     * Deletes the thumbnail stored by {@link #writeImageDataToGcs(String, byte[])} for the image of
+     * {@code googleId}, if any.
+     */
+    public static void deleteImageThumbnail(String googleId) {
+        try {
+            getGcsService().delete(getThumbnailFilename(googleId));
+        } catch (IOException e) {
+            log.warning("Failed to delete the thumbnail of the image of " + googleId + ": " + e.getMessage());
         }
+    }
+
+    /**
+     * Returns the {@link BlobKey} string of the file described by {@code fileMetadata}.
+     */
+    public static String getBlobKey(GcsFileMetadata fileMetadata) {
+        return getBlobKey(fileMetadata.getFilename().getObjectName());
+    }
 
+    private static String getBlobKey(String objectName) {
         return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + objectName).getKeyString();
+    }
+
+    private static void writeFileToGcs(String objectName, byte[] data, String mimeType) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, objectName);
+        try (GcsOutputChannel outputChannel =
+                getGcsService().createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType(mimeType).build())) {
+
+            outputChannel.write(ByteBuffer.wrap(data));
+        }
+    }
+
+    /**
+     * Returns the MIME type of {@code image}, or null if it cannot be read as an image.
+     */
+    private static String getMimeType(Image image) {
+        try {
+            return "image/" + image.getFormat().name().toLowerCase();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns {@code image} resized to fit in a square of {@link Const.SystemParams#PROFILE_PICTURE_THUMBNAIL_SIZE}
+     * pixels as PNG, or null if it already fits or cannot be resized.
+     */
+    private static byte[] makeThumbnail(Image image) {
+        int size = Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_SIZE;
+        if (image.getWidth() <= size && image.getHeight() <= size) {
+            return null;
+        }
+        try {
+            return ImagesServiceFactory.getImagesService().applyTransform(
+                    ImagesServiceFactory.makeResize(size, size), image,
+                    new OutputSettings(ImagesService.OutputEncoding.PNG)).getImageData();
+        } catch (RuntimeException e) {
+            log.warning("Failed to generate a thumbnail: " + TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    private static GcsFilename getThumbnailFilename(String googleId) {
+        return new GcsFilename(Config.GCS_BUCKETNAME, googleId + THUMBNAIL_SUFFIX);
+    }
+
+    private static GcsService getGcsService() {
+        return GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance());
     }
 
     /**
@@ -89,95 +180,19 @@ public final class GoogleCloudStorageHelper {
     }
 
     /**
-     * Gets the file with the specified {@link BlobKey} in the Google Cloud Storage,
-     * parses it and returns it as a list of list.<br>
+     * Opens the group receiver list stored in the file with the specified {@link BlobKey}
+     * in the Google Cloud Storage, starting from byte {@code offset} of the file.<br>
+     * The file is streamed as its email addresses are read, so that only the part after {@code offset} is read.<br>
      * Assumption: the file represented by {@code blobKey} is a valid txt file
      *             that can be parsed into a comma-separated list
+     *
+     * @see GroupReceiverListReader#getOffset()
      */
-    public static List<List<String>> getGroupReceiverList(BlobKey blobKey) throws IOException {
+    public static GroupReceiverListReader getGroupReceiverListReader(BlobKey blobKey, long offset)
+            throws IOException {
         Assumption.assertNotNull(blobKey);
 
-        // It turns out that error will occur if we read more than around 900000 bytes of data per time
-        // from the blobstream, which also brings problems when this large number of emails are all stored in one
-        // list. As a result, to prevent unexpected errors, we read the txt file several times and each time
-        // at most 900000 bytes are read, after which a new list is created to store all the emails addresses that
-        // happen to be in the newly read bytes.
-
-        // For email address which happens to be broken according to two consecutive reading, a check will be done
-        // before storing all emails separated from the second reading into a new list.
-        // Broken email will be fixed by deleting the first item of the email list from current reading
-        // AND appending it to the last item of the email list from last reading.
-
-        // The email list from each reading is inserted into an upper list (list of list).
-        // The structure is as below:
-
-        // ListOfList:
-        //       ListFromReading_1 :
-        //                     [example@email.com]
-        //                            ...
-        //       ListFromReading_2 :
-        //                     [example@email.com]
-        //                            ...
-
-        // This is the list of list
-        List<List<String>> listOfList = new LinkedList<>();
-
-        // Offset is needed for remembering where it stops from last reading
-        int offset = 0;
-
-        // File size is needed to track the number of unread bytes
-        int size = (int) getFileSize(blobKey);
-
-        while (size > 0) {
-            // Make sure not to over-read
-            int bytesToRead = Math.min(size, MAX_READING_LENGTH);
-            byte[] array = new byte[bytesToRead];
-            try (InputStream blobStream = new BlobstoreInputStream(blobKey, offset)) {
-
-                blobStream.read(array);
-            }
-            // Remember where it stops reading
-            offset += MAX_READING_LENGTH;
-            // Decrease unread bytes
-            size -= MAX_READING_LENGTH;
-
-            // Get the read bytes into string and split it by ","
-            String readString = new String(array);
-            List<String> newList = Arrays.asList(readString.split(","));
-
-            if (listOfList.isEmpty()) {
-                // This is the first time reading
-                listOfList.add(newList);
-            } else {
-                // Check if the last reading stopped in the middle of a email address string
-                List<String> lastAddedList = listOfList.get(listOfList.size() - 1);
-                // Get the last item of the list from last reading
-                String lastStringOfLastAddedList = lastAddedList.get(lastAddedList.size() - 1);
-                // Get the first item of the list from current reading
-                String firstStringOfNewList = newList.get(0);
-
-                if (lastStringOfLastAddedList.contains("@") && firstStringOfNewList.contains("@")) {
-                    // No broken email from last reading found, simply add the list
-                    // from current reading into the upper list.
-                    listOfList.add(newList);
-                } else {
-                    // Either the left part or the right part of the broken email string does not contains a "@".
-                    // Simply append the right part to the left part (last item of the list from last reading).
-                    listOfList.get(listOfList.size() - 1)
-                            .set(lastAddedList.size() - 1, lastStringOfLastAddedList + firstStringOfNewList);
-
-                    // And also needs to delete the right part which is the first item of the list from current reading
-                    listOfList.add(newList.subList(1, newList.size() - 1));
-                }
-            }
-        }
-
-        return listOfList;
-    }
-
-    private static long getFileSize(BlobKey blobKey) {
-        BlobInfoFactory blobInfoFactory = new BlobInfoFactory();
-        return blobInfoFactory.loadBlobInfo(blobKey).getSize();
+        return new GroupReceiverListReader(new BlobstoreInputStream(blobKey, offset), offset);
     }
 
 }
@@ -0,0 +1,72 @@
+package teammates.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the email addresses of a group receiver list, i.e. a text file of comma-separated email addresses,
+ * one address at a time.
+ *
+ * <p>The reader keeps track of the byte offset in the file after the last address read, so that reading
+ * can be resumed later from that offset without reading the addresses before it again.
+ */
+public class GroupReceiverListReader implements Closeable {
+
+    private static final int SEPARATOR = ',';
+
+    private final InputStream in;
+    private final ByteArrayOutputStream receiver = new ByteArrayOutputStream();
+    private long offset;
+
+    /**
+     * Creates a reader of the list given by {@code in}, which has been positioned at byte {@code offset} of the file.
+     */
+    public GroupReceiverListReader(InputStream in, long offset) {
+        this.in = new BufferedInputStream(in);
+        this.offset = offset;
+    }
+
+    /**
+     * Reads the next email address in the list.
+     * Surrounding whitespace is removed and empty entries are skipped.
+     *
+     * @return null if the end of the list has been reached
+     */
+    public String readNextReceiver() throws IOException {
+        while (true) {
+            receiver.reset();
+            int nextByte = in.read();
+            while (nextByte != -1 && nextByte != SEPARATOR) {
+                receiver.write(nextByte);
+                nextByte = in.read();
+            }
+            offset += receiver.size() + (nextByte == -1 ? 0 : 1);
+
+            String receiverEmail = new String(receiver.toByteArray(), StandardCharsets.UTF_8).trim();
+            if (!receiverEmail.isEmpty()) {
+                return receiverEmail;
+            }
+            if (nextByte == -1) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns the byte offset in the file after the last email address read,
+     * from which reading can be resumed with a new reader.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+}
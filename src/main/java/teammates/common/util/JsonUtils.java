@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -8,19 +9,22 @@ import java.time.format.DateTimeFormatter;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Provides means to handle, manipulate, and convert JSON objects to/from strings.
  */
 public final class JsonUtils {
 
+    /**
+     * Shared by all callers, as {@link Gson} is thread-safe and caches the type adapters it creates.
+     */
+    private static final Gson TEAMMATES_GSON = getTeammatesGson();
+
     private JsonUtils() {
         // utility class
     }
@@ -31,9 +35,9 @@ public final class JsonUtils {
      */
     private static Gson getTeammatesGson() {
         return new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
-                .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
-                .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
+                .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter().nullSafe())
+                .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter().nullSafe())
+                .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter().nullSafe())
                 .setPrettyPrinting()
                 .disableHtmlEscaping()
                 .create();
@@ -45,7 +49,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -54,7 +58,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
     }
 
     /**
@@ -63,7 +67,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return TEAMMATES_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -76,42 +80,42 @@ public final class JsonUtils {
         return parser.parse(json);
     }
 
-    private static class TeammatesInstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+    private static class TeammatesInstantAdapter extends TypeAdapter<Instant> {
 
         @Override
-        public synchronized JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
+        public void write(JsonWriter out, Instant instant) throws IOException {
+            out.value(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public synchronized Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            return Instant.parse(element.getAsString());
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
         }
     }
 
-    private static class TeammatesZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+    private static class TeammatesZoneIdAdapter extends TypeAdapter<ZoneId> {
 
         @Override
-        public synchronized JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            return new JsonPrimitive(zoneId.getId());
+        public void write(JsonWriter out, ZoneId zoneId) throws IOException {
+            out.value(zoneId.getId());
         }
 
         @Override
-        public synchronized ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            return ZoneId.of(element.getAsString());
+        public ZoneId read(JsonReader in) throws IOException {
+            return ZoneId.of(in.nextString());
         }
     }
 
-    private static class TeammatesDurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    private static class TeammatesDurationMinutesAdapter extends TypeAdapter<Duration> {
 
         @Override
-        public synchronized JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            return new JsonPrimitive(duration.toMinutes());
+        public void write(JsonWriter out, Duration duration) throws IOException {
+            out.value(duration.toMinutes());
         }
 
         @Override
-        public synchronized Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            return Duration.ofMinutes(element.getAsLong());
+        public Duration read(JsonReader in) throws IOException {
+            return Duration.ofMinutes(in.nextLong());
         }
     }
 }
@@ -4,17 +4,60 @@ import java.util.Map;
 
 /**
  * Represents a task to be added to the task queue.
+ *
+ * <p>A task without a worker URL is added to a pull queue, from which it is leased by a worker instead of
+ * being pushed to one.</p>
  */
 public class TaskWrapper {
 
+    private final String taskName;
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final long countdownMillis;
+    private final int retryCount;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, 0);
+    }
+
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownMillis) {
+        this(null, queueName, workerUrl, paramMap, countdownMillis);
+    }
+
+    /**
+     * Creates the wrapper of a task named {@code taskName}. A queue adds a task with a given name only once,
+     * so adding the task again after a failure does not duplicate it.
+     */
+    public TaskWrapper(String taskName, String queueName, String workerUrl, Map<String, String[]> paramMap,
+                       long countdownMillis) {
+        this(taskName, queueName, workerUrl, paramMap, countdownMillis, 0);
+    }
+
+    private TaskWrapper(String taskName, String queueName, String workerUrl, Map<String, String[]> paramMap,
+                        long countdownMillis, int retryCount) {
+        this.taskName = taskName;
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.countdownMillis = countdownMillis;
+        this.retryCount = retryCount;
+    }
+
+    /**
+     * Creates the wrapper of a task which has been leased from the pull queue {@code queueName}
+     * after having been leased {@code retryCount} times before.
+     */
+    public static TaskWrapper ofLeasedTask(String taskName, String queueName, Map<String, String[]> paramMap,
+                                           int retryCount) {
+        return new TaskWrapper(taskName, queueName, null, paramMap, 0, retryCount);
+    }
+
+    /**
+     * Returns the name of the task, or null if the task is to be named by the queue it is added to.
+     */
+    public String getTaskName() {
+        return taskName;
     }
 
     public String getQueueName() {
@@ -29,4 +72,18 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    /**
+     * Returns the time in milliseconds to wait before the task is executed, or 0 if it is to be executed at once.
+     */
+    public long getCountdownMillis() {
+        return countdownMillis;
+    }
+
+    /**
+     * Returns the number of times a leased task had been leased before, or 0 if the task has not been leased.
+     */
+    public int getRetryCount() {
+        return retryCount;
+    }
+
 }
@@ -0,0 +1,105 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents a template which has been parsed into literal text and placeholders of the form {@code ${name}}.
+ *
+ * <p>The template text is parsed only once, when it is compiled. Rendering then copies each literal and each
+ * placeholder value exactly once, instead of copying the whole text once for every placeholder to replace.</p>
+ *
+ * <p>Values are inserted as they are, i.e. placeholders appearing inside values are not replaced.
+ * Placeholders without a given value are rendered unchanged.</p>
+ */
+public final class Template {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{[^${}]*}");
+
+    private final String text;
+
+    /** The literal text and placeholders of the template in order; placeholders are the entries at odd indices. */
+    private final String[] segments;
+
+    private Template(String text, String[] segments) {
+        this.text = text;
+        this.segments = segments;
+    }
+
+    /**
+     * Parses the given text into a template.
+     */
+    public static Template compile(String text) {
+        List<String> segments = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        int literalStart = 0;
+        while (matcher.find()) {
+            segments.add(text.substring(literalStart, matcher.start()));
+            segments.add(matcher.group());
+            literalStart = matcher.end();
+        }
+        segments.add(text.substring(literalStart));
+        return new Template(text, segments.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the text the template was compiled from.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Renders the template by replacing its placeholders with the given values.
+     *
+     * @param keyValuePairs even number of placeholders and their values: { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return the rendered template
+     */
+    public String render(String... keyValuePairs) {
+        StringBuilder rendered = new StringBuilder(text.length() + 16 * keyValuePairs.length);
+        renderTo(rendered, keyValuePairs);
+        return rendered.toString();
+    }
+
+    /**
+     * Renders the template into {@code builder}, so that many renderings can share the same builder.
+     *
+     * @see #render(String...)
+     */
+    public void renderTo(StringBuilder builder, String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+
+        for (int i = 0; i < segments.length; i++) {
+            builder.append(i % 2 == 0 ? segments[i] : getValue(segments[i], keyValuePairs));
+        }
+    }
+
+    /**
+     * Returns a new template in which the given placeholders are replaced and all other placeholders are kept,
+     * including placeholders appearing inside the given values.
+     * This allows a template to be populated in stages, e.g. when inserting a fragment which has placeholders.
+     *
+     * @see #render(String...)
+     */
+    public Template bind(String... keyValuePairs) {
+        return compile(render(keyValuePairs));
+    }
+
+    private static String getValue(String placeholder, String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (placeholder.equals(keyValuePairs[i])) {
+                return keyValuePairs[i + 1];
+            }
+        }
+        return placeholder;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+
+}
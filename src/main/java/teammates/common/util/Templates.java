@@ -8,9 +8,26 @@ public final class Templates {
         // utility class
     }
 
+    private static Template readTemplate(String fileName) {
+        return Template.compile(FileHelper.readResourceFile(fileName));
+    }
+
+    /**
+     * Populates the compiled template by replacing its placeholders with the given value strings.
+     * @param template The template to be populated
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return The populated template
+     * @see Template#render(String...)
+     */
+    public static String populateTemplate(Template template, String... keyValuePairs) {
+        return template.render(keyValuePairs);
+    }
+
     /**
      * Populates the HTML templates by replacing variables in the template string
      * with the given value strings.
+     * Each key is replaced in turn in the whole string; prefer compiling templates which are populated often.
      * @param template The template html to be populated
      * @param keyValuePairs Array of a variable, even number of key-value pairs:
      *                   { "key1", "val1", "key2", "val2", ... }
@@ -30,205 +47,205 @@ public final class Templates {
      * Collection of templates of emails to be sent by the system.
      */
     public static class EmailTemplates {
-        public static final String USER_COURSE_JOIN =
-                FileHelper.readResourceFile("userEmailTemplate-courseJoin.html");
-        public static final String USER_COURSE_REGISTER =
-                FileHelper.readResourceFile("userEmailTemplate-userRegisterForCourse.html");
-        public static final String FRAGMENT_STUDENT_COURSE_JOIN =
-                FileHelper.readResourceFile("studentEmailFragment-courseJoin.html");
-        public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-googleIdReset.html");
-        public static final String FRAGMENT_INSTRUCTOR_COURSE_JOIN =
-                FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
-        public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
-        public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
-        public static final String USER_FEEDBACK_SUBMISSION_CONFIRMATION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
-        public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
-        public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
-                FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
-        public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
-        public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
-        public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
-                FileHelper.readResourceFile("newInstructorAccountWelcome.html");
-        public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
-                FileHelper.readResourceFile("userEmailFragment-sessionAdditionalContactInformationFragment.html");
+        public static final Template USER_COURSE_JOIN =
+                readTemplate("userEmailTemplate-courseJoin.html");
+        public static final Template USER_COURSE_REGISTER =
+                readTemplate("userEmailTemplate-userRegisterForCourse.html");
+        public static final Template FRAGMENT_STUDENT_COURSE_JOIN =
+                readTemplate("studentEmailFragment-courseJoin.html");
+        public static final Template FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
+                readTemplate("studentEmailFragment-googleIdReset.html");
+        public static final Template FRAGMENT_INSTRUCTOR_COURSE_JOIN =
+                readTemplate("instructorEmailFragment-courseJoin.html");
+        public static final Template USER_FEEDBACK_SESSION =
+                readTemplate("userEmailTemplate-feedbackSession.html");
+        public static final Template USER_FEEDBACK_SESSION_PUBLISHED =
+                readTemplate("userEmailTemplate-feedbackSessionPublished.html");
+        public static final Template USER_FEEDBACK_SUBMISSION_CONFIRMATION =
+                readTemplate("userEmailTemplate-feedbackSubmissionConfirmation.html");
+        public static final Template USER_FEEDBACK_SESSION_UNPUBLISHED =
+                readTemplate("userEmailTemplate-feedbackSessionUnpublished.html");
+        public static final Template FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
+                readTemplate("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
+        public static final Template USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
+                readTemplate("userEmailTemplate-feedbackSessionResendAllLinks.html");
+        public static final Template SEVERE_ERROR_LOG_LINE =
+                readTemplate("severeErrorLogLine.html");
+        public static final Template NEW_INSTRUCTOR_ACCOUNT_WELCOME =
+                readTemplate("newInstructorAccountWelcome.html");
+        public static final Template FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
+                readTemplate("userEmailFragment-sessionAdditionalContactInformationFragment.html");
     }
 
     public static class FeedbackQuestion {
 
         public static class FormTemplates {
-            public static final String FEEDBACK_QUESTION_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionAdditionalInfoTemplate.html");
+            public static final Template FEEDBACK_QUESTION_ADDITIONAL_INFO =
+                    readTemplate("feedbackQuestionAdditionalInfoTemplate.html");
 
-            public static final String TEXT_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextSubmissionFormTemplate.html");
-            public static final String TEXT_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionTextResultStatsTemplate.html");
-            public static final String TEXT_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextEditFormTemplate.html");
+            public static final Template TEXT_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionTextSubmissionFormTemplate.html");
+            public static final Template TEXT_RESULT_STATS =
+                    readTemplate("feedbackQuestionTextResultStatsTemplate.html");
+            public static final Template TEXT_EDIT_FORM =
+                    readTemplate("feedbackQuestionTextEditFormTemplate.html");
 
-            public static final String MCQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormTemplate.html");
-            public static final String MCQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOptionFragment.html");
-            public static final String MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
-            public static final String MCQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormTemplate.html");
-            public static final String MCQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormOptionFragment.html");
-            public static final String MCQ_EDIT_FORM_WEIGHTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormWeightFragment.html");
-            public static final String MCQ_ADDITIONAL_INFO_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqAdditionalInfoFragment.html");
-            public static final String MCQ_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionMcqAdditionalInfoTemplate.html");
-            public static final String MCQ_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsTemplate.html");
-            public static final String MCQ_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsOptionFragment.html");
-            public static final String MCQ_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsTemplate.html");
-            public static final String MCQ_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsHeaderFragment.html");
-            public static final String MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsBodyFragment.html");
-            public static final String MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultRecipientStatsBodyRowFragment.html");
+            public static final Template MCQ_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionMcqSubmissionFormTemplate.html");
+            public static final Template MCQ_SUBMISSION_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMcqSubmissionFormOptionFragment.html");
+            public static final Template MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
+            public static final Template MCQ_EDIT_FORM =
+                    readTemplate("feedbackQuestionMcqEditFormTemplate.html");
+            public static final Template MCQ_EDIT_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMcqEditFormOptionFragment.html");
+            public static final Template MCQ_EDIT_FORM_WEIGHTFRAGMENT =
+                    readTemplate("feedbackQuestionMcqEditFormWeightFragment.html");
+            public static final Template MCQ_ADDITIONAL_INFO_FRAGMENT =
+                    readTemplate("feedbackQuestionMcqAdditionalInfoFragment.html");
+            public static final Template MCQ_ADDITIONAL_INFO =
+                    readTemplate("feedbackQuestionMcqAdditionalInfoTemplate.html");
+            public static final Template MCQ_RESULT_STATS =
+                    readTemplate("feedbackQuestionMcqResultStatsTemplate.html");
+            public static final Template MCQ_RESULT_STATS_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMcqResultStatsOptionFragment.html");
+            public static final Template MCQ_RESULT_RECIPIENT_STATS =
+                    readTemplate("feedbackQuestionMcqResultRecipientStatsTemplate.html");
+            public static final Template MCQ_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
+                    readTemplate("feedbackQuestionMcqResultRecipientStatsHeaderFragment.html");
+            public static final Template MCQ_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
+                    readTemplate("feedbackQuestionMcqResultRecipientStatsBodyFragment.html");
+            public static final Template MCQ_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
+                    readTemplate("feedbackQuestionMcqResultRecipientStatsBodyRowFragment.html");
 
-            public static final String MSQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormTemplate.html");
-            public static final String MSQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOptionFragment.html");
-            public static final String MSQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
-            public static final String MSQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormTemplate.html");
-            public static final String MSQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormOptionFragment.html");
-            public static final String MSQ_ADDITIONAL_INFO_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqAdditionalInfoFragment.html");
-            public static final String MSQ_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionMsqAdditionalInfoTemplate.html");
-            public static final String MSQ_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMsqResultStatsTemplate.html");
-            public static final String MSQ_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqResultStatsOptionFragment.html");
+            public static final Template MSQ_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionMsqSubmissionFormTemplate.html");
+            public static final Template MSQ_SUBMISSION_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMsqSubmissionFormOptionFragment.html");
+            public static final Template MSQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
+            public static final Template MSQ_EDIT_FORM =
+                    readTemplate("feedbackQuestionMsqEditFormTemplate.html");
+            public static final Template MSQ_EDIT_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMsqEditFormOptionFragment.html");
+            public static final Template MSQ_ADDITIONAL_INFO_FRAGMENT =
+                    readTemplate("feedbackQuestionMsqAdditionalInfoFragment.html");
+            public static final Template MSQ_ADDITIONAL_INFO =
+                    readTemplate("feedbackQuestionMsqAdditionalInfoTemplate.html");
+            public static final Template MSQ_RESULT_STATS =
+                    readTemplate("feedbackQuestionMsqResultStatsTemplate.html");
+            public static final Template MSQ_RESULT_STATS_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionMsqResultStatsOptionFragment.html");
 
-            public static final String NUMSCALE_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleEditFormTemplate.html");
-            public static final String NUMSCALE_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleSubmissionFormTemplate.html");
-            public static final String NUMSCALE_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplate.html");
-            public static final String NUMSCALE_RESULTS_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragment.html");
-            public static final String NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
-            public static final String NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
+            public static final Template NUMSCALE_EDIT_FORM =
+                    readTemplate("feedbackQuestionNumScaleEditFormTemplate.html");
+            public static final Template NUMSCALE_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionNumScaleSubmissionFormTemplate.html");
+            public static final Template NUMSCALE_RESULT_STATS =
+                    readTemplate("feedbackQuestionNumScaleResultStatsTemplate.html");
+            public static final Template NUMSCALE_RESULTS_STATS_FRAGMENT =
+                    readTemplate("feedbackQuestionNumScaleResultsStatsFragment.html");
+            public static final Template NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE =
+                    readTemplate("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
+            public static final Template NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE =
+                    readTemplate("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
 
-            public static final String CONSTSUM_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormTemplate.html");
-            public static final String CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
-            public static final String CONSTSUM_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormTemplate.html");
-            public static final String CONSTSUM_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormOptionFragment.html");
-            public static final String CONSTSUM_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsTemplate.html");
-            public static final String CONSTSUM_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsOptionFragment.html");
-            public static final String CONSTSUM_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
-            public static final String CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientFragment.html");
+            public static final Template CONSTSUM_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionConstSumSubmissionFormTemplate.html");
+            public static final Template CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
+            public static final Template CONSTSUM_EDIT_FORM =
+                    readTemplate("feedbackQuestionConstSumEditFormTemplate.html");
+            public static final Template CONSTSUM_EDIT_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionConstSumEditFormOptionFragment.html");
+            public static final Template CONSTSUM_RESULT_OPTION_STATS =
+                    readTemplate("feedbackQuestionConstSumResultStatsTemplate.html");
+            public static final Template CONSTSUM_RESULT_STATS_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionConstSumResultStatsOptionFragment.html");
+            public static final Template CONSTSUM_RESULT_RECIPIENT_STATS =
+                    readTemplate("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
+            public static final Template CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT =
+                    readTemplate("feedbackQuestionConstSumResultStatsRecipientFragment.html");
 
-            public static final String CONTRIB_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribAdditionalInfoTemplate.html");
-            public static final String CONTRIB_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribEditFormTemplate.html");
-            public static final String CONTRIB_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribSubmissionFormTemplate.html");
-            public static final String CONTRIB_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsTemplate.html");
-            public static final String CONTRIB_RESULT_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsFragment.html");
-            public static final String CONTRIB_RESULT_STATS_STUDENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewTemplate.html");
-            public static final String CONTRIB_RESULT_STATS_STUDENT_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
+            public static final Template CONTRIB_ADDITIONAL_INFO =
+                    readTemplate("feedbackQuestionContribAdditionalInfoTemplate.html");
+            public static final Template CONTRIB_EDIT_FORM =
+                    readTemplate("feedbackQuestionContribEditFormTemplate.html");
+            public static final Template CONTRIB_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionContribSubmissionFormTemplate.html");
+            public static final Template CONTRIB_RESULT_STATS =
+                    readTemplate("feedbackQuestionContribResultStatsTemplate.html");
+            public static final Template CONTRIB_RESULT_STATS_FRAGMENT =
+                    readTemplate("feedbackQuestionContribResultStatsFragment.html");
+            public static final Template CONTRIB_RESULT_STATS_STUDENT =
+                    readTemplate("feedbackQuestionContribResultStatsStudentViewTemplate.html");
+            public static final Template CONTRIB_RESULT_STATS_STUDENT_INFO =
+                    readTemplate("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
 
-            public static final String RUBRIC_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormTemplate.html");
-            public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
-            public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanel.html");
-            public static final String RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
-            public static final String RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBodyFragment.html");
-            public static final String RUBRIC_SUBMISSION_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBody.html");
-            public static final String RUBRIC_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTemplate.html");
-            public static final String RUBRIC_EDIT_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormHeaderFragment.html");
-            public static final String RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormWeightFragment.html");
-            public static final String RUBRIC_EDIT_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBodyFragment.html");
-            public static final String RUBRIC_EDIT_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBody.html");
-            public static final String RUBRIC_EDIT_FORM_TABLE_OPTIONS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTableOptions.html");
-            public static final String RUBRIC_EDIT_FORM_TABLE_OPTIONS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTableOptionsFragment.html");
-            public static final String RUBRIC_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsTemplate.html");
-            public static final String RUBRIC_RESULT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsHeaderFragment.html");
-            public static final String RUBRIC_RESULT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBodyFragment.html");
-            public static final String RUBRIC_RESULT_STATS_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBody.html");
-            public static final String RUBRIC_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsTemplate.html");
-            public static final String RUBRIC_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsHeaderFragment.html");
-            public static final String RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsBodyFragment.html");
-            public static final String RUBRIC_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultRecipientStatsBodyRowFragment.html");
-            public static final String RUBRIC_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionRubricAdditionalInfoTemplate.html");
+            public static final Template RUBRIC_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionRubricSubmissionFormTemplate.html");
+            public static final Template RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
+            public static final Template RUBRIC_SUBMISSION_FORM_MOBILE_PANEL =
+                    readTemplate("feedbackQuestionRubricSubmissionFormMobilePanel.html");
+            public static final Template RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
+            public static final Template RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricSubmissionFormBodyFragment.html");
+            public static final Template RUBRIC_SUBMISSION_FORM_BODY =
+                    readTemplate("feedbackQuestionRubricSubmissionFormBody.html");
+            public static final Template RUBRIC_EDIT_FORM =
+                    readTemplate("feedbackQuestionRubricEditFormTemplate.html");
+            public static final Template RUBRIC_EDIT_FORM_HEADER_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricEditFormHeaderFragment.html");
+            public static final Template RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricEditFormWeightFragment.html");
+            public static final Template RUBRIC_EDIT_FORM_BODY_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricEditFormBodyFragment.html");
+            public static final Template RUBRIC_EDIT_FORM_BODY =
+                    readTemplate("feedbackQuestionRubricEditFormBody.html");
+            public static final Template RUBRIC_EDIT_FORM_TABLE_OPTIONS =
+                    readTemplate("feedbackQuestionRubricEditFormTableOptions.html");
+            public static final Template RUBRIC_EDIT_FORM_TABLE_OPTIONS_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricEditFormTableOptionsFragment.html");
+            public static final Template RUBRIC_RESULT_STATS =
+                    readTemplate("feedbackQuestionRubricResultStatsTemplate.html");
+            public static final Template RUBRIC_RESULT_STATS_HEADER_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricResultStatsHeaderFragment.html");
+            public static final Template RUBRIC_RESULT_STATS_BODY_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricResultStatsBodyFragment.html");
+            public static final Template RUBRIC_RESULT_STATS_BODY =
+                    readTemplate("feedbackQuestionRubricResultStatsBody.html");
+            public static final Template RUBRIC_RESULT_RECIPIENT_STATS =
+                    readTemplate("feedbackQuestionRubricResultRecipientStatsTemplate.html");
+            public static final Template RUBRIC_RESULT_RECIPIENT_STATS_HEADER_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricResultRecipientStatsHeaderFragment.html");
+            public static final Template RUBRIC_RESULT_RECIPIENT_STATS_BODY_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricResultRecipientStatsBodyFragment.html");
+            public static final Template RUBRIC_RESULT_RECIPIENT_STATS_BODY_ROW_FRAGMENT =
+                    readTemplate("feedbackQuestionRubricResultRecipientStatsBodyRowFragment.html");
+            public static final Template RUBRIC_ADDITIONAL_INFO =
+                    readTemplate("feedbackQuestionRubricAdditionalInfoTemplate.html");
 
-            public static final String RANK_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormTemplate.html");
-            public static final String RANK_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormOptionFragment.html");
-            public static final String RANK_EDIT_RECIPIENTS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankRecipientsEditFormTemplate.html");
-            public static final String RANK_EDIT_OPTIONS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankOptionsEditFormTemplate.html");
-            public static final String RANK_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankEditFormOptionFragment.html");
-            public static final String RANK_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsTemplate.html");
-            public static final String RANK_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsOptionFragment.html");
-            public static final String RANK_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientTemplate.html");
-            public static final String RANK_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientFragment.html");
+            public static final Template RANK_SUBMISSION_FORM =
+                    readTemplate("feedbackQuestionRankSubmissionFormTemplate.html");
+            public static final Template RANK_SUBMISSION_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionRankSubmissionFormOptionFragment.html");
+            public static final Template RANK_EDIT_RECIPIENTS_FORM =
+                    readTemplate("feedbackQuestionRankRecipientsEditFormTemplate.html");
+            public static final Template RANK_EDIT_OPTIONS_FORM =
+                    readTemplate("feedbackQuestionRankOptionsEditFormTemplate.html");
+            public static final Template RANK_EDIT_FORM_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionRankEditFormOptionFragment.html");
+            public static final Template RANK_RESULT_OPTION_STATS =
+                    readTemplate("feedbackQuestionRankResultStatsTemplate.html");
+            public static final Template RANK_RESULT_STATS_OPTIONFRAGMENT =
+                    readTemplate("feedbackQuestionRankResultStatsOptionFragment.html");
+            public static final Template RANK_RESULT_RECIPIENT_STATS =
+                    readTemplate("feedbackQuestionRankResultStatsRecipientTemplate.html");
+            public static final Template RANK_RESULT_STATS_RECIPIENTFRAGMENT =
+                    readTemplate("feedbackQuestionRankResultStatsRecipientFragment.html");
         }
 
         public static class Slots {
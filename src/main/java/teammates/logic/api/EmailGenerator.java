@@ -3,6 +3,7 @@ package teammates.logic.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.google.appengine.api.log.AppLogLine;
 
@@ -19,6 +20,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Template;
 import teammates.common.util.Templates;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
@@ -60,7 +62,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION.bind("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -71,12 +73,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<StudentAttributes>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
     }
 
     /**
@@ -88,7 +86,7 @@ public class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION.bind("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         instructorToNotifyAsList.add(instructorToNotify);
@@ -122,7 +120,7 @@ public class EmailGenerator {
             }
         }
 
-        StringBuffer linksFragmentValue = new StringBuffer(1000);
+        StringBuilder linksFragmentValue = new StringBuilder(1000);
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
         String joinFragmentValue = isYetToJoinCourse(student)
@@ -156,12 +154,11 @@ public class EmailGenerator {
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
             }
 
-            linksFragmentValue.append(Templates.populateTemplate(
-                    EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS,
+            EmailTemplates.FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS.renderTo(linksFragmentValue,
                     "${feedbackSessionName}", fsa.getFeedbackSessionName(),
                     "${deadline}", fsa.getEndTimeString() + (fsa.isClosed() ? " (Passed)" : ""),
                     "${submitUrl}", submitUrlHtml,
-                    "${reportUrl}", reportUrlHtml));
+                    "${reportUrl}", reportUrlHtml);
         }
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         String emailBody = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION_RESEND_ALL_LINKS,
@@ -213,12 +210,28 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBasesForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors,
-            String template, String subject, String additionalContactInformation) {
+            Template template, String subject, String additionalContactInformation) {
+
+        String submitUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE)
+                                 .withCourseId(course.getId())
+                                 .withSessionName(session.getFeedbackSessionName())
+                                 .toAbsoluteString();
+
+        String reportUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
+                                 .withCourseId(course.getId())
+                                 .withSessionName(session.getFeedbackSessionName())
+                                 .toAbsoluteString();
+
+        // Only the name differs between the instructors
+        Template instructorTemplate = bindFeedbackSessionDetails(template, course, session, "",
+                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation)
+                .bind("${submitUrl}", submitUrl,
+                      "${reportUrl}", reportUrl);
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructorReminders(course, session, instructor,
-                    template, subject, additionalContactInformation));
+                    instructorTemplate, subject));
         }
         return emails;
     }
@@ -226,7 +239,7 @@ public class EmailGenerator {
     private EmailWrapper generateSubmissionConfirmationEmail(
             CourseAttributes course, FeedbackSessionAttributes session, String submitUrl,
             String userName, String userEmail, Instant timestamp) {
-        String template = EmailTemplates.USER_FEEDBACK_SUBMISSION_CONFIRMATION;
+        Template template = EmailTemplates.USER_FEEDBACK_SUBMISSION_CONFIRMATION;
         String subject = EmailType.FEEDBACK_SUBMISSION_CONFIRMATION.getSubject();
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         String emailBody = Templates.populateTemplate(template,
@@ -249,34 +262,12 @@ public class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String additionalContactInformation) {
-
-        String submitUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_SUBMISSION_EDIT_PAGE)
-                                 .withCourseId(course.getId())
-                                 .withSessionName(session.getFeedbackSessionName())
-                                 .toAbsoluteString();
-
-        String reportUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
-                                 .withCourseId(course.getId())
-                                 .withSessionName(session.getFeedbackSessionName())
-                                 .toAbsoluteString();
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
-                "${additionalContactInformation}", additionalContactInformation);
+            Template instructorTemplate, String subject) {
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContent(instructorTemplate,
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
         return email;
     }
 
@@ -290,24 +281,16 @@ public class EmailGenerator {
 
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            Set<String> studentsToRemind = fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(session);
 
             for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
-                        students.add(student);
-                    }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
+                if (studentsToRemind.contains(student.email)) {
+                    students.add(student);
                 }
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION.bind("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         List<InstructorAttributes> instructors = isEmailNeeded
                                                  ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
@@ -338,7 +321,7 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION.bind("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
                 EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
@@ -366,7 +349,7 @@ public class EmailGenerator {
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session,
             List<StudentAttributes> students, List<InstructorAttributes> instructors) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
 
@@ -380,7 +363,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+        Template template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
@@ -397,7 +380,7 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject) {
+            List<InstructorAttributes> instructors, Template template, String subject) {
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template, subject,
                 FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
@@ -405,24 +388,55 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject, String feedbackAction,
+            List<InstructorAttributes> instructors, Template template, String subject, String feedbackAction,
             String addtionalContactInformation) {
 
+        // The details of the session are filled in only once for all recipients;
+        // each email is given only the values which differ between recipients
         List<EmailWrapper> emails = new ArrayList<>();
-        for (StudentAttributes student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, addtionalContactInformation));
+        if (!students.isEmpty()) {
+            Template studentTemplate = bindFeedbackSessionDetails(template, course, session, "",
+                    feedbackAction, addtionalContactInformation);
+            for (StudentAttributes student : students) {
+                emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
+                        studentTemplate, subject));
+            }
         }
-        for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, subject, feedbackAction, addtionalContactInformation));
+        if (!instructors.isEmpty()) {
+            Template instructorTemplate = bindFeedbackSessionDetails(template, course, session,
+                    generateInstructorPreamble(course.getId(), course.getName()),
+                    feedbackAction, addtionalContactInformation)
+                    .bind("${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
+                          "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}");
+            for (InstructorAttributes instructor : instructors) {
+                emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                        instructorTemplate, subject));
+            }
         }
         return emails;
     }
 
+    /**
+     * Fills in the placeholders of {@code template} which are the same for all recipients of emails
+     * about {@code session}, leaving the name and the URLs of the recipient to be filled in.
+     */
+    private Template bindFeedbackSessionDetails(
+            Template template, CourseAttributes course, FeedbackSessionAttributes session,
+            String instructorFragment, String feedbackAction, String additionalContactInformation) {
+        return template.bind(
+                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
+                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
+                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
+                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
+                "${instructorFragment}", instructorFragment,
+                "${sessionInstructions}", session.getInstructionsString(),
+                "${feedbackAction}", feedbackAction,
+                "${additionalContactInformation}", additionalContactInformation);
+    }
+
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            Template studentTemplate, String subject) {
 
         String submitUrl = Config.getAppUrl(Const.ActionURIs.STUDENT_FEEDBACK_SUBMISSION_EDIT_PAGE)
                                  .withCourseId(course.getId())
@@ -438,22 +452,12 @@ public class EmailGenerator {
                                  .withStudentEmail(student.email)
                                  .toAbsoluteString();
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
-
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContent(studentTemplate,
+                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+                "${submitUrl}", submitUrl,
+                "${reportUrl}", reportUrl);
         return email;
     }
 
@@ -474,26 +478,12 @@ public class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String feedbackAction, String additionalContactInformation) {
-
-        String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", instructorFragment,
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+            Template instructorTemplate, String subject) {
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
+        email.setContent(instructorTemplate,
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
         return email;
     }
 
@@ -599,31 +589,31 @@ public class EmailGenerator {
         return email;
     }
 
-    private String fillUpStudentJoinFragment(StudentAttributes student, String emailBody) {
+    private Template fillUpStudentJoinFragment(StudentAttributes student, Template emailBody) {
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
-                "${joinUrl}", joinUrl);
+        return emailBody.bind("${joinFragment}", Templates.populateTemplate(
+                EmailTemplates.FRAGMENT_STUDENT_COURSE_JOIN,
+                "${joinUrl}", joinUrl));
     }
 
-    private String fillUpStudentRejoinAfterGoogleIdResetFragment(StudentAttributes student, String emailBody) {
+    private Template fillUpStudentRejoinAfterGoogleIdResetFragment(StudentAttributes student, Template emailBody) {
         String joinUrl = Config.getAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET,
+        return emailBody.bind("${joinFragment}", Templates.populateTemplate(
+                EmailTemplates.FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET,
                 "${joinUrl}", joinUrl,
-                "${supportEmail}", Config.SUPPORT_EMAIL);
+                "${supportEmail}", Config.SUPPORT_EMAIL));
     }
 
-    private String fillUpInstructorJoinFragment(InstructorAttributes instructor, String emailBody) {
+    private Template fillUpInstructorJoinFragment(InstructorAttributes instructor, Template emailBody) {
         String joinUrl = Config.getAppUrl(Const.ActionURIs.INSTRUCTOR_COURSE_JOIN)
                                .withRegistrationKey(StringHelper.encrypt(instructor.key))
                                .toAbsoluteString();
 
-        return Templates.populateTemplate(emailBody,
-                "${joinFragment}", EmailTemplates.FRAGMENT_INSTRUCTOR_COURSE_JOIN,
-                "${joinUrl}", joinUrl);
+        return emailBody.bind("${joinFragment}", Templates.populateTemplate(
+                EmailTemplates.FRAGMENT_INSTRUCTOR_COURSE_JOIN,
+                "${joinUrl}", joinUrl));
     }
 
     /**
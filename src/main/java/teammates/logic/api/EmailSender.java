@@ -46,6 +46,27 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages} in as few requests to the email service as it allows,
+     * and generates a log report for each of them.
+     */
+    public void sendEmails(List<EmailWrapper> messages) throws EmailSendingException {
+        service.sendEmails(messages);
+
+        for (EmailWrapper message : messages) {
+            EmailLogEntry newEntry = new EmailLogEntry(message);
+            log.info(newEntry.generateLogMessage());
+        }
+    }
+
+    /**
+     * Splits the given {@code messages} into the groups of emails which are sent together in a single request
+     * to the email service, e.g. so that each group can be sent with {@link #sendEmails(List)} on its own.
+     */
+    public List<List<EmailWrapper>> groupEmailsForSending(List<EmailWrapper> messages) {
+        return service.groupForSending(messages);
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
@@ -1,9 +1,13 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.blobstore.BlobKey;
 
@@ -40,8 +44,10 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.JoinCourseException;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.Template;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.AdminEmailsLogic;
+import teammates.logic.core.CourseRosterCache;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
@@ -49,6 +55,7 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SharedEmailContentsLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -69,6 +76,23 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final SharedEmailContentsLogic sharedEmailContentsLogic = SharedEmailContentsLogic.inst();
+    protected static final CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+
+    /**
+     * Starts caching data, e.g. course rosters, for the request served by the current thread.
+     * Must be followed by {@link #endRequestScope()} when the request has been served.
+     */
+    public void startRequestScope() {
+        courseRosterCache.startRequestScope();
+    }
+
+    /**
+     * Discards the data cached for the request served by the current thread.
+     */
+    public void endRequestScope() {
+        courseRosterCache.endRequestScope();
+    }
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -127,6 +151,18 @@ public class Logic {
         return accountsLogic.getAccount(googleId, retrieveStudentProfile);
     }
 
+    /**
+     * Gets the accounts with the given Google IDs, without their profiles.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return Empty list if none found.
+     */
+    public List<AccountAttributes> getAccounts(Collection<String> googleIds) {
+        Assumption.assertNotNull(googleIds);
+
+        return accountsLogic.getAccounts(googleIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -374,6 +410,19 @@ public class Logic {
         return instructorsLogic.getInstructorsForCourse(courseId);
     }
 
+    /**
+     * Gets the instructors of all the given courses, sorted by name.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return Empty list if none found.
+     */
+    public List<InstructorAttributes> getInstructorsForCourses(Collection<String> courseIds) {
+
+        Assumption.assertNotNull(courseIds);
+
+        return instructorsLogic.getInstructorsForCourses(courseIds);
+    }
+
     /**
      * Get the encrypted registration key for the instructor.
      * Preconditions: <br>
@@ -543,6 +592,18 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Gets the courses with the given IDs. Courses which are not found are omitted.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+
+        Assumption.assertNotNull(courseIds);
+
+        return coursesLogic.getCourses(courseIds);
+    }
+
     /**
      * Returns a detailed version of course data. <br>
      * Preconditions: <br>
@@ -553,6 +614,49 @@ public class Logic {
         return coursesLogic.getCourseSummary(courseId);
     }
 
+    /**
+     * Returns a course data with its statistics, but without its sections and feedback sessions.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public CourseDetailsBundle getCourseDetailsWithoutSections(String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.getCourseSummaryWithoutSections(courseId);
+    }
+
+    /**
+     * Returns true if the statistics of the given course are kept in course statistics,
+     * false if the students of the course have to be loaded to compute them instead.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean hasCourseStats(String courseId) {
+        Assumption.assertNotNull(courseId);
+
+        return studentsLogic.getCourseStats(courseId) != null;
+    }
+
+    /**
+     * Recomputes the course statistics of the course from its students.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void rebuildCourseStats(String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+
+        coursesLogic.verifyCourseIsPresent(courseId);
+        studentsLogic.rebuildCourseStats(courseId);
+    }
+
+    /**
+     * Returns the IDs of the courses whose students changed within the past day.
+     *
+     * @see StudentsLogic#getCourseIdsWithStudentsChangedWithinThePastDay()
+     */
+    public Set<String> getCourseIdsWithStudentsChangedWithinThePastDay() {
+        return studentsLogic.getCourseIdsWithStudentsChangedWithinThePastDay();
+    }
+
     /**
      * Returns a course data, including its feedback sessions, according to the instructor passed in.<br>
      * Preconditions: <br>
@@ -627,6 +731,23 @@ public class Logic {
         return coursesLogic.getCourseDetailsListForStudent(googleId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return Details of courses the student is in, like {@link #getCourseDetailsListForStudent(String)}.
+     *         Whether the student has completed each of the feedback sessions in the courses
+     *         is put into {@code sessionSubmissionStatusMap}.
+     * @see CoursesLogic#getCourseDetailsListForStudent(String, Map)
+     */
+    public List<CourseDetailsBundle> getCourseDetailsListForStudent(String googleId,
+            Map<FeedbackSessionAttributes, Boolean> sessionSubmissionStatusMap) throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(googleId);
+        Assumption.assertNotNull(sessionSubmissionStatusMap);
+        return coursesLogic.getCourseDetailsListForStudent(googleId, sessionSubmissionStatusMap);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1001,6 +1122,29 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the emails of the students of the course who have not completed the session
+     */
+    public Set<String> getStudentsWhoHaveNotCompletedFeedbackSession(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getStudentsWhoHaveNotCompletedFeedbackSession(fsa);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the emails of the instructors of the course who have not completed the session
+     */
+    public Set<String> getInstructorsWhoHaveNotCompletedFeedbackSession(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getInstructorsWhoHaveNotCompletedFeedbackSession(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1147,6 +1291,16 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets the sessions of all the given courses.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(courseIds);
+        return feedbackSessionsLogic.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1325,6 +1479,28 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer}, one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1548,6 +1724,31 @@ public class Logic {
         return feedbackQuestionsLogic.areThereResponsesForQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Returns true if the responses of the given feedback question are counted by response aggregates,
+     * false if the responses have to be queried instead.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public boolean hasResponseAggregatesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(feedbackQuestionId);
+
+        return feedbackResponsesLogic.getResponseCountsByGiverForQuestion(feedbackQuestionId) != null;
+    }
+
+    /**
+     * Recomputes the response aggregates of all questions in the session from their responses.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void rebuildResponseAggregatesForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        feedbackResponsesLogic.rebuildResponseAggregatesForSession(feedbackSessionName, courseId);
+    }
+
     /**
      * Gets all copiable questions for an instructor<br>
      * Returns an empty list if they are no questions
@@ -1609,6 +1810,17 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsForStudent(feedbackSessionName, courseId, userEmail);
     }
 
+    /**
+     * Gets the students and instructors of a course, from the cache if available. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @see CourseRosterCache#getCourseRoster(String)
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return courseRosterCache.getCourseRoster(courseId);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the student for a feedback session.
@@ -1762,6 +1974,25 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsForInstructor(feedbackSessionName, courseId, userEmail);
     }
 
+    /**
+     * Gets a question+response bundle for the responses given and received by a student
+     * that are visible to the instructor for a feedback session.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorForStudent(
+            String feedbackSessionName, String courseId, String userEmail, String studentEmail)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+        Assumption.assertNotNull(studentEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorForStudent(
+                feedbackSessionName, courseId, userEmail, studentEmail);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session in a specific section.
@@ -1887,6 +2118,22 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Updates the given feedback responses in bulk.
+     * A response that cannot be updated is left as it was, and does not prevent the other responses
+     * from being updated.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null. The ID of every response is non-null.
+     * @throws InvalidParametersException if any of the responses cannot be updated
+     * @throws EntityDoesNotExistException if any of the responses does not exist; no response is updated
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.updateFeedbackResponses(feedbackResponses);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1896,6 +2143,16 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Deletes the given feedback responses and their comments in bulk.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null. The ID of every response is non-null.
+     */
+    public void deleteFeedbackResponses(List<FeedbackResponseAttributes> feedbackResponses) {
+        Assumption.assertNotNull(feedbackResponses);
+        feedbackResponsesLogic.deleteFeedbackResponsesAndCascade(feedbackResponses);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -2024,6 +2281,16 @@ public class Logic {
         return adminEmailsLogic.getAdminEmailById(emailId);
     }
 
+    /**
+     * Gets an admin email which is being sent to its receivers by email id.
+     *
+     * @see AdminEmailsLogic#getAdminEmailBeingSent(String)
+     */
+    public AdminEmailAttributes getAdminEmailBeingSent(String emailId) {
+        Assumption.assertNotNull(emailId);
+        return adminEmailsLogic.getAdminEmailBeingSent(emailId);
+    }
+
     public Instant createAdminEmail(AdminEmailAttributes newAdminEmail) throws InvalidParametersException {
         Assumption.assertNotNull(newAdminEmail);
         return adminEmailsLogic.createAdminEmail(newAdminEmail);
@@ -2123,6 +2390,17 @@ public class Logic {
         adminEmailsLogic.deleteAdminEmailUploadedFile(key);
     }
 
+    /**
+     * Gets the content of an email shared by many recipients, with placeholders for the values of each recipient.
+     *
+     * @return null if no such content is found
+     * @see SharedEmailContentsLogic#getSharedEmailContent(String)
+     */
+    public Template getSharedEmailContent(String contentId) {
+        Assumption.assertNotNull(contentId);
+        return sharedEmailContentsLogic.getSharedEmailContent(contentId);
+    }
+
     /**
      * Deletes uploaded file.
      * @param key the GCS blobkey used to fetch the file in Google Cloud Storage
@@ -2146,12 +2424,18 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(List<StudentEnrollDetails> enrollmentList,
-                                                     FeedbackResponseAttributes response)
+    /**
+     * Adjusts the responses to a question after students in {@code enrollmentList}
+     * moved to another team or section.
+     *
+     * @see FeedbackResponsesLogic#adjustFeedbackResponsesForEnrollments(String, List)
+     */
+    public void adjustFeedbackResponsesForEnrollments(String feedbackQuestionId,
+                                                      List<StudentEnrollDetails> enrollmentList)
             throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackQuestionId);
         Assumption.assertNotNull(enrollmentList);
-        Assumption.assertNotNull(response);
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+        feedbackResponsesLogic.adjustFeedbackResponsesForEnrollments(feedbackQuestionId, enrollmentList);
     }
 
     /**
@@ -2163,6 +2447,15 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsClosedWithinThePastHour();
     }
 
+    /**
+     * Returns a list of sessions that accepted responses within the past day.
+     *
+     * @see FeedbackSessionsLogic#getFeedbackSessionsAcceptingResponsesWithinThePastDay()
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsAcceptingResponsesWithinThePastDay() {
+        return feedbackSessionsLogic.getFeedbackSessionsAcceptingResponsesWithinThePastDay();
+    }
+
     public List<FeedbackSessionAttributes> getFeedbackSessionsClosingWithinTimeLimit() {
         return feedbackSessionsLogic.getFeedbackSessionsClosingWithinTimeLimit();
     }
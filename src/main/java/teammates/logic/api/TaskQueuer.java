@@ -1,16 +1,26 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.SystemParams;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
+import teammates.common.util.Template;
+import teammates.logic.core.SharedEmailContentsLogic;
 import teammates.logic.core.TaskQueuesLogic;
 
 /**
@@ -18,6 +28,32 @@ import teammates.logic.core.TaskQueuesLogic;
  */
 public class TaskQueuer {
 
+    /**
+     * The maximum number of emails sent together by a task of the send email batch queue.
+     */
+    public static final int MAX_EMAILS_PER_BATCH = 50;
+
+    /**
+     * How long leased emails are not leased again. A batch which fails to send some of its emails
+     * schedules the next batch to run after this time, so that the emails can be leased again by it.
+     */
+    private static final long EMAIL_LEASE_SECONDS = 60;
+
+    /**
+     * How many times an email is leased for sending before it is given up on.
+     */
+    private static final int MAX_EMAIL_SEND_ATTEMPTS = 5;
+
+    /**
+     * How often the response aggregates of a session are rebuilt at most, however often the rebuild is scheduled.
+     */
+    private static final Duration RESPONSE_AGGREGATES_REBUILD_INTERVAL = Duration.ofHours(1);
+
+    /**
+     * How often the statistics of a course are rebuilt at most, however often the rebuild is scheduled.
+     */
+    private static final Duration COURSE_STATS_REBUILD_INTERVAL = Duration.ofHours(1);
+
     private static final Logger log = Logger.getLogger();
 
     // The following methods are facades to the actual logic for adding tasks to the queue.
@@ -25,18 +61,12 @@ public class TaskQueuer {
     // while at the same time allowing this API to be mocked during test.
 
     protected void addTask(String queueName, String workerUrl, Map<String, String> paramMap) {
-        Map<String, String[]> multisetParamMap = new HashMap<>();
-        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap);
-        new TaskQueuesLogic().addTask(task);
+        new TaskQueuesLogic().addTask(makeTask(queueName, workerUrl, paramMap, 0));
     }
 
     protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
                                    long countdownTime) {
-        Map<String, String[]> multisetParamMap = new HashMap<>();
-        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
-        TaskWrapper task = new TaskWrapper(queueName, workerUrl, multisetParamMap);
-        new TaskQueuesLogic().addDeferredTask(task, countdownTime);
+        new TaskQueuesLogic().addTask(makeTask(queueName, workerUrl, paramMap, countdownTime));
     }
 
     protected void addTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap) {
@@ -44,6 +74,42 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addTasks(List<TaskWrapper> tasks) {
+        new TaskQueuesLogic().addTasks(tasks);
+    }
+
+    protected List<TaskWrapper> leaseTasks(String queueName, long leaseSeconds, int maxTasks) {
+        return new TaskQueuesLogic().leaseTasks(queueName, leaseSeconds, maxTasks);
+    }
+
+    protected void deleteTasks(List<TaskWrapper> tasks) {
+        new TaskQueuesLogic().deleteTasks(tasks);
+    }
+
+    /**
+     * Adds a task which is added at most once in each {@code interval} for the same queue and parameters,
+     * as a queue does not add a task named like a task it has added before.
+     */
+    private void addTaskOncePerInterval(String queueName, String workerUrl, Map<String, String> paramMap,
+                                        Duration interval) {
+        String params = new TreeMap<>(paramMap).toString();
+        String taskName = queueName + "-" + UUID.nameUUIDFromBytes(params.getBytes(StandardCharsets.UTF_8))
+                + "-" + System.currentTimeMillis() / interval.toMillis();
+        addTasks(Collections.singletonList(makeTask(taskName, queueName, workerUrl, paramMap, 0)));
+    }
+
+    private static TaskWrapper makeTask(String queueName, String workerUrl, Map<String, String> paramMap,
+                                        long countdownTime) {
+        return makeTask(null, queueName, workerUrl, paramMap, countdownTime);
+    }
+
+    private static TaskWrapper makeTask(String taskName, String queueName, String workerUrl,
+                                        Map<String, String> paramMap, long countdownTime) {
+        Map<String, String[]> multisetParamMap = new HashMap<>();
+        paramMap.forEach((key, value) -> multisetParamMap.put(key, new String[] { value }));
+        return new TaskWrapper(taskName, queueName, workerUrl, multisetParamMap, countdownTime);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -84,55 +150,46 @@ public class TaskQueuer {
     /**
      * Schedules an admin email preparation in group mode, i.e. using the group receiver list
      * retrieved from the Google Cloud Storage (GCS).
-     * <p>
-     * This group receiver list is in the form of {@code List<List<String>>} accessed by two indices,
-     * namely "email list index" for accessing the {@code List<String>} inside the {@code List<List<String>>}
-     * and "email index" for accessing the email {@code String} inside the {@code List<String>}.
-     * </p>
      *
      * @param emailId the ID of admin email to be retrieved from the database
      * @param groupReceiverListFileKey the file key for the group receiver list in GCS
-     * @param emailListIndex see method description
-     * @param emailIndex see method description
+     * @param receiverListOffset the byte offset in the group receiver list file to resume from
      */
     public void scheduleAdminEmailPreparationInGroupMode(String emailId, String groupReceiverListFileKey,
-                                                         int emailListIndex, int emailIndex) {
+                                                         long receiverListOffset) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
         paramMap.put(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX, Integer.toString(emailListIndex));
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX, Integer.toString(emailIndex));
+        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET, Long.toString(receiverListOffset));
 
         addTask(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_QUEUE_NAME,
                 TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, paramMap);
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to each of the given receivers.
+     * The tasks are added to the queue in batches.
      *
-     * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
-     * @param emailSubject the subject of the email
-     * @param emailContent the content of the email
+     * <p>The tasks refer to the email by its ID only, so that they stay small however long the email is;
+     * the subject and content are retrieved by the worker.
+     *
+     * @param emailId the ID of admin email to be retrieved from the database
+     * @param emailReceivers the email addresses of the email receivers
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers) {
+        if (emailReceivers.isEmpty()) {
+            return;
+        }
 
-        try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
-                log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-            }
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String emailReceiver : emailReceivers) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
+            tasks.add(makeTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL,
+                               paramMap, 0));
         }
+        addTasks(tasks);
     }
 
     /**
@@ -260,25 +317,112 @@ public class TaskQueuer {
     }
 
     /**
-     * Schedules adjustments to be done to responses of a feedback session in the database
+     * Schedules for course registration to be sent to each of the specified students.
+     * The tasks are added to the queue in batches.
+     *
+     * @param courseId the target course ID
+     * @param studentEmails the email addresses of the students
+     */
+    public void scheduleCourseRegistrationInvitesToStudents(String courseId, List<String> studentEmails) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String studentEmail : studentEmails) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, courseId);
+            paramMap.put(ParamsNames.STUDENT_EMAIL, studentEmail);
+            paramMap.put(ParamsNames.IS_STUDENT_REJOINING, String.valueOf(false));
+
+            tasks.add(makeTask(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME,
+                               TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap, 0));
+        }
+        addTasks(tasks);
+    }
+
+    /**
+     * Schedules adjustments to be done to responses of the given feedback sessions in the database
      * after change is done to a course, typically after enrollment of new students
      * or re-enrollment of old students, or both.
+     * The tasks for all the sessions are added to the queue in batches.
+     *
+     * @param courseId the course ID of the feedback sessions
+     * @param feedbackSessionNames the names of the feedback sessions
+     * @param enrollmentList the list of enrollment details
+     */
+    public void scheduleFeedbackResponseAdjustmentForSessions(String courseId, List<String> feedbackSessionNames,
+                                                              List<StudentEnrollDetails> enrollmentList) {
+        String enrollmentDetails = JsonUtils.toJson(enrollmentList);
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String feedbackSessionName : feedbackSessionNames) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, courseId);
+            paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+            paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+
+            tasks.add(makeTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
+                               TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap, 0));
+        }
+        addTasks(tasks);
+    }
+
+    /**
+     * Schedules adjustments to be done to responses of the given feedback questions in the database
+     * after some students in the course moved to another team or section.
+     * The tasks for all the questions are added to the queue in batches.
      *
      * @param courseId the course ID of the feedback session
      * @param feedbackSessionName the name of the feedback session
-     * @param enrollmentList the list of enrollment details
+     * @param feedbackQuestionIds the IDs of the feedback questions
+     * @param enrollmentList the list of enrollment details of the students who moved
      */
-    public void scheduleFeedbackResponseAdjustmentForCourse(String courseId, String feedbackSessionName,
-                                                            List<StudentEnrollDetails> enrollmentList) {
+    public void scheduleFeedbackResponseAdjustmentForQuestions(String courseId, String feedbackSessionName,
+            List<String> feedbackQuestionIds, List<StudentEnrollDetails> enrollmentList) {
+        String enrollmentDetails = JsonUtils.toJson(enrollmentList);
+
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            Map<String, String> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.COURSE_ID, courseId);
+            paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+            paramMap.put(ParamsNames.FEEDBACK_QUESTION_ID, feedbackQuestionId);
+            paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+
+            tasks.add(makeTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
+                               TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap, 0));
+        }
+        addTasks(tasks);
+    }
+
+    /**
+     * Schedules the course statistics of the course to be recomputed from its students.
+     * The rebuild is scheduled at most once per hour for each course, so that it can be scheduled
+     * each time a course is found to need it.
+     *
+     * @param courseId the ID of the course
+     */
+    public void scheduleCourseStatsRebuild(String courseId) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.COURSE_ID, courseId);
-        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
 
-        String enrollmentDetails = JsonUtils.toJson(enrollmentList);
-        paramMap.put(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
+        addTaskOncePerInterval(TaskQueue.COURSE_STATS_REBUILD_QUEUE_NAME, TaskQueue.COURSE_STATS_REBUILD_WORKER_URL,
+                paramMap, COURSE_STATS_REBUILD_INTERVAL);
+    }
+
+    /**
+     * Schedules the response aggregates of all questions in the session to be recomputed from their responses.
+     * The rebuild is scheduled at most once per hour for each session, so that it can be scheduled
+     * each time a session is found to need it.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleResponseAggregatesRebuildForSession(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
 
-        addTask(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME,
-                TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, paramMap);
+        addTaskOncePerInterval(TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_WORKER_URL, paramMap,
+                RESPONSE_AGGREGATES_REBUILD_INTERVAL);
     }
 
     public void scheduleUpdateRespondentForSession(
@@ -309,41 +453,185 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        int numberOfEmailsSent = 0;
+        Map<Template, String> sharedContentIds = createSharedEmailContents(emails);
+
+        // The email tasks are named, so that adding the tasks of a failed batch again
+        // does not duplicate those which had been added before the batch failed
+        String taskNamePrefix = "email-" + UUID.randomUUID() + "-";
+        List<TaskWrapper> tasks = new ArrayList<>();
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            long emailDelayTimer = (long) tasks.size() * emailIntervalMillis;
+            tasks.add(makeEmailTask(taskNamePrefix + tasks.size(), email, emailDelayTimer,
+                                    sharedContentIds.get(email.getContentTemplate())));
         }
-    }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+        // Each batch is added separately so that a failing batch does not stop the others from being added
+        int maxTasksPerAdd = TaskQueuesLogic.getMaxTasksPerAdd();
+        for (int i = 0; i < tasks.size(); i += maxTasksPerAdd) {
+            List<TaskWrapper> batch = tasks.subList(i, Math.min(i + maxTasksPerAdd, tasks.size()));
+            try {
+                addTasks(batch);
+            } catch (Exception e) {
+                log.warning("Error when adding " + batch.size() + " emails to task queue: " + e.getMessage()
+                            + ". Adding them one by one instead.");
+                batch.forEach(this::scheduleEmailForSending);
+            }
+        }
+
+        // The emails wait in a pull queue; a batch worker is scheduled for every batch of emails,
+        // to run when the last email of its batch is due
+        List<TaskWrapper> batchTasks = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i += MAX_EMAILS_PER_BATCH) {
+            int lastEmailIndex = Math.min(i + MAX_EMAILS_PER_BATCH, tasks.size()) - 1;
+            batchTasks.add(makeTask(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                    new HashMap<>(), tasks.get(lastEmailIndex).getCountdownMillis()));
+        }
         try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+            addTasks(batchTasks);
+        } catch (Exception e) {
+            log.warning("Error when adding " + batchTasks.size() + " email batches to task queue: " + e.getMessage()
+                        + ". Adding them one by one instead.");
+            batchTasks.forEach(this::scheduleEmailBatchForSending);
+        }
+    }
+
+    /**
+     * Schedules a batch of the queued emails which are due to be sent, to be sent.
+     * The batch schedules another batch when it has sent or failed to send any email,
+     * so that batches are sent until no queued email is due.
+     *
+     * @param isAfterLeaseExpiry whether the batch is to run only when the emails leased now can be leased again
+     */
+    public void scheduleEmailBatchForSending(boolean isAfterLeaseExpiry) {
+        addDeferredTask(TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                new HashMap<>(), isAfterLeaseExpiry ? TimeUnit.SECONDS.toMillis(EMAIL_LEASE_SECONDS) : 0);
+    }
+
+    /**
+     * Leases up to {@link #MAX_EMAILS_PER_BATCH} emails which are due to be sent.
+     * The emails are leased again after some time unless they are deleted with {@link #deleteEmailsSent(List)}.
+     *
+     * <p>Emails which have failed to be sent too many times, or which are overdue by more than
+     * {@link SystemParams#QUEUED_EMAIL_MAX_DELAY_HOURS}, are logged as errors and deleted instead of being
+     * returned, so that they can be followed up on.</p>
+     *
+     * @return the tasks of the leased emails, with the same parameters as given by
+     *         {@link #scheduleEmailsForSending(List)}
+     */
+    public List<TaskWrapper> leaseEmailsForSending() {
+        long oldestDueTimeMillis = System.currentTimeMillis()
+                - TimeUnit.HOURS.toMillis(SystemParams.QUEUED_EMAIL_MAX_DELAY_HOURS);
+        List<TaskWrapper> emailTasks = new ArrayList<>();
+        List<TaskWrapper> emailTasksGivenUp = new ArrayList<>();
+        for (TaskWrapper emailTask
+                : leaseTasks(TaskQueue.SEND_EMAIL_QUEUE_NAME, EMAIL_LEASE_SECONDS, MAX_EMAILS_PER_BATCH)) {
+            // emails queued before due times were given have no due time, and are never overdue
+            String dueTimeMillis = getParam(emailTask.getParamMap(), ParamsNames.EMAIL_DUE_TIME);
+            boolean isOverdue = dueTimeMillis != null && Long.parseLong(dueTimeMillis) < oldestDueTimeMillis;
+            if (emailTask.getRetryCount() < MAX_EMAIL_SEND_ATTEMPTS && !isOverdue) {
+                emailTasks.add(emailTask);
+                continue;
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
+            log.severe("Email not sent after " + emailTask.getRetryCount() + " attempts"
+                       + (isOverdue ? " and overdue" : "") + ", and given up on:\n"
+                       + getEmailInfoForLogging(emailTask.getParamMap()));
+            emailTasksGivenUp.add(emailTask);
+        }
+        deleteEmailsSent(emailTasksGivenUp);
+        return emailTasks;
+    }
+
+    /**
+     * Deletes the tasks of the given leased emails, so that they are not sent again.
+     */
+    public void deleteEmailsSent(List<TaskWrapper> emailTasks) {
+        if (!emailTasks.isEmpty()) {
+            deleteTasks(emailTasks);
+        }
+    }
+
+    /**
+     * Stores once the content templates which are shared by more than one of the {@code emails},
+     * so that their tasks need to carry only the values specific to each recipient.
+     *
+     * @return the IDs of the stored contents, keyed by their templates
+     */
+    private Map<Template, String> createSharedEmailContents(List<EmailWrapper> emails) {
+        Map<Template, Integer> numberOfEmailsPerTemplate = new HashMap<>();
+        for (EmailWrapper email : emails) {
+            if (email.getContentTemplate() != null) {
+                numberOfEmailsPerTemplate.merge(email.getContentTemplate(), 1, Integer::sum);
+            }
+        }
+
+        Map<Template, String> sharedContentIds = new HashMap<>();
+        numberOfEmailsPerTemplate.forEach((template, numberOfEmails) -> {
+            if (numberOfEmails < 2) {
+                return;
+            }
+            try {
+                sharedContentIds.put(template, SharedEmailContentsLogic.inst().createSharedEmailContent(template));
+            } catch (Exception e) {
+                log.warning("Error when storing shared email content: " + e.getMessage()
+                            + ". Adding the full content to each email task instead.");
+            }
+        });
+        return sharedContentIds;
+    }
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+    private TaskWrapper makeEmailTask(String taskName, EmailWrapper email, long emailDelayTimer,
+                                      String sharedContentId) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.EMAIL_SUBJECT, new String[] { email.getSubject() });
+        if (sharedContentId == null) {
+            paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { email.getContent() });
+        } else {
+            paramMap.put(ParamsNames.EMAIL_CONTENT_ID, new String[] { sharedContentId });
+            paramMap.put(ParamsNames.EMAIL_CONTENT_VALUES, email.getContentValues());
+        }
+        paramMap.put(ParamsNames.EMAIL_SENDER, new String[] { email.getSenderEmail() });
+        String emailSenderName = email.getSenderName();
+        if (emailSenderName != null && !emailSenderName.isEmpty()) {
+            paramMap.put(ParamsNames.EMAIL_SENDERNAME, new String[] { emailSenderName });
+        }
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, new String[] { email.getRecipient() });
+        paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, new String[] { email.getReplyTo() });
+        long dueTimeMillis = System.currentTimeMillis() + emailDelayTimer;
+        paramMap.put(ParamsNames.EMAIL_DUE_TIME, new String[] { String.valueOf(dueTimeMillis) });
+
+        // Email tasks are added to a pull queue, thus without worker URL
+        return new TaskWrapper(taskName, TaskQueue.SEND_EMAIL_QUEUE_NAME, null, paramMap, emailDelayTimer);
+    }
+
+    private void scheduleEmailForSending(TaskWrapper emailTask) {
+        try {
+            addTasks(Collections.singletonList(emailTask));
         } catch (Exception e) {
             log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+                       + getEmailInfoForLogging(emailTask.getParamMap()));
         }
     }
 
+    private void scheduleEmailBatchForSending(TaskWrapper batchTask) {
+        try {
+            addTasks(Collections.singletonList(batchTask));
+        } catch (Exception e) {
+            // the emails are still sent by a batch scheduled by the cron job which sends queued emails
+            log.severe("Error when adding email batch to task queue: " + e.getMessage());
+        }
+    }
+
+    private static String getEmailInfoForLogging(Map<String, String[]> paramMap) {
+        return "Email sender: " + getParam(paramMap, ParamsNames.EMAIL_SENDER) + "\n"
+               + "Email sender name: " + getParam(paramMap, ParamsNames.EMAIL_SENDERNAME) + "\n"
+               + "Email receiver: " + getParam(paramMap, ParamsNames.EMAIL_RECEIVER) + "\n"
+               + "Email subject: " + getParam(paramMap, ParamsNames.EMAIL_SUBJECT) + "\n"
+               + "Email reply-to address: " + getParam(paramMap, ParamsNames.EMAIL_REPLY_TO_ADDRESS);
+    }
+
+    private static String getParam(Map<String, String[]> paramMap, String name) {
+        String[] values = paramMap.get(name);
+        return values == null ? null : values[0];
+    }
+
 }
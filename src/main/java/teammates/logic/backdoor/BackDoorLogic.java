@@ -107,6 +107,7 @@ public class BackDoorLogic extends Logic {
         instructorsDb.createEntitiesDeferred(instructors);
         studentsDb.createEntitiesDeferred(students);
         fbDb.createEntitiesDeferred(sessions);
+        fbDb.putRespondentsDeferred(sessions);
 
         // This also flushes all previously deferred operations
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.createFeedbackQuestionsWithoutExistenceCheck(questions);
@@ -120,6 +121,9 @@ public class BackDoorLogic extends Logic {
 
         EntitiesDb.flush();
 
+        // students and instructors are persisted without going through the logic layer
+        courseRosterCache.invalidateAll();
+
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
 
@@ -578,6 +582,7 @@ public class BackDoorLogic extends Logic {
             coursesDb.deleteEntities(courses);
             instructorsDb.deleteInstructorsForCourses(courseIds);
             studentsDb.deleteStudentsForCourses(courseIds);
+            courseRosterCache.invalidateAll();
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
@@ -1,5 +1,6 @@
 package teammates.logic.core;
 
+import java.util.Collection;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -64,6 +65,13 @@ public final class AccountsLogic {
         return accountsDb.getAccount(googleId, retrieveStudentProfile);
     }
 
+    /**
+     * Gets the accounts with the given Google IDs, without their profiles.
+     */
+    public List<AccountAttributes> getAccounts(Collection<String> googleIds) {
+        return accountsDb.getAccounts(googleIds);
+    }
+
     public boolean isAccountPresent(String googleId) {
         return accountsDb.getAccount(googleId) != null;
     }
@@ -2,8 +2,11 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -23,6 +26,19 @@ public final class AdminEmailsLogic {
 
     private static final AdminEmailsDb adminEmailsDb = new AdminEmailsDb();
 
+    /**
+     * How long an email being sent is cached. Changes made to the email on other instances
+     * are seen by this instance after at most this duration.
+     */
+    private static final long EMAIL_BEING_SENT_CACHE_MINUTES = 10;
+
+    private static final int MAX_CACHED_EMAILS_BEING_SENT = 10;
+
+    private final Cache<String, AdminEmailAttributes> emailsBeingSent = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_EMAILS_BEING_SENT)
+            .expireAfterWrite(EMAIL_BEING_SENT_CACHE_MINUTES, TimeUnit.MINUTES)
+            .build();
+
     private AdminEmailsLogic() {
         // prevent initialization
     }
@@ -40,6 +56,30 @@ public final class AdminEmailsLogic {
         return adminEmailsDb.getAdminEmailById(emailId);
     }
 
+    /**
+     * Gets an admin email which is being sent to its receivers by email id.
+     *
+     * <p>An email is sent to each receiver by a separate task, so the email is cached by every instance
+     * and an instance sending the email to many receivers reads it only once.
+     * The returned email must not be modified.
+     *
+     * @return null if no matched email found
+     */
+    public AdminEmailAttributes getAdminEmailBeingSent(String emailId) {
+        Assumption.assertNotNull(emailId);
+
+        AdminEmailAttributes adminEmail = emailsBeingSent.getIfPresent(emailId);
+        if (adminEmail != null) {
+            return adminEmail;
+        }
+
+        adminEmail = adminEmailsDb.getAdminEmailById(emailId);
+        if (adminEmail != null) {
+            emailsBeingSent.put(emailId, adminEmail);
+        }
+        return adminEmail;
+    }
+
     /**
      * Gets an admin email by subject and createDate.
      * @return null if no matched email found
@@ -130,6 +170,7 @@ public final class AdminEmailsLogic {
         Assumption.assertNotNull(newAdminEmail);
 
         adminEmailsDb.updateAdminEmailById(newAdminEmail, emailId);
+        emailsBeingSent.invalidate(emailId);
     }
 
     /**
@@ -137,6 +178,7 @@ public final class AdminEmailsLogic {
      */
     public void deleteAllEmailsInTrashBin() {
         adminEmailsDb.deleteAllEmailsInTrashBin();
+        emailsBeingSent.invalidateAll();
     }
 
     /**
@@ -0,0 +1,152 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Config;
+
+/**
+ * Caches the {@link CourseRoster} of courses so that the students and instructors of a course
+ * need not be read from the database every time a roster is needed.
+ *
+ * <p>The cache has two tiers:
+ * <ul>
+ * <li>A per-request tier, which is active between {@link #startRequestScope()} and {@link #endRequestScope()}
+ * and gives every caller within the request the same roster.</li>
+ * <li>A tier shared by all requests served by the same instance, bounded by {@link Config#ROSTER_CACHE_SIZE}
+ * courses and {@link Config#ROSTER_CACHE_EXPIRY_SECONDS}. Callers get a copy of the cached roster.</li>
+ * </ul>
+ *
+ * <p>Both tiers are invalidated by {@link StudentsLogic} and {@link InstructorsLogic} whenever the students
+ * or instructors of a course are changed. Changes made by other instances become visible
+ * in the shared tier only after the entry expires.
+ */
+public final class CourseRosterCache {
+
+    private static final ThreadLocal<Map<String, CourseRoster>> PER_REQUEST_ROSTERS = new ThreadLocal<>();
+
+    private static CourseRosterCache instance = new CourseRosterCache();
+
+    private final Cache<String, CourseRoster> sharedRosters = CacheBuilder.newBuilder()
+            .maximumSize(Config.ROSTER_CACHE_SIZE)
+            .expireAfterWrite(Config.ROSTER_CACHE_EXPIRY_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * Incremented on every invalidation, so that a roster read from the database before an invalidation
+     * is not put into the shared tier after the invalidation.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private CourseRosterCache() {
+        // prevent initialization
+    }
+
+    public static CourseRosterCache inst() {
+        return instance;
+    }
+
+    /**
+     * Starts caching rosters for the request served by the current thread.
+     */
+    public void startRequestScope() {
+        PER_REQUEST_ROSTERS.set(new HashMap<>());
+    }
+
+    /**
+     * Discards the rosters cached for the request served by the current thread.
+     */
+    public void endRequestScope() {
+        PER_REQUEST_ROSTERS.remove();
+    }
+
+    /**
+     * Gets the roster of the course with ID {@code courseId}, reading it from the database only if
+     * it is not cached in either tier.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Map<String, CourseRoster> requestRosters = PER_REQUEST_ROSTERS.get();
+        if (requestRosters != null && requestRosters.containsKey(courseId)) {
+            return requestRosters.get(courseId);
+        }
+
+        CourseRoster sharedRoster = sharedRosters.getIfPresent(courseId);
+        CourseRoster roster;
+        if (sharedRoster == null) {
+            long invalidationCountBeforeRead = invalidationCount.get();
+            roster = new CourseRoster(
+                    StudentsLogic.inst().getStudentsForCourse(courseId),
+                    InstructorsLogic.inst().getInstructorsForCourse(courseId));
+            if (isSharedTierEnabled()) {
+                CourseRoster rosterToShare = getCopy(roster);
+                synchronized (this) {
+                    if (invalidationCount.get() == invalidationCountBeforeRead) {
+                        sharedRosters.put(courseId, rosterToShare);
+                    }
+                }
+            }
+        } else {
+            roster = getCopy(sharedRoster);
+        }
+
+        if (requestRosters != null) {
+            requestRosters.put(courseId, roster);
+        }
+        return roster;
+    }
+
+    /**
+     * Removes the roster of the course with ID {@code courseId} from both tiers.
+     */
+    public void invalidate(String courseId) {
+        synchronized (this) {
+            invalidationCount.incrementAndGet();
+            sharedRosters.invalidate(courseId);
+        }
+        Map<String, CourseRoster> requestRosters = PER_REQUEST_ROSTERS.get();
+        if (requestRosters != null) {
+            requestRosters.remove(courseId);
+        }
+    }
+
+    /**
+     * Removes the rosters of all courses from both tiers.
+     */
+    public void invalidateAll() {
+        synchronized (this) {
+            invalidationCount.incrementAndGet();
+            sharedRosters.invalidateAll();
+        }
+        Map<String, CourseRoster> requestRosters = PER_REQUEST_ROSTERS.get();
+        if (requestRosters != null) {
+            requestRosters.clear();
+        }
+    }
+
+    private boolean isSharedTierEnabled() {
+        return Config.ROSTER_CACHE_SIZE > 0 && Config.ROSTER_CACHE_EXPIRY_SECONDS > 0;
+    }
+
+    private CourseRoster getCopy(CourseRoster roster) {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (StudentAttributes student : roster.getStudents()) {
+            students.add(student.getCopy());
+        }
+        List<InstructorAttributes> instructors = new ArrayList<>();
+        for (InstructorAttributes instructor : roster.getInstructors()) {
+            instructors.add(instructor.getCopy());
+        }
+        return new CourseRoster(students, instructors);
+    }
+
+}
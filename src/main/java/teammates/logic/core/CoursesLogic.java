@@ -4,11 +4,13 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -71,6 +73,7 @@ public final class CoursesLogic {
 
         CourseAttributes courseToAdd = validateAndCreateCourseAttributes(courseId, courseName, courseTimeZone);
         coursesDb.createEntity(courseToAdd);
+        studentsLogic.rebuildCourseStats(courseToAdd.getId());
     }
 
     /**
@@ -116,6 +119,13 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the courses with the specified IDs, with one batch read.
+     */
+    public List<CourseAttributes> getCourses(List<String> courseIds) {
+        return coursesDb.getCourses(courseIds);
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -148,47 +158,51 @@ public final class CoursesLogic {
      */
     public List<CourseDetailsBundle> getCourseDetailsListForStudent(String googleId)
                 throws EntityDoesNotExistException {
+        return getCourseDetailsListForStudent(googleId, new HashMap<>());
+    }
 
-        List<CourseAttributes> courseList = getCoursesForStudentAccount(googleId);
-        CourseAttributes.sortById(courseList);
-        List<CourseDetailsBundle> courseDetailsList = new ArrayList<>();
-
-        for (CourseAttributes c : courseList) {
-
-            StudentAttributes s = studentsLogic.getStudentForCourseIdAndGoogleId(c.getId(), googleId);
-
-            if (s == null) {
-                //TODO Remove excessive logging after the reason why s can be null is found
-                StringBuilder logMsgBuilder = new StringBuilder();
-                String logMsg = "Student is null in CoursesLogic.getCourseDetailsListForStudent(String googleId)"
-                        + "<br> Student Google ID: "
-                        + googleId + "<br> Course: " + c.getId()
-                        + "<br> All Courses Retrieved using the Google ID:";
-                logMsgBuilder.append(logMsg);
-                for (CourseAttributes course : courseList) {
-                    logMsgBuilder.append("<br>").append(course.getId());
-                }
-                log.severe(logMsgBuilder.toString());
+    /**
+     * Returns a list of {@link CourseDetailsBundle} for all courses a given student is enrolled in,
+     * and puts whether the student has completed each of the feedback sessions in the courses
+     * into {@code sessionSubmissionStatusMap}.
+     *
+     * <p>The student records, courses, sessions and submission status are each read in one batch,
+     * so the number of datastore round trips does not grow with the number of courses.
+     *
+     * @param googleId The Google ID of the student
+     */
+    public List<CourseDetailsBundle> getCourseDetailsListForStudent(String googleId,
+            Map<FeedbackSessionAttributes, Boolean> sessionSubmissionStatusMap) throws EntityDoesNotExistException {
+        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForGoogleId(googleId);
 
-                //TODO Failing might not be the best course of action here.
-                //Maybe throw a custom exception and tell user to wait due to eventual consistency?
-                Assumption.fail("Student should not be null at this point.");
-            }
+        if (studentDataList.isEmpty()) {
+            throw new EntityDoesNotExistException("Student with Google ID " + googleId + " does not exist");
+        }
 
-            // Skip the course existence check since the course ID is obtained from a
-            // valid CourseAttributes resulting from query
-            List<FeedbackSessionAttributes> feedbackSessionList =
-                    feedbackSessionsLogic.getFeedbackSessionsForUserInCourseSkipCheck(c.getId(), s.email);
+        List<String> courseIds = new ArrayList<>();
+        for (StudentAttributes s : studentDataList) {
+            courseIds.add(s.course);
+        }
+        List<CourseAttributes> courseList = coursesDb.getCourses(courseIds);
+        CourseAttributes.sortById(courseList);
 
-            CourseDetailsBundle cdd = new CourseDetailsBundle(c);
+        Map<String, CourseDetailsBundle> courseDetailsMap = new LinkedHashMap<>();
+        for (CourseAttributes c : courseList) {
+            courseDetailsMap.put(c.getId(), new CourseDetailsBundle(c));
+        }
 
-            for (FeedbackSessionAttributes fs : feedbackSessionList) {
+        Map<FeedbackSessionAttributes, Boolean> sessionsWithSubmissionStatus =
+                feedbackSessionsLogic.getFeedbackSessionsWithSubmissionStatusForStudents(studentDataList, googleId);
+        for (Map.Entry<FeedbackSessionAttributes, Boolean> entry : sessionsWithSubmissionStatus.entrySet()) {
+            FeedbackSessionAttributes fs = entry.getKey();
+            CourseDetailsBundle cdd = courseDetailsMap.get(fs.getCourseId());
+            if (cdd != null) {
                 cdd.feedbackSessions.add(new FeedbackSessionDetailsBundle(fs));
+                sessionSubmissionStatusMap.put(fs, entry.getValue());
             }
-
-            courseDetailsList.add(cdd);
         }
-        return courseDetailsList;
+
+        return new ArrayList<>(courseDetailsMap.values());
     }
 
     /**
@@ -428,6 +442,39 @@ public final class CoursesLogic {
         return getCourseSummary(cd);
     }
 
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course using {@link CourseAttributes},
+     * with the course statistics but without the sections of the course.
+     * The students of the course are loaded only if they are not tracked by course statistics.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(CourseAttributes cd) {
+        Assumption.assertNotNull("Supplied parameter was null", cd);
+
+        CourseDetailsBundle cdd = new CourseDetailsBundle(cd);
+        CourseStats stats = studentsLogic.getCourseStats(cd.getId());
+        if (stats == null) {
+            getSectionsForCourse(cd, cdd);
+        } else {
+            cdd.stats = stats;
+        }
+
+        return cdd;
+    }
+
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course using courseId,
+     * with the course statistics but without the sections of the course.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(String courseId) throws EntityDoesNotExistException {
+        CourseAttributes cd = coursesDb.getCourse(courseId);
+
+        if (cd == null) {
+            throw new EntityDoesNotExistException("The course does not exist: " + courseId);
+        }
+
+        return getCourseSummaryWithoutSections(cd);
+    }
+
     /**
      * Returns the {@link CourseSummaryBundle course summary}, including its
      * feedback sessions using the given {@link InstructorAttributes}.
@@ -531,7 +578,7 @@ public final class CoursesLogic {
      *
      * @param googleId The Google ID of the instructor
      * @return Map with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as sections and feedback sessions.
      */
     public Map<String, CourseDetailsBundle> getCourseSummariesForInstructor(String googleId, boolean omitArchived)
             throws EntityDoesNotExistException {
@@ -548,7 +595,7 @@ public final class CoursesLogic {
      * Returns course summaries for instructors.<br>
      *
      * @return Map with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as sections and feedback sessions.
      */
     public Map<String, CourseDetailsBundle> getCourseSummariesForInstructor(
             List<InstructorAttributes> instructorAttributesList) {
@@ -572,7 +619,7 @@ public final class CoursesLogic {
         }
 
         for (CourseAttributes ca : courseList) {
-            courseSummaryList.put(ca.getId(), getCourseSummary(ca));
+            courseSummaryList.put(ca.getId(), getCourseSummaryWithoutSections(ca));
         }
 
         return courseSummaryList;
@@ -670,7 +717,8 @@ public final class CoursesLogic {
         String header = (hasSection ? "Section," : "") + "Team,Full Name,Last Name,Status,Email" + System.lineSeparator();
         export.append(header);
 
-        for (SectionDetailsBundle section : course.sections) {
+        List<SectionDetailsBundle> sections = getSectionsForCourse(course.course, new CourseDetailsBundle(course.course));
+        for (SectionDetailsBundle section : sections) {
             for (TeamDetailsBundle team : section.teams) {
                 for (StudentAttributes student : team.students) {
                     String studentStatus = null;
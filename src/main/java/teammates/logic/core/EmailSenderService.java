@@ -1,5 +1,12 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 
@@ -27,10 +34,79 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, in as few requests to the service as it allows.
+     */
+    public void sendEmails(List<EmailWrapper> wrappers) throws EmailSendingException {
+        try {
+            for (List<EmailWrapper> group : groupForSending(wrappers)) {
+                sendEmailsWithService(group);
+            }
+        } catch (Exception e) {
+            throw new EmailSendingException(e);
+        }
+    }
+
+    /**
+     * Splits {@code wrappers} into the groups of emails which are sent in a single request each.
+     * By default, each email is in a group of its own. Services which can send many emails in a single request
+     * override this.
+     */
+    public List<List<EmailWrapper>> groupForSending(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> groups = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            groups.add(Collections.singletonList(wrapper));
+        }
+        return groups;
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends a group of emails given by {@link #groupForSending(List)} in a single request.
+     * By default, the only email of the group is sent with {@link #sendEmailWithService(EmailWrapper)}.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailsWithService(List<EmailWrapper> group) throws Exception {
+        for (EmailWrapper wrapper : group) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
+    /**
+     * Splits {@code wrappers} into groups of up to {@code maxGroupSize} emails with the same content template,
+     * sender, reply-to address and subject, and with different recipients. Each group can thus be sent
+     * as a single message in which the service fills in the values of each recipient.
+     * Recipients are compared regardless of case, as the values of each recipient are keyed by its address.
+     *
+     * <p>Emails whose content is not set as a template, or which have a bcc recipient, are in groups of their own.
+     */
+    static List<List<EmailWrapper>> groupBySharedContent(List<EmailWrapper> wrappers, int maxGroupSize) {
+        List<List<EmailWrapper>> groups = new ArrayList<>();
+        Map<List<Object>, List<EmailWrapper>> openGroups = new HashMap<>();
+        for (EmailWrapper wrapper : wrappers) {
+            if (wrapper.getContentTemplate() == null || wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                groups.add(Collections.singletonList(wrapper));
+                continue;
+            }
+
+            List<Object> groupKey = Arrays.asList(wrapper.getContentTemplate(), wrapper.getSenderEmail(),
+                    wrapper.getSenderName(), wrapper.getReplyTo(), wrapper.getSubject());
+            List<EmailWrapper> group = openGroups.get(groupKey);
+            if (group == null || group.size() >= maxGroupSize
+                    || group.stream().anyMatch(email -> email.getRecipient().equalsIgnoreCase(wrapper.getRecipient()))) {
+                group = new ArrayList<>();
+                groups.add(group);
+                openGroups.put(groupKey, group);
+            }
+            group.add(wrapper);
+        }
+        return groups;
+    }
+
     static boolean isNotSuccessStatus(int statusCode) {
         return statusCode < 200 || statusCode > 299;
     }
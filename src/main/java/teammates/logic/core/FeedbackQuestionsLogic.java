@@ -1,15 +1,16 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -40,7 +41,7 @@ public final class FeedbackQuestionsLogic {
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
-    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -78,7 +79,9 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        frLogic.createResponseAggregatesForQuestion(createdQuestion);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -118,6 +121,14 @@ public final class FeedbackQuestionsLogic {
                 courseId, questionNumber);
     }
 
+    /**
+     * Gets a {@link List} of every FeedbackQuestion in the sessions of the given courses.
+     * The questions are not sorted.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsForCourses(Collection<String> courseIds) {
+        return fqDb.getFeedbackQuestionsForCourses(courseIds);
+    }
+
     /**
      * Gets a {@link List} of every FeedbackQuestion in the given session.
      */
@@ -309,18 +320,33 @@ public final class FeedbackQuestionsLogic {
     public Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver)
             throws EntityDoesNotExistException {
 
-        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(question.courseId, giver);
-        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
+        CourseRoster roster = rosterCache.getCourseRoster(question.courseId);
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
 
-        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver);
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
     }
 
     public Map<String, String> getRecipientsForQuestion(
             FeedbackQuestionAttributes question, String giver,
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver,
+                rosterCache.getCourseRoster(question.courseId));
+    }
 
-        Map<String, String> recipients = new HashMap<>();
+    /**
+     * Gets the recipients of the {@code question} for {@code giver} from the given roster of the course,
+     * so that the students and instructors of the course are read only once for all the questions of a session.
+     *
+     * @return the recipients mapped from their email (or team name) to their name, in the order
+     *         in which they are displayed, i.e. by name and then by email
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
+        Map<String, String> recipients = new LinkedHashMap<>();
 
         FeedbackParticipantType recipientType = question.recipientType;
 
@@ -335,8 +361,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getSortedStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -344,8 +369,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getSortedInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -353,12 +377,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getSortedTeamNames()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -366,16 +389,14 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
+            for (StudentAttributes student : roster.getStudentsInTeam(giverTeam)) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (StudentAttributes student : roster.getStudentsInTeam(giverTeam)) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
             }
@@ -389,6 +410,39 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    /**
+     * Gets the number of recipients of the {@code question} for {@code giver}, i.e. the number of recipients
+     * given by {@link #getRecipientsForQuestion(FeedbackQuestionAttributes, String)}, from the given roster
+     * of the course instead of the datastore.
+     */
+    public int getNumberOfRecipientsForQuestion(FeedbackQuestionAttributes question, String giver,
+            CourseRoster roster) {
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
+        String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+
+        switch (question.recipientType) {
+        case SELF:
+        case OWN_TEAM:
+        case NONE:
+            return 1;
+        case STUDENTS:
+            // the giver does not evaluate himself
+            return roster.getNumberOfStudents() - (studentGiver == null ? 0 : 1);
+        case INSTRUCTORS:
+            return roster.getNumberOfInstructors() - (instructorGiver == null ? 0 : 1);
+        case TEAMS:
+            // the giver's team does not evaluate own team
+            return roster.getTeamNames().size() - (roster.getTeamNames().contains(giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS:
+            return roster.getStudentsInTeam(giverTeam).size() - (roster.isStudentInTeam(giver, giverTeam) ? 1 : 0);
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return roster.getStudentsInTeam(giverTeam).size();
+        default:
+            return 0;
+        }
+    }
+
     private String getGiverTeam(String defaultTeam, InstructorAttributes instructorGiver,
             StudentAttributes studentGiver) {
         String giverTeam = defaultTeam;
@@ -403,6 +457,10 @@ public final class FeedbackQuestionsLogic {
     }
 
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
+        Map<String, Integer> responseCountsByGiver = frLogic.getResponseCountsByGiverForQuestion(feedbackQuestionId);
+        if (responseCountsByGiver != null) {
+            return !responseCountsByGiver.isEmpty();
+        }
         return !frLogic.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, 1)
                        .isEmpty();
     }
@@ -410,8 +468,10 @@ public final class FeedbackQuestionsLogic {
     public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
             throws EntityDoesNotExistException {
 
-        int numberOfResponsesGiven =
-                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
+        Integer numberOfResponsesGiven = frLogic.getResponseCountFromGiverForQuestion(question.getId(), email);
+        if (numberOfResponsesGiven == null) {
+            numberOfResponsesGiven = frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
+        }
         int numberOfResponsesNeeded =
                 question.numberOfEntitiesToGiveFeedbackTo;
 
@@ -615,6 +675,7 @@ public final class FeedbackQuestionsLogic {
         }
         // Cascade delete responses for question.
         frLogic.deleteFeedbackResponsesForQuestionAndCascade(questionToDelete.getId(), hasResponseRateUpdate);
+        frLogic.deleteResponseAggregatesForQuestion(questionToDelete.getId());
 
         List<FeedbackQuestionAttributes> questionsToShiftQnNumber = null;
         try {
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -86,6 +87,11 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentForSession(String courseId,
                                                                                         String feedbackSessionName) {
         return frcDb.getFeedbackResponseCommentsForSession(courseId, feedbackSessionName);
@@ -168,6 +174,10 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
 
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        frcDb.deleteFeedbackResponseCommentsForResponses(responseIds);
+    }
+
     public void deleteFeedbackResponseComment(FeedbackResponseCommentAttributes feedbackResponseComment) {
         frcDb.deleteEntity(feedbackResponseComment);
     }
@@ -1,8 +1,12 @@
 package teammates.logic.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +14,7 @@ import java.util.Set;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -53,6 +58,7 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         try {
             frDb.createEntity(fra);
+            frDb.adjustResponseCountFromGiverForQuestion(fra.feedbackQuestionId, fra.giver, 1);
         } catch (EntityAlreadyExistsException eaee) {
             FeedbackResponse existingResponse = frDb.getFeedbackResponseEntityOptimized(fra);
             try {
@@ -65,7 +71,16 @@ public final class FeedbackResponsesLogic {
 
     public void createFeedbackResponses(List<FeedbackResponseAttributes> fra)
             throws InvalidParametersException {
-        frDb.createEntities(fra);
+        Set<FeedbackResponseAttributes> existingResponses = new HashSet<>(frDb.createEntities(fra));
+
+        // Responses that already exist are left untouched, so only the created ones are counted
+        Map<String, Map<String, Integer>> responseCountChanges = new HashMap<>();
+        for (FeedbackResponseAttributes response : fra) {
+            if (!existingResponses.contains(response)) {
+                addResponseCountChange(responseCountChanges, response.feedbackQuestionId, response.giver, 1);
+            }
+        }
+        frDb.adjustResponseCounts(responseCountChanges);
     }
 
     public FeedbackResponseAttributes getFeedbackResponse(
@@ -188,6 +203,16 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForSessionWithinRange(giverEmail, feedbackSessionName, courseId, range);
     }
 
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesFromGiverForSession(giverEmail, feedbackSessionName, courseId);
+    }
+
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesForReceiverForSession(receiver, feedbackSessionName, courseId);
+    }
+
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
 
         return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
@@ -216,6 +241,73 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(question.getId(), student.email);
     }
 
+    /**
+     * Gets the responses viewable by the user for each of the questions, keyed by question ID,
+     * in the same way as {@link #getViewableFeedbackResponsesForQuestionInSection}.
+     *
+     * <p>The responses of all the questions are loaded together instead of question by question,
+     * except for questions whose responses are visible to a student only through the student's team.
+     */
+    public Map<String, List<FeedbackResponseAttributes>> getViewableFeedbackResponsesForQuestionsInSection(
+            List<FeedbackQuestionAttributes> questions, String userEmail, UserRole role, String section) {
+        Assumption.assertTrue("The role of the requesting user has to be Student or Instructor",
+                role == UserRole.STUDENT || role == UserRole.INSTRUCTOR);
+
+        List<String> questionIds = new ArrayList<>();
+        List<String> questionIdsVisibleToReceiver = new ArrayList<>();
+        Set<String> questionIdsVisibleToRole = new HashSet<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionIds.add(question.getId());
+            if (question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)) {
+                questionIdsVisibleToReceiver.add(question.getId());
+            }
+            if (role == UserRole.INSTRUCTOR && question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || role == UserRole.STUDENT && question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                questionIdsVisibleToRole.add(question.getId());
+            }
+        }
+
+        Map<String, List<FeedbackResponseAttributes>> responsesFromUser = groupByQuestionId(
+                frDb.getFeedbackResponsesFromGiverForQuestionsInSection(questionIds, userEmail, section));
+        Map<String, List<FeedbackResponseAttributes>> responsesToUser = groupByQuestionId(
+                frDb.getFeedbackResponsesForReceiverForQuestionsInSection(
+                        questionIdsVisibleToReceiver, userEmail, section));
+        Map<String, List<FeedbackResponseAttributes>> responsesVisibleToRole;
+        if (role == UserRole.INSTRUCTOR && section != null) {
+            responsesVisibleToRole = groupByQuestionId(
+                    frDb.getFeedbackResponsesForQuestionsInSection(questionIdsVisibleToRole, section));
+        } else {
+            // Responses visible to all students are not restricted to the section
+            responsesVisibleToRole = groupByQuestionId(frDb.getFeedbackResponsesForQuestions(questionIdsVisibleToRole));
+        }
+
+        Map<String, List<FeedbackResponseAttributes>> viewableResponsesByQuestion = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            String questionId = question.getId();
+            List<FeedbackResponseAttributes> viewableResponses = new ArrayList<>();
+
+            addNewResponses(viewableResponses, responsesFromUser.getOrDefault(questionId, new ArrayList<>()));
+            addNewResponses(viewableResponses, responsesToUser.getOrDefault(questionId, new ArrayList<>()));
+            addNewResponses(viewableResponses, responsesVisibleToRole.getOrDefault(questionId, new ArrayList<>()));
+            if (role == UserRole.STUDENT && !questionIdsVisibleToRole.contains(questionId)) {
+                // many queries
+                addNewResponses(viewableResponses, getViewableFeedbackResponsesForStudentForQuestion(question, userEmail));
+            }
+
+            viewableResponsesByQuestion.put(questionId, viewableResponses);
+        }
+        return viewableResponsesByQuestion;
+    }
+
+    private Map<String, List<FeedbackResponseAttributes>> groupByQuestionId(
+            List<FeedbackResponseAttributes> responses) {
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestionId = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsesByQuestionId.computeIfAbsent(response.feedbackQuestionId, key -> new ArrayList<>()).add(response);
+        }
+        return responsesByQuestionId;
+    }
+
     public List<FeedbackResponseAttributes> getViewableFeedbackResponsesForQuestionInSection(
             FeedbackQuestionAttributes question, String userEmail,
             UserRole role, String section) {
@@ -439,7 +531,65 @@ public final class FeedbackResponsesLogic {
             }
         } else {
             // Recreate response to prevent possible future id conflict.
-            recreateResponse(newResponse, oldResponse);
+            Map<String, Map<String, Integer>> responseCountChanges = new HashMap<>();
+            recreateResponse(newResponse, oldResponse, responseCountChanges);
+            frDb.adjustResponseCounts(responseCountChanges);
+        }
+    }
+
+    /**
+     * Updates the given responses in the same way as {@link #updateFeedbackResponse(FeedbackResponseAttributes)},
+     * but reads the existing responses with a single batched read and saves the responses
+     * whose giver and recipient are unchanged with a single batched write.
+     * A response that cannot be updated does not prevent the other responses from being updated.
+     * @throws InvalidParametersException  if any of the responses is invalid or clashes with an existing response;
+     *                                     the other responses are still updated.
+     * @throws EntityDoesNotExistException if any of the responses does not exist; no response is updated.
+     */
+    public void updateFeedbackResponses(List<FeedbackResponseAttributes> responsesToUpdate)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            Assumption.assertNotNull(response.getId());
+            responseIds.add(response.getId());
+        }
+
+        Map<String, FeedbackResponse> oldResponseEntities = frDb.getFeedbackResponseEntities(responseIds);
+        if (!oldResponseEntities.keySet().containsAll(responseIds)) {
+            throw new EntityDoesNotExistException(
+                    "Trying to update a feedback response that does not exist.");
+        }
+
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        Map<String, Map<String, Integer>> responseCountChanges = new HashMap<>();
+        for (FeedbackResponseAttributes updatedResponse : responsesToUpdate) {
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(updatedResponse);
+            FeedbackResponseAttributes oldResponse =
+                    new FeedbackResponseAttributes(oldResponseEntities.get(updatedResponse.getId()));
+
+            copyFixedValuesFromOldToNew(newResponse, oldResponse);
+
+            if (!newResponse.isValid()) {
+                errors.addAll(newResponse.getInvalidityInfo());
+            } else if (newResponse.recipient.equals(oldResponse.recipient)
+                    && newResponse.giver.equals(oldResponse.giver)) {
+                responsesToSave.add(newResponse);
+            } else {
+                // Recreate response to prevent possible future id conflict.
+                try {
+                    recreateResponse(newResponse, oldResponse, responseCountChanges);
+                } catch (EntityAlreadyExistsException | InvalidParametersException e) {
+                    errors.add(e.getMessage());
+                }
+            }
+        }
+
+        frDb.adjustResponseCounts(responseCountChanges);
+        frDb.updateFeedbackResponsesOptimized(responsesToSave, oldResponseEntities);
+
+        if (!errors.isEmpty()) {
+            throw new InvalidParametersException(errors);
         }
     }
 
@@ -472,14 +622,22 @@ public final class FeedbackResponsesLogic {
         }
     }
 
-    private void recreateResponse(
-            FeedbackResponseAttributes newResponse, FeedbackResponseAttributes oldResponse)
+    /**
+     * Recreates {@code oldResponse} as {@code newResponse}. The resulting changes in the number of responses
+     * given by each giver are added to {@code responseCountChanges}, for the caller to apply.
+     */
+    private void recreateResponse(FeedbackResponseAttributes newResponse, FeedbackResponseAttributes oldResponse,
+            Map<String, Map<String, Integer>> responseCountChanges)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         try {
             newResponse.setId(null);
             FeedbackResponse createdResponseEntity =
                     frDb.createEntity(newResponse);
             frDb.deleteEntity(oldResponse);
+            if (!newResponse.giver.equals(oldResponse.giver)) {
+                addResponseCountChange(responseCountChanges, newResponse.feedbackQuestionId, newResponse.giver, 1);
+                addResponseCountChange(responseCountChanges, oldResponse.feedbackQuestionId, oldResponse.giver, -1);
+            }
             frcLogic.updateFeedbackResponseCommentsForChangingResponseId(
                     oldResponse.getId(), createdResponseEntity.getId());
         } catch (EntityAlreadyExistsException e) {
@@ -507,9 +665,7 @@ public final class FeedbackResponsesLogic {
     private void deleteTeamResponses(String courseId, String oldTeam) {
         List<FeedbackResponseAttributes> responsesToOldTeam =
                 getFeedbackResponsesForReceiverForCourse(courseId, oldTeam);
-        for (FeedbackResponseAttributes response : responsesToOldTeam) {
-            frDb.deleteEntity(response);
-        }
+        deleteFeedbackResponses(responsesToOldTeam);
     }
 
     private void deleteResponsesFromTeamToUser(String courseId, String userEmail) {
@@ -517,12 +673,14 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
 
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
         for (FeedbackResponseAttributes response : responsesToUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
-                frDb.deleteEntity(response);
+                responsesToDelete.add(response);
             }
         }
+        deleteFeedbackResponses(responsesToDelete);
     }
 
     private void deleteResponsesFromUserToTeam(String courseId, String userEmail) {
@@ -531,13 +689,15 @@ public final class FeedbackResponsesLogic {
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
 
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
         for (FeedbackResponseAttributes response : responsesFromUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
-                frDb.deleteEntity(response);
+                responsesToDelete.add(response);
             }
         }
+        deleteFeedbackResponses(responsesToDelete);
     }
 
     /**
@@ -574,35 +734,6 @@ public final class FeedbackResponsesLogic {
         }
     }
 
-    public boolean updateFeedbackResponseForChangingTeam(StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestionAttributes question = fqLogic
-                .getFeedbackQuestion(response.feedbackQuestionId);
-
-        boolean isGiverSameForResponseAndEnrollment = response.giver
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = response.recipient
-                .equals(enrollment.email);
-
-        boolean shouldDeleteByChangeOfGiver = isGiverSameForResponseAndEnrollment
-                                              && (question.giverType == FeedbackParticipantType.TEAMS
-                                                  || isRecipientTypeTeamMembers(question));
-        boolean shouldDeleteByChangeOfRecipient = isReceiverSameForResponseAndEnrollment
-                                                  && isRecipientTypeTeamMembers(question);
-
-        boolean shouldDeleteResponse = shouldDeleteByChangeOfGiver
-                || shouldDeleteByChangeOfRecipient;
-
-        if (shouldDeleteResponse) {
-            frDb.deleteEntity(response);
-            updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
-                    response.feedbackSessionName, enrollment.course);
-        }
-
-        return shouldDeleteResponse;
-    }
-
     private void updateSessionResponseRateForDeletingStudentResponse(String studentEmail, String sessionName,
             String courseId) throws InvalidParametersException, EntityDoesNotExistException {
         if (!hasGiverRespondedForSession(studentEmail, sessionName, courseId)) {
@@ -615,29 +746,85 @@ public final class FeedbackResponsesLogic {
                || question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
     }
 
-    public void updateFeedbackResponseForChangingSection(
-            StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackResponse feedbackResponse = frDb.getFeedbackResponseEntityOptimized(response);
-        boolean isGiverSameForResponseAndEnrollment = feedbackResponse.getGiverEmail()
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = feedbackResponse.getRecipientEmail()
-                .equals(enrollment.email);
-
-        if (isGiverSameForResponseAndEnrollment) {
-            feedbackResponse.setGiverSection(enrollment.newSection);
+    /**
+     * Adjusts the responses to the question given by or to the students in {@code enrollmentList}
+     * who moved to another team or section. Responses which no longer make sense after a change of team
+     * are deleted and the sections of the other responses are updated, all in batches.
+     * Only the responses involving those students are read, and each of them is matched against
+     * the enrollment details of its giver and recipient by email.
+     */
+    public void adjustFeedbackResponsesForEnrollments(String feedbackQuestionId,
+            List<StudentEnrollDetails> enrollmentList) throws InvalidParametersException, EntityDoesNotExistException {
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question == null) {
+            // the question has been deleted since the adjustment was scheduled
+            return;
         }
 
-        if (isReceiverSameForResponseAndEnrollment) {
-            feedbackResponse.setRecipientSection(enrollment.newSection);
+        Map<String, StudentEnrollDetails> enrollmentsByEmail = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                enrollmentsByEmail.put(enrollment.email, enrollment);
+            }
+        }
+        if (enrollmentsByEmail.isEmpty()) {
+            return;
         }
 
-        frDb.saveEntity(feedbackResponse);
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponse> responsesToUpdate = new ArrayList<>();
+        for (FeedbackResponse response : frDb.getFeedbackResponseEntitiesFromOrToParticipantsForQuestion(
+                feedbackQuestionId, enrollmentsByEmail.keySet())) {
+            StudentEnrollDetails giverEnrollment = enrollmentsByEmail.get(response.getGiverEmail());
+            StudentEnrollDetails recipientEnrollment = enrollmentsByEmail.get(response.getRecipientEmail());
+
+            boolean shouldDeleteByChangeOfGiver = giverEnrollment != null
+                    && isTeamChanged(giverEnrollment)
+                    && (question.giverType == FeedbackParticipantType.TEAMS || isRecipientTypeTeamMembers(question));
+            boolean shouldDeleteByChangeOfRecipient = recipientEnrollment != null
+                    && isTeamChanged(recipientEnrollment)
+                    && isRecipientTypeTeamMembers(question);
+            if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                responsesToDelete.add(new FeedbackResponseAttributes(response));
+                continue;
+            }
+
+            boolean isGiverSectionChanged = giverEnrollment != null && isSectionChanged(giverEnrollment);
+            boolean isRecipientSectionChanged = recipientEnrollment != null && isSectionChanged(recipientEnrollment);
+            if (isGiverSectionChanged) {
+                response.setGiverSection(giverEnrollment.newSection);
+            }
+            if (isRecipientSectionChanged) {
+                response.setRecipientSection(recipientEnrollment.newSection);
+            }
+            if (isGiverSectionChanged || isRecipientSectionChanged) {
+                responsesToUpdate.add(response);
+            }
+        }
 
-        if (isGiverSameForResponseAndEnrollment || isReceiverSameForResponseAndEnrollment) {
+        frDb.saveFeedbackResponseEntities(responsesToUpdate);
+        for (FeedbackResponse response : responsesToUpdate) {
             frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
         }
+
+        deleteFeedbackResponsesAndCascade(responsesToDelete);
+        Set<String> giversWithDeletedResponses = new HashSet<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            giversWithDeletedResponses.add(response.giver);
+        }
+        for (String giver : giversWithDeletedResponses) {
+            updateSessionResponseRateForDeletingStudentResponse(giver, question.feedbackSessionName, question.courseId);
+        }
+    }
+
+    private boolean isTeamChanged(StudentEnrollDetails enrollment) {
+        return enrollment.oldTeam != null && enrollment.newTeam != null
+                && !enrollment.oldTeam.equals(enrollment.newTeam);
+    }
+
+    private boolean isSectionChanged(StudentEnrollDetails enrollment) {
+        return enrollment.oldSection != null && enrollment.newSection != null
+                && !enrollment.oldSection.equals(enrollment.newSection);
     }
 
     /**
@@ -677,9 +864,75 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Deletes the given response and its comments. Does nothing if the response does not exist.
+     */
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
-        frcLogic.deleteFeedbackResponseCommentsForResponse(responseToDelete.getId());
-        frDb.deleteEntity(responseToDelete);
+        deleteExistingFeedbackResponses(Collections.singletonList(responseToDelete), true);
+    }
+
+    /**
+     * Deletes the given responses and their comments, with a single batched delete for each.
+     * Responses that do not exist are ignored.
+     */
+    public void deleteFeedbackResponsesAndCascade(List<FeedbackResponseAttributes> responsesToDelete) {
+        deleteExistingFeedbackResponses(responsesToDelete, true);
+    }
+
+    /**
+     * Deletes the given responses, without their comments. Responses that do not exist are ignored.
+     */
+    private void deleteFeedbackResponses(List<FeedbackResponseAttributes> responsesToDelete) {
+        deleteExistingFeedbackResponses(responsesToDelete, false);
+    }
+
+    /**
+     * Deletes those of the given responses which exist, and their comments if {@code isCascade} is true,
+     * then updates the response counts once for all of them.
+     *
+     * <p>Only responses that exist are deleted, each once however often it is given,
+     * so that the response counts are not decremented wrongly, e.g. when a response is deleted again
+     * or is found by more than one of the queries which gave the responses.
+     * Responses without an ID are identified by their question, giver and recipient.</p>
+     */
+    private void deleteExistingFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToDelete,
+            boolean isCascade) {
+        Set<String> responseIds = new LinkedHashSet<>();
+        Map<String, FeedbackResponse> existingResponses = new HashMap<>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            if (response.getId() != null) {
+                responseIds.add(response.getId());
+                continue;
+            }
+            FeedbackResponse existingResponse = frDb.getFeedbackResponseEntityWithCheck(
+                    response.feedbackQuestionId, response.giver, response.recipient);
+            if (existingResponse != null) {
+                existingResponses.put(existingResponse.getId(), existingResponse);
+            }
+        }
+        if (!responseIds.isEmpty()) {
+            existingResponses.putAll(frDb.getFeedbackResponseEntities(responseIds));
+        }
+        if (existingResponses.isEmpty()) {
+            return;
+        }
+
+        if (isCascade) {
+            frcLogic.deleteFeedbackResponseCommentsForResponses(existingResponses.keySet());
+        }
+        frDb.deleteFeedbackResponseEntities(existingResponses.values());
+
+        Map<String, Map<String, Integer>> responseCountChanges = new HashMap<>();
+        for (FeedbackResponse response : existingResponses.values()) {
+            addResponseCountChange(responseCountChanges, response.getFeedbackQuestionId(), response.getGiverEmail(), -1);
+        }
+        frDb.adjustResponseCounts(responseCountChanges);
+    }
+
+    private static void addResponseCountChange(Map<String, Map<String, Integer>> responseCountChanges,
+            String feedbackQuestionId, String giverEmail, int delta) {
+        responseCountChanges.computeIfAbsent(feedbackQuestionId, questionId -> new HashMap<>())
+                .merge(giverEmail, delta, Integer::sum);
     }
 
     public void deleteFeedbackResponsesForQuestionAndCascade(
@@ -690,10 +943,18 @@ public final class FeedbackResponsesLogic {
         Set<String> emails = new HashSet<>();
 
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
+            // The response aggregates are reset below instead of being adjusted once per response
+            frcLogic.deleteFeedbackResponseCommentsForResponse(response.getId());
+            frDb.deleteEntity(response);
             emails.add(response.giver);
         }
 
+        if (!responsesForQuestion.isEmpty()) {
+            FeedbackResponseAttributes response = responsesForQuestion.get(0);
+            frDb.putResponseAggregatesForQuestion(feedbackQuestionId, response.feedbackSessionName,
+                    response.courseId, new HashMap<>());
+        }
+
         if (!hasResponseRateUpdate) {
             return;
         }
@@ -742,11 +1003,71 @@ public final class FeedbackResponsesLogic {
             responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
+        deleteFeedbackResponsesAndCascade(responses);
+    }
+
+    /**
+     * Returns the number of responses given by each giver to the question, excluding givers with no responses.
+     *
+     * @return null if the responses of the question are not tracked by response aggregates.
+     */
+    public Map<String, Integer> getResponseCountsByGiverForQuestion(String feedbackQuestionId) {
+        return frDb.getResponseCountsByGiverForQuestion(feedbackQuestionId);
+    }
+
+    /**
+     * Returns the number of responses given by each giver to each of the questions, excluding givers with
+     * no responses.
+     *
+     * @return null if the responses of any of the questions are not tracked by response aggregates.
+     */
+    public Map<String, Map<String, Integer>> getResponseCountsByGiverForQuestions(
+            Collection<String> feedbackQuestionIds) {
+        return frDb.getResponseCountsByGiverForQuestions(feedbackQuestionIds);
+    }
+
+    /**
+     * Returns the number of responses given by {@code giverEmail} to the question.
+     *
+     * @return null if the responses of the giver are not tracked by response aggregates.
+     */
+    public Integer getResponseCountFromGiverForQuestion(String feedbackQuestionId, String giverEmail) {
+        return frDb.getResponseCountFromGiverForQuestion(feedbackQuestionId, giverEmail);
+    }
+
+    /**
+     * Starts tracking the responses of a newly created question, which has no responses yet,
+     * by response aggregates.
+     */
+    public void createResponseAggregatesForQuestion(FeedbackQuestionAttributes question) {
+        frDb.putResponseAggregatesForQuestion(question.getId(), question.feedbackSessionName, question.courseId,
+                new HashMap<>());
+    }
+
+    /**
+     * Recomputes the response aggregates of every question in the session from the responses of the question.
+     * Questions that were not tracked by response aggregates are tracked after this.
+     * Shards changed too recently for the responses to be counted reliably are kept
+     * (see {@link FeedbackResponsesDb#rebuildResponseAggregatesForQuestion}).
+     */
+    public void rebuildResponseAggregatesForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            Instant countedAt = Instant.now();
+            Map<String, Integer> responseCountsByGiver = new HashMap<>();
+            for (FeedbackResponseAttributes response : getFeedbackResponsesForQuestion(question.getId())) {
+                responseCountsByGiver.merge(response.giver, 1, Integer::sum);
+            }
+            frDb.rebuildResponseAggregatesForQuestion(question.getId(), feedbackSessionName, courseId,
+                    responseCountsByGiver, countedAt);
         }
     }
 
+    public void deleteResponseAggregatesForQuestion(String feedbackQuestionId) {
+        frDb.deleteResponseAggregatesForQuestion(feedbackQuestionId);
+    }
+
     /**
      * Deletes all feedback responses in every feedback session in
      * the specified course. This is a non-cascade delete and the
@@ -1,11 +1,15 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -17,6 +21,7 @@ import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantSet;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -25,6 +30,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
@@ -88,6 +94,7 @@ public final class FeedbackSessionsLogic {
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -121,6 +128,13 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Returns the sessions of all the given courses.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        return fsDb.getFeedbackSessionsForCourses(courseIds);
+    }
+
     public FeedbackSessionAttributes copyFeedbackSession(String newFeedbackSessionName, String newCourseId,
             ZoneId newTimeZone, String feedbackSessionName, String courseId, String instructorEmail)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
@@ -188,6 +202,59 @@ public final class FeedbackSessionsLogic {
         return viewableSessions;
     }
 
+    /**
+     * Gets the feedback sessions viewable to each of the given students, who are in different courses,
+     * mapped to whether the student has completed the session (see {@link #isFeedbackSessionCompletedByStudent}).
+     *
+     * <p>The sessions, questions and respondents of all the courses are each read together,
+     * so the number of datastore reads does not grow with the number of courses.
+     *
+     * @param googleId the Google ID of the students, used to find the courses in which they are also instructors
+     */
+    public Map<FeedbackSessionAttributes, Boolean> getFeedbackSessionsWithSubmissionStatusForStudents(
+            List<StudentAttributes> students, String googleId) {
+        Map<String, String> studentEmailsByCourse = new HashMap<>();
+        for (StudentAttributes student : students) {
+            studentEmailsByCourse.put(student.course, student.email);
+        }
+
+        Map<FeedbackSessionAttributes, Boolean> submissionStatusMap = new LinkedHashMap<>();
+        List<FeedbackSessionAttributes> sessions = fsDb.getFeedbackSessionsForCourses(studentEmailsByCourse.keySet());
+        if (sessions.isEmpty()) {
+            return submissionStatusMap;
+        }
+
+        Set<String> coursesOfInstructor = new HashSet<>();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForGoogleId(googleId)) {
+            coursesOfInstructor.add(instructor.courseId);
+        }
+
+        Map<String, List<FeedbackQuestionAttributes>> questionsBySession = new HashMap<>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForCourses(studentEmailsByCourse.keySet())) {
+            questionsBySession.computeIfAbsent(question.courseId + "%" + question.feedbackSessionName,
+                    key -> new ArrayList<>()).add(question);
+        }
+
+        List<FeedbackSessionAttributes> viewableSessions = new ArrayList<>();
+        List<Boolean> hasQuestionsForStudents = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            List<FeedbackQuestionAttributes> questions = questionsBySession.getOrDefault(
+                    session.getCourseId() + "%" + session.getFeedbackSessionName(), new ArrayList<>());
+            if (coursesOfInstructor.contains(session.getCourseId())
+                    || isFeedbackSessionViewableToStudents(session, questions)) {
+                viewableSessions.add(session);
+                hasQuestionsForStudents.add(!fqLogic.getFeedbackQuestionsForStudents(questions).isEmpty());
+            }
+        }
+
+        List<Boolean> hasResponded = fsDb.hasStudentRespondents(viewableSessions, studentEmailsByCourse);
+        for (int i = 0; i < viewableSessions.size(); i++) {
+            // if there is no question for students, session is complete
+            submissionStatusMap.put(viewableSessions.get(i), hasResponded.get(i) || !hasQuestionsForStudents.get(i));
+        }
+        return submissionStatusMap;
+    }
+
     /**
      * Returns true if there is some open or published email sent for the course.
      *
@@ -286,7 +353,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -298,7 +366,7 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+            updateBundleAndRecipientListWithResponsesForInstructor(roster,
                     userEmail, fsa, instructor, bundle, recipientList,
                     question, instructorGiver, null);
         }
@@ -317,7 +385,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
         Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle = new HashMap<>();
         Map<String, Map<String, String>> recipientList = new HashMap<>();
 
@@ -325,7 +394,7 @@ public final class FeedbackSessionsLogic {
 
         InstructorAttributes instructorGiver = instructor;
 
-        updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+        updateBundleAndRecipientListWithResponsesForInstructor(roster,
                 userEmail, fsa, instructor, bundle, recipientList,
                 question, instructorGiver, null);
 
@@ -333,24 +402,23 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
+            CourseRoster roster,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver, roster);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -358,7 +426,7 @@ public final class FeedbackSessionsLogic {
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = roster.getSectionForTeam(teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -384,7 +452,8 @@ public final class FeedbackSessionsLogic {
         if (fsa == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
-        StudentAttributes student = studentsLogic.getStudentForEmail(courseId, userEmail);
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        StudentAttributes student = roster.getStudentForEmail(userEmail);
         if (student == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_STUDENT);
         }
@@ -399,14 +468,14 @@ public final class FeedbackSessionsLogic {
 
         for (FeedbackQuestionAttributes question : questions) {
             if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-                hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+                hiddenInstructorEmails = getHiddenInstructorEmails(roster);
                 break;
             }
         }
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
+            updateBundleAndRecipientListWithResponsesForStudent(roster, userEmail, student,
                     bundle, recipientList, question, hiddenInstructorEmails);
         }
 
@@ -424,7 +493,8 @@ public final class FeedbackSessionsLogic {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_GET + courseId + "/" + feedbackSessionName);
         }
 
-        StudentAttributes student = studentsLogic.getStudentForEmail(courseId, userEmail);
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        StudentAttributes student = roster.getStudentForEmail(userEmail);
         if (student == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_STUDENT);
         }
@@ -437,28 +507,28 @@ public final class FeedbackSessionsLogic {
         Set<String> hiddenInstructorEmails = null;
 
         if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS) {
-            hiddenInstructorEmails = getHiddenInstructorEmails(courseId);
+            hiddenInstructorEmails = getHiddenInstructorEmails(roster);
         }
 
-        updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
+        updateBundleAndRecipientListWithResponsesForStudent(roster, userEmail, student,
                 bundle, recipientList, question, hiddenInstructorEmails);
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList);
     }
 
     private void updateBundleAndRecipientListWithResponsesForStudent(
+            CourseRoster roster,
             String userEmail,
             StudentAttributes student,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Set<String> hiddenInstructorEmails) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
         Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+                fqLogic.getRecipientsForQuestion(question, userEmail, null, student, roster);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -510,16 +580,15 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Returns a {@link Set} of emails of the instructors who are not displayed
-     * to students in the course specified by {@code courseId}.
+     * to students in the course of {@code roster}.
      *
-     * @param courseId
-     *            the ID of the course
+     * @param roster
+     *            the roster of the course
      */
-    private Set<String> getHiddenInstructorEmails(String courseId) {
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+    private Set<String> getHiddenInstructorEmails(CourseRoster roster) {
         Set<String> hiddenInstructorEmails = new HashSet<>();
 
-        for (InstructorAttributes instructor : instructors) {
+        for (InstructorAttributes instructor : roster.getInstructors()) {
             if (!instructor.isDisplayedToStudents()) {
                 hiddenInstructorEmails.add(instructor.email);
             }
@@ -544,8 +613,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
                         courseId);
 
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                                               instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -560,9 +628,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -584,9 +650,7 @@ public final class FeedbackSessionsLogic {
                                                 String questionId, String selectedSection)
                                         throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -617,9 +681,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -642,9 +704,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -665,9 +725,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, int range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -699,9 +757,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -720,9 +776,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "false");
         params.put(PARAM_IN_SECTION, "false");
@@ -741,9 +795,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -754,6 +806,109 @@ public final class FeedbackSessionsLogic {
                 courseId, userEmail, UserRole.INSTRUCTOR, roster, params);
     }
 
+    /**
+     * Gets results of a feedback session given and received by a student, to show to an instructor.
+     *
+     * <p>Only the responses from and to the student are loaded, so the cost depends on the student's own
+     * responses rather than the size of the course. For contribution questions, the responses within the
+     * student's team are loaded too, as they are needed to normalize the points given to the student.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorForStudent(
+            String feedbackSessionName, String courseId, String userEmail, String studentEmail)
+            throws EntityDoesNotExistException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        StudentAttributes student = roster.getStudentForEmail(studentEmail);
+
+        if (student == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_STUDENT);
+        }
+
+        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
+        putQuestionsIntoMap(fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId), allQuestionsMap);
+
+        Map<String, FeedbackResponseAttributes> studentResponses = new LinkedHashMap<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesFromGiverForSession(studentEmail, feedbackSessionName, courseId)) {
+            studentResponses.put(response.getId(), response);
+        }
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesForReceiverForSession(studentEmail, feedbackSessionName, courseId)) {
+            studentResponses.put(response.getId(), response);
+        }
+        addTeamResponsesForContributionQuestions(studentResponses, allQuestionsMap, student, roster);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+
+        InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
+
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        for (FeedbackResponseAttributes response : studentResponses.values()) {
+            FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
+            if (relatedQuestion != null && isResponseVisibleForUser(
+                    userEmail, UserRole.INSTRUCTOR, null, null, response, relatedQuestion, instructor)) {
+                responses.add(response);
+                relevantResponse.put(response.getId(), response);
+                relevantQuestions.put(relatedQuestion.getId(), relatedQuestion);
+                addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
+                addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
+                addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
+                addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, UserRole.INSTRUCTOR, roster);
+            }
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getVisibleResponseComments(
+                frcLogic.getFeedbackResponseCommentsForResponses(relevantResponse.keySet()), userEmail,
+                UserRole.INSTRUCTOR, roster, relevantQuestions, null, new HashSet<>(), relevantResponse);
+
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, UserRole.INSTRUCTOR,
+                feedbackSessionName, student.section);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                visibilityTable, null, roster, responseComments, true);
+    }
+
+    private void addTeamResponsesForContributionQuestions(Map<String, FeedbackResponseAttributes> responses,
+            Map<String, FeedbackQuestionAttributes> questions, StudentAttributes student, CourseRoster roster) {
+        Set<String> contributionQuestionIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses.values()) {
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
+            if (question != null && question.questionType == FeedbackQuestionType.CONTRIB) {
+                contributionQuestionIds.add(question.getId());
+            }
+        }
+        if (contributionQuestionIds.isEmpty()) {
+            return;
+        }
+
+        Set<String> teammateEmails = new HashSet<>();
+        for (StudentAttributes teammate : roster.getStudentsInTeam(student.team)) {
+            teammateEmails.add(teammate.email);
+        }
+        for (String questionId : contributionQuestionIds) {
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesForQuestionInSection(questionId, student.section)) {
+                if (teammateEmails.contains(response.giver)) {
+                    responses.putIfAbsent(response.getId(), response);
+                }
+            }
+        }
+    }
+
     /**
      * Gets results of a feedback session to show to a student.
      */
@@ -810,15 +965,129 @@ public final class FeedbackSessionsLogic {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
         // sort responses by giver > recipient > qnNumber
-        results.responses.sort(results.compareByGiverRecipientQuestion);
+        results.sortResponsesByGiverRecipientQuestion(results.responses);
+
+        StringBuilder exportBuilder = getFeedbackSessionResultsHeaderInCsvFormat(results.feedbackSession, section);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown, section));
+        }
+
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes the summary results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, responses are loaded and
+     * written one question at a time, so the whole file is never held in memory and
+     * no limit is imposed on the number of responses in the session.
+     *
+     * @param section the section to export, or null to export all sections
+     * @param questionId the question to export, or null to export all questions
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        // the roster, questions, instructor and section table are shared by all questions;
+        // only the responses and their comments are loaded per question
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, UserRole.INSTRUCTOR,
+                feedbackSessionName, section);
 
+        writer.append(getFeedbackSessionResultsHeaderInCsvFormat(session, section));
+
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            if (questionId != null && !questionId.equals(question.getId())) {
+                continue;
+            }
+
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForQuestionForInstructor(
+                    session, question, instructor, roster, sectionTeamNameTable, section);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown, section));
+            }
+
+            // releases the rows of this question before the responses of the next question are loaded
+            writer.flush();
+        }
+    }
+
+    /**
+     * Gets the results of {@code question} which are viewable by {@code instructor} in {@code section}
+     * (or in all sections if null).
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsForQuestionId}, the question, instructor and table of
+     * sections and teams are given, so that they are read once when the results of many questions are
+     * needed, and only the comments on the responses to the question are read.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionForInstructor(
+            FeedbackSessionAttributes session, FeedbackQuestionAttributes question, InstructorAttributes instructor,
+            CourseRoster roster, Map<String, Set<String>> sectionTeamNameTable, String section) {
+        String userEmail = instructor.email;
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        relevantQuestions.put(question.getId(), question);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+
+        for (FeedbackResponseAttributes response : frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                question, userEmail, UserRole.INSTRUCTOR, section)) {
+            if (isResponseVisibleForUser(userEmail, UserRole.INSTRUCTOR, null, null, response, question, instructor)) {
+                relevantResponse.put(response.getId(), response);
+                responses.add(response);
+                addEmailNamePairsToTable(emailNameTable, response, question, roster);
+                addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
+                addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
+                addVisibilityToTable(visibilityTable, question, response, userEmail, UserRole.INSTRUCTOR, roster);
+            }
+        }
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = relevantResponse.isEmpty()
+                ? new HashMap<>()
+                : getVisibleResponseComments(
+                        frcLogic.getFeedbackResponseCommentsForResponses(relevantResponse.keySet()), userEmail,
+                        UserRole.INSTRUCTOR, roster, relevantQuestions, null, new HashSet<>(), relevantResponse);
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
+                visibilityTable, new FeedbackSessionResponseStatus(), roster, responseComments, true);
+    }
+
+    private StringBuilder getFeedbackSessionResultsHeaderInCsvFormat(
+            FeedbackSessionAttributes session, String section) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(System.lineSeparator())
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(System.lineSeparator());
 
         if (section != null) {
@@ -827,16 +1096,7 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
-
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
-        }
-
-        return exportBuilder.toString();
+        return exportBuilder;
     }
 
     private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
@@ -861,8 +1121,8 @@ public final class FeedbackSessionsLogic {
             exportBuilder.append(statistics).append(System.lineSeparator());
         }
 
-        List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
-        List<String> possibleRecipientsForGiver = new ArrayList<>();
+        ParticipantSet possibleGiversWithoutResponses = fsrBundle.getPossibleGiverSetInSection(question, section);
+        ParticipantSet possibleRecipientsForGiver = ParticipantSet.of();
         String prevGiver = "";
 
         int maxNumOfResponseComments = getMaxNumberOfResponseComments(allResponses, fsrBundle.getResponseComments());
@@ -889,7 +1149,7 @@ public final class FeedbackSessionsLogic {
                                              ? fsrBundle.getFullNameFromRoster(response.giver)
                                              : response.giver;
 
-                possibleRecipientsForGiver = fsrBundle.getPossibleRecipients(question, giverIdentifier);
+                possibleRecipientsForGiver = fsrBundle.getPossibleRecipientSet(question, giverIdentifier);
             }
 
             removeParticipantIdentifierFromList(question.recipientType, possibleRecipientsForGiver,
@@ -941,7 +1201,7 @@ public final class FeedbackSessionsLogic {
      */
     private void removeParticipantIdentifierFromList(
             FeedbackParticipantType participantIdentifierType,
-            List<String> participantIdentifierList, String participantIdentifier,
+            ParticipantSet participantIdentifierList, String participantIdentifier,
             FeedbackSessionResultsBundle bundle) {
         if (participantIdentifierType == FeedbackParticipantType.TEAMS) {
             participantIdentifierList.remove(bundle.getFullNameFromRoster(participantIdentifier));
@@ -962,8 +1222,8 @@ public final class FeedbackSessionsLogic {
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
+            ParticipantSet remainingPossibleGivers,
+            ParticipantSet possibleRecipientsForGiver, String prevGiver) {
         StringBuilder exportBuilder = new StringBuilder();
 
         if (possibleRecipientsForGiver != null) {
@@ -976,8 +1236,8 @@ public final class FeedbackSessionsLogic {
         removeParticipantIdentifierFromList(question.giverType, remainingPossibleGivers, prevGiver, results);
 
         for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
-            List<String> possibleRecipientsForRemainingGiver =
-                    results.getPossibleRecipients(entry.getKey(), possibleGiverWithNoResponses);
+            ParticipantSet possibleRecipientsForRemainingGiver =
+                    results.getPossibleRecipientSet(entry.getKey(), possibleGiverWithNoResponses);
 
             exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
                     question, questionDetails, possibleRecipientsForRemainingGiver,
@@ -995,7 +1255,7 @@ public final class FeedbackSessionsLogic {
             FeedbackSessionResultsBundle results,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> possibleRecipientsForGiver, String giver) {
+            ParticipantSet possibleRecipientsForGiver, String giver) {
         StringBuilder exportBuilder = new StringBuilder();
         for (String possibleRecipient : possibleRecipientsForGiver) {
             String giverName = results.getFullNameFromRoster(giver);
@@ -1079,7 +1339,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (fsDb.hasStudentRespondent(userEmail, fsa)) {
             return true;
         }
 
@@ -1093,7 +1353,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (fsDb.hasInstructorRespondent(userEmail, fsa)) {
             return true;
         }
 
@@ -1105,6 +1365,54 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Gets the emails of the students of the course who have not completed the session
+     * (see {@link #isFeedbackSessionCompletedByStudent}).
+     *
+     * <p>The respondents and questions of the session are each read once, regardless of the number of students.
+     */
+    public Set<String> getStudentsWhoHaveNotCompletedFeedbackSession(FeedbackSessionAttributes fsa) {
+        Set<String> studentEmails = new HashSet<>();
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForStudents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        // if there is no question for students, session is complete
+        if (allQuestions.isEmpty()) {
+            return studentEmails;
+        }
+
+        Set<String> respondents = fsDb.getStudentRespondents(fsa);
+        for (StudentAttributes student : rosterCache.getCourseRoster(fsa.getCourseId()).getStudents()) {
+            if (!respondents.contains(student.email)) {
+                studentEmails.add(student.email);
+            }
+        }
+        return studentEmails;
+    }
+
+    /**
+     * Gets the emails of the instructors of the course who have not completed the session
+     * (see {@link #isFeedbackSessionCompletedByInstructor}).
+     *
+     * <p>The respondents and questions of the session are each read once, regardless of the number of instructors.
+     */
+    public Set<String> getInstructorsWhoHaveNotCompletedFeedbackSession(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        Set<String> respondents = fsDb.getInstructorRespondents(fsa);
+
+        Set<String> instructorEmails = new HashSet<>();
+        for (InstructorAttributes instructor : rosterCache.getCourseRoster(fsa.getCourseId()).getInstructors()) {
+            boolean isCreator = fsa.getCreatorEmail().equals(instructor.email);
+            // if there is no question for instructor, session is complete
+            if (!respondents.contains(instructor.email)
+                    && !fqLogic.getFeedbackQuestionsForInstructor(allQuestions, isCreator).isEmpty()) {
+                instructorEmails.add(instructor.email);
+            }
+        }
+        return instructorEmails;
+    }
+
     public void updateFeedbackSession(FeedbackSessionAttributes newSession)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1211,6 +1519,22 @@ public final class FeedbackSessionsLogic {
         addStudentRespondents(new ArrayList<>(respondingStudentList), feedbackSessionName, courseId);
     }
 
+    public Set<String> getStudentRespondents(FeedbackSessionAttributes session) {
+        return fsDb.getStudentRespondents(session);
+    }
+
+    public Set<String> getInstructorRespondents(FeedbackSessionAttributes session) {
+        return fsDb.getInstructorRespondents(session);
+    }
+
+    /**
+     * Fills in the respondent lists of {@code session}, which are not stored with the session.
+     */
+    private void loadRespondents(FeedbackSessionAttributes session) {
+        session.setRespondingStudentList(fsDb.getStudentRespondents(session));
+        session.setRespondingInstructorList(fsDb.getInstructorRespondents(session));
+    }
+
     public void deleteInstructorFromRespondentsList(InstructorAttributes instructor) {
         if (instructor == null || instructor.email == null) {
             return;
@@ -1423,6 +1747,22 @@ public final class FeedbackSessionsLogic {
         return requiredSessions;
     }
 
+    /**
+     * Returns a list of sessions that accepted responses within the past day.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsAcceptingResponsesWithinThePastDay() {
+        List<FeedbackSessionAttributes> requiredSessions = new ArrayList<>();
+        List<FeedbackSessionAttributes> sessions =
+                fsDb.getFeedbackSessionsPossiblyAcceptingResponsesWithinPastDay();
+
+        for (FeedbackSessionAttributes session : sessions) {
+            if (session.isAcceptingResponsesWithinPastDay()) {
+                requiredSessions.add(session);
+            }
+        }
+        return requiredSessions;
+    }
+
     /**
      * Deletes the feedback sessions in the course specified. The delete
      * is cascaded, and feedback questions, feedback responses, and
@@ -1462,11 +1802,22 @@ public final class FeedbackSessionsLogic {
                 .builder(feedbackSessionName, courseId, "").build();
 
         fsDb.deleteEntity(sessionToDelete);
+        fsDb.deleteRespondentsForSession(sessionToDelete);
 
     }
 
     public FeedbackSessionDetailsBundle getFeedbackSessionDetails(
             FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        return getFeedbackSessionDetails(fsa, studentsLogic.getStudentsForCourse(fsa.getCourseId()),
+                instructorsLogic.getInstructorsForCourse(fsa.getCourseId()), fsDb.getNumberOfRespondents(fsa));
+    }
+
+    /**
+     * Returns the details of the session, given the students and instructors of its course
+     * and the number of respondents of the session.
+     */
+    private FeedbackSessionDetailsBundle getFeedbackSessionDetails(FeedbackSessionAttributes fsa,
+            List<StudentAttributes> students, List<InstructorAttributes> instructors, int numberOfRespondents) {
 
         FeedbackSessionDetailsBundle details =
                 new FeedbackSessionDetailsBundle(fsa);
@@ -1474,8 +1825,6 @@ public final class FeedbackSessionsLogic {
         details.stats.expectedTotal = 0;
         details.stats.submittedTotal = 0;
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
         List<FeedbackQuestionAttributes> questions =
                 fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
         List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
@@ -1492,7 +1841,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
-        details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+        details.stats.submittedTotal += numberOfRespondents;
 
         return details;
     }
@@ -1505,9 +1854,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getCourseRoster(courseId);
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
                 feedbackSessionName, courseId, userEmail, role, section, roster);
@@ -1525,6 +1872,9 @@ public final class FeedbackSessionsLogic {
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
+        if (role == UserRole.INSTRUCTOR) {
+            loadRespondents(session);
+        }
 
         // create empty data containers to store results
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
@@ -1541,12 +1891,11 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        Map<String, List<FeedbackResponseAttributes>> viewableResponsesByQuestion =
+                frLogic.getViewableFeedbackResponsesForQuestionsInSection(allQuestions, userEmail, role, section);
         for (FeedbackQuestionAttributes question : allQuestions) {
 
-            List<FeedbackResponseAttributes> responsesForThisQn;
-
-            responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
-                    question, userEmail, role, section);
+            List<FeedbackResponseAttributes> responsesForThisQn = viewableResponsesByQuestion.get(question.getId());
 
             boolean hasResponses = !responsesForThisQn.isEmpty();
             if (hasResponses) {
@@ -1621,6 +1970,9 @@ public final class FeedbackSessionsLogic {
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
+        if (role == UserRole.INSTRUCTOR) {
+            loadRespondents(session);
+        }
 
         List<FeedbackQuestionAttributes> allQuestions =
                 fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
@@ -1700,9 +2052,18 @@ public final class FeedbackSessionsLogic {
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
-        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         List<FeedbackResponseCommentAttributes> allResponseComments =
                 frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        return getVisibleResponseComments(allResponseComments, userEmail, role, roster, relevantQuestions, student,
+                studentsEmailInTeam, relevantResponse);
+    }
+
+    private Map<String, List<FeedbackResponseCommentAttributes>> getVisibleResponseComments(
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1797,8 +2158,8 @@ public final class FeedbackSessionsLogic {
                 boolean hasResponses = !responsesForThisQn.isEmpty();
                 if (hasResponses) {
                     Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+                    InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                     for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
                         boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
                                                                              question, instructor);
                         if (isVisibleResponse) {
@@ -2039,9 +2400,18 @@ public final class FeedbackSessionsLogic {
         List<FeedbackSessionDetailsBundle> fsDetails = new ArrayList<>();
         List<FeedbackSessionAttributes> fsInCourse =
                 fsDb.getFeedbackSessionsForCourse(courseId);
+        if (fsInCourse.isEmpty()) {
+            return fsDetails;
+        }
+
+        // The roster and the respondent counts are loaded once for all the sessions in the course
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        Map<String, Integer> numberOfRespondents = fsDb.getNumberOfRespondentsForCourse(courseId);
 
         for (FeedbackSessionAttributes fsa : fsInCourse) {
-            fsDetails.add(getFeedbackSessionDetails(fsa));
+            fsDetails.add(getFeedbackSessionDetails(fsa, students, instructors,
+                    numberOfRespondents.getOrDefault(fsa.getFeedbackSessionName(), 0)));
         }
 
         return fsDetails;
@@ -2058,6 +2428,8 @@ public final class FeedbackSessionsLogic {
             List<FeedbackQuestionAttributes> questions) {
 
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
+        Set<String> respondingStudents = fsDb.getStudentRespondents(fsa);
+        Set<String> respondingInstructors = fsDb.getInstructorRespondents(fsa);
         List<StudentAttributes> students = roster.getStudents();
         List<InstructorAttributes> instructors = roster.getInstructors();
         List<FeedbackQuestionAttributes> studentQns = fqLogic
@@ -2075,8 +2447,8 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailTeamNameTable.put(student.email, student.team);
             }
         }
-        studentNoResponses.removeAll(fsa.getRespondingStudentList());
-        studentResponded.addAll(fsa.getRespondingStudentList());
+        studentNoResponses.removeAll(respondingStudents);
+        studentResponded.addAll(respondingStudents);
 
         for (InstructorAttributes instructor : instructors) {
             List<FeedbackQuestionAttributes> instructorQns = fqLogic
@@ -2087,7 +2459,7 @@ public final class FeedbackSessionsLogic {
                 responseStatus.emailNameTable.put(instructor.email, instructor.name);
             }
         }
-        instructorNoResponses.removeAll(fsa.getRespondingInstructorList());
+        instructorNoResponses.removeAll(respondingInstructors);
 
         responseStatus.studentsWhoDidNotRespond.addAll(studentNoResponses);
         responseStatus.studentsWhoResponded.addAll(studentResponded);
@@ -2176,6 +2548,59 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Gets the emails of the students of the course who have not fully completed the session
+     * (see {@link #isFeedbackSessionFullyCompletedByStudent}).
+     *
+     * <p>The number of responses by each giver to each question is read from the response aggregates
+     * of the questions, or counted from the responses of the session if any question is not tracked,
+     * while the number of recipients of questions without a fixed number of recipients
+     * is found from the roster of the course. Hence the number of datastore reads does not grow
+     * with the number of students, questions or responses.
+     */
+    public Set<String> getStudentsWhoHaveNotFullyCompletedFeedbackSession(FeedbackSessionAttributes fsa) {
+        Set<String> studentEmails = new HashSet<>();
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForStudents(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        if (allQuestions.isEmpty()) {
+            return studentEmails;
+        }
+
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            questionIds.add(question.getId());
+        }
+        Map<String, Map<String, Integer>> responseCountsByQuestionAndGiver =
+                frLogic.getResponseCountsByGiverForQuestions(questionIds);
+        if (responseCountsByQuestionAndGiver == null) {
+            responseCountsByQuestionAndGiver = new HashMap<>();
+            for (FeedbackResponseAttributes response
+                    : frLogic.getFeedbackResponsesForSession(fsa.getFeedbackSessionName(), fsa.getCourseId())) {
+                responseCountsByQuestionAndGiver.computeIfAbsent(response.feedbackQuestionId, id -> new HashMap<>())
+                        .merge(response.giver, 1, Integer::sum);
+            }
+        }
+
+        CourseRoster roster = rosterCache.getCourseRoster(fsa.getCourseId());
+        for (StudentAttributes student : roster.getStudents()) {
+            for (FeedbackQuestionAttributes question : allQuestions) {
+                int numberOfResponsesGiven = responseCountsByQuestionAndGiver
+                        .getOrDefault(question.getId(), new HashMap<>()).getOrDefault(student.email, 0);
+                int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+                if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+                    numberOfResponsesNeeded = fqLogic.getNumberOfRecipientsForQuestion(question, student.email, roster);
+                }
+
+                if (numberOfResponsesGiven < numberOfResponsesNeeded) {
+                    // If any question is not completely answered, session is not completed
+                    studentEmails.add(student.email);
+                    break;
+                }
+            }
+        }
+        return studentEmails;
+    }
+
     /**
      * Checks whether the feedback session is viewable to the specified user.
      */
@@ -2218,6 +2643,26 @@ public final class FeedbackSessionsLogic {
         return session.isVisible() && !questionsWithVisibleResponses.isEmpty();
     }
 
+    /**
+     * Returns true if the session is viewable to students, like {@link #isFeedbackSessionViewableToStudents},
+     * using the given questions of the session instead of reading them.
+     */
+    private boolean isFeedbackSessionViewableToStudents(FeedbackSessionAttributes session,
+            List<FeedbackQuestionAttributes> questionsInSession) {
+        if (!session.isVisible()) {
+            return false;
+        }
+        if (!fqLogic.getFeedbackQuestionsForStudents(questionsInSession).isEmpty()) {
+            return true;
+        }
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForInstructor(questionsInSession, true)) {
+            if (frLogic.isResponseOfFeedbackQuestionVisibleToStudent(question)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns true if there are any questions for students to answer.
      */
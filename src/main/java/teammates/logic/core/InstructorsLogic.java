@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import teammates.common.datatransfer.InstructorSearchResultBundle;
@@ -28,6 +29,8 @@ public final class InstructorsLogic {
 
     private static final InstructorsDb instructorsDb = new InstructorsDb();
 
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -83,7 +86,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        rosterCache.invalidate(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -92,6 +97,7 @@ public final class InstructorsLogic {
         InstructorAttributes instructor = instructorsDb.getInstructorForGoogleId(courseId, googleId);
         instructor.isArchived = archiveStatus;
         instructorsDb.updateInstructorByGoogleId(instructor);
+        rosterCache.invalidate(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
@@ -116,6 +122,16 @@ public final class InstructorsLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Returns the instructors of all the given courses, sorted by name.
+     */
+    public List<InstructorAttributes> getInstructorsForCourses(Collection<String> courseIds) {
+        List<InstructorAttributes> instructorReturnList = instructorsDb.getInstructorsForCourses(courseIds);
+        instructorReturnList.sort(InstructorAttributes.compareByName);
+
+        return instructorReturnList;
+    }
+
     public List<InstructorAttributes> getInstructorsForGoogleId(String googleId) {
 
         return getInstructorsForGoogleId(googleId, false);
@@ -192,6 +208,7 @@ public final class InstructorsLogic {
         checkForUpdatingRespondents(instructor);
 
         instructorsDb.updateInstructorByGoogleId(instructor);
+        rosterCache.invalidate(instructor.courseId);
     }
 
     private void checkForUpdatingRespondents(InstructorAttributes instructor)
@@ -230,6 +247,7 @@ public final class InstructorsLogic {
         verifyIsEmailOfInstructorOfCourse(email, instructor.courseId);
 
         instructorsDb.updateInstructorByEmail(instructor);
+        rosterCache.invalidate(instructor.courseId);
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -261,6 +279,7 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        rosterCache.invalidate(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -277,6 +296,7 @@ public final class InstructorsLogic {
     public void deleteInstructorsForCourse(String courseId) {
 
         instructorsDb.deleteInstructorsForCourse(courseId);
+        rosterCache.invalidate(courseId);
     }
 
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
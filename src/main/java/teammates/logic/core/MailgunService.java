@@ -1,9 +1,12 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
@@ -25,6 +28,27 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final String API_URL = "https://api.mailgun.net/v3/";
+
+    private static final int MAX_RECIPIENTS_PER_REQUEST = 1000;
+
+    private final String apiUrl;
+    private final String apiKey;
+    private final String domainName;
+
+    public MailgunService() {
+        this(API_URL, Config.MAILGUN_APIKEY, Config.MAILGUN_DOMAINNAME);
+    }
+
+    /**
+     * Creates a service which sends emails to the Mailgun API at {@code apiUrl}, e.g. to a local stub of the API.
+     */
+    public MailgunService(String apiUrl, String apiKey, String domainName) {
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.domainName = domainName;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -32,10 +56,7 @@ public class MailgunService extends EmailSenderService {
     public FormDataMultiPart parseToEmail(EmailWrapper wrapper) {
         FormDataMultiPart formData = new FormDataMultiPart();
 
-        String sender = wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
-                        ? wrapper.getSenderEmail()
-                        : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
-        formData.field("from", sender);
+        formData.field("from", getSender(wrapper));
 
         formData.field("to", wrapper.getRecipient());
 
@@ -50,13 +71,75 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses emails with the same content template, sender, reply-to address and subject into a single
+     * batch email, in which each placeholder of the template is replaced by a recipient variable,
+     * e.g. {@code ${userName}} by {@code %recipient.userName%}.
+     */
+    public FormDataMultiPart parseToEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        formData.field("from", getSender(firstWrapper));
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : wrappers) {
+            formData.field("to", wrapper.getRecipient());
+
+            JSONObject variables = new JSONObject();
+            String[] contentValues = wrapper.getContentValues();
+            for (int i = 0; i < contentValues.length; i += 2) {
+                variables.put(getVariableName(contentValues[i]), contentValues[i + 1]);
+            }
+            recipientVariables.put(wrapper.getRecipient(), variables);
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        String[] variableReferences = firstWrapper.getContentValues().clone();
+        for (int i = 0; i < variableReferences.length; i += 2) {
+            variableReferences[i + 1] = "%recipient." + getVariableName(variableReferences[i]) + "%";
+        }
+
+        formData.field("h:Reply-To", firstWrapper.getReplyTo());
+        formData.field("subject", firstWrapper.getSubject());
+        formData.field("html", firstWrapper.getContentTemplate().render(variableReferences));
+
+        return formData;
+    }
+
+    private static String getSender(EmailWrapper wrapper) {
+        return wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()
+               ? wrapper.getSenderEmail()
+               : wrapper.getSenderName() + " <" + wrapper.getSenderEmail() + ">";
+    }
+
+    /**
+     * Returns the name of the recipient variable for the placeholder, e.g. {@code userName} for {@code ${userName}}.
+     */
+    private static String getVariableName(String placeholder) {
+        return placeholder.substring(2, placeholder.length() - 1);
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    public List<List<EmailWrapper>> groupForSending(List<EmailWrapper> wrappers) {
+        return groupBySharedContent(wrappers, MAX_RECIPIENTS_PER_REQUEST);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> group) {
+        send(group.size() == 1 ? parseToEmail(group.get(0)) : parseToEmail(group));
+    }
+
+    private void send(FormDataMultiPart formData) {
+        try (FormDataMultiPart email = formData) {
             Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+            client.addFilter(new HTTPBasicAuthFilter("api", apiKey));
+            WebResource webResource = client.resource(apiUrl + domainName + "/messages");
 
             ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                     .post(ClientResponse.class, email);
@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -27,32 +30,74 @@ public class MailjetService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_MESSAGES_PER_REQUEST = 50;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public MailjetRequest parseToEmail(EmailWrapper wrapper) {
         MailjetRequest request = new MailjetRequest(Email.resource);
-        request.property(Email.FROMEMAIL, wrapper.getSenderEmail());
+        JSONObject message = toMessage(wrapper);
+        for (String property : message.keySet()) {
+            request.property(property, message.get(property));
+        }
+        return request;
+    }
+
+    /**
+     * Parses up to {@value #MAX_MESSAGES_PER_REQUEST} emails into a single request
+     * which sends each of them as a separate message.
+     */
+    public MailjetRequest parseToEmail(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(toMessage(wrapper));
+        }
+        return new MailjetRequest(Email.resource).property(Email.MESSAGES, messages);
+    }
+
+    private static JSONObject toMessage(EmailWrapper wrapper) {
+        JSONObject message = new JSONObject();
+        message.put(Email.FROMEMAIL, wrapper.getSenderEmail());
         if (wrapper.getSenderName() != null && !wrapper.getSenderName().isEmpty()) {
-            request.property(Email.FROMNAME, wrapper.getSenderName());
+            message.put(Email.FROMNAME, wrapper.getSenderName());
         }
 
-        request.property(Email.RECIPIENTS, new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient())));
+        JSONArray recipients = new JSONArray().put(new JSONObject().put("Email", wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            request.append(Email.RECIPIENTS, new JSONObject().put("Email", wrapper.getBcc()));
+            recipients.put(new JSONObject().put("Email", wrapper.getBcc()));
         }
+        message.put(Email.RECIPIENTS, recipients);
 
-        request.property(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
-        request.property(Email.SUBJECT, wrapper.getSubject());
-        request.property(Email.HTMLPART, wrapper.getContent());
-        request.property(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
-        return request;
+        message.put(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
+        message.put(Email.SUBJECT, wrapper.getSubject());
+        message.put(Email.HTMLPART, wrapper.getContent());
+        message.put(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+        return message;
     }
 
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    public List<List<EmailWrapper>> groupForSending(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> groups = new ArrayList<>();
+        for (int i = 0; i < wrappers.size(); i += MAX_MESSAGES_PER_REQUEST) {
+            groups.add(wrappers.subList(i, Math.min(i + MAX_MESSAGES_PER_REQUEST, wrappers.size())));
+        }
+        return groups;
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> group)
+            throws MailjetException, MailjetSocketTimeoutException {
+        send(parseToEmail(group));
+    }
+
+    private void send(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
         MailjetResponse response = mailjet.post(email);
         if (isNotSuccessStatus(response.getStatus())) {
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
 
 import org.jsoup.Jsoup;
 
@@ -27,19 +28,31 @@ public class SendgridService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_PERSONALIZATIONS_PER_REQUEST = 1000;
+
+    private final String apiHost;
+    private final String apiKey;
+
+    public SendgridService() {
+        this(null, Config.SENDGRID_APIKEY);
+    }
+
+    /**
+     * Creates a service which sends emails to the SendGrid API at {@code apiHost} over plain HTTP,
+     * e.g. to a local stub of the API, or to the actual API if {@code apiHost} is null.
+     */
+    public SendgridService(String apiHost, String apiKey) {
+        this.apiHost = apiHost;
+        this.apiKey = apiKey;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
         Mail email = new Mail();
-        Email sender;
-        if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
-            sender = new Email(wrapper.getSenderEmail());
-        } else {
-            sender = new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
-        }
-        email.setFrom(sender);
+        email.setFrom(getSender(wrapper));
         email.setReplyTo(new Email(wrapper.getReplyTo()));
         Personalization personalization = new Personalization();
         personalization.addTo(new Email(wrapper.getRecipient()));
@@ -53,10 +66,62 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses emails with the same content template, sender, reply-to address and subject into a single email
+     * with a personalization for each recipient, which substitutes the values of the recipient
+     * for the placeholders of the template.
+     */
+    public Mail parseToEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        Mail email = new Mail();
+        email.setFrom(getSender(firstWrapper));
+        email.setReplyTo(new Email(firstWrapper.getReplyTo()));
+        for (EmailWrapper wrapper : wrappers) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            String[] contentValues = wrapper.getContentValues();
+            for (int i = 0; i < contentValues.length; i += 2) {
+                personalization.addSubstitution(contentValues[i], contentValues[i + 1]);
+            }
+            email.addPersonalization(personalization);
+        }
+        email.setSubject(firstWrapper.getSubject());
+        String content = firstWrapper.getContentTemplate().getText();
+        email.addContent(new Content("text/plain", Jsoup.parse(content).text()));
+        email.addContent(new Content("text/html", content));
+        return email;
+    }
+
+    private static Email getSender(EmailWrapper wrapper) {
+        if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
+            return new Email(wrapper.getSenderEmail());
+        }
+        return new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
-        SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    public List<List<EmailWrapper>> groupForSending(List<EmailWrapper> wrappers) {
+        return groupBySharedContent(wrappers, MAX_PERSONALIZATIONS_PER_REQUEST);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> group) throws IOException {
+        send(group.size() == 1 ? parseToEmail(group.get(0)) : parseToEmail(group));
+    }
+
+    private void send(Mail email) throws IOException {
+        SendGrid sendgrid;
+        if (apiHost == null) {
+            sendgrid = new SendGrid(apiKey);
+        } else {
+            sendgrid = new SendGrid(apiKey, true);
+            sendgrid.setHost(apiHost);
+        }
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
@@ -0,0 +1,92 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import teammates.common.datatransfer.attributes.SharedEmailContentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.SystemParams;
+import teammates.common.util.Template;
+import teammates.storage.api.SharedEmailContentsDb;
+
+/**
+ * Handles operations related to the contents of emails which are shared by many recipients.
+ *
+ * <p>Stored contents never change, so the compiled templates of the most recently used contents are cached
+ * by every instance, and an instance sending many emails with the same content reads it only once.
+ *
+ * @see SharedEmailContentsDb
+ */
+public final class SharedEmailContentsLogic {
+
+    /**
+     * How long contents are kept. Queued emails are due within an hour of being queued, and are given up on
+     * once they are overdue by {@link SystemParams#QUEUED_EMAIL_MAX_DELAY_HOURS}, after which their contents
+     * are no longer needed. A day is added as a margin.
+     */
+    private static final Duration CONTENT_RETENTION_PERIOD =
+            Duration.ofHours(SystemParams.QUEUED_EMAIL_MAX_DELAY_HOURS).plusDays(1);
+
+    private static final int MAX_CACHED_CONTENTS = 20;
+
+    private static SharedEmailContentsLogic instance = new SharedEmailContentsLogic();
+
+    private static final SharedEmailContentsDb sharedEmailContentsDb = new SharedEmailContentsDb();
+
+    private final Cache<String, Template> cachedTemplates = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_CONTENTS)
+            .build();
+
+    private SharedEmailContentsLogic() {
+        // prevent initialization
+    }
+
+    public static SharedEmailContentsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Stores the text of {@code template}, and deletes the contents which are no longer needed.
+     * The text is stored anew with an ID of its own even if it has been stored before, so that it is not deleted
+     * for being old while it is still needed.
+     *
+     * @return the ID with which the template can be retrieved
+     */
+    public String createSharedEmailContent(Template template) throws InvalidParametersException {
+        Assumption.assertNotNull(template);
+
+        sharedEmailContentsDb.deleteSharedEmailContentsCreatedBefore(Instant.now().minus(CONTENT_RETENTION_PERIOD));
+        SharedEmailContentAttributes sharedEmailContent = SharedEmailContentAttributes.builder(template.getText())
+                .build();
+        sharedEmailContentsDb.createSharedEmailContent(sharedEmailContent);
+        cachedTemplates.put(sharedEmailContent.getContentId(), template);
+        return sharedEmailContent.getContentId();
+    }
+
+    /**
+     * Gets the content stored with the given ID as a template.
+     *
+     * @return null if there is no such content
+     */
+    public Template getSharedEmailContent(String contentId) {
+        Assumption.assertNotNull(contentId);
+
+        Template template = cachedTemplates.getIfPresent(contentId);
+        if (template != null) {
+            return template;
+        }
+
+        SharedEmailContentAttributes sharedEmailContent = sharedEmailContentsDb.getSharedEmailContent(contentId);
+        if (sharedEmailContent == null) {
+            return null;
+        }
+        template = Template.compile(sharedEmailContent.getContent());
+        cachedTemplates.put(contentId, template);
+        return template;
+    }
+
+}
@@ -1,15 +1,21 @@
 package teammates.logic.core;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -22,6 +28,7 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.common.util.TimeHelper;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -38,6 +45,8 @@ public final class StudentsLogic {
 
     private static final StudentsDb studentsDb = new StudentsDb();
 
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
@@ -66,6 +75,8 @@ public final class StudentsLogic {
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData, hasDocument);
+        rosterCache.invalidate(studentData.course);
+        studentsDb.adjustCourseStats(studentData.course, Collections.emptyList(), Collections.singletonList(studentData));
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -106,6 +117,36 @@ public final class StudentsLogic {
         return studentsDb.getUnregisteredStudentsForCourse(courseId);
     }
 
+    /**
+     * Returns the number of sections, teams, students and unregistered students in the course,
+     * without loading its students.
+     *
+     * @return null if the students of the course are not tracked by course statistics.
+     */
+    public CourseStats getCourseStats(String courseId) {
+        return studentsDb.getCourseStats(courseId);
+    }
+
+    /**
+     * Recomputes the course statistics of the course from its students, which starts tracking the course.
+     * The statistics are then kept up to date as students are created, updated and deleted.
+     * Statistics which were adjusted too recently to be checked against the students are kept
+     * (see {@link StudentsDb#rebuildCourseStats}).
+     */
+    public void rebuildCourseStats(String courseId) {
+        Instant countedAt = Instant.now();
+        studentsDb.rebuildCourseStats(courseId, studentsDb.getStudentsForCourse(courseId), countedAt);
+    }
+
+    /**
+     * Returns the IDs of the courses whose students changed within the past day.
+     * Courses whose students were deleted are found through their statistics, which are adjusted
+     * before the students are deleted.
+     */
+    public Set<String> getCourseIdsWithStudentsChangedWithinThePastDay() {
+        return studentsDb.getCourseIdsWithStudentsOrStatsSavedAfter(TimeHelper.getInstantDaysOffsetFromNow(-1));
+    }
+
     public void deleteDocument(StudentAttributes student) {
         studentsDb.deleteDocument(student);
     }
@@ -239,6 +280,9 @@ public final class StudentsLogic {
 
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        rosterCache.invalidate(student.course);
+        studentsDb.adjustCourseStats(student.course, Collections.singletonList(originalStudent),
+                Collections.singletonList(student));
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -256,14 +300,18 @@ public final class StudentsLogic {
 
         studentsDb.verifyStudentExists(courseId, originalEmail);
         StudentAttributes originalStudent = getStudentForEmail(courseId, originalEmail);
-        originalStudent.googleId = null;
+        StudentAttributes student = originalStudent.getCopy();
+        student.googleId = null;
 
-        if (!originalStudent.isValid()) {
-            throw new InvalidParametersException(originalStudent.getInvalidityInfo());
+        if (!student.isValid()) {
+            throw new InvalidParametersException(student.getInvalidityInfo());
         }
-        studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
-                                 originalStudent.team, originalStudent.section, originalStudent.email,
-                                 originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        studentsDb.updateStudent(student.course, originalEmail, student.name,
+                                 student.team, student.section, student.email,
+                                 student.googleId, student.comments, hasDocument, false);
+        rosterCache.invalidate(courseId);
+        studentsDb.adjustCourseStats(courseId, Collections.singletonList(originalStudent),
+                Collections.singletonList(student));
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
@@ -279,38 +327,64 @@ public final class StudentsLogic {
     private CourseEnrollmentResult enrollStudents(String enrollLines, String courseId, boolean hasDocument)
             throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
 
-        if (!coursesLogic.isCoursePresent(courseId)) {
-            throw new EntityDoesNotExistException("Course does not exist :"
-                    + courseId);
-        }
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
         if (enrollLines.isEmpty()) {
             throw new EnrollException(Const.StatusMessages.ENROLL_LINE_EMPTY);
         }
 
         List<StudentAttributes> studentList = createStudents(enrollLines, courseId);
-        ArrayList<StudentAttributes> returnList = new ArrayList<>();
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        List<StudentAttributes> returnList = new ArrayList<>();
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
         verifyIsWithinSizeLimitPerEnrollment(studentList);
-        validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
-        for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(studentList, studentsInCourse);
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+        Map<String, StudentAttributes> studentsInCourseByEmail = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            studentsInCourseByEmail.put(student.email, student);
+        }
+
+        // diff the enroll list against the current roster, then write all changes in one batch
+        List<StudentAttributes> studentsToCreate = new ArrayList<>();
+        List<StudentAttributes> studentsToUpdate = new ArrayList<>();
+        List<StudentAttributes> originalStudentsToUpdate = new ArrayList<>();
+        for (StudentAttributes student : studentList) {
+            StudentEnrollDetails enrollmentDetails =
+                    getEnrollmentDetails(student, studentsInCourseByEmail.get(student.email));
             student.updateStatus = enrollmentDetails.updateStatus;
 
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                studentsToCreate.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                studentsToUpdate.add(student);
+                originalStudentsToUpdate.add(studentsInCourseByEmail.get(student.email));
+            }
+
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
 
+        // the course is checked once right before the batched write, which does not check it for each student,
+        // so that students are not written to a course deleted while the enrollment was being validated
+        if (!coursesLogic.isCoursePresent(courseId)) {
+            throw new EntityDoesNotExistException("Course does not exist :"
+                    + courseId);
+        }
+
+        studentsDb.createAndUpdateStudents(studentsToCreate, studentsToUpdate, hasDocument);
+        rosterCache.invalidate(courseId);
+
+        List<StudentAttributes> enrolledStudents = new ArrayList<>(studentsToCreate);
+        enrolledStudents.addAll(studentsToUpdate);
+        studentsDb.adjustCourseStats(courseId, originalStudentsToUpdate, enrolledStudents);
+
         // add to return list students not included in the enroll list.
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        Set<String> enrolledEmails = getEmailsInLowerCase(studentList);
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!enrolledEmails.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -329,8 +403,13 @@ public final class StudentsLogic {
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(studentList, getStudentsForCourse(courseId));
+    }
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+    private void validateSectionsAndTeams(List<StudentAttributes> studentList, List<StudentAttributes> studentsInCourse)
+            throws EnrollException {
+
+        List<StudentAttributes> mergedList = getMergedList(studentList, studentsInCourse);
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -349,7 +428,7 @@ public final class StudentsLogic {
      */
     public void validateTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+        List<StudentAttributes> mergedList = getMergedList(studentList, getStudentsForCourse(courseId));
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -363,17 +442,14 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
-
-        List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+            List<StudentAttributes> studentsInCourse) {
 
-        for (StudentAttributes student : studentList) {
-            mergedList.add(student);
-        }
+        List<StudentAttributes> mergedList = new ArrayList<>(studentList);
+        Set<String> enrolledEmails = getEmailsInLowerCase(studentList);
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (!enrolledEmails.contains(student.email.toLowerCase())) {
                 mergedList.add(student);
             }
         }
@@ -466,14 +542,22 @@ public final class StudentsLogic {
     public void deleteStudentCascade(String courseId, String studentEmail, boolean hasDocument) {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
-        fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
+        StudentAttributes student = getStudentForEmail(courseId, studentEmail);
+        fsLogic.deleteStudentFromRespondentsList(student);
+        if (student != null) {
+            // adjusted before the delete, so that the statistics are repaired if the delete fails
+            studentsDb.adjustCourseStats(courseId, Collections.singletonList(student), Collections.emptyList());
+        }
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        rosterCache.invalidate(courseId);
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
         List<StudentAttributes> students = studentsDb.getStudentsForGoogleId(googleId);
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
+            rosterCache.invalidate(student.course);
+            studentsDb.adjustCourseStats(student.course, Collections.singletonList(student), Collections.emptyList());
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
     }
@@ -482,6 +566,8 @@ public final class StudentsLogic {
         List<StudentAttributes> students = studentsDb.getStudentsForGoogleId(googleId);
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
+            rosterCache.invalidate(student.course);
+            studentsDb.adjustCourseStats(student.course, Collections.singletonList(student), Collections.emptyList());
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
     }
@@ -497,29 +583,12 @@ public final class StudentsLogic {
 
     public void deleteStudentsForCourse(String courseId) {
         studentsDb.deleteStudentsForCourse(courseId);
+        rosterCache.invalidate(courseId);
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
-    }
-
-    public void adjustFeedbackResponseForEnrollments(
-            List<StudentEnrollDetails> enrollmentList,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-        for (StudentEnrollDetails enrollment : enrollmentList) {
-            if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
-                continue;
-            }
-
-            boolean isResponseDeleted = false;
-            if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
-                isResponseDeleted = frLogic.updateFeedbackResponseForChangingTeam(enrollment, response);
-            }
-
-            if (!isResponseDeleted && isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
-                frLogic.updateFeedbackResponseForChangingSection(enrollment, response);
-            }
-        }
+        rosterCache.invalidate(courseId);
     }
 
     /**
@@ -529,11 +598,13 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
+    /**
+     * Compares {@code validStudentAttributes} from the enroll list against {@code originalStudentAttributes},
+     * the student with the same email currently in the course (null if there is none).
+     * Students to be modified are updated with their existing record.
+     */
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes validStudentAttributes,
+            StudentAttributes originalStudentAttributes) throws InvalidParametersException {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
         enrollmentDetails.course = validStudentAttributes.course;
         enrollmentDetails.email = validStudentAttributes.email;
@@ -544,8 +615,10 @@ public final class StudentsLogic {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
         } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
+            validStudentAttributes.updateWithExistingRecord(originalStudentAttributes);
+            if (!validStudentAttributes.isValid()) {
+                throw new InvalidParametersException(validStudentAttributes.getInvalidityInfo());
+            }
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
             if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
@@ -555,7 +628,6 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
@@ -650,14 +722,12 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, errorMessage);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
+    private Set<String> getEmailsInLowerCase(List<StudentAttributes> students) {
+        Set<String> emails = new HashSet<>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email.toLowerCase());
         }
-        return false;
+        return emails;
     }
 
     private boolean isTeamChanged(String originalTeam, String newTeam) {
@@ -1,11 +1,21 @@
 package teammates.logic.core;
 
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskAlreadyExistsException;
+import com.google.appengine.api.taskqueue.TaskHandle;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -13,13 +23,22 @@ import teammates.common.util.TaskWrapper;
  */
 public class TaskQueuesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Returns the maximum number of tasks which can be added to a queue in a single call.
+     */
+    public static int getMaxTasksPerAdd() {
+        return QueueConstants.maxTasksPerAdd();
+    }
+
     /**
      * Adds the given task to the specified queue.
      *
      * @param task the task object containing the details of task to be added
      */
     public void addTask(TaskWrapper task) {
-        addDeferredTask(task, 0);
+        addDeferredTask(task, task.getCountdownMillis());
     }
 
     /**
@@ -30,7 +49,92 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
-        TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
+        requiredQueue.add(toTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks to their queues, each to be run after its own countdown time.
+     *
+     * <p>The tasks of each queue are added in as few calls as possible,
+     * each call adding up to the maximum number of tasks allowed per call.
+     * Named tasks which are already in their queue are skipped, so that tasks which may have been
+     * partly added by a failed call can be added again without duplicating any of them.</p>
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     */
+    public void addTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskOptions>> tasksByQueue = new LinkedHashMap<>();
+        for (TaskWrapper task : tasks) {
+            tasksByQueue.computeIfAbsent(task.getQueueName(), queueName -> new ArrayList<>())
+                    .add(toTaskOptions(task, task.getCountdownMillis()));
+        }
+
+        int maxTasksPerAdd = getMaxTasksPerAdd();
+        for (Map.Entry<String, List<TaskOptions>> entry : tasksByQueue.entrySet()) {
+            Queue requiredQueue = QueueFactory.getQueue(entry.getKey());
+            List<TaskOptions> tasksToBeAdded = entry.getValue();
+            for (int i = 0; i < tasksToBeAdded.size(); i += maxTasksPerAdd) {
+                try {
+                    requiredQueue.add(tasksToBeAdded.subList(i, Math.min(i + maxTasksPerAdd, tasksToBeAdded.size())));
+                } catch (TaskAlreadyExistsException e) {
+                    // the other tasks of the call are still added
+                    log.info("Tasks already in " + entry.getKey() + " are skipped: " + e.getTaskNames());
+                }
+            }
+        }
+    }
+
+    /**
+     * Leases up to {@code maxTasks} tasks which are due from the pull queue {@code queueName}.
+     * The tasks are not leased again within {@code leaseSeconds}, and are leased again afterwards
+     * unless they are deleted.
+     *
+     * @return the leased tasks
+     */
+    public List<TaskWrapper> leaseTasks(String queueName, long leaseSeconds, int maxTasks) {
+        Queue requiredQueue = QueueFactory.getQueue(queueName);
+        List<TaskWrapper> leasedTasks = new ArrayList<>();
+        for (TaskHandle taskHandle : requiredQueue.leaseTasks(leaseSeconds, TimeUnit.SECONDS, maxTasks)) {
+            Map<String, List<String>> params = new LinkedHashMap<>();
+            try {
+                for (Map.Entry<String, String> param : taskHandle.extractParams()) {
+                    params.computeIfAbsent(param.getKey(), name -> new ArrayList<>()).add(param.getValue());
+                }
+            } catch (UnsupportedEncodingException | UnsupportedOperationException e) {
+                log.severe("Parameters of task " + taskHandle.getName() + " in " + queueName + " cannot be read: "
+                           + TeammatesException.toStringWithStackTrace(e));
+                requiredQueue.deleteTask(taskHandle);
+                continue;
+            }
+
+            Map<String, String[]> paramMap = new LinkedHashMap<>();
+            params.forEach((name, values) -> paramMap.put(name, values.toArray(new String[0])));
+            int retryCount = taskHandle.getRetryCount() == null ? 0 : taskHandle.getRetryCount();
+            leasedTasks.add(TaskWrapper.ofLeasedTask(taskHandle.getName(), queueName, paramMap, retryCount));
+        }
+        return leasedTasks;
+    }
+
+    /**
+     * Deletes the given leased tasks from their pull queues, so that they are not leased again.
+     */
+    public void deleteTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskHandle>> tasksByQueue = new LinkedHashMap<>();
+        for (TaskWrapper task : tasks) {
+            tasksByQueue.computeIfAbsent(task.getQueueName(), queueName -> new ArrayList<>())
+                    .add(new TaskHandle(TaskOptions.Builder.withTaskName(task.getTaskName()), task.getQueueName()));
+        }
+
+        tasksByQueue.forEach((queueName, taskHandles) -> QueueFactory.getQueue(queueName).deleteTask(taskHandles));
+    }
+
+    private TaskOptions toTaskOptions(TaskWrapper task, long countdownTime) {
+        TaskOptions taskToBeAdded = task.getWorkerUrl() == null
+                                    ? TaskOptions.Builder.withMethod(TaskOptions.Method.PULL)
+                                    : TaskOptions.Builder.withUrl(task.getWorkerUrl());
+        if (task.getTaskName() != null) {
+            taskToBeAdded.taskName(task.getTaskName());
+        }
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
         }
@@ -44,7 +148,7 @@ public class TaskQueuesLogic {
             }
         }
 
-        requiredQueue.add(taskToBeAdded);
+        return taskToBeAdded;
     }
 
 }
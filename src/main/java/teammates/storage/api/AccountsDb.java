@@ -1,7 +1,6 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -18,6 +17,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.ThreadHelper;
 import teammates.storage.entity.Account;
 import teammates.storage.entity.StudentProfile;
@@ -97,6 +97,32 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return getAccount(googleId, false);
     }
 
+    /**
+     * Gets the accounts with the given Google IDs with one batch read. Does not retrieve the profiles.<br>
+     * Preconditions:
+     * <br> * All parameters are non-null.
+     * @return an empty list if no such accounts are found.
+     */
+    public List<AccountAttributes> getAccounts(Collection<String> googleIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleIds);
+
+        List<String> ids = new ArrayList<>();
+        for (String googleId : googleIds) {
+            if (!googleId.isEmpty()) {
+                ids.add(googleId);
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Account> accounts = new ArrayList<>(load().ids(ids).values());
+        for (Account account : accounts) {
+            account.setIsStudentProfileEnabled(false);
+        }
+        return makeAttributes(accounts);
+    }
+
     /**
      * Returns {@link AccountAttributes} objects for all accounts with instructor privileges.
      *         Returns an empty list if no such accounts are found.
@@ -179,6 +205,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
             BlobKey pictureKey = studentProfile.getPictureKey();
             if (!pictureKey.getKeyString().isEmpty()) {
                 deletePicture(pictureKey);
+                GoogleCloudStorageHelper.deleteImageThumbnail(googleId);
             }
             profilesDb.deleteEntityDirect(studentProfile);
         }
@@ -211,7 +238,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
 
     @Override
     protected LoadType<Account> load() {
-        return ofy().load().type(Account.class);
+        return OfyHelper.ofyForLoading(Account.class).load().type(Account.class);
     }
 
     @Override
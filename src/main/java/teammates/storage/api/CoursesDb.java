@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.DateTimeException;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -119,7 +117,7 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
 
     @Override
     protected LoadType<Course> load() {
-        return ofy().load().type(Course.class);
+        return OfyHelper.ofyForLoading(Course.class).load().type(Course.class);
     }
 
     @Override
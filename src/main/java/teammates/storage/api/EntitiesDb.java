@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.search.Document;
@@ -50,6 +51,11 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public static final String ERROR_TRYING_TO_MAKE_NON_EXISTENT_ACCOUNT_AN_INSTRUCTOR =
             "Trying to make an non-existent account an Instructor :";
 
+    /**
+     * The maximum number of values the datastore accepts in an "in" filter.
+     */
+    protected static final int MAX_VALUES_PER_IN_FILTER = 30;
+
     protected static final Logger log = Logger.getLogger();
 
     /**
@@ -303,6 +309,26 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return attributes;
     }
 
+    /**
+     * Runs {@code query} on each batch of at most {@link #MAX_VALUES_PER_IN_FILTER} of {@code values},
+     * for queries with an "in" filter on the values, and returns the results of all the batches.
+     * Every query is started before the results of the first query are read, so that the datastore
+     * runs the queries concurrently.
+     */
+    protected static <T> List<T> queryInBatches(Collection<String> values, Function<List<String>, List<T>> query) {
+        List<String> valueList = new ArrayList<>(values);
+        List<List<T>> pendingResults = new ArrayList<>();
+        for (int i = 0; i < valueList.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            pendingResults.add(query.apply(valueList.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, valueList.size()))));
+        }
+
+        List<T> results = new ArrayList<>();
+        for (List<T> pendingResult : pendingResults) {
+            results.addAll(pendingResult);
+        }
+        return results;
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
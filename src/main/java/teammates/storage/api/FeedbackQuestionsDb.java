@@ -88,6 +88,20 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
     }
 
+    /**
+     * Gets the questions of all the sessions in the given courses, reading the questions of at most
+     * {@link #MAX_VALUES_PER_IN_FILTER} courses per query.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such questions are found.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        return makeAttributes(queryInBatches(courseIds, batch -> load().filter("courseId in", batch).list()));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -180,7 +194,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
             return null;
         }
 
-        return ofy().load().key(key).now();
+        return OfyHelper.ofyForLoading(FeedbackQuestion.class).load().key(key).now();
     }
 
     // Gets a feedbackQuestion based on feedbackSessionName and questionNumber.
@@ -212,7 +226,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
 
     @Override
     protected LoadType<FeedbackQuestion> load() {
-        return ofy().load().type(FeedbackQuestion.class);
+        return OfyHelper.ofyForLoading(FeedbackQuestion.class).load().type(FeedbackQuestion.class);
     }
 
     @Override
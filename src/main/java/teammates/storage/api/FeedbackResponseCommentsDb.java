@@ -145,6 +145,17 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForResponse(feedbackResponseId));
     }
 
+    /*
+     * Get response comments for the response Ids, with one query per batch of ids
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return makeAttributes(queryInBatches(feedbackResponseIds,
+                batch -> load().filter("feedbackResponseId in", batch).list()));
+    }
+
     /*
      * Remove response comments for the response Id
      */
@@ -154,6 +165,18 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         ofy().delete().keys(getFeedbackResponseCommentsForResponseQuery(responseId).keys()).now();
     }
 
+    /*
+     * Remove response comments for the response Ids, with a single batched delete
+     */
+    public void deleteFeedbackResponseCommentsForResponses(Collection<String> responseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseIds);
+
+        List<Key<FeedbackResponseComment>> keysToDelete =
+                queryInBatches(responseIds, batch -> load().filter("feedbackResponseId in", batch).keys().list());
+
+        ofy().delete().keys(keysToDelete).now();
+    }
+
     /*
      * Remove response comments for the course Ids
      */
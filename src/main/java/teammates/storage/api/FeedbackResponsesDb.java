@@ -2,14 +2,21 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
@@ -18,9 +25,11 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackResponseAggregate;
 
 /**
  * Handles CRUD operations for feedback responses.
@@ -30,6 +39,11 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * How long a saved response may take to be found by queries on responses.
+     */
+    private static final Duration RESPONSE_QUERY_CONSISTENCY_DELAY = Duration.ofMinutes(1);
+
     private static final Logger log = Logger.getLogger();
 
     public void createFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToAdd)
@@ -110,6 +124,50 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getEntity(response);
     }
 
+    /**
+     * Gets the responses with the given IDs with a single batched read.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return The responses keyed by their IDs. IDs of responses that do not exist are left out.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntities(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return new HashMap<>(load().ids(feedbackResponseIds));
+    }
+
+    /**
+     * Gets the responses to the question which are given by or to any of {@code participantEmails}.
+     * Only the responses involving those participants are read, in batches of at most
+     * {@link #MAX_VALUES_PER_IN_FILTER} participants.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponse> getFeedbackResponseEntitiesFromOrToParticipantsForQuestion(
+            String feedbackQuestionId, Collection<String> participantEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, participantEmails);
+
+        Query<FeedbackResponse> query = load().filter("feedbackQuestionId =", feedbackQuestionId);
+        List<FeedbackResponse> responses = queryInBatches(participantEmails, batch -> {
+            List<FeedbackResponse> given = query.filter("giverEmail in", batch).list();
+            List<FeedbackResponse> received = query.filter("receiver in", batch).list();
+            List<FeedbackResponse> batchResponses = new ArrayList<>(given);
+            batchResponses.addAll(received);
+            return batchResponses;
+        });
+
+        // a response between two of the participants is returned by both queries
+        Map<String, FeedbackResponse> responsesById = new LinkedHashMap<>();
+        for (FeedbackResponse response : responses) {
+            responsesById.putIfAbsent(response.getId(), response);
+        }
+        return new ArrayList<>(responsesById.values());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -319,6 +377,81 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 getFeedbackResponseEntitiesFromGiverForQuestionInSection(feedbackQuestionId, giverEmail, section));
     }
 
+    /**
+     * Gets the responses for all the given questions. The queries for the questions are all issued
+     * before any of the results is read, so that they run concurrently instead of one after another.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestions(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        return makeAttributes(getFeedbackResponseEntitiesForQuestions(feedbackQuestionIds, Query::list));
+    }
+
+    /**
+     * Gets the responses for all the given questions in a section,
+     * in the same way as {@link #getFeedbackResponsesForQuestions(Collection)}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     * @see #getFeedbackResponsesForQuestionInSection(String, String)
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionsInSection(
+            Collection<String> feedbackQuestionIds, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        List<FeedbackResponse> feedbackResponses = new ArrayList<>();
+        for (FeedbackResponse response : getFeedbackResponseEntitiesForQuestions(feedbackQuestionIds,
+                query -> listInSection(query, section))) {
+            if (isInSectionOrNone(response.getGiverSection(), section)
+                    && isInSectionOrNone(response.getRecipientSection(), section)) {
+                feedbackResponses.add(response);
+            }
+        }
+        return makeAttributes(feedbackResponses);
+    }
+
+    /**
+     * Gets the responses given by {@code giverEmail} for all the given questions,
+     * in the same way as {@link #getFeedbackResponsesForQuestions(Collection)}.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackQuestionIds} and {@code giverEmail} are non-null.
+     * @param section the section the giver or the receiver must be in, or null to include all sections
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForQuestionsInSection(
+            Collection<String> feedbackQuestionIds, String giverEmail, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        return makeAttributes(getFeedbackResponseEntitiesForQuestions(feedbackQuestionIds,
+                query -> listInSectionOrAll(query.filter("giverEmail =", giverEmail), section)));
+    }
+
+    /**
+     * Gets the responses received by {@code receiver} for all the given questions,
+     * in the same way as {@link #getFeedbackResponsesForQuestions(Collection)}.
+     *
+     * <p>Preconditions: <br>
+     * * {@code feedbackQuestionIds} and {@code receiver} are non-null.
+     * @param section the section the giver or the receiver must be in, or null to include all sections
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForQuestionsInSection(
+            Collection<String> feedbackQuestionIds, String receiver, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+
+        return makeAttributes(getFeedbackResponseEntitiesForQuestions(feedbackQuestionIds,
+                query -> listInSectionOrAll(query.filter("receiver =", receiver), section)));
+    }
+
     /**
      *  Preconditions: <br>
      * * All parameters are non-null.
@@ -334,6 +467,30 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 giverEmail, feedbackSessionName, courseId, range));
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return getFeedbackResponsesFromGiverForSessionWithinRange(giverEmail, feedbackSessionName, courseId, -1);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no such responses are found.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributes(getFeedbackResponseEntitiesForReceiverForSession(receiver, feedbackSessionName, courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -360,6 +517,17 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Saves the given response entities with a single batched write.
+     */
+    public void saveFeedbackResponseEntities(Collection<FeedbackResponse> responsesToSave) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToSave);
+
+        if (!responsesToSave.isEmpty()) {
+            saveEntities(responsesToSave);
+        }
+    }
+
     /**
      * Updates the feedback response identified by {@code newAttributes.getId()} and
      *   changes the {@code updatedAt} timestamp to be the time of update.
@@ -418,10 +586,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         }
 
         fr.keepUpdateTimestamp = keepUpdateTimestamp;
-        fr.setAnswer(newAttributes.responseMetaData);
-        fr.setRecipientEmail(newAttributes.recipient);
-        fr.setGiverSection(newAttributes.giverSection);
-        fr.setRecipientSection(newAttributes.recipientSection);
+        copyUpdatableValues(newAttributes, fr);
 
         saveEntity(fr, newAttributes);
     }
@@ -431,6 +596,254 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Updates the given feedback responses in the same way as
+     * {@link #updateFeedbackResponseOptimized(FeedbackResponseAttributes, FeedbackResponse)},
+     * but saves all of them with a single batched write.
+     * Nothing is saved if any of the responses is invalid or does not exist.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @param entitiesById  the existing entities of the responses, keyed by their IDs
+     */
+    public void updateFeedbackResponsesOptimized(Collection<FeedbackResponseAttributes> newAttributesList,
+            Map<String, FeedbackResponse> entitiesById)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newAttributesList);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesById);
+
+        for (FeedbackResponseAttributes newAttributes : newAttributesList) {
+            if (!newAttributes.isValid()) {
+                throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+            }
+            if (!entitiesById.containsKey(newAttributes.getId())) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + newAttributes.toString());
+            }
+        }
+
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+        for (FeedbackResponseAttributes newAttributes : newAttributesList) {
+            FeedbackResponse fr = entitiesById.get(newAttributes.getId());
+            fr.keepUpdateTimestamp = false;
+            copyUpdatableValues(newAttributes, fr);
+            entitiesToSave.add(fr);
+        }
+
+        saveEntities(entitiesToSave, newAttributesList);
+    }
+
+    private void copyUpdatableValues(FeedbackResponseAttributes newAttributes, FeedbackResponse fr) {
+        fr.setAnswer(newAttributes.responseMetaData);
+        fr.setRecipientEmail(newAttributes.recipient);
+        fr.setGiverSection(newAttributes.giverSection);
+        fr.setRecipientSection(newAttributes.recipientSection);
+    }
+
+    /**
+     * Replaces the response aggregates of the question {@code feedbackQuestionId}
+     * with the given number of responses by each giver, which starts tracking the question.
+     */
+    public void putResponseAggregatesForQuestion(String feedbackQuestionId, String feedbackSessionName,
+            String courseId, Map<String, Integer> responseCountsByGiver) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseCountsByGiver);
+
+        ofy().save().entities(makeResponseAggregateShards(feedbackQuestionId, feedbackSessionName, courseId,
+                responseCountsByGiver)).now();
+    }
+
+    /**
+     * Replaces the response aggregates of the question {@code feedbackQuestionId} with the given number of
+     * responses by each giver, as counted by a query on the responses of the question started at {@code countedAt}.
+     * This starts tracking the question if it is not tracked.
+     *
+     * <p>As such queries are eventually consistent, responses saved shortly before {@code countedAt}
+     * may not have been counted, while their shards have been adjusted for them. Hence each shard is
+     * replaced in a transaction, and only if it has not been saved since {@link #RESPONSE_QUERY_CONSISTENCY_DELAY}
+     * before {@code countedAt}. Other shards are left as they are, including shards adjusted while this runs.
+     */
+    public void rebuildResponseAggregatesForQuestion(String feedbackQuestionId, String feedbackSessionName,
+            String courseId, Map<String, Integer> responseCountsByGiver, Instant countedAt) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responseCountsByGiver);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, countedAt);
+
+        Instant latestUpdateCounted = countedAt.minus(RESPONSE_QUERY_CONSISTENCY_DELAY);
+        for (FeedbackResponseAggregate rebuiltShard : makeResponseAggregateShards(
+                feedbackQuestionId, feedbackSessionName, courseId, responseCountsByGiver)) {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    FeedbackResponseAggregate shard = ofy().load().entity(rebuiltShard).now();
+                    if (shard != null && shard.getUpdatedAt() != null
+                            && shard.getUpdatedAt().isAfter(latestUpdateCounted)) {
+                        return;
+                    }
+                    ofy().save().entity(rebuiltShard).now();
+                }
+            });
+        }
+    }
+
+    private List<FeedbackResponseAggregate> makeResponseAggregateShards(String feedbackQuestionId,
+            String feedbackSessionName, String courseId, Map<String, Integer> responseCountsByGiver) {
+        List<FeedbackResponseAggregate> shards = new ArrayList<>();
+        for (int shard = 0; shard < FeedbackResponseAggregate.NUMBER_OF_SHARDS; shard++) {
+            shards.add(new FeedbackResponseAggregate(feedbackQuestionId, shard, feedbackSessionName, courseId));
+        }
+        responseCountsByGiver.forEach((giverEmail, responseCount) ->
+                shards.get(FeedbackResponseAggregate.getShard(giverEmail)).addResponseCount(giverEmail, responseCount));
+        return shards;
+    }
+
+    /**
+     * Returns the number of responses given by each giver to the question, excluding givers with no responses.
+     *
+     * @return null if the responses of the question are not tracked by response aggregates.
+     */
+    public Map<String, Integer> getResponseCountsByGiverForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        Collection<FeedbackResponseAggregate> shards =
+                ofy().load().keys(getResponseAggregateKeysForQuestion(feedbackQuestionId)).values();
+        if (shards.size() < FeedbackResponseAggregate.NUMBER_OF_SHARDS) {
+            return null;
+        }
+
+        Map<String, Integer> responseCountsByGiver = new HashMap<>();
+        for (FeedbackResponseAggregate shard : shards) {
+            responseCountsByGiver.putAll(shard.getResponseCountsByGiver());
+        }
+        return responseCountsByGiver;
+    }
+
+    /**
+     * Returns the number of responses given by each giver to each of the questions, excluding givers with
+     * no responses. The shards of all the questions are read together.
+     *
+     * @return null if the responses of any of the questions are not tracked by response aggregates.
+     */
+    public Map<String, Map<String, Integer>> getResponseCountsByGiverForQuestions(
+            Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Set<Key<FeedbackResponseAggregate>> keys = new LinkedHashSet<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            keys.addAll(getResponseAggregateKeysForQuestion(feedbackQuestionId));
+        }
+        Collection<FeedbackResponseAggregate> shards = ofy().load().keys(keys).values();
+        if (shards.size() < keys.size()) {
+            return null;
+        }
+
+        Map<String, Map<String, Integer>> responseCountsByQuestionAndGiver = new HashMap<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            responseCountsByQuestionAndGiver.put(feedbackQuestionId, new HashMap<>());
+        }
+        for (FeedbackResponseAggregate shard : shards) {
+            responseCountsByQuestionAndGiver.get(shard.getFeedbackQuestionId()).putAll(shard.getResponseCountsByGiver());
+        }
+        return responseCountsByQuestionAndGiver;
+    }
+
+    /**
+     * Returns the number of responses given by {@code giverEmail} to the question.
+     *
+     * @return null if the responses of the giver are not tracked by response aggregates.
+     */
+    public Integer getResponseCountFromGiverForQuestion(String feedbackQuestionId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        FeedbackResponseAggregate shard =
+                ofy().load().key(getResponseAggregateKey(feedbackQuestionId, giverEmail)).now();
+        if (shard == null) {
+            return null;
+        }
+        return shard.getResponseCountsByGiver().getOrDefault(giverEmail, 0);
+    }
+
+    /**
+     * Adds {@code delta} to the number of responses given by {@code giverEmail} to the question,
+     * in a transaction on the shard holding the giver.
+     * Does nothing if the responses of the giver are not tracked by response aggregates.
+     */
+    public void adjustResponseCountFromGiverForQuestion(String feedbackQuestionId, String giverEmail, int delta) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        Map<String, Integer> deltasByGiver = new HashMap<>();
+        deltasByGiver.put(giverEmail, delta);
+        Map<String, Map<String, Integer>> deltasByQuestionAndGiver = new HashMap<>();
+        deltasByQuestionAndGiver.put(feedbackQuestionId, deltasByGiver);
+        adjustResponseCounts(deltasByQuestionAndGiver);
+    }
+
+    /**
+     * Adds the deltas, keyed by question ID and then by giver email, to the numbers of responses given
+     * by the givers to the questions. The deltas are applied in one transaction per shard changed,
+     * regardless of the number of givers in the shard.
+     * Givers whose responses are not tracked by response aggregates are skipped.
+     */
+    public void adjustResponseCounts(Map<String, Map<String, Integer>> deltasByQuestionAndGiver) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, deltasByQuestionAndGiver);
+
+        Map<Key<FeedbackResponseAggregate>, Map<String, Integer>> deltasByShard = new LinkedHashMap<>();
+        deltasByQuestionAndGiver.forEach((feedbackQuestionId, deltasByGiver) ->
+                deltasByGiver.forEach((giverEmail, delta) ->
+                        deltasByShard.computeIfAbsent(getResponseAggregateKey(feedbackQuestionId, giverEmail),
+                                key -> new HashMap<>()).merge(giverEmail, delta, Integer::sum)));
+
+        deltasByShard.forEach((key, deltasByGiver) -> ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackResponseAggregate shard = ofy().load().key(key).now();
+                if (shard == null) {
+                    return;
+                }
+                deltasByGiver.forEach(shard::addResponseCount);
+                ofy().save().entity(shard).now();
+            }
+        }));
+    }
+
+    public void deleteResponseAggregatesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().keys(getResponseAggregateKeysForQuestion(feedbackQuestionId)).now();
+    }
+
+    private List<Key<FeedbackResponseAggregate>> getResponseAggregateKeysForQuestion(String feedbackQuestionId) {
+        List<Key<FeedbackResponseAggregate>> keys = new ArrayList<>();
+        for (int shard = 0; shard < FeedbackResponseAggregate.NUMBER_OF_SHARDS; shard++) {
+            keys.add(Key.create(FeedbackResponseAggregate.class,
+                    FeedbackResponseAggregate.generateId(feedbackQuestionId, shard)));
+        }
+        return keys;
+    }
+
+    private Key<FeedbackResponseAggregate> getResponseAggregateKey(String feedbackQuestionId, String giverEmail) {
+        int shard = FeedbackResponseAggregate.getShard(giverEmail);
+        return Key.create(FeedbackResponseAggregate.class, FeedbackResponseAggregate.generateId(feedbackQuestionId, shard));
+    }
+
+    /**
+     * Deletes the given feedback responses with a single batched delete.
+     * Note: This is a non-cascade delete.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponseEntities(Collection<FeedbackResponse> responsesToDelete) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToDelete);
+
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+        for (FeedbackResponse response : responsesToDelete) {
+            keysToDelete.add(Key.create(response));
+            log.info(makeAttributes(response).getBackupIdentifier());
+        }
+
+        ofy().delete().keys(keysToDelete).now();
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -441,6 +854,8 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
+        ofy().delete().keys(ofy().load().type(FeedbackResponseAggregate.class)
+                .filter("courseId in", courseIds).keys()).now();
     }
 
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
@@ -476,25 +891,61 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 String feedbackQuestionId, String section) {
         List<FeedbackResponse> feedbackResponses = new ArrayList<>();
 
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", section)
-                .list());
+        // Responses between the section and another section are dropped here,
+        // as only responses within the section or to/from no section ("None") are wanted
+        for (FeedbackResponse response : listInSection(
+                load().filter("feedbackQuestionId =", feedbackQuestionId), section)) {
+            if (isInSectionOrNone(response.getGiverSection(), section)
+                    && isInSectionOrNone(response.getRecipientSection(), section)) {
+                feedbackResponses.add(response);
+            }
+        }
 
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .filter("receiverSection =", "None")
-                .list());
+        return feedbackResponses;
+    }
 
-        feedbackResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", "None")
-                .filter("receiverSection =", section)
-                .list());
+    /**
+     * Queries the responses of the questions in batches of at most {@link #MAX_VALUES_PER_IN_FILTER} questions.
+     * The datastore runs the per-question queries of each batch concurrently.
+     */
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestions(Collection<String> feedbackQuestionIds,
+            Function<Query<FeedbackResponse>, List<FeedbackResponse>> listing) {
+        return queryInBatches(feedbackQuestionIds,
+                batch -> listing.apply(load().filter("feedbackQuestionId in", batch)));
+    }
 
-        return feedbackResponses;
+    /**
+     * Lists the responses matching {@code query} which are given by or to {@code section}.
+     *
+     * <p>Until {@link Config#IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED} is set, responses saved before
+     * the {@code sectionsInvolved} field was introduced are found by also querying the giver's and
+     * the receiver's section, as such responses are not indexed by {@code sectionsInvolved}.
+     */
+    private List<FeedbackResponse> listInSection(Query<FeedbackResponse> query, String section) {
+        List<FeedbackResponse> responsesInvolvingSection = query.filter("sectionsInvolved =", section).list();
+        if (Config.IS_FEEDBACK_RESPONSE_SECTIONS_MIGRATED) {
+            return responsesInvolvingSection;
+        }
+
+        List<FeedbackResponse> responsesFromSection = query.filter("giverSection =", section).list();
+        List<FeedbackResponse> responsesToSection = query.filter("receiverSection =", section).list();
+
+        Map<String, FeedbackResponse> feedbackResponses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> responses
+                : Arrays.asList(responsesInvolvingSection, responsesFromSection, responsesToSection)) {
+            for (FeedbackResponse response : responses) {
+                feedbackResponses.putIfAbsent(response.getId(), response);
+            }
+        }
+        return new ArrayList<>(feedbackResponses.values());
+    }
+
+    private List<FeedbackResponse> listInSectionOrAll(Query<FeedbackResponse> query, String section) {
+        return section == null ? query.list() : listInSection(query, section);
+    }
+
+    private boolean isInSectionOrNone(String responseSection, String section) {
+        return section.equals(responseSection) || Const.DEFAULT_SECTION.equals(responseSection);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -520,21 +971,9 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSection(
-                feedbackSessionName, courseId, section)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return getFeedbackResponseEntitiesForSessionInSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSection(
@@ -547,21 +986,12 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getFeedbackResponseEntitiesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, -1);
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, int range) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        for (FeedbackResponse result : getFeedbackResponseEntitiesForSessionToSectionWithinRange(
-                feedbackSessionName, courseId, section, range)) {
-            feedbackResponses.put(result.getId(), result);
-        }
-
-        return feedbackResponses.values();
+        return listInSection(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .limit(range + 1), section);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromSectionWithinRange(
@@ -590,31 +1020,11 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
+        return listInSection(load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+                .filter("receiver =", receiver), section);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -625,31 +1035,11 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
-        Map<String, FeedbackResponse> feedbackResponses = new HashMap<>();
-
-        List<FeedbackResponse> firstQueryResponses = load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : firstQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        List<FeedbackResponse> secondQueryResponses = load()
+        return listInSection(load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverEmail =", giverEmail)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponse response : secondQueryResponses) {
-            feedbackResponses.put(response.getId(), response);
-        }
-
-        return feedbackResponses.values();
+                .filter("giverEmail =", giverEmail), section);
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSessionWithinRange(
@@ -661,6 +1051,15 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForSession(
+            String receiver, String feedbackSessionName, String courseId) {
+        return load()
+                .filter("receiver =", receiver)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .list();
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
         return load()
@@ -7,12 +7,18 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -22,6 +28,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 
 /**
  * Handles CRUD operations for feedback sessions.
@@ -100,6 +107,20 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return makeAttributes(getFeedbackSessionEntitiesForCourse(courseId));
     }
 
+    /**
+     * Gets the sessions of all the given courses, reading the sessions of at most
+     * {@link #MAX_VALUES_PER_IN_FILTER} courses per query.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     * @return An empty list if no sessions are found for the given courses.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        return makeAttributes(queryInBatches(courseIds, batch -> load().filter("courseId in", batch).list()));
+    }
+
     /**
      * Returns An empty list if no sessions are found that have unsent open emails.
      */
@@ -121,6 +142,13 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return makeAttributes(getFeedbackSessionEntitiesPossiblyNeedingClosedEmail());
     }
 
+    /**
+     * Returns An empty list if no sessions are found that may have accepted responses within the past day.
+     */
+    public List<FeedbackSessionAttributes> getFeedbackSessionsPossiblyAcceptingResponsesWithinPastDay() {
+        return makeAttributes(getFeedbackSessionEntitiesPossiblyAcceptingResponsesWithinPastDay());
+    }
+
     /**
      * Returns An empty list if no sessions are found that have unsent published emails.
      */
@@ -183,7 +211,8 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 ofy().transact(new VoidWork() {
                     @Override
                     public void vrun() {
-                        FeedbackSession session = ofy().load().key(sessionKey).now();
+                        // loaded like any other read, so that the global cache is used only if configured
+                        FeedbackSession session = load().id(sessionKey.getName()).now();
                         if (session == null) {
                             throw new RuntimeException(new EntityDoesNotExistException(
                                     ERROR_UPDATE_NON_EXISTENT + sessionKey.getName()));
@@ -202,252 +231,249 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
-    public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addInstructorRespondents(emails, feedbackSession);
+    /**
+     * Records that the instructor with {@code email} has responded to the session.
+     * Does nothing if this is already recorded.
+     */
+    public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        addInstructorRespondents(Arrays.asList(email), feedbackSession);
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
+    public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession) {
+        addRespondents(emails, feedbackSession, true);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession) {
+        updateRespondent(oldEmail, newEmail, feedbackSession, true);
+    }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession) {
+        clearRespondents(feedbackSession, true);
+    }
 
-                    fs.getRespondingInstructorList().addAll(emails);
+    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        deleteRespondent(email, feedbackSession, true);
+    }
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+    /**
+     * Returns true if the instructor with {@code email} has responded to the session.
+     * This is a single keyed read, regardless of the number of respondents.
+     */
+    public boolean hasInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        return hasRespondent(email, feedbackSession, true);
     }
 
-    public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+    public Set<String> getInstructorRespondents(FeedbackSessionAttributes feedbackSession) {
+        return getRespondents(feedbackSession, true);
+    }
 
-        feedbackSession.sanitizeForSaving();
+    /**
+     * Records that the student with {@code email} has responded to the session.
+     * Does nothing if this is already recorded.
+     */
+    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        addStudentRespondents(Arrays.asList(email), feedbackSession);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession) {
+        addRespondents(emails, feedbackSession, false);
+    }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
+    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession) {
+        updateRespondent(oldEmail, newEmail, feedbackSession, false);
+    }
 
-        if (fs.getRespondingInstructorList().contains(oldEmail)) {
-            fs.getRespondingInstructorList().remove(oldEmail);
-            fs.getRespondingInstructorList().add(newEmail);
-        }
+    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession) {
+        clearRespondents(feedbackSession, false);
+    }
 
-        saveEntity(fs, feedbackSession);
+    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        deleteRespondent(email, feedbackSession, false);
     }
 
-    public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+    /**
+     * Returns true if the student with {@code email} has responded to the session.
+     * This is a single keyed read, regardless of the number of respondents.
+     */
+    public boolean hasStudentRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        return hasRespondent(email, feedbackSession, false);
+    }
 
-        feedbackSession.sanitizeForSaving();
+    public Set<String> getStudentRespondents(FeedbackSessionAttributes feedbackSession) {
+        return getRespondents(feedbackSession, false);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+    /**
+     * Returns, for each of {@code feedbackSessions} in order, true if the student whose email is given by
+     * {@code studentEmailsByCourse} for the course of the session has responded to the session.
+     * This is a single batch of keyed reads, regardless of the number of sessions.
+     */
+    public List<Boolean> hasStudentRespondents(List<FeedbackSessionAttributes> feedbackSessions,
+            Map<String, String> studentEmailsByCourse) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessions);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmailsByCourse);
+
+        List<Key<FeedbackSessionRespondent>> respondentKeys = new ArrayList<>();
+        for (FeedbackSessionAttributes session : feedbackSessions) {
+            String studentEmail = studentEmailsByCourse.get(session.getCourseId());
+            Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmail);
+            respondentKeys.add(getRespondentKey(studentEmail, session, false));
         }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        Map<Key<FeedbackSessionRespondent>, FeedbackSessionRespondent> respondents =
+                ofy().load().keys(respondentKeys);
+        List<Boolean> hasResponded = new ArrayList<>();
+        for (Key<FeedbackSessionRespondent> respondentKey : respondentKeys) {
+            hasResponded.add(respondents.containsKey(respondentKey));
         }
-
-        fs.getRespondingInstructorList().clear();
-
-        saveEntity(fs, feedbackSession);
-    }
-
-    public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        List<String> emails = new ArrayList<>();
-        emails.add(email);
-        addStudentRespondents(emails, feedbackSession);
+        return hasResponded;
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+    /**
+     * Returns the number of students and instructors who have responded to the session.
+     */
+    public int getNumberOfRespondents(FeedbackSessionAttributes feedbackSession) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        return getRespondentsQuery(feedbackSession).count();
+    }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+    /**
+     * Returns the number of students and instructors who have responded to each session of the course,
+     * keyed by the name of the session. Sessions without respondents are left out.
+     * This is a single query, regardless of the number of sessions.
+     */
+    public Map<String, Integer> getNumberOfRespondentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-                    fs.getRespondingInstructorList().remove(email);
+        Map<String, Integer> numberOfRespondents = new HashMap<>();
+        for (FeedbackSessionRespondent respondent : loadRespondents().filter("courseId =", courseId).list()) {
+            numberOfRespondents.merge(respondent.getFeedbackSessionName(), 1, Integer::sum);
+        }
+        return numberOfRespondents;
+    }
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
+    /**
+     * Queues saving the respondents in the respondent lists of the given sessions.
+     * No actual writes are done until {@link #flush()} is called.
+     */
+    public void putRespondentsDeferred(Collection<FeedbackSessionAttributes> feedbackSessions) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessions);
+
+        List<FeedbackSessionRespondent> respondents = new ArrayList<>();
+        for (FeedbackSessionAttributes session : feedbackSessions) {
+            for (String email : session.getRespondingInstructorList()) {
+                respondents.add(new FeedbackSessionRespondent(
+                        session.getFeedbackSessionName(), session.getCourseId(), email, true));
+            }
+            for (String email : session.getRespondingStudentList()) {
+                respondents.add(new FeedbackSessionRespondent(
+                        session.getFeedbackSessionName(), session.getCourseId(), email, false));
             }
-            throw e;
         }
+        ofy().defer().save().entities(respondents);
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+    /**
+     * Deletes all the respondents of the session.
+     */
+    public void deleteRespondentsForSession(FeedbackSessionAttributes feedbackSession) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+        ofy().delete().keys(getRespondentsQuery(feedbackSession).keys()).now();
+    }
 
-                    fs.getRespondingStudentList().addAll(emails);
+    private void addRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
+        Map<String, FeedbackSessionRespondent> respondentsToAdd = new HashMap<>();
+        for (String email : emails) {
+            FeedbackSessionRespondent respondent = new FeedbackSessionRespondent(
+                    feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), email, isInstructor);
+            respondentsToAdd.put(respondent.getId(), respondent);
         }
+
+        // Only respondents who are not yet recorded are written
+        respondentsToAdd.keySet().removeAll(loadRespondents().ids(respondentsToAdd.keySet()).keySet());
+        ofy().save().entities(respondentsToAdd.values()).now();
     }
 
-    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    private void updateRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession,
+            boolean isInstructor) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        Key<FeedbackSessionRespondent> oldRespondentKey = getRespondentKey(oldEmail, feedbackSession, isInstructor);
+        FeedbackSessionRespondent newRespondent = new FeedbackSessionRespondent(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), newEmail, isInstructor);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
-
-        if (fs.getRespondingStudentList().contains(oldEmail)) {
-            fs.getRespondingStudentList().remove(oldEmail);
-            fs.getRespondingStudentList().add(newEmail);
-        }
-
-        saveEntity(fs, feedbackSession);
+        // The respondent is moved in a transaction so that it is neither lost nor duplicated if this fails midway
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                if (ofy().load().key(oldRespondentKey).now() == null) {
+                    return;
+                }
+                ofy().delete().key(oldRespondentKey);
+                ofy().save().entity(newRespondent);
+            }
+        });
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    private void clearRespondents(FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        List<Key<FeedbackSessionRespondent>> keysToDelete = new ArrayList<>();
+        for (FeedbackSessionRespondent respondent : getRespondentsQuery(feedbackSession).list()) {
+            if (respondent.isInstructor() == isInstructor) {
+                keysToDelete.add(Key.create(respondent));
+            }
         }
+        ofy().delete().keys(keysToDelete).now();
+    }
 
-        fs.getRespondingStudentList().clear();
+    private void deleteRespondent(String email, FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        saveEntity(fs, feedbackSession);
+        ofy().delete().key(getRespondentKey(email, feedbackSession, isInstructor)).now();
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
+    private boolean hasRespondent(String email, FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        return ofy().load().key(getRespondentKey(email, feedbackSession, isInstructor)).now() != null;
+    }
+
+    private Set<String> getRespondents(FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        Set<String> respondents = new HashSet<>();
+        for (FeedbackSessionRespondent respondent : getRespondentsQuery(feedbackSession).list()) {
+            if (respondent.isInstructor() == isInstructor) {
+                respondents.add(respondent.getEmail());
+            }
         }
+        return respondents;
+    }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+    private Key<FeedbackSessionRespondent> getRespondentKey(String email, FeedbackSessionAttributes feedbackSession,
+            boolean isInstructor) {
+        return Key.create(FeedbackSessionRespondent.class, FeedbackSessionRespondent.generateId(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), email, isInstructor));
+    }
 
-                    fs.getRespondingStudentList().remove(email);
+    private Query<FeedbackSessionRespondent> getRespondentsQuery(FeedbackSessionAttributes feedbackSession) {
+        return loadRespondents()
+                .filter("courseId =", feedbackSession.getCourseId())
+                .filter("feedbackSessionName =", feedbackSession.getFeedbackSessionName());
+    }
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+    private LoadType<FeedbackSessionRespondent> loadRespondents() {
+        return ofy().load().type(FeedbackSessionRespondent.class);
     }
 
     public void deleteFeedbackSessionsForCourse(String courseId) {
@@ -460,6 +486,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        ofy().delete().keys(loadRespondents().filter("courseId in", courseIds).keys()).now();
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
@@ -485,6 +512,12 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .list();
     }
 
+    private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyAcceptingResponsesWithinPastDay() {
+        return load()
+                .filter("endTime >", TimeHelper.convertInstantToDate(TimeHelper.getInstantDaysOffsetFromNow(-2)))
+                .list();
+    }
+
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosedEmail() {
         return load()
                 .filter("endTime >", TimeHelper.convertInstantToDate(TimeHelper.getInstantDaysOffsetFromNow(-2)))
@@ -506,7 +539,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
 
     @Override
     protected LoadType<FeedbackSession> load() {
-        return ofy().load().type(FeedbackSession.class);
+        return OfyHelper.ofyForLoading(FeedbackSession.class).load().type(FeedbackSession.class);
     }
 
     @Override
@@ -3,6 +3,7 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import com.google.appengine.api.search.Results;
@@ -170,6 +171,19 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return makeAttributes(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Gets the instructors of all the given courses, with
+     * {@link #MAX_VALUES_PER_IN_FILTER} courses per query.<br>
+     * Preconditions: <br>
+     *  * All parameters are non-null.
+     * @return empty list if no matching objects.
+     */
+    public List<InstructorAttributes> getInstructorsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        return makeAttributes(queryInBatches(courseIds, this::getInstructorEntitiesForCourses));
+    }
+
     /**
      * Updates the instructor. Cannot modify Course ID or google id.
      */
@@ -342,7 +356,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
 
     @Override
     protected LoadType<Instructor> load() {
-        return ofy().load().type(Instructor.class);
+        return OfyHelper.ofyForLoading(Instructor.class).load().type(Instructor.class);
     }
 
     @Override
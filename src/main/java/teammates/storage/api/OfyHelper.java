@@ -1,19 +1,35 @@
 package teammates.storage.api;
 
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
+import com.googlecode.objectify.Objectify;
 import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.cache.EntityMemcacheStats;
+
+import teammates.common.util.Config;
+import teammates.common.util.Logger;
 
 import teammates.storage.entity.Account;
 import teammates.storage.entity.AdminEmail;
+import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStatistics;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackResponseAggregate;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.SharedEmailContent;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -21,6 +37,12 @@ import teammates.storage.entity.StudentProfile;
  **/
 public class OfyHelper implements ServletContextListener {
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final long ENTITY_CACHE_STATS_LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    private static final AtomicLong lastEntityCacheStatsLogTime = new AtomicLong(System.currentTimeMillis());
+
     /**
      * Register entity classes in Objectify service.
      */
@@ -28,15 +50,69 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Account.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
+        ObjectifyService.register(CourseStatistics.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
+        ObjectifyService.register(FeedbackResponseAggregate.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondent.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(SharedEmailContent.class);
         ObjectifyService.register(StudentProfile.class);
     }
 
+    /**
+     * Returns an Objectify instance for loading entities of {@code entityClass}.
+     *
+     * <p>Entities of kinds annotated with {@link com.googlecode.objectify.annotation.Cache} are loaded through
+     * the global entity cache (memcache) only if the kind is listed in {@link Config#ENTITY_CACHE_KINDS}.
+     * Saves and deletes must use the default Objectify instance instead, which always updates the cache,
+     * so that the cache stays consistent even when it is enabled only on some instances.
+     */
+    public static Objectify ofyForLoading(Class<? extends BaseEntity> entityClass) {
+        logEntityCacheStatsIfDue();
+        return ofy().cache(isEntityCacheEnabled(entityClass));
+    }
+
+    /**
+     * Returns true if entities of {@code entityClass} are loaded through the global entity cache.
+     */
+    public static boolean isEntityCacheEnabled(Class<? extends BaseEntity> entityClass) {
+        return Config.ENTITY_CACHE_KINDS.contains(entityClass.getSimpleName());
+    }
+
+    /**
+     * Returns the number of global entity cache hits and misses of each kind recorded by this instance.
+     */
+    public static Map<String, EntityMemcacheStats.Stat> getEntityCacheStats() {
+        return ObjectifyService.factory().getMemcacheStats().getStats();
+    }
+
+    /**
+     * Logs the global entity cache hits and misses of this instance, at most once every
+     * {@link #ENTITY_CACHE_STATS_LOG_INTERVAL_MILLIS}.
+     */
+    private static void logEntityCacheStatsIfDue() {
+        long now = System.currentTimeMillis();
+        long lastLogTime = lastEntityCacheStatsLogTime.get();
+        if (now - lastLogTime < ENTITY_CACHE_STATS_LOG_INTERVAL_MILLIS
+                || !lastEntityCacheStatsLogTime.compareAndSet(lastLogTime, now)) {
+            return;
+        }
+
+        Map<String, EntityMemcacheStats.Stat> stats = getEntityCacheStats();
+        if (stats.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder("Entity cache stats of this instance:");
+        stats.forEach((kind, stat) ->
+                message.append(' ').append(kind).append(": ").append(stat.getHits()).append(" hits, ")
+                        .append(stat.getMisses()).append(" misses;"));
+        log.info(message.toString());
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by GAE at application startup.
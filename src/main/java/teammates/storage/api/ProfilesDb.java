@@ -18,6 +18,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.ThreadHelper;
 import teammates.storage.entity.Account;
@@ -163,6 +164,7 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
 
         if (!sp.getPictureKey().equals(new BlobKey(""))) {
             deletePicture(sp.getPictureKey());
+            GoogleCloudStorageHelper.deleteImageThumbnail(googleId);
             sp.setPictureKey(new BlobKey(""));
             sp.setModifiedDate(Instant.now());
         }
@@ -202,7 +204,7 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
      */
     // TODO: remove this function once legacy data have been ported over
     private StudentProfile getStudentProfileEntityForLegacyData(String googleId) {
-        Account account = ofy().load().type(Account.class).id(googleId).now();
+        Account account = OfyHelper.ofyForLoading(Account.class).load().type(Account.class).id(googleId).now();
 
         if (account == null) {
             return null;
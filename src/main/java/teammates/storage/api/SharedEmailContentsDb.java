@@ -0,0 +1,87 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.attributes.SharedEmailContentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.SharedEmailContent;
+
+/**
+ * Handles CRUD operations for the contents of emails which are shared by many recipients.
+ *
+ * @see SharedEmailContent
+ * @see SharedEmailContentAttributes
+ */
+public class SharedEmailContentsDb extends EntitiesDb<SharedEmailContent, SharedEmailContentAttributes> {
+
+    /**
+     * Stores the given content.
+     * Each content has an ID of its own, so no content stored before is overwritten.
+     */
+    public void createSharedEmailContent(SharedEmailContentAttributes sharedEmailContentToAdd)
+            throws InvalidParametersException {
+        createEntityWithoutExistenceCheck(sharedEmailContentToAdd);
+    }
+
+    /**
+     * Gets the content stored with the given ID.
+     *
+     * @return null if there is no such content
+     */
+    public SharedEmailContentAttributes getSharedEmailContent(String contentId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, contentId);
+
+        return makeAttributesOrNull(getSharedEmailContentEntity(contentId));
+    }
+
+    /**
+     * Deletes the contents which were stored before {@code instant}.
+     */
+    public void deleteSharedEmailContentsCreatedBefore(Instant instant) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instant);
+
+        List<Key<SharedEmailContent>> keysToDelete = load()
+                .filter("createdAt <", TimeHelper.convertInstantToDate(instant))
+                .keys()
+                .list();
+        ofy().delete().keys(keysToDelete).now();
+    }
+
+    private SharedEmailContent getSharedEmailContentEntity(String contentId) {
+        return load().id(contentId).now();
+    }
+
+    @Override
+    protected LoadType<SharedEmailContent> load() {
+        return ofy().load().type(SharedEmailContent.class);
+    }
+
+    @Override
+    protected SharedEmailContent getEntity(SharedEmailContentAttributes attributes) {
+        return getSharedEmailContentEntity(attributes.getContentId());
+    }
+
+    @Override
+    protected QueryKeys<SharedEmailContent> getEntityQueryKeys(SharedEmailContentAttributes attributes) {
+        Key<SharedEmailContent> keyToFind = Key.create(SharedEmailContent.class, attributes.getContentId());
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected SharedEmailContentAttributes makeAttributes(SharedEmailContent entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return SharedEmailContentAttributes.valueOf(entity);
+    }
+
+}
@@ -2,17 +2,26 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -24,6 +33,8 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.CourseStatistics;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.StudentSearchDocument;
@@ -39,6 +50,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     public static final String ERROR_UPDATE_EMAIL_ALREADY_USED = "Trying to update to an email that is already used by: ";
 
+    /**
+     * How long a saved student may take to be found by queries on students.
+     */
+    private static final Duration STUDENT_QUERY_CONSISTENCY_DELAY = Duration.ofMinutes(1);
+
     private static final Logger log = Logger.getLogger();
 
     public void putDocument(StudentAttributes student) {
@@ -114,6 +130,73 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Creates {@code studentsToCreate} and updates the name, team, section and comments of
+     * {@code studentsToUpdate} with one batched load and one batched write.
+     * The search documents of all the students are then put in one batch if {@code hasDocument} is true.
+     * Nothing is written if any of the students is invalid, if any student to create already exists
+     * or if any student to update does not exist.
+     */
+    public void createAndUpdateStudents(Collection<StudentAttributes> studentsToCreate,
+            Collection<StudentAttributes> studentsToUpdate, boolean hasDocument)
+            throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToCreate);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToUpdate);
+
+        List<StudentAttributes> students = new ArrayList<>(studentsToCreate);
+        students.addAll(studentsToUpdate);
+
+        List<String> studentIds = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            student.sanitizeForSaving();
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+            studentIds.add(getStudentId(student));
+        }
+
+        Map<String, CourseStudent> existingStudents = load().ids(studentIds);
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+
+        for (StudentAttributes student : studentsToCreate) {
+            if (existingStudents.containsKey(getStudentId(student))) {
+                String error = String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, student.getEntityTypeAsString())
+                        + student.getIdentificationString();
+                log.info(error);
+                throw new EntityAlreadyExistsException(error);
+            }
+            studentsToSave.add(student.toEntity());
+        }
+
+        for (StudentAttributes student : studentsToUpdate) {
+            CourseStudent courseStudent = existingStudents.get(getStudentId(student));
+            if (courseStudent == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT_STUDENT
+                        + student.course + "/" + student.email);
+            }
+            courseStudent.setName(student.name);
+            courseStudent.setComments(student.comments);
+            courseStudent.setGoogleId(student.googleId);
+            courseStudent.setTeamName(student.team);
+            courseStudent.setSectionName(student.section);
+            studentsToSave.add(courseStudent);
+        }
+
+        List<StudentAttributes> savedStudents = makeAttributes(studentsToSave);
+        saveEntities(studentsToSave, savedStudents);
+
+        if (hasDocument) {
+            putDocuments(savedStudents);
+        }
+    }
+
+    /**
+     * Returns the ID of the entity of {@code student}, whose email and course ID are trimmed by the entity.
+     */
+    private static String getStudentId(StudentAttributes student) {
+        return CourseStudent.generateId(student.email.trim(), student.course.trim());
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -385,6 +468,120 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     //TODO: add an updateStudent(StudentAttributes) version and make the above private
 
+    /**
+     * Replaces the course statistics of the course with the statistics of {@code students},
+     * as found by a query on the students of the course started at {@code countedAt}.
+     * This starts tracking the course if it is not tracked.
+     *
+     * <p>As such queries are eventually consistent, students saved shortly before {@code countedAt}
+     * may not have been found, while the statistics have been adjusted for them. Hence the statistics are
+     * replaced in a transaction, and only if they have not been saved since {@link #STUDENT_QUERY_CONSISTENCY_DELAY}
+     * before {@code countedAt}.
+     */
+    public void rebuildCourseStats(String courseId, Collection<StudentAttributes> students, Instant countedAt) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, countedAt);
+
+        CourseStatistics rebuiltStatistics = new CourseStatistics(courseId);
+        for (StudentAttributes student : students) {
+            rebuiltStatistics.addStudents(student.section, student.team, student.isRegistered(), 1);
+        }
+
+        Instant latestUpdateCounted = countedAt.minus(STUDENT_QUERY_CONSISTENCY_DELAY);
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                CourseStatistics courseStatistics = ofy().load().type(CourseStatistics.class).id(courseId).now();
+                if (courseStatistics != null && courseStatistics.getUpdatedAt() != null
+                        && courseStatistics.getUpdatedAt().isAfter(latestUpdateCounted)) {
+                    return;
+                }
+                ofy().save().entity(rebuiltStatistics).now();
+            }
+        });
+    }
+
+    /**
+     * Returns the IDs of the courses which have students or course statistics saved after {@code since}.
+     */
+    public Set<String> getCourseIdsWithStudentsOrStatsSavedAfter(Instant since) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, since);
+
+        Date sinceDate = TimeHelper.convertInstantToDate(since);
+        Set<String> courseIds = new HashSet<>();
+        for (Key<CourseStudent> studentKey : load().filter("updatedAt >", sinceDate).keys()) {
+            // the course ID is the part of the student ID after the last '%', as course IDs cannot contain '%'
+            String studentId = studentKey.getName();
+            courseIds.add(studentId.substring(studentId.lastIndexOf('%') + 1));
+        }
+        for (Key<CourseStatistics> statisticsKey
+                : ofy().load().type(CourseStatistics.class).filter("updatedAt >", sinceDate).keys()) {
+            courseIds.add(statisticsKey.getName());
+        }
+        return courseIds;
+    }
+
+    /**
+     * Returns the number of sections, teams, students and unregistered students in the course.
+     *
+     * @return null if the students of the course are not tracked by course statistics.
+     */
+    public CourseStats getCourseStats(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        CourseStatistics courseStatistics = ofy().load().type(CourseStatistics.class).id(courseId).now();
+        if (courseStatistics == null) {
+            return null;
+        }
+
+        CourseStats stats = new CourseStats();
+        Set<String> sectionNames = new HashSet<>(courseStatistics.getSectionNames());
+        // students without a section are not counted as a section of their own
+        sectionNames.remove(Const.DEFAULT_SECTION);
+        stats.sectionsTotal = sectionNames.size();
+        stats.teamsTotal = courseStatistics.getTeamNames().size();
+        for (int studentCount : courseStatistics.getStudentCounts()) {
+            stats.studentsTotal += studentCount;
+        }
+        stats.unregisteredTotal = courseStatistics.getUnregisteredCount();
+        return stats;
+    }
+
+    /**
+     * Removes {@code removedStudents} from and adds {@code addedStudents} to the course statistics of the course,
+     * in a transaction on the course statistics.
+     * An updated student is given as both its original and its updated version.
+     * Does nothing if the students of the course are not tracked by course statistics.
+     */
+    public void adjustCourseStats(String courseId, Collection<StudentAttributes> removedStudents,
+            Collection<StudentAttributes> addedStudents) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, removedStudents);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, addedStudents);
+
+        if (removedStudents.isEmpty() && addedStudents.isEmpty()) {
+            return;
+        }
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                CourseStatistics courseStatistics = ofy().load().type(CourseStatistics.class).id(courseId).now();
+                if (courseStatistics == null) {
+                    return;
+                }
+                for (StudentAttributes student : removedStudents) {
+                    courseStatistics.addStudents(student.section, student.team, student.isRegistered(), -1);
+                }
+                for (StudentAttributes student : addedStudents) {
+                    courseStatistics.addStudents(student.section, student.team, student.isRegistered(), 1);
+                }
+                ofy().save().entity(courseStatistics).now();
+            }
+        });
+    }
+
     /**
      * Fails silently if no such student. <br>
      * Preconditions: <br>
@@ -464,12 +661,14 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         } else {
             ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys());
         }
+        ofy().delete().type(CourseStatistics.class).id(courseId);
     }
 
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        ofy().delete().type(CourseStatistics.class).ids(courseIds);
     }
 
     /**
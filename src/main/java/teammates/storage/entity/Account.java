@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.Date;
 
 import com.googlecode.objectify.Ref;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Ignore;
@@ -15,6 +16,7 @@ import teammates.common.util.TimeHelper;
  * Represents a unique user in the system.
  */
 @Entity
+@Cache
 @Index
 public class Account extends BaseEntity {
 
@@ -3,6 +3,7 @@ package teammates.storage.entity;
 import java.time.Instant;
 import java.util.Date;
 
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
@@ -14,6 +15,7 @@ import teammates.common.util.TimeHelper;
  * Represents a course entity.
  */
 @Entity
+@Cache
 @Index
 public class Course extends BaseEntity {
 
@@ -0,0 +1,125 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the number of students in each team of a course, and the number of unregistered students.
+ *
+ * <p>It is kept up to date as students are created, updated and deleted, so that the statistics of
+ * a course can be read without loading its students. A course is tracked only if this entity exists.
+ */
+@Entity
+@Unindex
+public class CourseStatistics extends BaseEntity {
+
+    @Id
+    private String courseId;
+
+    // Kept as parallel lists, one entry per team, instead of a map as team names cannot be used as property names
+    private List<String> sectionNames = new ArrayList<>();
+
+    private List<String> teamNames = new ArrayList<>();
+
+    private List<Integer> studentCounts = new ArrayList<>();
+
+    private int unregisteredCount;
+
+    @Index
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private CourseStatistics() {
+        // required by Objectify
+    }
+
+    public CourseStatistics(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the section of each team in the course. Teams are identified by their section and name.
+     */
+    public List<String> getSectionNames() {
+        return sectionNames;
+    }
+
+    /**
+     * Returns the name of each team in the course, in the same order as {@link #getSectionNames()}.
+     */
+    public List<String> getTeamNames() {
+        return teamNames;
+    }
+
+    /**
+     * Returns the number of students in each team, in the same order as {@link #getSectionNames()}.
+     */
+    public List<Integer> getStudentCounts() {
+        return studentCounts;
+    }
+
+    public int getUnregisteredCount() {
+        return unregisteredCount;
+    }
+
+    /**
+     * Returns the time these statistics were last saved.
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt == null ? null : TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.updatedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+    /**
+     * Adds {@code delta} students to the team {@code teamName} in the section {@code sectionName},
+     * and to the unregistered students if they are not registered.
+     * The team is removed once it has no students left.
+     */
+    public void addStudents(String sectionName, String teamName, boolean isRegistered, int delta) {
+        int index = indexOfTeam(sectionName, teamName);
+        int studentCount = (index == -1 ? 0 : studentCounts.get(index)) + delta;
+
+        if (studentCount > 0 && index == -1) {
+            sectionNames.add(sectionName);
+            teamNames.add(teamName);
+            studentCounts.add(studentCount);
+        } else if (studentCount > 0) {
+            studentCounts.set(index, studentCount);
+        } else if (index != -1) {
+            sectionNames.remove(index);
+            teamNames.remove(index);
+            studentCounts.remove(index);
+        }
+
+        if (!isRegistered) {
+            unregisteredCount = Math.max(0, unregisteredCount + delta);
+        }
+    }
+
+    private int indexOfTeam(String sectionName, String teamName) {
+        for (int i = 0; i < teamNames.size(); i++) {
+            if (teamNames.get(i).equals(teamName) && sectionNames.get(i).equals(sectionName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
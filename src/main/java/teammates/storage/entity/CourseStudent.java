@@ -101,7 +101,15 @@ public class CourseStudent extends BaseEntity {
     }
 
     private String makeId() {
-        return getEmail() + '%' + getCourseId();
+        return generateId(getEmail(), getCourseId());
+    }
+
+    /**
+     * Returns the ID of the student with {@code email} in the course {@code courseId}.
+     * The values are used as given, in the same way as they are stored in the entity.
+     */
+    public static String generateId(String email, String courseId) {
+        return email + '%' + courseId;
     }
 
     public Instant getCreatedAt() {
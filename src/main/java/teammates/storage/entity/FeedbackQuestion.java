@@ -7,6 +7,7 @@ import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Ignore;
@@ -22,6 +23,7 @@ import teammates.common.util.TimeHelper;
  * Represents a feedback question.
  */
 @Entity
+@Cache
 @Index
 public class FeedbackQuestion extends BaseEntity {
 
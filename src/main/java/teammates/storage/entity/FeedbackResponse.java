@@ -1,7 +1,9 @@
 package teammates.storage.entity;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
@@ -51,6 +53,12 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    /**
+     * The distinct sections of the giver and the receiver, derived on save
+     * so that responses involving a section can be found with a single query.
+     */
+    private List<String> sectionsInvolved = new ArrayList<>();
+
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
     private Date createdAt;
@@ -148,6 +156,10 @@ public class FeedbackResponse extends BaseEntity {
         this.receiverSection = recipientSection;
     }
 
+    public List<String> getSectionsInvolved() {
+        return sectionsInvolved;
+    }
+
     public Text getResponseMetaData() {
         return answer;
     }
@@ -179,4 +191,15 @@ public class FeedbackResponse extends BaseEntity {
     public void updateLastUpdateTimestamp() {
         this.setLastUpdate(Instant.now());
     }
+
+    @OnSave
+    public void updateSectionsInvolved() {
+        sectionsInvolved = new ArrayList<>();
+        if (giverSection != null) {
+            sectionsInvolved.add(giverSection);
+        }
+        if (receiverSection != null && !receiverSection.equals(giverSection)) {
+            sectionsInvolved.add(receiverSection);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents one shard of the number of responses given by each giver to a feedback question.
+ *
+ * <p>The givers of a question are spread over {@link #NUMBER_OF_SHARDS} shards by their hash code,
+ * so that concurrent submissions by different givers rarely contend on the same entity.
+ * A question is tracked only if all of its shards exist.
+ *
+ * <p>Only the numbers of responses are aggregated. The respondents of a session are kept by
+ * {@link FeedbackSessionRespondent}. Question statistics, e.g. of MCQ or rubric questions, are not aggregated:
+ * every page which shows them, including the unrestricted instructor results page, loads and lists the
+ * same responses the statistics are computed from, so aggregated statistics would not reduce its cost.
+ */
+@Entity
+@Unindex
+public class FeedbackResponseAggregate extends BaseEntity {
+
+    public static final int NUMBER_OF_SHARDS = 8;
+
+    // Format is feedbackQuestionId%shard
+    @Id
+    private String feedbackResponseAggregateId;
+
+    /** The foreign key to locate the FeedbackQuestion object. */
+    @Index
+    private String feedbackQuestionId;
+
+    /** The foreign key to locate the FeedbackSession object. */
+    private String feedbackSessionName;
+
+    /** The foreign key to locate the Course object. */
+    @Index
+    private String courseId;
+
+    // Kept as parallel lists instead of a map as emails cannot be used as property names
+    private List<String> giverEmails = new ArrayList<>();
+
+    private List<Integer> responseCounts = new ArrayList<>();
+
+    private Date updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackResponseAggregate() {
+        // required by Objectify
+    }
+
+    public FeedbackResponseAggregate(String feedbackQuestionId, int shard, String feedbackSessionName,
+            String courseId) {
+        this.feedbackResponseAggregateId = generateId(feedbackQuestionId, shard);
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+    }
+
+    /**
+     * Returns the ID of the shard {@code shard} of the aggregate of the question {@code feedbackQuestionId}.
+     */
+    public static String generateId(String feedbackQuestionId, int shard) {
+        return feedbackQuestionId + "%" + shard;
+    }
+
+    /**
+     * Returns the shard which holds the number of responses given by {@code giverEmail}.
+     */
+    public static int getShard(String giverEmail) {
+        return Math.floorMod(giverEmail.hashCode(), NUMBER_OF_SHARDS);
+    }
+
+    public String getId() {
+        return feedbackResponseAggregateId;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the time this shard was last saved, or null if it was last saved before the time was recorded.
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt == null ? null : TimeHelper.convertDateToInstant(updatedAt);
+    }
+
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.updatedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+    /**
+     * Returns the number of responses given by each giver in this shard, excluding givers with no responses.
+     */
+    public Map<String, Integer> getResponseCountsByGiver() {
+        Map<String, Integer> responseCountsByGiver = new HashMap<>();
+        for (int i = 0; i < giverEmails.size(); i++) {
+            responseCountsByGiver.put(giverEmails.get(i), responseCounts.get(i));
+        }
+        return responseCountsByGiver;
+    }
+
+    /**
+     * Adds {@code delta} to the number of responses given by {@code giverEmail}.
+     * The giver is removed from this shard once the number drops to zero.
+     */
+    public void addResponseCount(String giverEmail, int delta) {
+        int index = giverEmails.indexOf(giverEmail);
+        int responseCount = (index == -1 ? 0 : responseCounts.get(index)) + delta;
+
+        if (responseCount > 0 && index == -1) {
+            giverEmails.add(giverEmail);
+            responseCounts.add(responseCount);
+        } else if (responseCount > 0) {
+            responseCounts.set(index, responseCount);
+        } else if (index != -1) {
+            giverEmails.remove(index);
+            responseCounts.remove(index);
+        }
+    }
+}
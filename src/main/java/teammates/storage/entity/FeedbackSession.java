@@ -4,12 +4,11 @@ import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.Ref;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Ignore;
@@ -26,6 +25,7 @@ import teammates.common.util.TimeHelper;
  * Represents an instructor-created Feedback Session.
  */
 @Entity
+@Cache
 @Index
 public class FeedbackSession extends BaseEntity {
 
@@ -44,12 +44,6 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail; //TODO: should this be googleId?
 
-    @Unindex
-    private Set<String> respondingInstructorList = new HashSet<>();
-
-    @Unindex
-    private Set<String> respondingStudentList = new HashSet<>();
-
     @Unindex
     private Text instructions;
 
@@ -118,19 +112,6 @@ public class FeedbackSession extends BaseEntity {
             boolean sentOpenEmail,
             boolean sentClosingEmail, boolean sentClosedEmail, boolean sentPublishedEmail,
             boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled) {
-        this(feedbackSessionName, courseId, creatorEmail, instructions, createdTime, startTime, endTime,
-                sessionVisibleFromTime, resultsVisibleFromTime, timeZone, gracePeriod,
-                sentOpenEmail, sentClosingEmail, sentClosedEmail, sentPublishedEmail, isOpeningEmailEnabled,
-                isClosingEmailEnabled, isPublishedEmailEnabled, new HashSet<String>(), new HashSet<String>());
-    }
-
-    public FeedbackSession(String feedbackSessionName, String courseId,
-            String creatorEmail, Text instructions, Instant createdTime, Instant startTime, Instant endTime,
-            Instant sessionVisibleFromTime, Instant resultsVisibleFromTime, String timeZone, long gracePeriod,
-            boolean sentOpenEmail, boolean sentClosingEmail,
-            boolean sentClosedEmail, boolean sentPublishedEmail,
-            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled,
-            Set<String> instructorList, Set<String> studentList) {
         this.feedbackSessionName = feedbackSessionName;
         this.courseId = courseId;
         this.creatorEmail = creatorEmail;
@@ -150,8 +131,6 @@ public class FeedbackSession extends BaseEntity {
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
         this.feedbackSessionId = this.feedbackSessionName + "%" + this.courseId;
-        this.respondingInstructorList = instructorList == null ? new HashSet<String>() : instructorList;
-        this.respondingStudentList = studentList == null ? new HashSet<String>() : studentList;
         this.isTimeStoredInUtc = true;
         this.isFollowingCourseTimeZone = true;
     }
@@ -371,22 +350,6 @@ public class FeedbackSession extends BaseEntity {
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
     }
 
-    public Set<String> getRespondingInstructorList() {
-        return this.respondingInstructorList;
-    }
-
-    public void setRespondingInstructorList(Set<String> instructorList) {
-        this.respondingInstructorList = instructorList;
-    }
-
-    public Set<String> getRespondingStudentList() {
-        return this.respondingStudentList;
-    }
-
-    public void setRespondingStudentList(Set<String> studentList) {
-        this.respondingStudentList = studentList;
-    }
-
     @Override
     public String toString() {
         return "FeedbackSession [feedbackSessionName=" + feedbackSessionName
@@ -0,0 +1,76 @@
+package teammates.storage.entity;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents a student or an instructor who has responded to a feedback session.
+ *
+ * <p>Each respondent of a session is kept in its own entity instead of in a list in the {@link FeedbackSession},
+ * so that submissions by different respondents never contend on the same entity and the session entity
+ * stays small. Whether a user has responded is checked by loading the entity with the key given by
+ * {@link #generateId(String, String, String, boolean)}.
+ */
+@Entity
+@Unindex
+public class FeedbackSessionRespondent extends BaseEntity {
+
+    // Format is feedbackSessionName%courseId%role%email
+    @Id
+    private String feedbackSessionRespondentId;
+
+    /** The foreign key to locate the FeedbackSession object. */
+    @Index
+    private String feedbackSessionName;
+
+    /** The foreign key to locate the Course object. */
+    @Index
+    private String courseId;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondent() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        this.feedbackSessionRespondentId = generateId(feedbackSessionName, courseId, email, isInstructor);
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+    }
+
+    /**
+     * Returns the ID of the entity which records that {@code email} has responded to the session
+     * as an instructor if {@code isInstructor} is true, or as a student otherwise.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        return feedbackSessionName + "%" + courseId + "%" + (isInstructor ? "instructor" : "student") + "%" + email;
+    }
+
+    public String getId() {
+        return feedbackSessionRespondentId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+}
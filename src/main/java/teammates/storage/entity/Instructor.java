@@ -3,6 +3,7 @@ package teammates.storage.entity;
 import java.security.SecureRandom;
 
 import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Cache;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
@@ -13,6 +14,7 @@ import com.googlecode.objectify.annotation.Unindex;
  * --> [is an instructor for] --> Course.
  */
 @Entity
+@Cache
 @Index
 public class Instructor extends BaseEntity {
 
@@ -0,0 +1,56 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the content of an email which is sent to many recipients, with placeholders for the
+ * values which differ between recipients.
+ *
+ * <p>The content is stored once, so that the tasks sending the emails only need to carry the values
+ * for their own recipient. Each content is stored with an ID of its own and never changes once stored,
+ * so a content is never refreshed while it is being deleted for being old.
+ */
+@Entity
+@Unindex
+public class SharedEmailContent extends BaseEntity {
+
+    @Id
+    private String contentId;
+
+    private Text content;
+
+    @Index
+    private Date createdAt;
+
+    @SuppressWarnings("unused")
+    private SharedEmailContent() {
+        // required by Objectify
+    }
+
+    public SharedEmailContent(String contentId, String content, Instant createdAt) {
+        this.contentId = contentId;
+        this.content = new Text(content);
+        this.createdAt = TimeHelper.convertInstantToDate(createdAt);
+    }
+
+    public String getId() {
+        return contentId;
+    }
+
+    public String getContent() {
+        return content == null ? null : content.getValue();
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+}
@@ -1,6 +1,7 @@
 package teammates.ui.automated;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.google.appengine.api.blobstore.BlobKey;
@@ -11,6 +12,7 @@ import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 
 /**
@@ -21,6 +23,9 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The number of receivers whose email tasks are added to the queue together. */
+    private static final int RECEIVERS_PER_BATCH = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -41,22 +46,18 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         String groupReceiverListFileKey = getRequestParamValue(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY);
         Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
 
-        String indexOfEmailListToResumeAsString =
-                getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX);
-        String indexOfEmailToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX);
-
-        int indexOfEmailListToResume = indexOfEmailListToResumeAsString == null
-                                       ? 0
-                                       : Integer.parseInt(indexOfEmailListToResumeAsString);
-        int indexOfEmailToResume = indexOfEmailToResumeAsString == null
-                                   ? 0
-                                   : Integer.parseInt(indexOfEmailToResumeAsString);
-
-        try {
-            List<List<String>> processedReceiverEmails =
-                    GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
-            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, processedReceiverEmails,
-                                     indexOfEmailListToResume, indexOfEmailToResume);
+        String receiverListOffsetAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_LIST_OFFSET);
+        long receiverListOffset = receiverListOffsetAsString == null ? 0 : Long.parseLong(receiverListOffsetAsString);
+
+        AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
+        Assumption.assertNotNull(adminEmail);
+
+        log.info("Resume adding group mail tasks for mail with id " + emailId
+                 + " from receiver list offset: " + receiverListOffset);
+
+        try (GroupReceiverListReader receiverListReader = GoogleCloudStorageHelper.getGroupReceiverListReader(
+                new BlobKey(groupReceiverListFileKey), receiverListOffset)) {
+            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, receiverListReader);
         } catch (IOException e) {
             log.severe("Unexpected error while adding admin email tasks: "
                        + TeammatesException.toStringWithStackTrace(e));
@@ -69,37 +70,29 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
     }
 
     private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
-            List<List<String>> processedReceiverEmails,
-            int indexOfEmailListToResume, int indexOfEmailToResume) {
-        AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
-        Assumption.assertNotNull(adminEmail);
-
-        log.info("Resume adding group mail tasks for mail with id " + emailId + " from list index: "
-                 + indexOfEmailListToResume + " and email index: " + indexOfEmailToResume);
-
-        int indexOfLastEmailList = 0;
-        int indexOfLastEmail = 0;
-
-        for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
-            List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
+            GroupReceiverListReader receiverListReader) throws IOException {
+        List<String> receivers = new ArrayList<>();
+        String receiver = receiverListReader.readNextReceiver();
+        while (receiver != null) {
+            receivers.add(receiver);
+            if (receivers.size() == RECEIVERS_PER_BATCH) {
+                taskQueuer.scheduleAdminEmailsForSending(emailId, receivers);
+                receivers.clear();
                 if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
+                    long offsetToResume = receiverListReader.getOffset();
+                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(
+                            emailId, groupReceiverListFileKey, offsetToResume);
                     log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
+                             + " have been paused with receiver list offset: " + offsetToResume);
                     return;
                 }
-                indexOfLastEmail = j;
             }
-            indexOfLastEmailList = i;
+            receiver = receiverListReader.readNextReceiver();
         }
+        taskQueuer.scheduleAdminEmailsForSending(emailId, receivers);
 
         log.info("Adding group mail tasks for mail with id " + emailId
-                 + "was complete with last reached list index: " + indexOfLastEmailList
-                 + " and last reached email index: " + indexOfLastEmail);
+                 + " was complete with receiver list offset: " + receiverListReader.getOffset());
     }
 
 }
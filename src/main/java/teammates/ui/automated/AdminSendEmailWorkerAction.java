@@ -30,27 +30,15 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
         String receiverEmail = getRequestParamValue(ParamsNames.ADMIN_EMAIL_RECEIVER);
         Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_RECEIVER, receiverEmail);
 
-        String emailContent = getRequestParamValue(ParamsNames.ADMIN_EMAIL_CONTENT);
-        String emailSubject = getRequestParamValue(ParamsNames.ADMIN_EMAIL_SUBJECT);
+        String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
 
-        if (emailContent == null || emailSubject == null) {
-            String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
-            Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
-
-            log.info("Sending large email. Going to retrieve email content and subject from datastore.");
-            AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
-            Assumption.assertNotNull(adminEmail);
-
-            emailContent = adminEmail.getContentValue();
-            emailSubject = adminEmail.getSubject();
-        }
-
-        Assumption.assertNotNull(emailContent);
-        Assumption.assertNotNull(emailSubject);
+        AdminEmailAttributes adminEmail = logic.getAdminEmailBeingSent(emailId);
+        Assumption.assertNotNull(adminEmail);
 
         try {
-            EmailWrapper email =
-                    new EmailGenerator().generateAdminEmail(emailContent, emailSubject, receiverEmail);
+            EmailWrapper email = new EmailGenerator().generateAdminEmail(
+                    adminEmail.getContentValue(), adminEmail.getSubject(), receiverEmail);
             emailSender.sendEmail(email);
             log.info("Email sent to " + receiverEmail);
         } catch (Exception e) {
@@ -26,12 +26,18 @@ public class AutomatedActionFactory {
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(ActionURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
+        map(ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_AGGREGATES_REPAIR, FeedbackResponseAggregatesRepairAction.class);
+        map(ActionURIs.AUTOMATED_COURSE_STATS_REPAIR, CourseStatsRepairAction.class);
+        map(ActionURIs.AUTOMATED_SEND_QUEUED_EMAILS, SendQueuedEmailsAction.class);
 
         // Task queue workers
         map(TaskQueue.ADMIN_PREPARE_EMAIL_ADDRESS_MODE_WORKER_URL, AdminPrepareEmailAddressModeWorkerAction.class);
         map(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, AdminPrepareEmailGroupModeWorkerAction.class);
         map(TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, AdminSendEmailWorkerAction.class);
+        map(TaskQueue.COURSE_STATS_REBUILD_WORKER_URL, CourseStatsRebuildWorkerAction.class);
         map(TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL, FeedbackResponseAdjustmentWorkerAction.class);
+        map(TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_WORKER_URL,
+                FeedbackResponseAggregatesRebuildWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -41,7 +47,7 @@ public class AutomatedActionFactory {
         map(TaskQueue.FEEDBACK_SESSION_UNPUBLISHED_EMAIL_WORKER_URL, FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
-        map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
+        map(TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, SendEmailBatchWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
     }
 
@@ -0,0 +1,37 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: recomputes the course statistics of a course from its students.
+ */
+public class CourseStatsRebuildWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.COURSE_ID, courseId);
+
+        try {
+            logic.rebuildCourseStats(courseId);
+        } catch (EntityDoesNotExistException e) {
+            log.severe("Failed to rebuild course statistics: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package teammates.ui.automated;
+
+import java.util.Set;
+
+/**
+ * Cron job: schedules the course statistics of courses whose students recently changed to be rebuilt.
+ *
+ * <p>Course statistics are adjusted separately from the students they count, so that an adjustment
+ * which fails leaves them off until they are rebuilt.</p>
+ */
+public class CourseStatsRepairAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "repair course statistics";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling course statistics of courses with recently changed students to be rebuilt.";
+    }
+
+    @Override
+    public void execute() {
+        Set<String> courseIds = logic.getCourseIdsWithStudentsChangedWithinThePastDay();
+
+        for (String courseId : courseIds) {
+            taskQueuer.scheduleCourseStatsRebuild(courseId);
+        }
+    }
+
+}
@@ -1,13 +1,17 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.HttpRequestHelper;
@@ -18,11 +22,23 @@ import teammates.common.util.Logger;
 /**
  * Task queue worker action: adjusts feedback responses in the database due to
  * change in student enrollment details of a course.
+ *
+ * <p>A task for a whole session only splits the work into one task per question and per chunk of
+ * {@link #ENROLLMENTS_PER_TASK} students who moved to another team or section. Each of those tasks reads
+ * only the responses involving its students, so a failed task is retried without redoing the others.
  */
 public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
 
+    /**
+     * Maximum number of enrollment changes adjusted by a single task.
+     */
+    private static final int ENROLLMENTS_PER_TASK = 100;
+
     private static final Logger log = Logger.getLogger();
 
+    private static final String ERROR_STRING =
+            "Error encountered while adjusting feedback session responses of %s in course %s: %s%n%s";
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -44,36 +60,70 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
         String enrollmentDetails = getRequestParamValue(ParamsNames.ENROLLMENT_DETAILS);
         Assumption.assertPostParamNotNull(ParamsNames.ENROLLMENT_DETAILS, enrollmentDetails);
 
-        log.info("Adjusting submissions for feedback session :" + sessionName + "in course : " + courseId);
+        List<StudentEnrollDetails> enrollmentList =
+                JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
 
-        FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(sessionName, courseId);
+        String questionId = getRequestParamValue(ParamsNames.FEEDBACK_QUESTION_ID);
+        if (questionId == null) {
+            scheduleAdjustmentsForQuestions(sessionName, courseId, enrollmentList);
+            return;
+        }
+
+        log.info("Adjusting submissions for question " + questionId + " of feedback session :" + sessionName
+                 + "in course : " + courseId);
+
+        try {
+            logic.adjustFeedbackResponsesForEnrollments(questionId, enrollmentList);
+        } catch (Exception e) {
+            String url = HttpRequestHelper.getRequestedUrl(request);
+            Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
+            // no logged-in user for worker
+            String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
+            log.severe(String.format(ERROR_STRING, sessionName, courseId, e.getMessage(), logMessage));
+            setForRetry();
+        }
+    }
 
-        String errorString = "Error encountered while adjusting feedback session responses of %s in course %s: %s%n%s";
+    private void scheduleAdjustmentsForQuestions(String sessionName, String courseId,
+            List<StudentEnrollDetails> enrollmentList) {
+        FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(sessionName, courseId);
 
         if (feedbackSession == null) {
-            log.severe(String.format(errorString, sessionName, courseId, "feedback session is null", ""));
+            log.severe(String.format(ERROR_STRING, sessionName, courseId, "feedback session is null", ""));
             setForRetry();
             return;
         }
 
-        List<FeedbackResponseAttributes> allResponses =
-                logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
-                                                     feedbackSession.getCourseId());
-        List<StudentEnrollDetails> enrollmentList =
-                JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
-            try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
-            } catch (Exception e) {
-                String url = HttpRequestHelper.getRequestedUrl(request);
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
-                // no logged-in user for worker
-                String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
-                log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
-                setForRetry();
-                return;
+        // only the latest change of each student matters
+        Map<String, StudentEnrollDetails> enrollmentsByEmail = new LinkedHashMap<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                enrollmentsByEmail.put(enrollment.email, enrollment);
             }
         }
+        if (enrollmentsByEmail.isEmpty()) {
+            return;
+        }
+
+        List<FeedbackQuestionAttributes> questions;
+        try {
+            questions = logic.getFeedbackQuestionsForSession(sessionName, courseId);
+        } catch (EntityDoesNotExistException e) {
+            log.severe(String.format(ERROR_STRING, sessionName, courseId, e.getMessage(), ""));
+            return;
+        }
+
+        List<String> questionIds = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionIds.add(question.getId());
+        }
+
+        List<StudentEnrollDetails> enrollmentsToAdjust = new ArrayList<>(enrollmentsByEmail.values());
+        for (int i = 0; i < enrollmentsToAdjust.size(); i += ENROLLMENTS_PER_TASK) {
+            List<StudentEnrollDetails> chunk = new ArrayList<>(
+                    enrollmentsToAdjust.subList(i, Math.min(i + ENROLLMENTS_PER_TASK, enrollmentsToAdjust.size())));
+            taskQueuer.scheduleFeedbackResponseAdjustmentForQuestions(courseId, sessionName, questionIds, chunk);
+        }
     }
 
 }
@@ -0,0 +1,34 @@
+package teammates.ui.automated;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Cron job: schedules the response aggregates of recently open feedback sessions to be rebuilt.
+ *
+ * <p>Response aggregates are adjusted after the responses they count are saved, not together with them,
+ * so that an adjustment which fails leaves them off until they are rebuilt.</p>
+ */
+public class FeedbackResponseAggregatesRepairAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "repair response aggregates";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling response aggregates of recently open feedback sessions to be rebuilt.";
+    }
+
+    @Override
+    public void execute() {
+        List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsAcceptingResponsesWithinThePastDay();
+
+        for (FeedbackSessionAttributes session : sessions) {
+            taskQueuer.scheduleResponseAggregatesRebuildForSession(session.getCourseId(), session.getFeedbackSessionName());
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.ui.automated;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -48,17 +49,19 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
+            Set<String> studentsToRemind = logic.getStudentsWhoHaveNotCompletedFeedbackSession(session);
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
             for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
+                if (studentsToRemind.contains(student.email)) {
                     studentsToRemindList.add(student);
                 }
             }
 
             // Filter out instructors who have submitted the feedback session
+            Set<String> instructorsToRemind = logic.getInstructorsWhoHaveNotCompletedFeedbackSession(session);
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+                if (instructorsToRemind.contains(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
@@ -0,0 +1,127 @@
+package teammates.ui.automated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+import teammates.common.util.Template;
+
+/**
+ * Task queue worker action: leases a batch of queued emails and sends them together.
+ *
+ * <p>As batches may lease the emails of each other, each batch which leased any email schedules another batch,
+ * until no queued email is due. Emails whose batches are not run are sent by {@link SendQueuedEmailsAction}.</p>
+ */
+public class SendEmailBatchWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        List<TaskWrapper> emailTasks = taskQueuer.leaseEmailsForSending();
+        if (emailTasks.isEmpty()) {
+            return;
+        }
+
+        // EmailWrapper does not override equals, so each email maps to its own task
+        Map<EmailWrapper, TaskWrapper> emailTasksByEmail = new LinkedHashMap<>();
+        List<TaskWrapper> unsendableEmailTasks = new ArrayList<>();
+        for (TaskWrapper emailTask : emailTasks) {
+            EmailWrapper email = toEmail(emailTask.getParamMap());
+            if (email == null) {
+                unsendableEmailTasks.add(emailTask);
+            } else {
+                emailTasksByEmail.put(email, emailTask);
+            }
+        }
+
+        // Emails which cannot be sent are deleted as well, as they will never be sent
+        taskQueuer.deleteEmailsSent(unsendableEmailTasks);
+
+        boolean isAnyEmailFailed = false;
+        for (List<EmailWrapper> group
+                : emailSender.groupEmailsForSending(new ArrayList<>(emailTasksByEmail.keySet()))) {
+            try {
+                emailSender.sendEmails(group);
+            } catch (Exception e) {
+                // The emails of the group are leased again by the next batch
+                log.severe("Error while sending " + group.size() + " emails via servlet: "
+                           + TeammatesException.toStringWithStackTrace(e));
+                isAnyEmailFailed = true;
+                continue;
+            }
+
+            // The emails are deleted as soon as they are sent, so that they are not sent again
+            // if the batch is retried for other emails or stops before all emails are sent
+            List<TaskWrapper> emailTasksSent = new ArrayList<>();
+            group.forEach(email -> emailTasksSent.add(emailTasksByEmail.get(email)));
+            taskQueuer.deleteEmailsSent(emailTasksSent);
+        }
+
+        taskQueuer.scheduleEmailBatchForSending(isAnyEmailFailed);
+    }
+
+    /**
+     * Returns the email described by the parameters of its task, or null if the email cannot be sent.
+     */
+    private EmailWrapper toEmail(Map<String, String[]> paramMap) {
+        String emailSubject = getParam(paramMap, ParamsNames.EMAIL_SUBJECT);
+        String emailSenderEmail = getParam(paramMap, ParamsNames.EMAIL_SENDER);
+        String emailSenderName = getParam(paramMap, ParamsNames.EMAIL_SENDERNAME);
+        String emailReceiver = getParam(paramMap, ParamsNames.EMAIL_RECEIVER);
+        String emailReply = getParam(paramMap, ParamsNames.EMAIL_REPLY_TO_ADDRESS);
+        if (emailSubject == null || emailSenderEmail == null || emailReceiver == null || emailReply == null) {
+            log.severe("Queued email has missing parameters: " + paramMap.keySet());
+            return null;
+        }
+
+        EmailWrapper message = new EmailWrapper();
+        message.setRecipient(emailReceiver);
+        message.setSenderEmail(emailSenderEmail);
+        if (emailSenderName != null) {
+            message.setSenderName(emailSenderName);
+        }
+        message.setSubject(emailSubject);
+        message.setReplyTo(emailReply);
+
+        String emailContent = getParam(paramMap, ParamsNames.EMAIL_CONTENT);
+        if (emailContent != null) {
+            message.setContent(emailContent);
+            return message;
+        }
+
+        // The content is shared with other recipients and only the values for this recipient are given
+        String emailContentId = getParam(paramMap, ParamsNames.EMAIL_CONTENT_ID);
+        String[] emailContentValues = paramMap.get(ParamsNames.EMAIL_CONTENT_VALUES);
+        Template emailContentTemplate = emailContentId == null ? null : logic.getSharedEmailContent(emailContentId);
+        if (emailContentTemplate == null || emailContentValues == null) {
+            log.severe("Content of queued email to " + emailReceiver + " not found: " + emailContentId);
+            return null;
+        }
+        // Emails sharing the same content share the same template, so that they can be sent together
+        message.setContent(emailContentTemplate, emailContentValues);
+        return message;
+    }
+
+    private static String getParam(Map<String, String[]> paramMap, String name) {
+        String[] values = paramMap.get(name);
+        return values == null ? null : values[0];
+    }
+
+}
@@ -0,0 +1,26 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: schedules a batch of the queued emails which are due to be sent, to be sent.
+ *
+ * <p>Queued emails are sent only by batches, which are scheduled when the emails are queued.
+ * The batch scheduled here sends the emails whose batches failed to be added or gave up on retrying.</p>
+ */
+public class SendQueuedEmailsAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "send queued emails";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Scheduling queued emails which are due to be sent.";
+    }
+
+    @Override
+    public void execute() {
+        taskQueuer.scheduleEmailBatchForSending(false);
+    }
+
+}
@@ -647,6 +647,15 @@ public abstract class Action {
                                       fileContent);
     }
 
+    public FileDownloadResult createFileDownloadResult(
+            String fileName, FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
@@ -662,6 +671,14 @@ public abstract class Action {
                                statusToUser);
     }
 
+    protected ActionResult createImageResult(String blobKey, String etag) {
+        return new ImageResult("imagedisplay",
+                               blobKey,
+                               etag,
+                               account,
+                               statusToUser);
+    }
+
     /**
      * Status messages to be shown to the user and the admin will be set based
      * on the error message in the exception {@code e}.<br>
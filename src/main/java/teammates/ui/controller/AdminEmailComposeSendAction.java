@@ -13,6 +13,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.ui.pagedata.AdminEmailComposePageData;
@@ -50,7 +51,10 @@ public class AdminEmailComposeSendAction extends Action {
         if (isGroupModeOn) {
             try {
                 groupReceiver.add(groupReceiverListFileKey);
-                GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
+                try (GroupReceiverListReader groupReceiverListReader = GoogleCloudStorageHelper
+                        .getGroupReceiverListReader(new BlobKey(groupReceiverListFileKey), 0)) {
+                    groupReceiverListReader.readNextReceiver();
+                }
             } catch (Exception e) {
                 isError = true;
                 setStatusForException(e, "An error occurred when retrieving receiver list, please try again");
@@ -119,7 +123,7 @@ public class AdminEmailComposeSendAction extends Action {
         if (!isGroupModeOn) {
             return;
         }
-        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0, 0);
+        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0);
 
         statusToAdmin += "<br/>" + "Group receiver's list " + groupReceiverListFileKey;
         statusToUser.add(new StatusMessage("Email will be sent within an hour to uploaded group receiver's list.",
@@ -11,6 +11,7 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 import teammates.ui.pagedata.AdminEmailComposePageData;
 
@@ -37,18 +38,17 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
             return createAjaxResult(data);
         }
 
-        try {
-            List<List<String>> groupReceiverList =
-                    GoogleCloudStorageHelper.getGroupReceiverList(blobInfo.getBlobKey());
+        try (GroupReceiverListReader groupReceiverListReader =
+                GoogleCloudStorageHelper.getGroupReceiverListReader(blobInfo.getBlobKey(), 0)) {
 
             // log all email addresses retrieved from the txt file
             int i = 0;
 
-            for (List<String> list : groupReceiverList) {
-                for (String str : list) {
-                    log.info(str + " - " + i + " \n");
-                    i++;
-                }
+            String receiver = groupReceiverListReader.readNextReceiver();
+            while (receiver != null) {
+                log.info(receiver + " - " + i + " \n");
+                i++;
+                receiver = groupReceiverListReader.readNextReceiver();
             }
         } catch (IOException e) {
             data.isFileUploaded = false;
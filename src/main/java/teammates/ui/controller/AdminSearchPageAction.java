@@ -2,8 +2,10 @@ package teammates.ui.controller;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -23,8 +25,10 @@ public class AdminSearchPageAction extends Action {
 
     private static final String OPEN_CLOSE_DATES_SESSION_TEMPLATE = "[%s - %s]";
 
-    private Map<String, String> tempCourseIdToInstituteMap = new HashMap<>();
-    private Map<String, String> tempCourseIdToInstructorGoogleIdMap = new HashMap<>();
+    private Map<String, CourseAttributes> courseIdToCourseMap = new HashMap<>();
+    private Map<String, List<FeedbackSessionAttributes>> courseIdToFeedbackSessionsMap = new HashMap<>();
+    private Map<String, String> courseIdToInstructorGoogleIdMap = new HashMap<>();
+    private Map<String, AccountAttributes> googleIdToInstructorAccountMap = new HashMap<>();
 
     @Override
     protected ActionResult execute() {
@@ -51,13 +55,15 @@ public class AdminSearchPageAction extends Action {
         data.searchKey = SanitizationHelper.sanitizeForHtml(searchKey);
 
         data.studentResultBundle = logic.searchStudentsInWholeSystem(searchKey);
+        data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey);
+
+        loadDataForResults(data.studentResultBundle.studentList, data.instructorResultBundle.instructorList);
 
         data = putFeedbackSessionLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentHomePageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentRecordsPageLinkIntoMap(data.studentResultBundle.studentList, data);
         data = putStudentInstituteIntoMap(data.studentResultBundle.studentList, data);
 
-        data.instructorResultBundle = logic.searchInstructorsInWholeSystem(searchKey);
         data = putInstructorInstituteIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorHomePageLinkIntoMap(data.instructorResultBundle.instructorList, data);
         data = putInstructorCourseJoinLinkIntoMap(data.instructorResultBundle.instructorList, data);
@@ -83,12 +89,53 @@ public class AdminSearchPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.ADMIN_SEARCH, data);
     }
 
+    /**
+     * Loads the courses, feedback sessions, instructors and instructor accounts needed to display the results,
+     * reading each kind for all the results together instead of for each result.
+     */
+    private void loadDataForResults(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
+        Set<String> studentCourseIds = new HashSet<>();
+        for (StudentAttributes student : students) {
+            if (student.course != null) {
+                studentCourseIds.add(student.course);
+            }
+        }
+
+        Set<String> courseIds = new HashSet<>(studentCourseIds);
+        for (InstructorAttributes instructor : instructors) {
+            if (instructor.courseId != null) {
+                courseIds.add(instructor.courseId);
+            }
+        }
+
+        for (CourseAttributes course : logic.getCourses(new ArrayList<>(courseIds))) {
+            courseIdToCourseMap.put(course.getId(), course);
+        }
+
+        for (FeedbackSessionAttributes session : logic.getFeedbackSessionsForCourses(studentCourseIds)) {
+            courseIdToFeedbackSessionsMap.computeIfAbsent(session.getCourseId(), courseId -> new ArrayList<>())
+                    .add(session);
+        }
+
+        Map<String, List<InstructorAttributes>> courseIdToInstructorsMap = new HashMap<>();
+        for (InstructorAttributes instructor : logic.getInstructorsForCourses(courseIds)) {
+            courseIdToInstructorsMap.computeIfAbsent(instructor.courseId, courseId -> new ArrayList<>())
+                    .add(instructor);
+        }
+        courseIdToInstructorsMap.forEach((courseId, instructorList) ->
+                courseIdToInstructorGoogleIdMap.put(courseId, findAvailableInstructorGoogleId(instructorList)));
+
+        for (AccountAttributes instructorAccount : logic.getAccounts(courseIdToInstructorGoogleIdMap.values())) {
+            googleIdToInstructorAccountMap.put(instructorAccount.googleId, instructorAccount);
+        }
+    }
+
     private AdminSearchPageData putCourseNameIntoMap(List<StudentAttributes> students,
                                                      List<InstructorAttributes> instructors,
                                                      AdminSearchPageData data) {
         for (StudentAttributes student : students) {
             if (student.course != null && !data.courseIdToCourseNameMap.containsKey(student.course)) {
-                CourseAttributes course = logic.getCourse(student.course);
+                CourseAttributes course = courseIdToCourseMap.get(student.course);
                 if (course != null) {
                     //TODO: [CourseAttribute] remove desanitization after data migration
                     data.courseIdToCourseNameMap.put(
@@ -99,7 +146,7 @@ public class AdminSearchPageAction extends Action {
 
         for (InstructorAttributes instructor : instructors) {
             if (instructor.courseId != null && !data.courseIdToCourseNameMap.containsKey(instructor.courseId)) {
-                CourseAttributes course = logic.getCourse(instructor.courseId);
+                CourseAttributes course = courseIdToCourseMap.get(instructor.courseId);
                 if (course != null) {
                     //TODO: [CourseAttribute] remove desanitization after data migration
                     data.courseIdToCourseNameMap.put(
@@ -135,22 +182,11 @@ public class AdminSearchPageAction extends Action {
                                                               AdminSearchPageData data) {
         for (InstructorAttributes instructor : instructors) {
 
-            if (tempCourseIdToInstituteMap.get(instructor.courseId) != null) {
-                data.instructorInstituteMap.put(instructor.getIdentificationString(),
-                                                tempCourseIdToInstituteMap.get(instructor.courseId));
-                continue;
-            }
-
-            String googleId = findAvailableInstructorGoogleIdForCourse(instructor.courseId);
-
-            AccountAttributes account = logic.getAccount(googleId);
-            if (account == null) {
+            String institute = getInstituteForCourse(instructor.courseId);
+            if (institute == null) {
                 continue;
             }
 
-            String institute = account.institute.trim().isEmpty() ? "None" : account.institute;
-
-            tempCourseIdToInstituteMap.put(instructor.courseId, institute);
             data.instructorInstituteMap.put(instructor.getIdentificationString(), institute);
         }
 
@@ -179,23 +215,11 @@ public class AdminSearchPageAction extends Action {
     private AdminSearchPageData putStudentInstituteIntoMap(List<StudentAttributes> students, AdminSearchPageData data) {
         for (StudentAttributes student : students) {
 
-            if (tempCourseIdToInstituteMap.get(student.course) != null) {
-                data.studentInstituteMap.put(student.getIdentificationString(),
-                                             tempCourseIdToInstituteMap.get(student.course));
+            String institute = getInstituteForCourse(student.course);
+            if (institute == null) {
                 continue;
             }
 
-            String instructorForCourseGoogleId = findAvailableInstructorGoogleIdForCourse(student.course);
-
-            AccountAttributes account = logic.getAccount(instructorForCourseGoogleId);
-            if (account == null) {
-                continue;
-            }
-
-            String institute = account.institute.trim().isEmpty() ? "None" : account.institute;
-
-            tempCourseIdToInstituteMap.put(student.course, institute);
-
             data.studentInstituteMap.put(student.getIdentificationString(), institute);
         }
 
@@ -244,32 +268,44 @@ public class AdminSearchPageAction extends Action {
         return data;
     }
 
+    /**
+     * Returns the institute of the instructor found by {@link #findAvailableInstructorGoogleId(List)}
+     * for the course, or "None" if the institute is empty.
+     *
+     * @return null if no such instructor account is found
+     */
+    private String getInstituteForCourse(String courseId) {
+        AccountAttributes instructorAccount =
+                googleIdToInstructorAccountMap.get(findAvailableInstructorGoogleIdForCourse(courseId));
+        if (instructorAccount == null) {
+            return null;
+        }
+        return instructorAccount.institute.trim().isEmpty() ? "None" : instructorAccount.institute;
+    }
+
+    /**
+     * Returns the googleId found by {@link #findAvailableInstructorGoogleId(List)} among the instructors
+     * of the course, or an empty string if there is none.
+     */
+    private String findAvailableInstructorGoogleIdForCourse(String courseId) {
+        return courseIdToInstructorGoogleIdMap.getOrDefault(courseId, "");
+    }
+
     /**
      * Finds the googleId of a registered instructor with co-owner privileges.
      * If there is no such instructor, finds the googleId of a registered
      * instructor with the privilege to modify instructors.
      *
-     * @param courseId
-     *            the ID of the course
+     * @param instructorList
+     *            the instructors of the course, sorted by name
      * @return the googleId of a suitable instructor if found, otherwise an
      *         empty string
      */
-    private String findAvailableInstructorGoogleIdForCourse(String courseId) {
-
-        if (tempCourseIdToInstructorGoogleIdMap.get(courseId) != null) {
-            return tempCourseIdToInstructorGoogleIdMap.get(courseId);
-        }
-
-        List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
-
-        if (instructorList.isEmpty()) {
-            return "";
-        }
+    private String findAvailableInstructorGoogleId(List<InstructorAttributes> instructorList) {
 
         for (InstructorAttributes instructor : instructorList) {
 
             if (instructor.isRegistered() && instructor.hasCoownerPrivileges()) {
-                tempCourseIdToInstructorGoogleIdMap.put(courseId, instructor.googleId);
                 return instructor.googleId;
             }
         }
@@ -279,7 +315,6 @@ public class AdminSearchPageAction extends Action {
             if (instructor.isRegistered()
                     && instructor.isAllowedForPrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR)) {
 
-                tempCourseIdToInstructorGoogleIdMap.put(courseId, instructor.googleId);
                 return instructor.googleId;
             }
         }
@@ -293,7 +328,8 @@ public class AdminSearchPageAction extends Action {
         AdminSearchPageData processedData = rawData;
 
         for (StudentAttributes student : students) {
-            List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(student.course);
+            List<FeedbackSessionAttributes> feedbackSessions =
+                    courseIdToFeedbackSessionsMap.getOrDefault(student.course, new ArrayList<>());
 
             for (FeedbackSessionAttributes fsa : feedbackSessions) {
                 processedData = extractDataFromFeedbackSession(fsa, processedData, student);
@@ -16,7 +16,11 @@ public class CourseStatsPageAction extends Action {
 
         gateKeeper.verifyInstructorPrivileges(account);
 
-        data.courseDetails = logic.getCourseDetails(courseId);
+        if (!logic.hasCourseStats(courseId)) {
+            // Courses created before course statistics were introduced and not yet migrated are counted from then on
+            taskQueuer.scheduleCourseStatsRebuild(courseId);
+        }
+        data.courseDetails = logic.getCourseDetailsWithoutSections(courseId);
 
         return createAjaxResult(data);
     }
@@ -20,7 +20,6 @@ import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.exception.EmailSendingException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
@@ -277,6 +276,9 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
 
     private void saveNewReponses(List<FeedbackResponseAttributes> responsesToSave)
             throws EntityDoesNotExistException {
+        if (responsesToSave.isEmpty()) {
+            return;
+        }
         try {
             logic.createFeedbackResponses(responsesToSave);
             hasValidResponse = true;
@@ -286,21 +288,22 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     }
 
     private void deleteResponses(List<FeedbackResponseAttributes> responsesToDelete) {
-        for (FeedbackResponseAttributes response : responsesToDelete) {
-            logic.deleteFeedbackResponse(response);
-        }
+        logic.deleteFeedbackResponses(responsesToDelete);
     }
 
     private void updateResponses(List<FeedbackResponseAttributes> responsesToUpdate)
             throws EntityDoesNotExistException {
-        for (FeedbackResponseAttributes response : responsesToUpdate) {
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
+        if (responsesToUpdate.isEmpty()) {
+            return;
+        }
+        try {
+            logic.updateFeedbackResponses(responsesToUpdate);
+        } catch (InvalidParametersException e) {
+            setStatusForException(e);
         }
+        // the responses which cannot be updated are left as they were, so the user has given responses
+        // even when only some of the responses are updated
+        hasValidResponse = true;
     }
 
     private FeedbackResponseAttributes extractFeedbackResponseData(
@@ -397,9 +400,8 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
     protected abstract void checkAdditionalConstraints();
 
     /**
-     * Note that when overriding this method, this should not use {@code respondingStudentList}
-     * or {@code respondingInstructorList} of {@code FeedbackSessionAttributes}, because this method
-     * is used to update {@code respondingStudentList} and {@code respondingInstructorList}.
+     * Note that when overriding this method, this should not use the recorded respondents of the session
+     * (e.g. {@code isFeedbackSessionCompletedByStudent}), because this method is used to update them.
      *
      * @return true if user has responses in the feedback session
      */
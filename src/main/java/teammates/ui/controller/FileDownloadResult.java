@@ -2,12 +2,16 @@ package teammates.ui.controller;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StringHelper;
@@ -16,6 +20,7 @@ public class FileDownloadResult extends ActionResult {
 
     private String fileContent = "";
     private String fileName = "";
+    private FileContentWriter fileContentWriter;
 
     public FileDownloadResult(String destination, AccountAttributes account,
             List<StatusMessage> status) {
@@ -31,6 +36,19 @@ public class FileDownloadResult extends ActionResult {
         this.fileContent = fileContent;
     }
 
+    /**
+     * Creates a result whose content is written directly to the response by {@code fileContentWriter}
+     * when it is sent, instead of being held in memory.
+     */
+    public FileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status,
+            String fileName, FileContentWriter fileContentWriter) {
+        super(destination, account, status);
+        this.fileName = fileName;
+        this.fileContentWriter = fileContentWriter;
+    }
+
     @Override
     public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         /*
@@ -43,7 +61,11 @@ public class FileDownloadResult extends ActionResult {
         resp.setHeader("Content-Disposition", getContentDispositionHeader());
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(fileContent);
+        if (fileContentWriter == null) {
+            writer.append(fileContent);
+        } else {
+            fileContentWriter.writeTo(writer);
+        }
     }
 
     /**
@@ -67,8 +89,36 @@ public class FileDownloadResult extends ActionResult {
         return this.fileName;
     }
 
+    /**
+     * Returns the content of the file.
+     *
+     * <p>If the content is streamed, it is generated in full; this is intended for testing only.
+     */
     public String getFileContent() {
-        return this.fileContent;
+        if (fileContentWriter == null) {
+            return this.fileContent;
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            fileContentWriter.writeTo(writer);
+        } catch (IOException e) {
+            // StringWriter does not throw IOException
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the content of a file to be downloaded.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+
+        /**
+         * Writes the content of the file to {@code writer}.
+         */
+        void writeTo(Writer writer) throws IOException;
+
     }
 
 }
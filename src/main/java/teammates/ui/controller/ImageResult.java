@@ -19,10 +19,22 @@ public class ImageResult extends ActionResult {
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
+    /**
+     * The entity tag identifying the content of the image, with which browsers can check if their cached copy
+     * is still current. Null if the image is not to be cached.
+     */
+    public String etag;
+
     public ImageResult(String destination, String blobKey, AccountAttributes account,
             List<StatusMessage> status) {
+        this(destination, blobKey, null, account, status);
+    }
+
+    public ImageResult(String destination, String blobKey, String etag, AccountAttributes account,
+            List<StatusMessage> status) {
         super(destination, account, status);
         this.blobKey = blobKey;
+        this.etag = etag;
     }
 
     @Override
@@ -31,10 +43,39 @@ public class ImageResult extends ActionResult {
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
         } else {
-            resp.setContentType("image/png");
+            // the image may be replaced under the same URL, so browsers have to check that their copy is current
+            if (etag != null && isNotModified(req, resp, etag, "private, no-cache")) {
+                return;
+            }
+            // the content type recorded when the image was stored is used
             BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
             blobstoreService.serve(new BlobKey(blobKey), resp);
         }
     }
 
+    /**
+     * Sets the caching headers of an image identified by {@code etag} in {@code resp}, and sends
+     * 304 Not Modified instead of the image if the browser already has that image.
+     *
+     * @return true if 304 Not Modified has been sent, in which case the image should not be sent
+     */
+    static boolean isNotModified(HttpServletRequest req, HttpServletResponse resp, String etag, String cacheControl) {
+        String quotedEtag = "\"" + etag.replace("\"", "") + "\"";
+        resp.setHeader("Cache-Control", cacheControl);
+        resp.setHeader("ETag", quotedEtag);
+
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String cachedEtag : ifNoneMatch.split(",")) {
+            String trimmedEtag = cachedEtag.trim();
+            if ("*".equals(trimmedEtag) || quotedEtag.equals(trimmedEtag.replaceFirst("^W/", ""))) {
+                resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return true;
+            }
+        }
+        return false;
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -97,12 +98,23 @@ public class InstructorCourseEnrollSaveAction extends Action {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
         List<StudentAttributes> students = enrollResult.studentList;
 
-        // Adjust submissions for all feedback responses within the course
-        List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            // Schedule adjustment of submissions for feedback session in course
-            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
-                    courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+        // Adjust submissions for all feedback responses within the course,
+        // which is only needed for students who moved to another team or section
+        List<StudentEnrollDetails> enrollmentsToAdjust = new ArrayList<>();
+        for (StudentEnrollDetails enrollment : enrollResult.enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED
+                    && (enrollment.oldTeam != null || enrollment.oldSection != null)) {
+                enrollmentsToAdjust.add(enrollment);
+            }
+        }
+
+        if (!enrollmentsToAdjust.isEmpty()) {
+            List<String> feedbackSessionNames = new ArrayList<>();
+            for (FeedbackSessionAttributes session : logic.getFeedbackSessionsForCourse(courseId)) {
+                feedbackSessionNames.add(session.getFeedbackSessionName());
+            }
+            // Schedule adjustment of submissions for all feedback sessions in course
+            taskQueuer.scheduleFeedbackResponseAdjustmentForSessions(courseId, feedbackSessionNames, enrollmentsToAdjust);
         }
 
         students.sort(Comparator.comparing(obj -> obj.updateStatus.numericRepresentation));
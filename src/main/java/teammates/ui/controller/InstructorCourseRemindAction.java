@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -92,11 +93,13 @@ public class InstructorCourseRemindAction extends Action {
             redirectUrl = Const.ActionURIs.INSTRUCTOR_COURSE_EDIT_PAGE;
         } else {
             List<StudentAttributes> studentDataList = logic.getUnregisteredStudentsForCourse(courseId);
+            List<String> studentEmails = new ArrayList<>();
             for (StudentAttributes student : studentDataList) {
-                taskQueuer.scheduleCourseRegistrationInviteToStudent(course.getId(), student.getEmail(), false);
+                studentEmails.add(student.getEmail());
                 emailDataMap.put(student.getEmail(),
                         new JoinEmailData(student.getName(), extractStudentRegistrationKey(student)));
             }
+            taskQueuer.scheduleCourseRegistrationInvitesToStudents(course.getId(), studentEmails);
 
             statusToUser.add(new StatusMessage(Const.StatusMessages.COURSE_REMINDERS_SENT, StatusMessageColor.SUCCESS));
             redirectUrl = Const.ActionURIs.INSTRUCTOR_COURSE_DETAILS_PAGE;
@@ -37,10 +37,17 @@ public class InstructorFeedbackEditPageAction extends Action {
         List<FeedbackQuestionAttributes> questions = logic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
 
         Map<String, Boolean> questionHasResponses = new HashMap<>();
+        boolean hasQuestionWithoutResponseAggregates = false;
 
         for (FeedbackQuestionAttributes question : questions) {
             boolean hasResponse = logic.areThereResponsesForQuestion(question.getId());
             questionHasResponses.put(question.getId(), hasResponse);
+            hasQuestionWithoutResponseAggregates |= !logic.hasResponseAggregatesForQuestion(question.getId());
+        }
+
+        if (hasQuestionWithoutResponseAggregates) {
+            // Questions created before response aggregates were introduced are counted from then on
+            taskQueuer.scheduleResponseAggregatesRebuildForSession(courseId, feedbackSessionName);
         }
 
         List<StudentAttributes> studentList = logic.getStudentsForCourse(courseId);
@@ -67,7 +74,7 @@ public class InstructorFeedbackEditPageAction extends Action {
         InstructorFeedbackEditPageData data = new InstructorFeedbackEditPageData(account, sessionToken);
 
         data.init(feedbackSession, questions, questionHasResponses, studentList, instructorsWhoCanSubmit, instructor,
-                shouldLoadInEditMode, numOfInstructors, logic.getCourseDetails(courseId));
+                shouldLoadInEditMode, numOfInstructors, logic.getCourseDetailsWithoutSections(courseId));
 
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_FEEDBACK_EDIT, data);
     }
@@ -4,10 +4,9 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
-import teammates.common.util.StatusMessage;
-import teammates.common.util.StatusMessageColor;
 
 public class InstructorFeedbackResultsDownloadAction extends Action {
 
@@ -19,6 +18,7 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
         boolean isMissingResponsesShown = getRequestParamAsBoolean(
                 Const.ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES);
         boolean isStatsShown = getRequestParamAsBoolean(Const.ParamsNames.FEEDBACK_RESULTS_SHOWSTATS);
+        boolean isStreamed = getRequestParamAsBoolean(Const.ParamsNames.FEEDBACK_RESULTS_STREAM_DOWNLOAD);
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String questionNumber = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_NUMBER);
         // Parameter is used to throw the exceeding range exception in test
@@ -33,6 +33,11 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
 
         gateKeeper.verifyAccessible(instructor, session, !isCreatorOnly);
 
+        if (isStreamed) {
+            return createStreamedFileDownloadResult(courseId, feedbackSessionName, instructor.email, section,
+                    questionId, questionNumber, isMissingResponsesShown, isStatsShown);
+        }
+
         String fileContent;
         String fileName;
 
@@ -63,21 +68,41 @@ public class InstructorFeedbackResultsDownloadAction extends Action {
                               + " in Course " + courseId + " within " + section + " was downloaded";
             }
         } catch (ExceedingRangeException e) {
-            // not tested as the test file is not large enough to reach this catch block
-            statusToUser.add(new StatusMessage("This session has more responses than that can be downloaded in one go. "
-                        + "Please download responses for "
-                        + (questionNumber == null ? "one question at a time instead. "
-                        + "To download responses for a specific question, click on the corresponding question number."
-                                                 : "section instead."),
-                                                 StatusMessageColor.DANGER));
-            isError = true;
-            RedirectResult result = createRedirectResult(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE);
-            result.addResponseParam(Const.ParamsNames.COURSE_ID, courseId);
-            result.addResponseParam(Const.ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
-            return result;
+            // too many responses to be held in memory, so they are written out one question at a time instead
+            return createStreamedFileDownloadResult(courseId, feedbackSessionName, instructor.email, section,
+                    questionId, questionNumber, isMissingResponsesShown, isStatsShown);
         }
 
         return createFileDownloadResult(fileName, fileContent);
     }
 
+    /**
+     * Creates a download whose content is written to the response one question at a time,
+     * so that sessions with more than {@link Const#INSTRUCTOR_VIEW_RESPONSE_LIMIT} responses can be downloaded.
+     * This is used when the {@link Const.ParamsNames#FEEDBACK_RESULTS_STREAM_DOWNLOAD} parameter is set,
+     * or when the session has too many responses to be downloaded in one go.
+     */
+    private FileDownloadResult createStreamedFileDownloadResult(
+            String courseId, String feedbackSessionName, String instructorEmail, String section,
+            String questionId, String questionNumber, boolean isMissingResponsesShown, boolean isStatsShown) {
+        boolean isAllSections = section == null || "All".equals(section);
+        String sectionToDownload = isAllSections ? null : section;
+
+        String questionName = questionNumber == null ? "" : "_question" + questionNumber;
+        String fileName = courseId + "_" + feedbackSessionName + (isAllSections ? "" : "_" + section) + questionName;
+        statusToAdmin = "Summary data for Feedback Session " + feedbackSessionName
+                      + " in Course " + courseId + (isAllSections ? "" : " within " + section) + " was downloaded";
+
+        return createFileDownloadResult(fileName, writer -> {
+            try {
+                logic.writeFeedbackSessionResultSummaryAsCsv(
+                        courseId, feedbackSessionName, instructorEmail, sectionToDownload,
+                        questionId, isMissingResponsesShown, isStatsShown, writer);
+            } catch (EntityDoesNotExistException e) {
+                // the session has been verified to exist before the download starts
+                Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            }
+        });
+    }
+
 }
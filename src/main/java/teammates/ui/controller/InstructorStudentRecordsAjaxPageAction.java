@@ -6,7 +6,6 @@ import java.util.List;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.SessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
@@ -41,26 +40,15 @@ public class InstructorStudentRecordsAjaxPageAction extends Action {
             return createRedirectResult(Const.ActionURIs.INSTRUCTOR_HOME_PAGE);
         }
 
-        List<FeedbackSessionAttributes> feedbacks = logic.getFeedbackSessionsListForInstructor(account.googleId, false);
-
-        filterFeedbackSessions(courseId, feedbacks, instructor, student);
-
-        List<SessionAttributes> sessions = new ArrayList<>();
-        sessions.addAll(feedbacks);
-        sessions.sort(SessionAttributes.DESCENDING_ORDER);
-
         List<FeedbackSessionResultsBundle> results = new ArrayList<>();
-        for (SessionAttributes session : sessions) {
-            if (session instanceof FeedbackSessionAttributes) {
-                if (!targetSessionName.isEmpty() && targetSessionName.equals(session.getSessionName())) {
-                    FeedbackSessionResultsBundle result = logic.getFeedbackSessionResultsForInstructor(
-                                                    session.getSessionName(), courseId, instructor.email);
-                    results.add(result);
-                }
-            } else {
-                Assumption.fail("Unknown session type");
-            }
+        FeedbackSessionAttributes session =
+                targetSessionName.isEmpty() ? null : logic.getFeedbackSession(targetSessionName, courseId);
+        if (session != null && instructor.isAllowedForPrivilege(student.section, session.getFeedbackSessionName(),
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS)) {
+            results.add(logic.getFeedbackSessionResultsForInstructorForStudent(
+                    session.getFeedbackSessionName(), courseId, instructor.email, student.email));
         }
+
         statusToAdmin = "instructorStudentRecords Ajax Page Load<br>"
                       + "Viewing <span class=\"bold\">" + studentEmail + "'s</span> records "
                       + "for session <span class=\"bold\">[" + targetSessionName + "]</span> "
@@ -72,12 +60,4 @@ public class InstructorStudentRecordsAjaxPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_STUDENT_RECORDS_AJAX, data);
     }
 
-    private void filterFeedbackSessions(String courseId, List<FeedbackSessionAttributes> feedbacks,
-                                        InstructorAttributes currentInstructor, StudentAttributes student) {
-        feedbacks.removeIf(tempFs -> !tempFs.getCourseId().equals(courseId)
-                    || !currentInstructor.isAllowedForPrivilege(student.section, tempFs.getSessionName(),
-                                              Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
-
-    }
-
 }
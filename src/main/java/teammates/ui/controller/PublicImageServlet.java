@@ -51,9 +51,14 @@ public class PublicImageServlet extends HttpServlet {
                 log.info(new LogMessageGenerator().generateBasicActivityLogMessage(url, params, message, userType));
                 resp.sendError(1, "No image found");
             } else {
-                resp.setContentType("image/png");
-                BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
-                blobstoreService.serve(new BlobKey(blobKey), resp);
+                // each uploaded image gets a new blob key, so the image behind a blob key never changes
+                String cacheControl = "public, max-age=" + Const.SystemParams.IMMUTABLE_IMAGE_MAX_AGE_SECONDS
+                                    + ", immutable";
+                if (!ImageResult.isNotModified(req, resp, blobKey, cacheControl)) {
+                    // the content type recorded when the image was uploaded is used
+                    BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
+                    blobstoreService.serve(new BlobKey(blobKey), resp);
+                }
                 // TODO : restrict image request to those "public" files only
 
                 String message = "Public image request with URL: <br>"
@@ -0,0 +1,42 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import teammates.logic.api.Logic;
+
+/**
+ * Scopes the data cached by the logic layer for a request, e.g. course rosters, to that request.
+ */
+public class RequestScopeFilter implements Filter {
+
+    private final Logic logic = new Logic();
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        // nothing to initialize
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        logic.startRequestScope();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            logic.endRequestScope();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        // nothing to clean up
+    }
+
+}
@@ -1,11 +1,16 @@
 package teammates.ui.controller;
 
+import java.io.IOException;
+
+import com.google.appengine.tools.cloudstorage.GcsFileMetadata;
+
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 
@@ -61,7 +66,30 @@ public class StudentProfilePictureAction extends Action {
         StudentAttributes student = getStudentForGivenParameters(courseId, email);
         gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(account, courseId, student.section, email);
 
-        return createImageResult(getPictureKeyForStudent(student));
+        String pictureKey = getPictureKeyForStudent(student);
+        if (pictureKey.isEmpty()) {
+            return createImageResult(pictureKey);
+        }
+        return createThumbnailImageResult(student.googleId, pictureKey);
+    }
+
+    /**
+     * Serves the thumbnail of the picture, as pictures requested by email and course are shown in lists
+     * of students, or the picture itself if it has no thumbnail.
+     *
+     * <p>Pictures stored before thumbnails were introduced have no thumbnail until they are uploaded
+     * or edited again, so they are served in full.
+     */
+    private ActionResult createThumbnailImageResult(String googleId, String pictureKey) {
+        try {
+            GcsFileMetadata thumbnail = GoogleCloudStorageHelper.getImageThumbnail(googleId);
+            if (thumbnail != null) {
+                return createImageResult(GoogleCloudStorageHelper.getBlobKey(thumbnail), thumbnail.getEtag());
+            }
+        } catch (IOException e) {
+            log.warning("Failed to get the thumbnail of the profile picture of " + googleId + ": " + e.getMessage());
+        }
+        return createImageResult(pictureKey);
     }
 
     private StudentAttributes getStudentForGivenParameters(String courseId, String email)
@@ -16,6 +16,7 @@ import com.google.appengine.api.datastore.Text;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.ParticipantSet;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -1040,8 +1041,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
             FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responses) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleGiversWithoutResponses = bundle.getPossibleGivers(question);
-        List<String> possibleReceiversWithoutResponsesForGiver = new ArrayList<>();
+        ParticipantSet possibleGiversWithoutResponses = bundle.getPossibleGiverSet(question);
+        ParticipantSet possibleReceiversWithoutResponsesForGiver = ParticipantSet.of();
 
         String prevGiver = "";
         int responseRecipientIndex = 0;
@@ -1068,7 +1069,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
                 }
                 String giverIdentifier = response.giver;
 
-                possibleReceiversWithoutResponsesForGiver = bundle.getPossibleRecipients(question, giverIdentifier);
+                possibleReceiversWithoutResponsesForGiver = bundle.getPossibleRecipientSet(question, giverIdentifier);
             }
 
             // keep track of possible recipients without a response from the current giver
@@ -1151,9 +1152,9 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                     String participantIdentifier, boolean isFirstGroupedByGiver) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleParticipantsWithoutResponses = isFirstGroupedByGiver
-                                                          ? bundle.getPossibleRecipients(question, participantIdentifier)
-                                                          : bundle.getPossibleGivers(question, participantIdentifier);
+        ParticipantSet possibleParticipantsWithoutResponses = isFirstGroupedByGiver
+                                                          ? bundle.getPossibleRecipientSet(question, participantIdentifier)
+                                                          : bundle.getPossibleGiverSet(question, participantIdentifier);
 
         for (FeedbackResponseAttributes response : responses) {
             if (!bundle.isGiverVisible(response) || !bundle.isRecipientVisible(response)) {
@@ -1247,7 +1248,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
      */
     private List<InstructorFeedbackResultsResponseRow> buildMissingResponseRowsBetweenGiverAndPossibleRecipients(
                                                                     FeedbackQuestionAttributes question,
-                                                                    List<String> possibleReceivers,
+                                                                    ParticipantSet possibleReceivers,
                                                                     String giverIdentifier,
                                                                     String giverName, String giverTeam) {
         List<InstructorFeedbackResultsResponseRow> missingResponses = new ArrayList<>();
@@ -1283,7 +1284,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
      */
     private List<InstructorFeedbackResultsResponseRow> buildMissingResponseRowsBetweenRecipientAndPossibleGivers(
                                     FeedbackQuestionAttributes question,
-                                    List<String> possibleGivers, String recipientIdentifier,
+                                    ParticipantSet possibleGivers, String recipientIdentifier,
                                     String recipientName, String recipientTeam) {
         List<InstructorFeedbackResultsResponseRow> missingResponses = new ArrayList<>();
         FeedbackQuestionDetails questionDetails = questionToDetailsMap.get(question);
@@ -1318,13 +1319,13 @@ public class InstructorFeedbackResultsPageData extends PageData {
      * Given a participantIdentifier, remove it from participantIdentifierList.
      */
     private void removeParticipantIdentifierFromList(
-                    List<String> participantIdentifierList, String participantIdentifier) {
+                    ParticipantSet participantIdentifierList, String participantIdentifier) {
         participantIdentifierList.remove(participantIdentifier);
     }
 
     private List<InstructorFeedbackResultsResponseRow> getRemainingMissingResponseRows(
-            FeedbackQuestionAttributes question, List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
+            FeedbackQuestionAttributes question, ParticipantSet remainingPossibleGivers,
+            ParticipantSet possibleRecipientsForGiver, String prevGiver) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
         if (possibleRecipientsForGiver != null && isMissingResponsesShown) {
@@ -1341,8 +1342,8 @@ public class InstructorFeedbackResultsPageData extends PageData {
                     && !bundle.getSectionFromRoster(possibleGiverWithNoResponses).equals(selectedSection)) {
                 continue;
             }
-            List<String> possibleRecipientsForRemainingGiver =
-                                            bundle.getPossibleRecipients(question, possibleGiverWithNoResponses);
+            ParticipantSet possibleRecipientsForRemainingGiver =
+                                            bundle.getPossibleRecipientSet(question, possibleGiverWithNoResponses);
             if (isMissingResponsesShown) {
                 responseRows.addAll(
                         buildMissingResponseRowsBetweenGiverAndPossibleRecipients(
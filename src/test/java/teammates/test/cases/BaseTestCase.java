@@ -187,6 +187,10 @@ public class BaseTestCase {
         AssertJUnit.assertNotSame(expected, actual);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        AssertJUnit.assertSame(expected, actual);
+    }
+
     protected static void assertNull(Object object) {
         AssertJUnit.assertNull(object);
     }
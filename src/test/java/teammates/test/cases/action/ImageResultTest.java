@@ -0,0 +1,126 @@
+package teammates.test.cases.action;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.testng.annotations.Test;
+
+import com.meterware.httpunit.WebResponse;
+import com.meterware.servletunit.InvocationContext;
+
+import teammates.common.util.Const;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.controller.ImageResult;
+
+/**
+ * SUT: {@link ImageResult}.
+ */
+public class ImageResultTest extends BaseComponentTestCase {
+
+    private static final String BLOB_KEY_HEADER = "X-AppEngine-BlobKey";
+
+    @Test
+    public void testSend_emptyBlobKey_redirectedToDefaultPicture() throws Exception {
+        WebResponse response = send(new ImageResult("/page/studentProfilePic", "", "etag", null, null), null);
+
+        assertEquals(HttpServletResponse.SC_MOVED_TEMPORARILY, response.getResponseCode());
+        assertTrue(response.getHeaderField("Location").endsWith(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH));
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+    }
+
+    @Test
+    public void testSend_noEtag_imageServedWithoutCaching() throws Exception {
+        WebResponse response = send(new ImageResult("/page/studentProfilePic", "blob-key", null, null), "\"blob-key\"");
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+        assertNull(response.getHeaderField("ETag"));
+        assertNull(response.getHeaderField("Cache-Control"));
+    }
+
+    @Test
+    public void testSend_etagWithoutIfNoneMatch_imageServedWithEtag() throws Exception {
+        WebResponse response = send(new ImageResult("/page/studentProfilePic", "blob-key", "etag", null, null), null);
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+        assertEquals("\"etag\"", response.getHeaderField("ETag"));
+        assertEquals("private, no-cache", response.getHeaderField("Cache-Control"));
+    }
+
+    @Test
+    public void testSend_etagQuotedByStorage_etagQuotedOnce() throws Exception {
+        WebResponse response = send(new ImageResult("/page/studentProfilePic", "blob-key", "\"etag\"", null, null),
+                                    "\"etag\"");
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertEquals("\"etag\"", response.getHeaderField("ETag"));
+    }
+
+    @Test
+    public void testSend_matchingIfNoneMatch_notModifiedSent() throws Exception {
+        ImageResult result = new ImageResult("/page/studentProfilePic", "blob-key", "etag", null, null);
+
+        ______TS("exact match");
+
+        WebResponse response = send(result, "\"etag\"");
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+        assertEquals("\"etag\"", response.getHeaderField("ETag"));
+        assertEquals("private, no-cache", response.getHeaderField("Cache-Control"));
+
+        ______TS("match in list of entity tags");
+
+        response = send(result, "\"other\", \"etag\"");
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+
+        ______TS("weak entity tag");
+
+        response = send(result, "W/\"etag\"");
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+
+        ______TS("any entity tag");
+
+        response = send(result, "*");
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+    }
+
+    @Test
+    public void testSend_nonMatchingIfNoneMatch_imageServed() throws Exception {
+        ImageResult result = new ImageResult("/page/studentProfilePic", "blob-key", "etag", null, null);
+
+        ______TS("different entity tags");
+
+        WebResponse response = send(result, "\"other\", W/\"etag2\"");
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+        assertEquals("\"etag\"", response.getHeaderField("ETag"));
+
+        ______TS("unquoted entity tag");
+
+        response = send(result, "etag");
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+    }
+
+    /**
+     * Sends {@code result} in response to a request with {@code ifNoneMatch} as its If-None-Match header
+     * (or without the header if null), and returns the response.
+     */
+    private WebResponse send(ImageResult result, String ifNoneMatch) throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        if (ifNoneMatch != null) {
+            headers.put("If-None-Match", ifNoneMatch);
+        }
+        InvocationContext context =
+                gaeSimulation.getInvocationContext(Const.ActionURIs.STUDENT_PROFILE_PICTURE, headers);
+        result.send(context.getRequest(), context.getResponse());
+        return context.getServletResponse();
+    }
+
+}
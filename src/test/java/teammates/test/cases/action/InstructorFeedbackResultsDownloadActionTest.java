@@ -1,20 +1,16 @@
 package teammates.test.cases.action;
 
-import java.net.URL;
-
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.NullPostParameterException;
-import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.controller.FileDownloadResult;
 import teammates.ui.controller.InstructorFeedbackResultsDownloadAction;
-import teammates.ui.controller.RedirectResult;
 
 /**
  * SUT: {@link InstructorFeedbackResultsDownloadAction}.
@@ -116,19 +112,19 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
         assertEquals(expectedFileName, result.getFileName());
         verifyFileContentForSession1InCourse1WithinSection1(result.getFileContent(), session);
 
-        ______TS("Mock case to throw ExceedingRangeException: data is too large to be downloaded in one go");
+        ______TS("Mock case to throw ExceedingRangeException: data is too large, streamed one question at a time");
 
         action = getAction(paramsWithLargeData);
-        RedirectResult r = getRedirectResult(action);
+        result = getFileDownloadResult(action);
 
-        expectedDestination = getPageResultDestination(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE, true, "");
-        expectedDestination = Config.getAppUrl(expectedDestination)
-                .withCourseId(session.getCourseId()).withUserId("idOfInstructor1OfCourse1")
-                .withSessionName(session.getFeedbackSessionName()).toAbsoluteString();
-        assertEquals(new URL(expectedDestination).getFile(), r.getDestinationWithParams());
-        assertTrue(r.isError);
+        expectedDestination = getPageResultDestination("filedownload", false, "idOfInstructor1OfCourse1");
+        assertEquals(expectedDestination, result.getDestinationWithParams());
+        assertFalse(result.isError);
+        assertEquals("", result.getStatusMessage());
 
-        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED, r.getStatusMessage());
+        expectedFileName = session.getCourseId() + "_" + session.getFeedbackSessionName();
+        assertEquals(expectedFileName, result.getFileName());
+        verifyFileContentForSession1InCourse1(result.getFileContent(), session);
 
         ______TS("Failure case: params with null course id");
 
@@ -223,6 +219,27 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
         expectedFileName = session.getCourseId() + "_" + session.getFeedbackSessionName() + "_Section 1" + "_question1";
         assertEquals(expectedFileName, result.getFileName());
         verifyFileContentForQuestion1Session1InCourse1WithinSection1(result.getFileContent(), session);
+
+        ______TS("Typical case: results downloadable by question, streamed one question at a time");
+
+        String[] paramsQuestion2Streamed = {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_QUESTION_NUMBER, "2",
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, question2Id,
+                Const.ParamsNames.FEEDBACK_RESULTS_STREAM_DOWNLOAD, "true"
+        };
+
+        action = getAction(paramsQuestion2Streamed);
+        result = getFileDownloadResult(action);
+
+        expectedDestination = getPageResultDestination("filedownload", false, "idOfInstructor1OfCourse1");
+        assertEquals(expectedDestination, result.getDestinationWithParams());
+        assertFalse(result.isError);
+
+        expectedFileName = session.getCourseId() + "_" + session.getFeedbackSessionName() + "_question2";
+        assertEquals(expectedFileName, result.getFileName());
+        verifyFileContentForQuestion2Session1InCourse1(result.getFileContent(), session);
     }
 
     private void verifyFileContentForDownloadWithMissingResponsesShown(String fileContent,
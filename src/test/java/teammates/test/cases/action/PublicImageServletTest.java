@@ -0,0 +1,63 @@
+package teammates.test.cases.action;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.testng.annotations.Test;
+
+import com.meterware.httpunit.WebResponse;
+import com.meterware.servletunit.InvocationContext;
+
+import teammates.common.util.Const;
+import teammates.test.cases.BaseComponentTestCase;
+import teammates.ui.controller.PublicImageServlet;
+
+/**
+ * SUT: {@link PublicImageServlet}.
+ */
+public class PublicImageServletTest extends BaseComponentTestCase {
+
+    private static final String BLOB_KEY_HEADER = "X-AppEngine-BlobKey";
+
+    @Test
+    public void testDoGet() throws Exception {
+
+        ______TS("Typical case: image served with immutable caching");
+
+        WebResponse response = doGet(new HashMap<>(), "blob-key");
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+        assertEquals("\"blob-key\"", response.getHeaderField("ETag"));
+        assertEquals("public, max-age=" + Const.SystemParams.IMMUTABLE_IMAGE_MAX_AGE_SECONDS + ", immutable",
+                     response.getHeaderField("Cache-Control"));
+
+        ______TS("Typical case: image already cached by the browser");
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("If-None-Match", "\"blob-key\"");
+        response = doGet(headers, "blob-key");
+
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getResponseCode());
+        assertNull(response.getHeaderField(BLOB_KEY_HEADER));
+        assertEquals("\"blob-key\"", response.getHeaderField("ETag"));
+
+        ______TS("Typical case: browser has a different image cached");
+
+        headers.put("If-None-Match", "\"other-blob-key\"");
+        response = doGet(headers, "blob-key");
+
+        assertEquals(HttpServletResponse.SC_OK, response.getResponseCode());
+        assertEquals("blob-key", response.getHeaderField(BLOB_KEY_HEADER));
+    }
+
+    private WebResponse doGet(Map<String, String> headers, String blobKey) throws Exception {
+        InvocationContext context = gaeSimulation.getInvocationContext(Const.ActionURIs.PUBLIC_IMAGE_SERVE, headers,
+                                                                      Const.ParamsNames.BLOB_KEY, blobKey);
+        new PublicImageServlet().doGet(context.getRequest(), context.getResponse());
+        return context.getServletResponse();
+    }
+
+}
@@ -3,16 +3,20 @@ package teammates.test.cases.action;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import com.google.appengine.tools.cloudstorage.GcsFileMetadata;
+
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.test.driver.AssertHelper;
+import teammates.test.driver.FileHelper;
 import teammates.ui.controller.ImageResult;
 import teammates.ui.controller.StudentProfilePictureAction;
 
@@ -111,6 +115,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         gaeSimulation.loginAsInstructor("idOfInstructor1OfCourse1");
 
         testActionWithEmailAndCourseSuccessTypical(instructor);
+        testActionWithEmailAndCourseThumbnail();
         testActionWithEmailAndCourseNoStudent();
         testActionWithEmailAndCourseForUnregStudent();
     }
@@ -133,6 +138,41 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
     }
 
+    private void testActionWithEmailAndCourseThumbnail() throws Exception {
+
+        ______TS("Typical case: using email and course, picture with thumbnail");
+
+        byte[] picture = FileHelper.readFileAsBytes("src/test/resources/images/profile_pic.png");
+        backDoorLogic.uploadAndUpdateStudentProfilePicture(student.googleId, picture);
+        GcsFileMetadata thumbnail = GoogleCloudStorageHelper.getImageThumbnail(student.googleId);
+        assertNotNull(thumbnail);
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt(student.email),
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student.course)
+        };
+
+        StudentProfilePictureAction action = getAction(submissionParams);
+        ImageResult result = getImageResult(action);
+
+        assertFalse(result.isError);
+        assertEquals(GoogleCloudStorageHelper.getBlobKey(thumbnail), result.blobKey);
+        assertEquals(thumbnail.getEtag(), result.etag);
+
+        ______TS("Typical case: using blobkey, original picture served");
+
+        gaeSimulation.loginAsStudent(student.googleId);
+        String pictureKey = backDoorLogic.getStudentProfile(student.googleId).pictureKey;
+
+        action = getAction(Const.ParamsNames.BLOB_KEY, pictureKey);
+        result = getImageResult(action);
+
+        assertEquals(pictureKey, result.blobKey);
+        assertNull(result.etag);
+
+        gaeSimulation.loginAsInstructor("idOfInstructor1OfCourse1");
+    }
+
     private void testActionWithEmailAndCourseNoStudent() {
         ______TS("Failure case: student does not exist");
 
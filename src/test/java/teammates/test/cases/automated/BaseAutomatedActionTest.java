@@ -2,11 +2,14 @@ package teammates.test.cases.automated;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +49,16 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the tasks of the emails scheduled for sending by the {@code action},
+     * leaving out the tasks which send them in batches.
+     */
+    protected List<TaskWrapper> getEmailTasksAdded(AutomatedAction action) {
+        return action.getTaskQueuer().getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName()))
+                .collect(Collectors.toList());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
@@ -0,0 +1,51 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.CourseStatsRebuildWorkerAction;
+
+/**
+ * SUT: {@link CourseStatsRebuildWorkerAction}.
+ */
+public class CourseStatsRebuildWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_STATS_REBUILD_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+
+        ______TS("typical case: course is tracked after the rebuild");
+
+        assertNull(studentsLogic.getCourseStats(course.getId()));
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, course.getId()
+        };
+
+        CourseStatsRebuildWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        CourseStats stats = studentsLogic.getCourseStats(course.getId());
+        assertEquals(2, stats.sectionsTotal);
+        assertEquals(2, stats.teamsTotal);
+        assertEquals(5, stats.studentsTotal);
+        assertEquals(0, stats.unregisteredTotal);
+    }
+
+    @Override
+    protected CourseStatsRebuildWorkerAction getAction(String... params) {
+        return (CourseStatsRebuildWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,51 @@
+package teammates.test.cases.automated;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.CourseStatsRepairAction;
+
+/**
+ * SUT: {@link CourseStatsRepairAction}.
+ */
+public class CourseStatsRepairActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_COURSE_STATS_REPAIR;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("students of typical data bundle just saved, 1 course without students with statistics just saved");
+
+        String courseWithStatsOnly = dataBundle.courses.get("courseNoEvals").getId();
+        studentsLogic.rebuildCourseStats(courseWithStatsOnly);
+
+        CourseStatsRepairAction action = getAction();
+        action.execute();
+
+        Set<String> coursesRebuilt = action.getTaskQueuer().getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.COURSE_STATS_REBUILD_QUEUE_NAME.equals(task.getQueueName()))
+                .map(task -> task.getParamMap().get(ParamsNames.COURSE_ID)[0])
+                .collect(Collectors.toSet());
+        assertTrue(coursesRebuilt.contains(dataBundle.courses.get("typicalCourse1").getId()));
+        assertTrue(coursesRebuilt.contains(dataBundle.courses.get("typicalCourse2").getId()));
+        assertTrue(coursesRebuilt.contains(courseWithStatsOnly));
+        assertFalse(coursesRebuilt.contains(dataBundle.courses.get("sampleCourse").getId()));
+    }
+
+    @Override
+    protected CourseStatsRepairAction getAction(String... params) {
+        return (CourseStatsRepairAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
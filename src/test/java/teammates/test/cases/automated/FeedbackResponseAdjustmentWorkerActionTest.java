@@ -2,6 +2,7 @@ package teammates.test.cases.automated;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -15,6 +16,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.StudentsLogic;
@@ -72,10 +74,45 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         FeedbackResponseAdjustmentWorkerAction action = getAction(submissionParams);
         action.execute();
 
+        // the session is split into one task per question
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, questions.size());
+
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            Map<String, String[]> paramMap = task.getParamMap();
+            assertEquals(student.course, paramMap.get(ParamsNames.COURSE_ID)[0]);
+            assertNotNull(paramMap.get(ParamsNames.FEEDBACK_QUESTION_ID));
+
+            FeedbackResponseAdjustmentWorkerAction questionAction = getAction(
+                    ParamsNames.COURSE_ID, paramMap.get(ParamsNames.COURSE_ID)[0],
+                    ParamsNames.FEEDBACK_SESSION_NAME, paramMap.get(ParamsNames.FEEDBACK_SESSION_NAME)[0],
+                    ParamsNames.FEEDBACK_QUESTION_ID, paramMap.get(ParamsNames.FEEDBACK_QUESTION_ID)[0],
+                    ParamsNames.ENROLLMENT_DETAILS, paramMap.get(ParamsNames.ENROLLMENT_DETAILS)[0]);
+            questionAction.execute();
+            verifyNoTasksAdded(questionAction);
+        }
+
         List<FeedbackResponseAttributes> newResponsesForSession =
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
 
+        ______TS("no student moved to another team or section : no task is scheduled");
+
+        enrollList.clear();
+        enrollList.add(new StudentEnrollDetails(StudentUpdateStatus.NEW, student.course, "new@email.tmt",
+                                                null, newTeam, null, newSection));
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+        verifyNoTasksAdded(action);
+
     }
 
     @Override
@@ -0,0 +1,60 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.ui.automated.FeedbackResponseAggregatesRebuildWorkerAction;
+
+/**
+ * SUT: {@link FeedbackResponseAggregatesRebuildWorkerAction}.
+ */
+public class FeedbackResponseAggregatesRebuildWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("typical case: questions of the session are tracked after the rebuild");
+
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            frLogic.deleteResponseAggregatesForQuestion(question.getId());
+            assertNull(frLogic.getResponseCountsByGiverForQuestion(question.getId()));
+        }
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName()
+        };
+
+        FeedbackResponseAggregatesRebuildWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            int numberOfResponses = frLogic.getFeedbackResponsesForQuestion(question.getId()).size();
+            assertEquals(numberOfResponses, frLogic.getResponseCountsByGiverForQuestion(question.getId())
+                    .values().stream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    @Override
+    protected FeedbackResponseAggregatesRebuildWorkerAction getAction(String... params) {
+        return (FeedbackResponseAggregatesRebuildWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
@@ -0,0 +1,86 @@
+package teammates.test.cases.automated;
+
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TimeHelper;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.test.driver.TimeHelperExtension;
+import teammates.ui.automated.FeedbackResponseAggregatesRepairAction;
+
+/**
+ * SUT: {@link FeedbackResponseAggregatesRepairAction}.
+ */
+public class FeedbackResponseAggregatesRepairActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_FEEDBACK_RESPONSE_AGGREGATES_REPAIR;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        ______TS("1 open session, 1 session closed recently but in grace period, 1 session closed days ago, "
+                 + "1 session waiting to open");
+
+        // Open; rebuild should be scheduled
+
+        FeedbackSessionAttributes openSession = dataBundle.feedbackSessions.get("session1InCourse1");
+        openSession.setTimeZone(ZoneId.of("UTC"));
+        openSession.setStartTime(TimeHelper.getInstantDaysOffsetFromNow(-2));
+        openSession.setEndTime(TimeHelper.getInstantDaysOffsetFromNow(1));
+        fsLogic.updateFeedbackSession(openSession);
+
+        // Closed more than a day ago but still in grace period within the past day; rebuild should be scheduled
+
+        FeedbackSessionAttributes gracePeriodSession = dataBundle.feedbackSessions.get("gracePeriodSession");
+        gracePeriodSession.setTimeZone(ZoneId.of("UTC"));
+        gracePeriodSession.setStartTime(TimeHelper.getInstantDaysOffsetFromNow(-3));
+        gracePeriodSession.setEndTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-30));
+        fsLogic.updateFeedbackSession(gracePeriodSession);
+
+        // Closed days ago; rebuild should not be scheduled
+
+        FeedbackSessionAttributes closedSession = dataBundle.feedbackSessions.get("session2InCourse1");
+        closedSession.setTimeZone(ZoneId.of("UTC"));
+        closedSession.setStartTime(TimeHelper.getInstantDaysOffsetFromNow(-3));
+        closedSession.setEndTime(TimeHelper.getInstantDaysOffsetFromNow(-2));
+        fsLogic.updateFeedbackSession(closedSession);
+
+        // Waiting to open; rebuild should not be scheduled
+
+        FeedbackSessionAttributes awaitingSession = dataBundle.feedbackSessions.get("awaiting.session");
+        awaitingSession.setTimeZone(ZoneId.of("UTC"));
+        awaitingSession.setStartTime(TimeHelper.getInstantDaysOffsetFromNow(1));
+        awaitingSession.setEndTime(TimeHelper.getInstantDaysOffsetFromNow(2));
+        fsLogic.updateFeedbackSession(awaitingSession);
+
+        FeedbackResponseAggregatesRepairAction action = getAction();
+        action.execute();
+
+        Set<String> sessionsRebuilt = action.getTaskQueuer().getTasksAdded().stream()
+                .filter(task -> Const.TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_QUEUE_NAME
+                        .equals(task.getQueueName()))
+                .map(task -> task.getParamMap().get(ParamsNames.FEEDBACK_SESSION_NAME)[0])
+                .collect(Collectors.toSet());
+        assertTrue(sessionsRebuilt.contains(openSession.getFeedbackSessionName()));
+        assertTrue(sessionsRebuilt.contains(gracePeriodSession.getFeedbackSessionName()));
+        assertFalse(sessionsRebuilt.contains(closedSession.getFeedbackSessionName()));
+        assertFalse(sessionsRebuilt.contains(awaitingSession.getFeedbackSessionName()));
+    }
+
+    @Override
+    protected FeedbackResponseAggregatesRepairAction getAction(String... params) {
+        return (FeedbackResponseAggregatesRepairAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
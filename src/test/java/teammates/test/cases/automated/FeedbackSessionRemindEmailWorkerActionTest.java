@@ -13,9 +13,11 @@ import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
 import teammates.common.util.TaskWrapper;
+import teammates.common.util.Template;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.SharedEmailContentsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.automated.FeedbackSessionRemindEmailWorkerAction;
 
@@ -27,6 +29,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final SharedEmailContentsLogic sharedEmailContentsLogic = SharedEmailContentsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
@@ -75,7 +78,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
                 instructor1.getGoogleId()).email);
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        List<TaskWrapper> tasksAdded = getEmailTasksAdded(action);
         for (TaskWrapper task : tasksAdded) {
             Map<String, String[]> paramMap = task.getParamMap();
             assertEquals(String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), courseName,
@@ -83,7 +86,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
                          paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
 
             String header = "The email below has been sent to students of course: [" + session1.getCourseId() + "]";
-            String content = paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
+            String content = getEmailContent(paramMap);
             String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
 
             if (content.contains(header)) { // notification to only requesting instructors
@@ -109,6 +112,18 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
 
     }
 
+    private String getEmailContent(Map<String, String[]> paramMap) {
+        if (paramMap.containsKey(ParamsNames.EMAIL_CONTENT)) {
+            return paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
+        }
+
+        // the content is shared by all students reminded
+        String contentId = paramMap.get(ParamsNames.EMAIL_CONTENT_ID)[0];
+        Template template = sharedEmailContentsLogic.getSharedEmailContent(contentId);
+        assertNotNull(template);
+        return template.render(paramMap.get(ParamsNames.EMAIL_CONTENT_VALUES));
+    }
+
     @Override
     protected FeedbackSessionRemindEmailWorkerAction getAction(String... params) {
         return (FeedbackSessionRemindEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
@@ -0,0 +1,121 @@
+package teammates.test.cases.automated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.common.util.Template;
+import teammates.test.driver.MockEmailSender;
+import teammates.test.driver.MockTaskQueuer;
+import teammates.ui.automated.SendEmailBatchWorkerAction;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("no emails queued");
+
+        SendEmailBatchWorkerAction action = getAction();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        // no further batch is scheduled when no email is due
+        verifyNoTasksAdded(action);
+
+        ______TS("typical case: emails with shared and separate contents are sent together");
+
+        Template template = Template.compile("<p>Dear ${userName},</p><p>Link: ${submitUrl}</p>");
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = getEmail("recipient" + i + "@email.com");
+            email.setContent(template, "${userName}", "User " + i, "${submitUrl}", "http://submit.url/" + i);
+            emails.add(email);
+        }
+        EmailWrapper separateEmail = getEmail("separate.recipient@email.com");
+        separateEmail.setContent("<p>Separate content</p>");
+        emails.add(separateEmail);
+
+        action = getAction();
+        action.getTaskQueuer().scheduleEmailsForSending(emails);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 4);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 4);
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = emailsSent.get(i);
+            assertEquals("recipient" + i + "@email.com", email.getRecipient());
+            assertEquals("Test subject", email.getSubject());
+            assertEquals("<p>Dear User " + i + ",</p><p>Link: http://submit.url/" + i + "</p>", email.getContent());
+        }
+        // emails with the same content share the same template, so that they can be sent together
+        assertSame(emailsSent.get(0).getContentTemplate(), emailsSent.get(2).getContentTemplate());
+        assertEquals("<p>Separate content</p>", emailsSent.get(3).getContent());
+
+        assertEquals(4, ((MockTaskQueuer) action.getTaskQueuer()).getTasksDeleted().size());
+        // another batch is scheduled in case other emails are due
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+
+        ______TS("emails already sent are not sent again");
+
+        emailsSent.clear();
+        action.execute();
+
+        verifyNoEmailsSent(action);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+
+        ______TS("failure to send an email: only the emails sent are deleted");
+
+        emails.clear();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = getEmail("recipient" + i + "@email.com");
+            email.setContent("<p>Content " + i + "</p>");
+            emails.add(email);
+        }
+
+        action = getAction();
+        ((MockEmailSender) action.getEmailSender()).setFailingRecipient("recipient1@email.com");
+        action.getTaskQueuer().scheduleEmailsForSending(emails);
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+        List<TaskWrapper> emailTasksDeleted = ((MockTaskQueuer) action.getTaskQueuer()).getTasksDeleted();
+        assertEquals(2, emailTasksDeleted.size());
+        assertEquals("recipient0@email.com",
+                emailTasksDeleted.get(0).getParamMap().get(Const.ParamsNames.EMAIL_RECEIVER)[0]);
+        assertEquals("recipient2@email.com",
+                emailTasksDeleted.get(1).getParamMap().get(Const.ParamsNames.EMAIL_RECEIVER)[0]);
+        // the email not sent is leased again by another batch
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 2);
+    }
+
+    private EmailWrapper getEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setSenderEmail("sender@email.com");
+        email.setReplyTo("replyto@email.com");
+        email.setRecipient(recipient);
+        email.setSubject("Test subject");
+        return email;
+    }
+
+    @Override
+    protected SendEmailBatchWorkerAction getAction(String... params) {
+        return (SendEmailBatchWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
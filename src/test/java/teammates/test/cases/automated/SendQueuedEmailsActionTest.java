@@ -0,0 +1,35 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.ui.automated.SendQueuedEmailsAction;
+
+/**
+ * SUT: {@link SendQueuedEmailsAction}.
+ */
+public class SendQueuedEmailsActionTest extends BaseAutomatedActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.AUTOMATED_SEND_QUEUED_EMAILS;
+    }
+
+    @Test
+    public void allTests() {
+
+        ______TS("typical case: a batch is scheduled to send the queued emails which are due");
+
+        SendQueuedEmailsAction action = getAction();
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME, 1);
+        assertTrue(action.getTaskQueuer().getTasksAdded().get(0).getParamMap().isEmpty());
+    }
+
+    @Override
+    protected SendQueuedEmailsAction getAction(String... params) {
+        return (SendQueuedEmailsAction) gaeSimulation.getAutomatedActionObject(getActionUri());
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -8,6 +9,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -75,6 +77,21 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(roster.getInstructorForEmail("ins2@email.com").email, "ins2@email.com");
         assertEquals(roster.getInstructorForEmail("ins2@email.com").name, "Jean");
 
+        ______TS("indexes of teams and sorted participants");
+
+        assertEquals(Arrays.asList("team 1", "team 2"), roster.getSortedTeamNames());
+        assertEquals(2, roster.getStudentsInTeam("team 1").size());
+        assertEquals("s3@gmail.com", roster.getStudentsInTeam("team 2").get(0).email);
+        assertTrue(roster.getStudentsInTeam("non-existent team").isEmpty());
+
+        assertEquals("s1@gmail.com", roster.getSortedStudents().get(0).email);
+        assertEquals("s3@gmail.com", roster.getSortedStudents().get(2).email);
+        assertEquals("Jean", roster.getSortedInstructors().get(0).name);
+        assertEquals("John", roster.getSortedInstructors().get(1).name);
+
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("team 1"));
+        assertEquals(Const.DEFAULT_SECTION, roster.getSectionForTeam("non-existent team"));
+
     }
 
     private List<StudentAttributes> createStudentList(String... studentData) {
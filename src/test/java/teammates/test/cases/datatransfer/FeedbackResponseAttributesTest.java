@@ -1,10 +1,16 @@
 package teammates.test.cases.datatransfer;
 
 import java.time.Instant;
+import java.util.Arrays;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMsqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +50,39 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+        fra.responseMetaData = new Text("Text answer");
+
+        ______TS("details are parsed once for the same response metadata");
+
+        FeedbackResponseDetails details = fra.getResponseDetails();
+        assertEquals("Text answer", details.getAnswerString());
+        assertSame(details, fra.getResponseDetails());
+
+        ______TS("details are parsed again after response metadata is replaced");
+
+        fra.responseMetaData = new Text("Another text answer");
+        assertEquals("Another text answer", fra.getResponseDetails().getAnswerString());
+
+        ______TS("details are parsed again after response details are set");
+
+        FeedbackMsqResponseDetails msqDetails = new FeedbackMsqResponseDetails();
+        msqDetails.answers = Arrays.asList("Option 1", "Option 2");
+        fra.feedbackQuestionType = FeedbackQuestionType.MSQ;
+        fra.setResponseDetails(msqDetails);
+
+        details = fra.getResponseDetails();
+        assertTrue(details instanceof FeedbackMsqResponseDetails);
+        assertEquals(msqDetails.getAnswerString(), details.getAnswerString());
+        assertNotSame(msqDetails, details);
+
+        ______TS("missing response has no details");
+
+        fra.responseMetaData = null;
+        assertNull(fra.getResponseDetails());
+    }
+
 }
@@ -0,0 +1,72 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.ParticipantSet;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link ParticipantSet}.
+ */
+public class ParticipantSetTest extends BaseTestCase {
+
+    @Test
+    public void testOf() {
+        ______TS("participants iterated in the given order");
+        ParticipantSet participants = ParticipantSet.of(Arrays.asList("c@email.com", "a@email.com", "b@email.com"));
+        assertEquals(Arrays.asList("c@email.com", "a@email.com", "b@email.com"), participants.toList());
+        assertEquals(3, participants.size());
+
+        ______TS("repeated participants kept at their first position");
+        participants = ParticipantSet.of("Team 2", "Team 1", "Team 2");
+        assertEquals(Arrays.asList("Team 2", "Team 1"), participants.toList());
+
+        ______TS("no participants");
+        participants = ParticipantSet.of();
+        assertTrue(participants.isEmpty());
+        assertEquals(new ArrayList<String>(), participants.toList());
+    }
+
+    @Test
+    public void testRemove() {
+        ParticipantSet participants = ParticipantSet.of("a@email.com", "b@email.com", "c@email.com");
+
+        assertTrue(participants.remove("b@email.com"));
+        assertFalse(participants.remove("b@email.com"));
+        assertFalse(participants.remove("non-existent@email.com"));
+        assertFalse(participants.contains("b@email.com"));
+        assertEquals(Arrays.asList("a@email.com", "c@email.com"), participants.toList());
+
+        participants.removeIf(participant -> participant.startsWith("c"));
+        assertEquals(Arrays.asList("a@email.com"), participants.toList());
+
+        participants.clear();
+        assertTrue(participants.isEmpty());
+    }
+
+    @Test
+    public void testRetainAll() {
+        ParticipantSet participants = ParticipantSet.of("a@email.com", "b@email.com", "c@email.com", "d@email.com");
+
+        participants.retainAll(new HashSet<>(Arrays.asList("d@email.com", "b@email.com", "non-existent@email.com")));
+        assertEquals(Arrays.asList("b@email.com", "d@email.com"), participants.toList());
+    }
+
+    @Test
+    public void testCopy_modifyCopy_originalUnchanged() {
+        ParticipantSet participants = ParticipantSet.of("a@email.com", "b@email.com");
+        participants.remove("a@email.com");
+
+        ParticipantSet copy = participants.copy();
+        assertEquals(Arrays.asList("b@email.com"), copy.toList());
+
+        copy.remove("b@email.com");
+        assertTrue(copy.isEmpty());
+        assertEquals(Arrays.asList("b@email.com"), participants.toList());
+    }
+
+}
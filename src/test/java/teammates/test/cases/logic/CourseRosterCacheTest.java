@@ -0,0 +1,59 @@
+package teammates.test.cases.logic;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.CourseRosterCache;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link CourseRosterCache}.
+ */
+public class CourseRosterCacheTest extends BaseLogicTest {
+
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testGetCourseRoster() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("outside request scope: roster is read from the database every time");
+
+        CourseRoster roster = rosterCache.getCourseRoster(student.course);
+        assertEquals(student.name, roster.getStudentForEmail(student.email).name);
+        assertNotSame(roster, rosterCache.getCourseRoster(student.course));
+
+        rosterCache.startRequestScope();
+        try {
+            ______TS("within request scope: same roster is returned");
+
+            roster = rosterCache.getCourseRoster(student.course);
+            assertSame(roster, rosterCache.getCourseRoster(student.course));
+            assertEquals(student.name, roster.getStudentForEmail(student.email).name);
+
+            ______TS("within request scope: roster is invalidated when a student is updated");
+
+            StudentAttributes updatedStudent = studentsLogic.getStudentForEmail(student.course, student.email);
+            updatedStudent.name = "New name for roster cache";
+            studentsLogic.updateStudentCascadeWithoutDocument(student.email, updatedStudent);
+
+            CourseRoster updatedRoster = rosterCache.getCourseRoster(student.course);
+            assertNotSame(roster, updatedRoster);
+            assertEquals("New name for roster cache", updatedRoster.getStudentForEmail(student.email).name);
+
+            ______TS("within request scope: roster is invalidated explicitly");
+
+            rosterCache.invalidate(student.course);
+            assertNotSame(updatedRoster, rosterCache.getCourseRoster(student.course));
+        } finally {
+            rosterCache.endRequestScope();
+        }
+
+        ______TS("after request scope: cached roster is discarded");
+
+        assertNotSame(roster, rosterCache.getCourseRoster(student.course));
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.test.cases.logic;
 
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -10,9 +11,11 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseSummaryBundle;
+import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -22,6 +25,7 @@ import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.AccountsDb;
@@ -542,6 +546,31 @@ public class CoursesLogicTest extends BaseLogicTest {
         assertEquals(expectedCourse1.getId(), actualCourse1.course.getId());
         assertEquals(expectedCourse1.getName(), actualCourse1.course.getName());
 
+        ______TS("submission status: same sessions and status as reading each course in turn");
+
+        Map<FeedbackSessionAttributes, Boolean> sessionSubmissionStatusMap = new HashMap<>();
+        courseList = coursesLogic.getCourseDetailsListForStudent(studentInBothCourses.googleId,
+                                                                 sessionSubmissionStatusMap);
+        assertEquals(2, courseList.size());
+
+        int numberOfSessions = 0;
+        for (CourseDetailsBundle course : courseList) {
+            StudentAttributes student = StudentsLogic.inst()
+                    .getStudentForCourseIdAndGoogleId(course.course.getId(), studentInBothCourses.googleId);
+            List<FeedbackSessionAttributes> expectedSessions = FeedbackSessionsLogic.inst()
+                    .getFeedbackSessionsForUserInCourseSkipCheck(course.course.getId(), student.email);
+            assertEquals(expectedSessions.size(), course.feedbackSessions.size());
+
+            for (FeedbackSessionDetailsBundle session : course.feedbackSessions) {
+                boolean isCompleted = FeedbackSessionsLogic.inst()
+                        .isFeedbackSessionCompletedByStudent(session.feedbackSession, student.email);
+                assertEquals(isCompleted, sessionSubmissionStatusMap.get(session.feedbackSession).booleanValue());
+            }
+            numberOfSessions += course.feedbackSessions.size();
+        }
+        assertTrue(numberOfSessions > 0);
+        assertEquals(numberOfSessions, sessionSubmissionStatusMap.size());
+
         // student with no courses is not applicable
         ______TS("non-existent student");
 
@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -12,13 +15,16 @@ import org.testng.annotations.Test;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.Mail;
+import com.sendgrid.Personalization;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Template;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
+import teammates.test.driver.EmailServiceStub;
 
 /**
  * SUT: {@link JavamailService},
@@ -53,6 +59,25 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    /**
+     * Returns emails to different recipients with the same content template.
+     */
+    private List<EmailWrapper> getEmailWrappersWithSharedContent(int numberOfEmails) {
+        Template template = Template.compile("<p>Dear ${userName},</p><p><a href=\"${submitUrl}\">Submit</a></p>");
+        List<EmailWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < numberOfEmails; i++) {
+            EmailWrapper wrapper = new EmailWrapper();
+            wrapper.setSenderName("Sender Name");
+            wrapper.setSenderEmail("sender@email.com");
+            wrapper.setReplyTo("replyto@email.com");
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setSubject("Test subject");
+            wrapper.setContent(template, "${userName}", "User " + i, "${submitUrl}", "http://submit.url/" + i);
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -116,4 +141,91 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertBatchToSendgrid() {
+        List<EmailWrapper> wrappers = getEmailWrappersWithSharedContent(3);
+        Mail email = new SendgridService().parseToEmail(wrappers);
+
+        assertEquals("sender@email.com", email.getFrom().getEmail());
+        assertEquals("replyto@email.com", email.getReplyto().getEmail());
+        assertEquals("Test subject", email.getSubject());
+        assertEquals(3, email.personalization.size());
+        Personalization personalization = email.personalization.get(1);
+        assertEquals("recipient1@email.com", personalization.getTos().get(0).getEmail());
+        assertEquals("User 1", personalization.getSubstitutions().get("${userName}"));
+        assertEquals("http://submit.url/1", personalization.getSubstitutions().get("${submitUrl}"));
+        assertEquals(wrappers.get(0).getContentTemplate().getText(), email.getContent().get(1).getValue());
+    }
+
+    @Test
+    public void testConvertBatchToMailgun() throws Exception {
+        List<EmailWrapper> wrappers = getEmailWrappersWithSharedContent(3);
+        try (FormDataMultiPart formData = new MailgunService().parseToEmail(wrappers)) {
+
+            assertEquals("Sender Name <sender@email.com>", formData.getField("from").getValue());
+            assertEquals(3, formData.getFields("to").size());
+            assertEquals("recipient2@email.com", formData.getFields("to").get(2).getValue());
+            assertEquals("<p>Dear %recipient.userName%,</p><p><a href=\"%recipient.submitUrl%\">Submit</a></p>",
+                    formData.getField("html").getValue());
+
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            assertEquals("User 2", recipientVariables.getJSONObject("recipient2@email.com").getString("userName"));
+            assertEquals("http://submit.url/2",
+                    recipientVariables.getJSONObject("recipient2@email.com").getString("submitUrl"));
+        }
+    }
+
+    @Test
+    public void testConvertBatchToMailjet() {
+        List<EmailWrapper> wrappers = getEmailWrappersWithSharedContent(3);
+        MailjetRequest request = new MailjetService().parseToEmail(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Email.MESSAGES);
+
+        assertEquals(3, messages.length());
+        JSONObject message = messages.getJSONObject(1);
+        assertEquals("recipient1@email.com", message.getJSONArray(Email.RECIPIENTS).getJSONObject(0).get("Email"));
+        assertEquals(wrappers.get(1).getContent(), message.get(Email.HTMLPART));
+    }
+
+    @Test
+    public void testSendBatchToLocalStub() throws Exception {
+        List<EmailWrapper> wrappers = getEmailWrappersWithSharedContent(5);
+        EmailWrapper otherEmail = getTypicalEmailWrapper();
+        wrappers.add(otherEmail);
+
+        try (EmailServiceStub stub = EmailServiceStub.start()) {
+
+            ______TS("Sendgrid: emails with the same content are sent in one request");
+
+            new SendgridService(stub.getHost(), "sendgrid-key").sendEmails(wrappers);
+            assertEquals(2, stub.getRequestBodies().size());
+            assertTrue(stub.getRequestBodies().get(0).contains("recipient4@email.com"));
+            assertTrue(stub.getRequestBodies().get(1).contains(otherEmail.getRecipient()));
+
+            ______TS("Sendgrid: each email sent separately takes one request");
+
+            stub.clear();
+            SendgridService sendgridService = new SendgridService(stub.getHost(), "sendgrid-key");
+            for (EmailWrapper wrapper : wrappers) {
+                sendgridService.sendEmail(wrapper);
+            }
+            assertEquals(6, stub.getRequestBodies().size());
+
+            ______TS("Mailgun: emails with the same content are sent in one request");
+
+            stub.clear();
+            new MailgunService(stub.getUrl(), "mailgun-key", "mailgun.domain").sendEmails(wrappers);
+            assertEquals(2, stub.getRequestBodies().size());
+            assertTrue(stub.getRequestBodies().get(0).contains("%recipient.userName%"));
+
+            ______TS("Mailgun: emails to the same recipient are sent in separate requests");
+
+            stub.clear();
+            List<EmailWrapper> sameRecipientWrappers = getEmailWrappersWithSharedContent(2);
+            sameRecipientWrappers.get(1).setRecipient(sameRecipientWrappers.get(0).getRecipient().toUpperCase());
+            new MailgunService(stub.getUrl(), "mailgun-key", "mailgun.domain").sendEmails(sameRecipientWrappers);
+            assertEquals(2, stub.getRequestBodies().size());
+        }
+    }
+
 }
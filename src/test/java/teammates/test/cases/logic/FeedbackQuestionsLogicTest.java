@@ -9,15 +9,18 @@ import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.CourseRosterCache;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 
@@ -32,6 +35,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     @Test
     public void allTests() throws Exception {
         testGetRecipientsForQuestion();
+        testGetNumberOfRecipientsForQuestion();
         testGetFeedbackQuestionsForInstructor();
         testGetFeedbackQuestionsForStudents();
         testIsQuestionHasResponses();
@@ -114,6 +118,34 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
 
     }
 
+    private void testGetNumberOfRecipientsForQuestion() throws Exception {
+
+        ______TS("same as the number of recipients read from the datastore");
+
+        for (String questionKey : dataBundle.feedbackQuestions.keySet()) {
+            FeedbackQuestionAttributes question = getQuestionFromDatastore(questionKey);
+            CourseRoster roster = CourseRosterCache.inst().getCourseRoster(question.courseId);
+
+            List<String> givers = new ArrayList<>();
+            if (question.giverType == FeedbackParticipantType.STUDENTS
+                    || question.giverType == FeedbackParticipantType.TEAMS) {
+                for (StudentAttributes student : roster.getStudents()) {
+                    givers.add(student.email);
+                }
+            } else {
+                for (InstructorAttributes instructor : roster.getInstructors()) {
+                    givers.add(instructor.email);
+                }
+            }
+
+            for (String giver : givers) {
+                assertEquals(questionKey + " for " + giver,
+                        fqLogic.getRecipientsForQuestion(question, giver).size(),
+                        fqLogic.getNumberOfRecipientsForQuestion(question, giver, roster));
+            }
+        }
+    }
+
     private void testUpdateQuestionNumber() throws Exception {
         ______TS("shift question up");
         List<FeedbackQuestionAttributes> expectedList = new ArrayList<>();
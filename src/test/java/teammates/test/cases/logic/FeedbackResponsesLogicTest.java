@@ -1,7 +1,9 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -24,6 +26,7 @@ import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -56,13 +59,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     public void allTests() throws Exception {
         testIsNameVisibleTo();
         testGetViewableResponsesForQuestionInSection();
+        testGetViewableResponsesForQuestionsInSection();
         testUpdateFeedbackResponse();
         testUpdateFeedbackResponsesForChangingTeam();
         testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
         testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
+        testAdjustFeedbackResponsesForEnrollments();
         testUpdateFeedbackResponsesForChangingEmail();
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
+        testResponseAggregates();
+        testUpdateAndDeleteFeedbackResponsesInBulk();
         testDeleteFeedbackResponsesForCourse();
     }
 
@@ -267,7 +274,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                             getQuestionFromDatastore("qn1InSession1InCourse1").getId(),
                             studentToUpdate.email).size(), 1);
 
-        ______TS("test updateFeedbackResponseForChangingTeam for recipient type = giver's team members including giver");
+        ______TS("test adjustFeedbackResponsesForEnrollments for recipient type = giver's team members including giver");
         FeedbackQuestionAttributes questionToTeamMembersAndSelf =
                                         getQuestionFromDatastore(questionTypeBundle, "qn1InContribSession2InCourse2");
         studentToUpdate = questionTypeBundle.students.get("student2InCourse2");
@@ -282,7 +289,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertNotNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                   responseToBeDeleted.giver,
                                                   responseToBeDeleted.recipient));
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(studentDetails1, responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(questionToTeamMembersAndSelf.getId(),
+                                                      Arrays.asList(studentDetails1));
         assertNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                responseToBeDeleted.giver,
                                                responseToBeDeleted.recipient));
@@ -307,8 +315,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(responseToBeDeleted.feedbackQuestionId,
+                                                      Arrays.asList(enrollmentDetailsToTriggerDeletion));
+        assertNull(frLogic.getFeedbackResponse(responseToBeDeleted.getId()));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate - 1, responseRateAfterDeletion);
@@ -319,13 +328,14 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     private void testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate()
             throws Exception {
+        // the response is deleted as its recipient changes team, but its giver has other responses
         FeedbackResponseAttributes responseToBeDeleted =
-                getResponseFromDatastore(questionTypeBundle, "response1ForQ1S5C1");
+                getResponseFromDatastore(questionTypeBundle, "response2ForQ1S5C1");
         // make sure it's not the last response by the student
         assertTrue(1 < numResponsesFromGiverInSession(responseToBeDeleted.giver,
                                                       responseToBeDeleted.feedbackSessionName,
                                                       responseToBeDeleted.courseId));
-        StudentAttributes student = questionTypeBundle.students.get("student1InCourse1");
+        StudentAttributes student = questionTypeBundle.students.get("student2InCourse1");
         StudentEnrollDetails enrollmentDetailsToTriggerDeletion =
                 new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course,
                                          student.email, student.team, student.team + "tmp", student.section,
@@ -333,8 +343,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(responseToBeDeleted.feedbackQuestionId,
+                                                      Arrays.asList(enrollmentDetailsToTriggerDeletion));
+        assertNull(frLogic.getFeedbackResponse(responseToBeDeleted.getId()));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate, responseRateAfterDeletion);
@@ -343,6 +354,66 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         restoreStudentFeedbackResponseToDatastore(responseToBeDeleted);
     }
 
+    private void testAdjustFeedbackResponsesForEnrollments() throws Exception {
+
+        FeedbackResponseAttributes response = getResponseFromDatastore("response1ForQ2S2C1");
+        StudentAttributes recipient = dataBundle.students.get("student2InCourse1");
+        StudentAttributes uninvolvedStudent = dataBundle.students.get("student3InCourse1");
+
+        ______TS("adjust feedback responses: student not involved in the response changes team");
+
+        StudentEnrollDetails enrollment =
+                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, uninvolvedStudent.course,
+                                         uninvolvedStudent.email, uninvolvedStudent.team,
+                                         uninvolvedStudent.team + "tmp", uninvolvedStudent.section,
+                                         uninvolvedStudent.section + "tmp");
+
+        frLogic.adjustFeedbackResponsesForEnrollments(response.feedbackQuestionId, Arrays.asList(enrollment));
+
+        assertNotNull(frLogic.getFeedbackResponse(response.getId()));
+
+        ______TS("adjust feedback responses: unmodified status");
+
+        enrollment = new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, recipient.course,
+                                              recipient.email, recipient.team, recipient.team + "tmp",
+                                              recipient.section, recipient.section + "tmp");
+
+        frLogic.adjustFeedbackResponsesForEnrollments(response.feedbackQuestionId, Arrays.asList(enrollment));
+
+        assertNotNull(frLogic.getFeedbackResponse(response.getId()));
+
+        ______TS("adjust feedback responses: recipient changes section only");
+
+        enrollment = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, recipient.course,
+                                              recipient.email, recipient.team, recipient.team,
+                                              recipient.section, recipient.section + "tmp");
+
+        frLogic.adjustFeedbackResponsesForEnrollments(response.feedbackQuestionId, Arrays.asList(enrollment));
+
+        FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(response.getId());
+        assertEquals(recipient.section + "tmp", responseAfter.recipientSection);
+        assertEquals(response.giverSection, responseAfter.giverSection);
+
+        enrollment = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, recipient.course,
+                                              recipient.email, recipient.team, recipient.team,
+                                              recipient.section + "tmp", recipient.section);
+        frLogic.adjustFeedbackResponsesForEnrollments(response.feedbackQuestionId, Arrays.asList(enrollment));
+        assertEquals(response.recipientSection, frLogic.getFeedbackResponse(response.getId()).recipientSection);
+
+        ______TS("adjust feedback responses: recipient changes team, response to team member deleted");
+
+        enrollment = new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, recipient.course,
+                                              recipient.email, recipient.team, recipient.team + "tmp",
+                                              recipient.section, recipient.section + "tmp");
+
+        frLogic.adjustFeedbackResponsesForEnrollments(response.feedbackQuestionId, Arrays.asList(enrollment));
+
+        assertNull(frLogic.getFeedbackResponse(response.getId()));
+
+        // restore DataStore so other tests are unaffected
+        restoreStudentFeedbackResponseToDatastore(response);
+    }
+
     private int numResponsesFromGiverInSession(String studentEmail, String sessionName, String courseId) {
         int numResponses = 0;
         for (FeedbackResponseAttributes response : questionTypeBundle.feedbackResponses.values()) {
@@ -356,8 +427,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     private int getResponseRate(String sessionName, String courseId) {
         FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return fsLogic.getInstructorRespondents(sessionFromDataStore).size()
+                + fsLogic.getStudentRespondents(sessionFromDataStore).size();
     }
 
     private void restoreStudentFeedbackResponseToDatastore(FeedbackResponseAttributes response)
@@ -508,6 +579,52 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetViewableResponsesForQuestionsInSection() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("success: same responses as loading question by question - instructor");
+
+        verifyViewableResponsesForQuestionsInSection(questions, instructor.email, UserRole.INSTRUCTOR, null);
+        verifyViewableResponsesForQuestionsInSection(questions, instructor.email, UserRole.INSTRUCTOR, "Section 1");
+        verifyViewableResponsesForQuestionsInSection(questions, instructor.email, UserRole.INSTRUCTOR, "Section 2");
+
+        ______TS("success: same responses as loading question by question - student");
+
+        verifyViewableResponsesForQuestionsInSection(questions, student.email, UserRole.STUDENT, null);
+
+        ______TS("success: no questions");
+
+        assertTrue(frLogic.getViewableFeedbackResponsesForQuestionsInSection(
+                new ArrayList<>(), student.email, UserRole.STUDENT, null).isEmpty());
+    }
+
+    private void verifyViewableResponsesForQuestionsInSection(List<FeedbackQuestionAttributes> questions,
+            String userEmail, UserRole role, String section) {
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion =
+                frLogic.getViewableFeedbackResponsesForQuestionsInSection(questions, userEmail, role, section);
+
+        assertEquals(questions.size(), responsesByQuestion.size());
+        for (FeedbackQuestionAttributes question : questions) {
+            List<String> expectedIds = getResponseIds(
+                    frLogic.getViewableFeedbackResponsesForQuestionInSection(question, userEmail, role, section));
+            List<String> actualIds = getResponseIds(responsesByQuestion.get(question.getId()));
+            assertEquals(expectedIds, actualIds);
+        }
+    }
+
+    private List<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        List<String> responseIds = new ArrayList<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responseIds.add(response.getId());
+        }
+        responseIds.sort(null);
+        return responseIds;
+    }
+
     private void testIsNameVisibleTo() {
 
         ______TS("testIsNameVisibleTo");
@@ -636,6 +753,157 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(remainingResponses.size(), 0);
     }
 
+    private void testResponseAggregates() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore("qn1InSession1InCourse1");
+        String giver = dataBundle.students.get("student1InCourse1").email;
+
+        ______TS("question not tracked: response counts are not available");
+
+        frLogic.deleteResponseAggregatesForQuestion(question.getId());
+        assertNull(frLogic.getResponseCountsByGiverForQuestion(question.getId()));
+        assertNull(frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver));
+        assertFalse(frLogic.getFeedbackResponsesForQuestion(question.getId()).isEmpty());
+        assertTrue(fqLogic.areThereResponsesForQuestion(question.getId()));
+
+        ______TS("rebuild: response counts match the responses of the question");
+
+        frLogic.rebuildResponseAggregatesForSession(question.feedbackSessionName, question.courseId);
+        Map<String, Integer> responseCountsByGiver = frLogic.getResponseCountsByGiverForQuestion(question.getId());
+        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForQuestion(question.getId());
+        assertEquals(responses.size(), responseCountsByGiver.values().stream().mapToInt(Integer::intValue).sum());
+        for (FeedbackResponseAttributes response : responses) {
+            assertEquals(frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), response.giver).size(),
+                    responseCountsByGiver.get(response.giver).intValue());
+        }
+        assertTrue(fqLogic.areThereResponsesForQuestion(question.getId()));
+
+        ______TS("create and delete response: response count of giver is updated");
+
+        int responseCount = frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver);
+        FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(responses.get(0));
+        newResponse.setId(null);
+        newResponse.giver = giver;
+        newResponse.recipient = "recipient.for.aggregates@gmail.tmt";
+
+        frLogic.createFeedbackResponse(newResponse);
+        assertEquals(responseCount + 1,
+                frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+
+        FeedbackResponseAttributes createdResponse =
+                frLogic.getFeedbackResponse(question.getId(), giver, newResponse.recipient);
+        frLogic.deleteFeedbackResponseAndCascade(createdResponse);
+        assertEquals(responseCount, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+
+        ______TS("delete response again: response count of giver is not decremented again");
+
+        assertTrue(responseCount > 0);
+        frLogic.deleteFeedbackResponseAndCascade(createdResponse);
+        assertEquals(responseCount, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+
+        ______TS("delete response given more than once: response count of giver is decremented once");
+
+        frLogic.createFeedbackResponse(newResponse);
+        createdResponse = frLogic.getFeedbackResponse(question.getId(), giver, newResponse.recipient);
+        frLogic.deleteFeedbackResponsesAndCascade(Arrays.asList(createdResponse, createdResponse));
+        assertEquals(responseCount, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+
+        ______TS("delete all responses of question: question is tracked with no responses");
+
+        frLogic.deleteFeedbackResponsesForQuestionAndCascade(question.getId(), false);
+        assertTrue(frLogic.getResponseCountsByGiverForQuestion(question.getId()).isEmpty());
+        assertEquals(0, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+        assertFalse(fqLogic.areThereResponsesForQuestion(question.getId()));
+    }
+
+    private void testUpdateAndDeleteFeedbackResponsesInBulk() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore("qn2InSession1InCourse1");
+        String giver = "bulk.giver@gmail.tmt";
+
+        List<FeedbackResponseAttributes> responsesToCreate = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            responsesToCreate.add(new FeedbackResponseAttributes(
+                    question.feedbackSessionName, question.courseId, question.getId(), question.questionType,
+                    giver, Const.DEFAULT_SECTION, "bulk.recipient" + i + "@gmail.tmt", Const.DEFAULT_SECTION,
+                    new Text("Bulk response " + i)));
+        }
+        frLogic.createFeedbackResponses(responsesToCreate);
+        frLogic.rebuildResponseAggregatesForSession(question.feedbackSessionName, question.courseId);
+
+        ______TS("bulk update: answers are updated and responses with changed recipient are recreated");
+
+        FeedbackResponseAttributes response1 = frLogic.getFeedbackResponse(
+                question.getId(), giver, "bulk.recipient1@gmail.tmt");
+        FeedbackResponseAttributes response2 = frLogic.getFeedbackResponse(
+                question.getId(), giver, "bulk.recipient2@gmail.tmt");
+        response1.responseMetaData = new Text("Updated bulk response 1");
+        response2.recipient = "bulk.recipient4@gmail.tmt";
+
+        frLogic.updateFeedbackResponses(Arrays.asList(response1, response2));
+
+        assertEquals("Updated bulk response 1",
+                frLogic.getFeedbackResponse(response1.getId()).responseMetaData.getValue());
+        assertNull(frLogic.getFeedbackResponse(question.getId(), giver, "bulk.recipient2@gmail.tmt"));
+        assertEquals("Bulk response 2", frLogic.getFeedbackResponse(
+                question.getId(), giver, "bulk.recipient4@gmail.tmt").responseMetaData.getValue());
+        assertEquals(3, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+
+        ______TS("bulk update: response clashing with an existing one does not prevent other updates");
+
+        response1.responseMetaData = new Text("Updated bulk response 1 again");
+        FeedbackResponseAttributes response3 = frLogic.getFeedbackResponse(
+                question.getId(), giver, "bulk.recipient3@gmail.tmt");
+        response3.recipient = "bulk.recipient1@gmail.tmt";
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(response1, response3));
+            signalFailureToDetectException("Should have detected that same giver->recipient response alr exists");
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("Trying to create a Feedback Response that exists", e.getMessage());
+        }
+
+        assertEquals("Updated bulk response 1 again",
+                frLogic.getFeedbackResponse(response1.getId()).responseMetaData.getValue());
+        assertNotNull(frLogic.getFeedbackResponse(question.getId(), giver, "bulk.recipient3@gmail.tmt"));
+
+        ______TS("bulk update: no such response");
+
+        FeedbackResponseAttributes nonExistentResponse = new FeedbackResponseAttributes(response1);
+        nonExistentResponse.setId("invalidId");
+        response1.responseMetaData = new Text("Not updated");
+
+        try {
+            frLogic.updateFeedbackResponses(Arrays.asList(response1, nonExistentResponse));
+            signalFailureToDetectException("Should have detected that this response does not exist");
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("Trying to update a feedback response that does not exist.", e.getMessage());
+        }
+
+        assertEquals("Updated bulk response 1 again",
+                frLogic.getFeedbackResponse(response1.getId()).responseMetaData.getValue());
+
+        ______TS("bulk delete: responses, their comments and response counts are deleted");
+
+        FeedbackResponseCommentAttributes comment = FeedbackResponseCommentAttributes
+                .builder(question.courseId, question.feedbackSessionName, "instructor1@course1.tmt",
+                        new Text("Comment on bulk response"))
+                .withFeedbackQuestionId(question.getId())
+                .withFeedbackResponseId(response1.getId())
+                .build();
+        frcLogic.createFeedbackResponseComment(comment);
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(response1.getId()).isEmpty());
+
+        List<FeedbackResponseAttributes> responsesToDelete =
+                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), giver);
+        assertEquals(3, responsesToDelete.size());
+        responsesToDelete.add(nonExistentResponse);
+
+        frLogic.deleteFeedbackResponsesAndCascade(responsesToDelete);
+
+        assertTrue(frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), giver).isEmpty());
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(response1.getId()).isEmpty());
+        assertEquals(0, frLogic.getResponseCountFromGiverForQuestion(question.getId(), giver).intValue());
+    }
+
     private void testDeleteFeedbackResponsesForCourse() {
         ______TS("standard delete");
 
@@ -1,13 +1,16 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
@@ -37,6 +40,8 @@ import teammates.common.util.TimeHelper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -47,6 +52,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -66,7 +73,9 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForStudent();
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
+        testGetFeedbackSessionResultsForInstructorForStudent();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testWriteFeedbackSessionResultsSummaryInSectionAsCsv();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -79,6 +88,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetUsersWhoHaveNotCompletedFeedbackSession();
+        testGetStudentsWhoHaveNotFullyCompletedFeedbackSession();
 
         testDeleteFeedbackSessionsForCourse();
     }
@@ -935,6 +946,79 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         //TODO: check for cases where a person is both a student and an instructor
     }
 
+    private void testGetFeedbackSessionResultsForInstructorForStudent() throws Exception {
+
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        ______TS("typical case: only the responses from and to the student");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student = responseBundle.students.get("student2InCourse1");
+
+        FeedbackSessionResultsBundle allResults = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        Set<String> expectedResponseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : allResults.responses) {
+            FeedbackResponseAttributes actualResponse = allResults.getActualResponse(response);
+            if (actualResponse.giver.equals(student.email) || actualResponse.recipient.equals(student.email)) {
+                expectedResponseIds.add(response.getId());
+            }
+        }
+
+        FeedbackSessionResultsBundle results = fsLogic.getFeedbackSessionResultsForInstructorForStudent(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, student.email);
+        Set<String> actualResponseIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : results.responses) {
+            actualResponseIds.add(response.getId());
+        }
+
+        assertFalse(expectedResponseIds.isEmpty());
+        assertEquals(expectedResponseIds, actualResponseIds);
+        assertEquals(session.toString(), results.feedbackSession.toString());
+
+        ______TS("contribution question: points normalized over the whole team");
+
+        DataBundle contribBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(contribBundle);
+
+        session = contribBundle.feedbackSessions.get("contribSession");
+        instructor = contribBundle.instructors.get("instructor1OfCourse1");
+        student = contribBundle.students.get("student2InCourse1");
+
+        allResults = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+        results = fsLogic.getFeedbackSessionResultsForInstructorForStudent(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email, student.email);
+
+        Map<String, FeedbackResponseAttributes> allResponses = new HashMap<>();
+        for (FeedbackResponseAttributes response : allResults.responses) {
+            allResponses.put(response.getId(), response);
+        }
+        int numberOfResponsesToStudent = 0;
+        for (FeedbackResponseAttributes response : results.responses) {
+            if (!results.getActualResponse(response).recipient.equals(student.email)) {
+                continue;
+            }
+            numberOfResponsesToStudent++;
+            FeedbackQuestionAttributes question = results.questions.get(response.feedbackQuestionId);
+            assertEquals(allResults.getResponseAnswerHtml(allResponses.get(response.getId()), question),
+                         results.getResponseAnswerHtml(response, question));
+        }
+        assertEquals(1, numberOfResponsesToStudent);
+
+        ______TS("failure: non-existent student");
+
+        try {
+            fsLogic.getFeedbackSessionResultsForInstructorForStudent(session.getFeedbackSessionName(),
+                    session.getCourseId(), instructor.email, "non-existent@email.tmt");
+            signalFailureToDetectException("Did not detect that student does not exist.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Error getting feedback session(s): Student does not exist.", e.getMessage());
+        }
+    }
+
     private void testGetFeedbackSessionResultsSummaryAsCsv() throws Exception {
 
         ______TS("typical case: get all results");
@@ -1737,6 +1821,44 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testWriteFeedbackSessionResultsSummaryInSectionAsCsv() throws Exception {
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("typical case: all questions in all sections are streamed as held in memory");
+
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, null, true, true, writer);
+
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(session.getFeedbackSessionName(),
+                session.getCourseId(), instructor.email, null, true, true), writer.toString());
+
+        ______TS("typical case: all questions in each section are streamed as held in memory");
+
+        for (String section : new String[] {"Section 1", "Section 2"}) {
+            writer = new StringWriter();
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(session.getFeedbackSessionName(),
+                    session.getCourseId(), instructor.email, section, null, true, true, writer);
+
+            assertEquals(fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(session.getFeedbackSessionName(),
+                    session.getCourseId(), instructor.email, section, null, true, true), writer.toString());
+        }
+
+        ______TS("Non-existent Course/Session");
+
+        try {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv("non.existent", "no course",
+                    instructor.email, null, null, true, true, new StringWriter());
+            signalFailureToDetectException("Failed to detect non-existent feedback session.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback session: "
+                         + "no course" + "/" + "non.existent",
+                         e.getMessage());
+        }
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -1863,7 +1985,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(fsLogic.isFeedbackSessionCompletedByInstructor(fs, instructor.email));
     }
 
-    private void testIsFeedbackSessionCompletedByStudent() {
+    private void testIsFeedbackSessionCompletedByStudent() throws Exception {
 
         ______TS("success: empty session");
 
@@ -1871,6 +1993,21 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         StudentAttributes student = dataBundle.students.get("student2InCourse1");
 
         assertTrue(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email));
+
+        ______TS("success: session with questions for students, checked against the respondents of the session");
+
+        fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        student = dataBundle.students.get("student4InCourse1");
+
+        assertFalse(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email));
+
+        fsLogic.addStudentRespondent(student.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        assertTrue(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email));
+        assertTrue(fsLogic.getStudentRespondents(fs).contains(student.email));
+
+        fsLogic.deleteStudentFromRespondentList(student.email, fs.getFeedbackSessionName(), fs.getCourseId());
+        assertFalse(fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email));
+        assertFalse(fsLogic.getStudentRespondents(fs).contains(student.email));
     }
 
     private void testIsFeedbackSessionFullyCompletedByStudent() throws Exception {
@@ -1899,6 +2036,70 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetUsersWhoHaveNotCompletedFeedbackSession() throws Exception {
+
+        ______TS("success: empty session");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("empty.session");
+        assertTrue(fsLogic.getStudentsWhoHaveNotCompletedFeedbackSession(fs).isEmpty());
+        assertTrue(fsLogic.getInstructorsWhoHaveNotCompletedFeedbackSession(fs).isEmpty());
+
+        ______TS("success: same as checking the users one by one");
+
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            session = fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+            if (session == null) {
+                continue;
+            }
+
+            Set<String> expectedStudents = new HashSet<>();
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+                if (!fsLogic.isFeedbackSessionCompletedByStudent(session, student.email)) {
+                    expectedStudents.add(student.email);
+                }
+            }
+            assertEquals(expectedStudents, fsLogic.getStudentsWhoHaveNotCompletedFeedbackSession(session));
+
+            Set<String> expectedInstructors = new HashSet<>();
+            for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(session.getCourseId())) {
+                if (!fsLogic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+                    expectedInstructors.add(instructor.email);
+                }
+            }
+            assertEquals(expectedInstructors, fsLogic.getInstructorsWhoHaveNotCompletedFeedbackSession(session));
+        }
+    }
+
+    private void testGetStudentsWhoHaveNotFullyCompletedFeedbackSession() throws Exception {
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student1OfCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student3OfCourse1 = dataBundle.students.get("student3InCourse1");
+
+        ______TS("success case: fully done by student 1, partially done by student 3");
+
+        Set<String> studentEmails = fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(fs);
+        assertFalse(studentEmails.contains(student1OfCourse1.email));
+        assertTrue(studentEmails.contains(student3OfCourse1.email));
+
+        ______TS("success: same as checking the students one by one");
+
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            if (!fsLogic.isFeedbackSessionExists(session.getFeedbackSessionName(), session.getCourseId())) {
+                continue;
+            }
+
+            Set<String> expected = new HashSet<>();
+            for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+                if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
+                        session.getCourseId(), student.email)) {
+                    expected.add(student.email);
+                }
+            }
+            assertEquals(expected, fsLogic.getStudentsWhoHaveNotFullyCompletedFeedbackSession(session));
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(Instant.now())
@@ -0,0 +1,77 @@
+package teammates.test.cases.logic;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.SharedEmailContentAttributes;
+import teammates.common.util.Template;
+import teammates.logic.core.SharedEmailContentsLogic;
+import teammates.storage.api.SharedEmailContentsDb;
+
+/**
+ * SUT: {@link SharedEmailContentsLogic}.
+ */
+public class SharedEmailContentsLogicTest extends BaseLogicTest {
+
+    private static final SharedEmailContentsLogic sharedEmailContentsLogic = SharedEmailContentsLogic.inst();
+    private static final SharedEmailContentsDb sharedEmailContentsDb = new SharedEmailContentsDb();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testCreateAndGetSharedEmailContent() throws Exception {
+        Template template = Template.compile("<p>Dear ${userName},</p>");
+
+        ______TS("typical case");
+
+        String contentId = sharedEmailContentsLogic.createSharedEmailContent(template);
+
+        assertEquals(template.getText(), sharedEmailContentsDb.getSharedEmailContent(contentId).getContent());
+        assertEquals("<p>Dear User 1,</p>",
+                sharedEmailContentsLogic.getSharedEmailContent(contentId).render("${userName}", "User 1"));
+
+        ______TS("same template stored again: stored with an ID of its own");
+
+        String otherContentId = sharedEmailContentsLogic.createSharedEmailContent(template);
+
+        assertFalse(otherContentId.equals(contentId));
+        assertEquals(template.getText(), sharedEmailContentsLogic.getSharedEmailContent(otherContentId).getText());
+
+        ______TS("content stored elsewhere: read from the database");
+
+        SharedEmailContentAttributes storedContent =
+                SharedEmailContentAttributes.builder("<p>Stored content</p>").build();
+        sharedEmailContentsDb.createSharedEmailContent(storedContent);
+
+        Template storedTemplate = sharedEmailContentsLogic.getSharedEmailContent(storedContent.getContentId());
+        assertEquals("<p>Stored content</p>", storedTemplate.getText());
+        assertSame(storedTemplate, sharedEmailContentsLogic.getSharedEmailContent(storedContent.getContentId()));
+
+        ______TS("non-existent content");
+
+        assertNull(sharedEmailContentsLogic.getSharedEmailContent("non-existent-content-id"));
+    }
+
+    @Test
+    public void testCreateSharedEmailContent_oldContentsStored_oldContentsDeleted() throws Exception {
+        SharedEmailContentAttributes oldContent = SharedEmailContentAttributes.builder("<p>Old content</p>")
+                .withCreatedAt(Instant.now().minus(Duration.ofDays(30)))
+                .build();
+        sharedEmailContentsDb.createSharedEmailContent(oldContent);
+        SharedEmailContentAttributes recentContent = SharedEmailContentAttributes.builder("<p>Recent content</p>")
+                .withCreatedAt(Instant.now().minus(Duration.ofHours(1)))
+                .build();
+        sharedEmailContentsDb.createSharedEmailContent(recentContent);
+
+        sharedEmailContentsLogic.createSharedEmailContent(Template.compile("<p>New content</p>"));
+
+        assertNull(sharedEmailContentsDb.getSharedEmailContent(oldContent.getContentId()));
+        assertNotNull(sharedEmailContentsDb.getSharedEmailContent(recentContent.getContentId()));
+    }
+
+}
@@ -13,14 +13,13 @@ import com.google.appengine.api.datastore.Text;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
-import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -34,8 +33,6 @@ import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
-import teammates.logic.core.FeedbackQuestionsLogic;
-import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.StudentsDb;
@@ -70,7 +67,6 @@ public class StudentsLogicTest extends BaseLogicTest {
         testGetTeamForStudent();
 
         testEnrollStudent();
-        testAdjustFeedbackResponseForEnrollments();
 
         testValidateSections();
         testupdateStudentCascadeWithoutDocument();
@@ -79,6 +75,8 @@ public class StudentsLogicTest extends BaseLogicTest {
 
         testDeleteStudent();
 
+        testCourseStats();
+
     }
 
     /*
@@ -355,90 +353,6 @@ public class StudentsLogicTest extends BaseLogicTest {
 
     }
 
-    private void testAdjustFeedbackResponseForEnrollments() throws Exception {
-
-        // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: no change of team");
-
-        String course1Id = dataBundle.courses.get("typicalCourse1").getId();
-        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
-        StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
-        StudentEnrollDetails studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED,
-                                         course1Id, student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        FeedbackResponseAttributes feedbackResponse1InBundle = dataBundle.feedbackResponses.get("response1ForQ2S2C1");
-        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
-        FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
-        FeedbackQuestionAttributes feedbackQuestionInDb =
-                fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                                            feedbackResponse1InBundle.courseId,
-                                            Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        FeedbackResponseAttributes responseBefore =
-                frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                                            feedbackResponse1InBundle.giver,
-                                            feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
-
-        // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: unmodified status");
-
-        enrollmentList = new ArrayList<>();
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, course1Id,
-                                         student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
-
-        // the code below will cause the feedback to be deleted because
-        // recipient's e-mail is the same as the one in studentEnrollDetails
-        // and the question's recipient's type is own team members
-        ______TS("adjust feedback response: delete after adjustment");
-
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
-                                         student2InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList = new ArrayList<>();
-        enrollmentList.add(studentDetails1);
-
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertNull(responseAfter);
-
-    }
-
     private void testEnrollLinesChecking() throws Exception {
         String info;
         String enrollLines;
@@ -827,6 +741,17 @@ public class StudentsLogicTest extends BaseLogicTest {
             ignoreExpectedException();
         }
 
+        ______TS("invalid course id: valid students are not written");
+
+        enrollLines = headerLine + System.lineSeparator() + "t11|n11|e11@g|c11";
+        try {
+            studentsLogic.enrollStudentsWithoutDocument(enrollLines, invalidCourseId);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("Course does not exist :" + invalidCourseId, e.getMessage());
+        }
+        assertNull(studentsLogic.getStudentForEmail(invalidCourseId, "e11@g"));
+
         ______TS("empty enroll line");
 
         try {
@@ -1171,10 +1096,63 @@ public class StudentsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testCourseStats() throws Exception {
+
+        ______TS("course created through the logic layer: statistics kept up to date by enrollments");
+
+        // the course was created and enrolled into by testEnrollStudents
+        verifyCourseStatsMatchStudents("courseForEnrollTest");
+
+        ______TS("course not tracked: no statistics until rebuilt");
+
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        assertNull(studentsLogic.getCourseStats(courseId));
+
+        studentsLogic.rebuildCourseStats(courseId);
+        verifyCourseStatsMatchStudents(courseId);
+
+        ______TS("typical case: statistics kept up to date as students are created, updated and deleted");
+
+        StudentAttributes student = StudentAttributes.builder(courseId, "Stats Student", "stats.student@email.tmt")
+                .withSection("Section Stats")
+                .withTeam("Team Stats")
+                .withComments("")
+                .build();
+        studentsLogic.createStudentCascadeWithoutDocument(student);
+        verifyCourseStatsMatchStudents(courseId);
+
+        enrollStudent(StudentAttributes.builder(courseId, "Stats Student", student.email)
+                .withSection("Section Stats")
+                .withTeam("Team Stats 2")
+                .withComments("")
+                .build());
+        verifyCourseStatsMatchStudents(courseId);
+
+        student = studentsLogic.getStudentForEmail(courseId, student.email);
+        student.googleId = "stats.student";
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, student);
+        verifyCourseStatsMatchStudents(courseId);
+
+        studentsLogic.resetStudentGoogleId(student.email, courseId, false);
+        verifyCourseStatsMatchStudents(courseId);
+
+        studentsLogic.deleteStudentCascadeWithoutDocument(courseId, student.email);
+        verifyCourseStatsMatchStudents(courseId);
+    }
+
+    private void verifyCourseStatsMatchStudents(String courseId) throws Exception {
+        CourseStats expected = coursesLogic.getCourseSummary(courseId).stats;
+        CourseStats actual = studentsLogic.getCourseStats(courseId);
+
+        assertEquals(expected.sectionsTotal, actual.sectionsTotal);
+        assertEquals(expected.teamsTotal, actual.teamsTotal);
+        assertEquals(expected.studentsTotal, actual.studentsTotal);
+        assertEquals(expected.unregisteredTotal, actual.unregisteredTotal);
+    }
+
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class, Boolean.class },
-                                                   StudentsLogic.inst(), new Object[] { student, false });
+        String enrollLines = "Section|Team|Name|Email|Comments" + System.lineSeparator() + student.toEnrollmentString();
+        return StudentsLogic.inst().enrollStudentsWithoutDocument(enrollLines, student.course).enrollmentList.get(0);
     }
 
     @AfterClass
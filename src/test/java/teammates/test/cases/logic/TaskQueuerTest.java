@@ -0,0 +1,132 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.api.TaskQueuer;
+
+/**
+ * SUT: {@link TaskQueuer}.
+ */
+public class TaskQueuerTest extends BaseLogicTest {
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @AfterMethod
+    public void flushQueues() {
+        getLocalTaskQueue().flushQueue(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME);
+        getLocalTaskQueue().flushQueue(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME);
+        getLocalTaskQueue().flushQueue(Const.TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_QUEUE_NAME);
+        getLocalTaskQueue().flushQueue(Const.TaskQueue.COURSE_STATS_REBUILD_QUEUE_NAME);
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_batchFailedAfterPartlyAdded_emailsNotDuplicated() {
+        TaskQueuer taskQueuer = new TaskQueuer() {
+            private boolean isFailing = true;
+
+            @Override
+            protected void addTasks(List<TaskWrapper> tasks) {
+                if (isFailing) {
+                    isFailing = false;
+                    super.addTasks(tasks.subList(0, tasks.size() / 2));
+                    throw new RuntimeException("Simulated failure after adding half of the tasks");
+                }
+                super.addTasks(tasks);
+            }
+        };
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setSenderEmail("sender@email.com");
+            email.setReplyTo("replyto@email.com");
+            email.setRecipient("recipient" + i + "@email.com");
+            email.setSubject("Test subject");
+            email.setContent("<p>Content " + i + "</p>");
+            emails.add(email);
+        }
+
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        assertEquals(4, getLocalTaskQueue().getQueueStateInfo()
+                .get(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME).getCountTasks());
+        assertEquals(1, getLocalTaskQueue().getQueueStateInfo()
+                .get(Const.TaskQueue.SEND_EMAIL_BATCH_QUEUE_NAME).getCountTasks());
+    }
+
+    @Test
+    public void testLeaseEmailsForSending_emailFailedTooManyTimes_emailDeletedInsteadOfLeased() {
+        List<TaskWrapper> tasksDeleted = new ArrayList<>();
+        TaskQueuer taskQueuer = new TaskQueuer() {
+            @Override
+            protected List<TaskWrapper> leaseTasks(String queueName, long leaseSeconds, int maxTasks) {
+                return Arrays.asList(getLeasedEmailTask("email-0", 0), getLeasedEmailTask("email-1", 4),
+                                     getLeasedEmailTask("email-2", 5));
+            }
+
+            @Override
+            protected void deleteTasks(List<TaskWrapper> tasks) {
+                tasksDeleted.addAll(tasks);
+            }
+        };
+
+        List<TaskWrapper> emailTasks = taskQueuer.leaseEmailsForSending();
+
+        assertEquals(2, emailTasks.size());
+        assertEquals("email-0", emailTasks.get(0).getTaskName());
+        assertEquals("email-1", emailTasks.get(1).getTaskName());
+        assertEquals(1, tasksDeleted.size());
+        assertEquals("email-2", tasksDeleted.get(0).getTaskName());
+    }
+
+    @Test
+    public void testScheduleResponseAggregatesRebuildForSession_scheduledRepeatedly_rebuildAddedOncePerSession() {
+        TaskQueuer taskQueuer = new TaskQueuer();
+
+        taskQueuer.scheduleResponseAggregatesRebuildForSession("course", "session");
+        taskQueuer.scheduleResponseAggregatesRebuildForSession("course", "session");
+        taskQueuer.scheduleResponseAggregatesRebuildForSession("course", "other session");
+
+        assertEquals(2, getLocalTaskQueue().getQueueStateInfo()
+                .get(Const.TaskQueue.FEEDBACK_RESPONSE_AGGREGATES_REBUILD_QUEUE_NAME).getCountTasks());
+    }
+
+        @Test
+    public void testScheduleCourseStatsRebuild_scheduledRepeatedly_rebuildAddedOncePerCourse() {
+        TaskQueuer taskQueuer = new TaskQueuer();
+
+        taskQueuer.scheduleCourseStatsRebuild("course");
+        taskQueuer.scheduleCourseStatsRebuild("course");
+        taskQueuer.scheduleCourseStatsRebuild("other-course");
+
+        assertEquals(2, getLocalTaskQueue().getQueueStateInfo()
+                .get(Const.TaskQueue.COURSE_STATS_REBUILD_QUEUE_NAME).getCountTasks());
+    }
+
+        private static TaskWrapper getLeasedEmailTask(String taskName, int retryCount) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(Const.ParamsNames.EMAIL_RECEIVER, new String[] { taskName + "@email.com" });
+        return TaskWrapper.ofLeasedTask(taskName, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, paramMap, retryCount);
+    }
+
+    private static LocalTaskQueue getLocalTaskQueue() {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue();
+    }
+
+}
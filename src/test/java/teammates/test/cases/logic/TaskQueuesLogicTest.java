@@ -0,0 +1,106 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.taskqueue.dev.LocalTaskQueue;
+import com.google.appengine.api.taskqueue.dev.QueueStateInfo;
+import com.google.appengine.tools.development.testing.LocalTaskQueueTestConfig;
+
+import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.TaskQueuesLogic;
+
+/**
+ * SUT: {@link TaskQueuesLogic}.
+ */
+public class TaskQueuesLogicTest extends BaseLogicTest {
+
+    private static final String PUSH_QUEUE_NAME = Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME;
+    private static final String PUSH_QUEUE_WORKER_URL = Const.TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL;
+    private static final String PULL_QUEUE_NAME = Const.TaskQueue.SEND_EMAIL_QUEUE_NAME;
+
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @AfterMethod
+    public void flushQueues() {
+        getLocalTaskQueue().flushQueue(PUSH_QUEUE_NAME);
+        getLocalTaskQueue().flushQueue(PULL_QUEUE_NAME);
+    }
+
+    @Test
+    public void testAddTasks_moreTasksThanAllowedPerAdd_allTasksAdded() {
+        int numberOfTasks = TaskQueuesLogic.getMaxTasksPerAdd() * 2 + 1;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < numberOfTasks; i++) {
+            tasks.add(new TaskWrapper(PUSH_QUEUE_NAME, PUSH_QUEUE_WORKER_URL, getParamMap("push" + i)));
+        }
+        tasks.add(new TaskWrapper(PULL_QUEUE_NAME, null, getParamMap("pull")));
+
+        taskQueuesLogic.addTasks(tasks);
+
+        assertEquals(numberOfTasks, getQueueStateInfo(PUSH_QUEUE_NAME).getCountTasks());
+        assertEquals(1, getQueueStateInfo(PULL_QUEUE_NAME).getCountTasks());
+    }
+
+    @Test
+    public void testAddTasks_tasksWithCountdown_tasksDeferred() {
+        long countdownMillis = 60 * 60 * 1000;
+        long timeBeforeAdd = System.currentTimeMillis();
+
+        taskQueuesLogic.addTasks(Arrays.asList(
+                new TaskWrapper(PUSH_QUEUE_NAME, PUSH_QUEUE_WORKER_URL, getParamMap("deferred"), countdownMillis),
+                new TaskWrapper(PUSH_QUEUE_NAME, PUSH_QUEUE_WORKER_URL, getParamMap("immediate"))));
+
+        List<QueueStateInfo.TaskStateInfo> taskInfos = getQueueStateInfo(PUSH_QUEUE_NAME).getTaskInfo();
+        assertEquals(2, taskInfos.size());
+        long latestEtaMillis = Math.max(taskInfos.get(0).getEtaMillis(), taskInfos.get(1).getEtaMillis());
+        long earliestEtaMillis = Math.min(taskInfos.get(0).getEtaMillis(), taskInfos.get(1).getEtaMillis());
+        assertTrue(latestEtaMillis >= timeBeforeAdd + countdownMillis);
+        assertTrue(earliestEtaMillis < timeBeforeAdd + countdownMillis);
+    }
+
+    @Test
+    public void testAddTasks_namedTasksAddedAgain_tasksNotDuplicated() {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(new TaskWrapper("named-task-" + i, PULL_QUEUE_NAME, null, getParamMap("named" + i), 0));
+        }
+
+        ______TS("part of the tasks added, e.g. by a call which failed");
+
+        taskQueuesLogic.addTasks(tasks.subList(0, 2));
+        assertEquals(2, getQueueStateInfo(PULL_QUEUE_NAME).getCountTasks());
+
+        ______TS("all tasks added again: only the remaining task is added");
+
+        taskQueuesLogic.addTasks(tasks);
+        assertEquals(3, getQueueStateInfo(PULL_QUEUE_NAME).getCountTasks());
+    }
+
+    private static Map<String, String[]> getParamMap(String value) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(Const.ParamsNames.EMAIL_SUBJECT, new String[] { value });
+        return paramMap;
+    }
+
+    private static QueueStateInfo getQueueStateInfo(String queueName) {
+        return getLocalTaskQueue().getQueueStateInfo().get(queueName);
+    }
+
+    private static LocalTaskQueue getLocalTaskQueue() {
+        return LocalTaskQueueTestConfig.getLocalTaskQueue();
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.test.cases.storage;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -56,6 +57,36 @@ public class AccountsDbTest extends BaseComponentTestCase {
         }
     }
 
+    @Test
+    public void testGetAccounts() throws Exception {
+        int numOfInstructors = 3;
+        createInstructorAccounts(numOfInstructors);
+
+        ______TS("typical success case: non-existent and empty IDs omitted");
+        List<AccountAttributes> retrieved = accountsDb.getAccounts(Arrays.asList("id.0", "id.2", "non.existent", ""));
+
+        assertEquals(2, retrieved.size());
+        List<String> retrievedGoogleIds = new ArrayList<>();
+        for (AccountAttributes account : retrieved) {
+            retrievedGoogleIds.add(account.googleId);
+            assertNull(account.studentProfile);
+        }
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList("id.0", "id.2"), retrievedGoogleIds);
+
+        ______TS("no IDs");
+        assertEquals(0, accountsDb.getAccounts(new ArrayList<>()).size());
+
+        ______TS("failure: null parameter");
+        try {
+            accountsDb.getAccounts(null);
+            signalFailureToDetectException(" - AssertionError");
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+
+        deleteInstructorAccounts(numOfInstructors);
+    }
+
     @Test
     public void testGetInstructorAccounts() throws Exception {
         int numOfInstructors = 3;
@@ -1,5 +1,8 @@
 package teammates.test.cases.storage;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -446,6 +449,47 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForReceiverForSession() {
+
+        ______TS("standard success case");
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesForReceiverForSession("student1InCourse1@gmail.tmt",
+                        feedbackSessionName, courseId);
+
+        assertEquals(2, responses.size());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesForReceiverForSession(null, feedbackSessionName, courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.getFeedbackResponsesForReceiverForSession("student1InCourse1@gmail.tmt", null, courseId);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("non-existent session");
+
+        assertTrue(frDb.getFeedbackResponsesForReceiverForSession(
+                "student1InCourse1@gmail.tmt", "non-existent session", courseId).isEmpty());
+
+        ______TS("non-existent receiver");
+
+        assertTrue(frDb.getFeedbackResponsesForReceiverForSession(
+                "non-existentStudentInCourse1@gmail.tmt", feedbackSessionName, courseId).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesFromGiverForQuestion() {
 
@@ -821,6 +865,102 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testAdjustResponseCounts() {
+        String questionId = "aggregatesTestQuestionId";
+        String untrackedQuestionId = "untrackedAggregatesTestQuestionId";
+        frDb.deleteResponseAggregatesForQuestion(untrackedQuestionId);
+
+        Map<String, Integer> initialResponseCounts = new HashMap<>();
+        initialResponseCounts.put("giver1@email.tmt", 2);
+        initialResponseCounts.put("giver2@email.tmt", 1);
+        frDb.putResponseAggregatesForQuestion(questionId, "fsTest1", "testCourse", initialResponseCounts);
+
+        ______TS("deltas of many givers applied together");
+
+        Map<String, Integer> deltasByGiver = new HashMap<>();
+        for (int i = 1; i <= 20; i++) {
+            deltasByGiver.put("giver" + i + "@email.tmt", 1);
+        }
+        deltasByGiver.put("giver2@email.tmt", -1);
+        Map<String, Map<String, Integer>> deltasByQuestionAndGiver = new HashMap<>();
+        deltasByQuestionAndGiver.put(questionId, deltasByGiver);
+        deltasByQuestionAndGiver.put(untrackedQuestionId, deltasByGiver);
+
+        frDb.adjustResponseCounts(deltasByQuestionAndGiver);
+
+        Map<String, Integer> responseCountsByGiver = frDb.getResponseCountsByGiverForQuestion(questionId);
+        assertEquals(19, responseCountsByGiver.size());
+        assertEquals(3, responseCountsByGiver.get("giver1@email.tmt").intValue());
+        assertFalse(responseCountsByGiver.containsKey("giver2@email.tmt"));
+        assertEquals(1, responseCountsByGiver.get("giver20@email.tmt").intValue());
+
+        ______TS("question not tracked: deltas skipped");
+
+        assertNull(frDb.getResponseCountsByGiverForQuestion(untrackedQuestionId));
+
+        frDb.deleteResponseAggregatesForQuestion(questionId);
+    }
+
+    @Test
+    public void testRebuildResponseAggregatesForQuestion() {
+        String questionId = "rebuildAggregatesTestQuestionId";
+        frDb.deleteResponseAggregatesForQuestion(questionId);
+
+        Map<String, Integer> responseCounts = new HashMap<>();
+        responseCounts.put("giver1@email.tmt", 2);
+
+        ______TS("question not tracked: question tracked with the counts");
+
+        frDb.rebuildResponseAggregatesForQuestion(questionId, "fsTest1", "testCourse", responseCounts, Instant.now());
+        assertEquals(responseCounts, frDb.getResponseCountsByGiverForQuestion(questionId));
+
+        ______TS("counted before the shards were last saved: recently saved shards kept");
+
+        Map<String, Integer> staleResponseCounts = new HashMap<>();
+        staleResponseCounts.put("giver1@email.tmt", 1);
+        frDb.rebuildResponseAggregatesForQuestion(questionId, "fsTest1", "testCourse", staleResponseCounts,
+                Instant.now().minus(Duration.ofMinutes(5)));
+        assertEquals(responseCounts, frDb.getResponseCountsByGiverForQuestion(questionId));
+
+        ______TS("counted well after the shards were last saved: shards replaced");
+
+        frDb.rebuildResponseAggregatesForQuestion(questionId, "fsTest1", "testCourse", staleResponseCounts,
+                Instant.now().plus(Duration.ofMinutes(5)));
+        assertEquals(staleResponseCounts, frDb.getResponseCountsByGiverForQuestion(questionId));
+
+        frDb.deleteResponseAggregatesForQuestion(questionId);
+    }
+
+    @Test
+    public void testGetResponseCountsByGiverForQuestions() {
+        String questionId = "batchAggregatesTestQuestionId";
+        String otherQuestionId = "otherBatchAggregatesTestQuestionId";
+        String untrackedQuestionId = "untrackedBatchAggregatesTestQuestionId";
+        frDb.deleteResponseAggregatesForQuestion(untrackedQuestionId);
+
+        Map<String, Integer> responseCounts = new HashMap<>();
+        responseCounts.put("giver1@email.tmt", 2);
+        responseCounts.put("giver2@email.tmt", 1);
+        frDb.putResponseAggregatesForQuestion(questionId, "fsTest1", "testCourse", responseCounts);
+        frDb.putResponseAggregatesForQuestion(otherQuestionId, "fsTest1", "testCourse", new HashMap<>());
+
+        ______TS("all questions tracked: counts of each question returned");
+
+        Map<String, Map<String, Integer>> responseCountsByQuestionAndGiver =
+                frDb.getResponseCountsByGiverForQuestions(Arrays.asList(questionId, otherQuestionId));
+        assertEquals(2, responseCountsByQuestionAndGiver.size());
+        assertEquals(responseCounts, responseCountsByQuestionAndGiver.get(questionId));
+        assertTrue(responseCountsByQuestionAndGiver.get(otherQuestionId).isEmpty());
+
+        ______TS("a question not tracked: null returned");
+
+        assertNull(frDb.getResponseCountsByGiverForQuestions(Arrays.asList(questionId, untrackedQuestionId)));
+
+        frDb.deleteResponseAggregatesForQuestion(questionId);
+        frDb.deleteResponseAggregatesForQuestion(otherQuestionId);
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
 
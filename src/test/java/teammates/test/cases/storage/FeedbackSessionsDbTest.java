@@ -6,7 +6,9 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.testng.annotations.AfterClass;
@@ -281,6 +283,47 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testRespondents() {
+        FeedbackSessionAttributes session = getNewFeedbackSession();
+        FeedbackSessionAttributes otherSession = getNewFeedbackSession();
+        otherSession.setFeedbackSessionName("fsTest2");
+        fsDb.deleteRespondentsForSession(session);
+        fsDb.deleteRespondentsForSession(otherSession);
+
+        ______TS("number of respondents counted for all sessions in course at once");
+
+        fsDb.addStudentRespondents(Arrays.asList("student1@email.com", "student2@email.com"), session);
+        fsDb.addInstructorRespondent("instructor@email.com", session);
+        fsDb.addStudentRespondent("student1@email.com", otherSession);
+
+        assertEquals(3, fsDb.getNumberOfRespondents(session));
+        Map<String, Integer> numberOfRespondents = fsDb.getNumberOfRespondentsForCourse(session.getCourseId());
+        assertEquals(2, numberOfRespondents.size());
+        assertEquals(3, numberOfRespondents.get(session.getFeedbackSessionName()).intValue());
+        assertEquals(1, numberOfRespondents.get(otherSession.getFeedbackSessionName()).intValue());
+        assertTrue(fsDb.getNumberOfRespondentsForCourse("non.existent.course").isEmpty());
+
+        ______TS("respondent moved to new email");
+
+        fsDb.updateStudentRespondent("student1@email.com", "student3@email.com", session);
+
+        assertFalse(fsDb.hasStudentRespondent("student1@email.com", session));
+        assertTrue(fsDb.hasStudentRespondent("student3@email.com", session));
+        assertTrue(fsDb.hasStudentRespondent("student1@email.com", otherSession));
+        assertEquals(3, fsDb.getNumberOfRespondents(session));
+
+        ______TS("non-respondent not added by update");
+
+        fsDb.updateStudentRespondent("student4@email.com", "student5@email.com", session);
+
+        assertFalse(fsDb.hasStudentRespondent("student5@email.com", session));
+        assertEquals(3, fsDb.getNumberOfRespondents(session));
+
+        fsDb.deleteRespondentsForSession(session);
+        fsDb.deleteRespondentsForSession(otherSession);
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
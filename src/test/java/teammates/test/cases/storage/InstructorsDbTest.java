@@ -1,6 +1,7 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -278,6 +279,42 @@ public class InstructorsDbTest extends BaseComponentTestCase {
         }
     }
 
+    @Test
+    public void testGetInstructorsForCourses() {
+
+        ______TS("Success: get instructors of several courses, including a non-existent one");
+
+        List<InstructorAttributes> retrieved = instructorsDb.getInstructorsForCourses(
+                Arrays.asList("idOfTypicalCourse1", "idOfTypicalCourse2", "non-exist-course"));
+
+        List<InstructorAttributes> expected = new ArrayList<>(instructorsDb.getInstructorsForCourse("idOfTypicalCourse1"));
+        expected.addAll(instructorsDb.getInstructorsForCourse("idOfTypicalCourse2"));
+        assertEquals(expected.size(), retrieved.size());
+        List<String> expectedIds = new ArrayList<>();
+        for (InstructorAttributes instructor : expected) {
+            expectedIds.add(instructor.getIdentificationString());
+        }
+        List<String> retrievedIds = new ArrayList<>();
+        for (InstructorAttributes instructor : retrieved) {
+            retrievedIds.add(instructor.getIdentificationString());
+        }
+        AssertHelper.assertSameContentIgnoreOrder(expectedIds, retrievedIds);
+
+        ______TS("Failure: no courses");
+
+        retrieved = instructorsDb.getInstructorsForCourses(new ArrayList<>());
+        assertEquals(0, retrieved.size());
+
+        ______TS("Failure: null parameters");
+
+        try {
+            instructorsDb.getInstructorsForCourses(null);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getMessage());
+        }
+    }
+
     @Test
     public void testUpdateInstructorByGoogleId() throws Exception {
 
@@ -0,0 +1,137 @@
+package teammates.test.cases.storage;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Set;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.KeyFactory;
+import com.googlecode.objectify.cache.EntityMemcacheStats;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Config;
+import teammates.storage.api.CoursesDb;
+import teammates.storage.api.OfyHelper;
+import teammates.storage.entity.Course;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link OfyHelper}.
+ */
+public class OfyHelperTest extends BaseComponentTestCase {
+
+    private static final String COURSE_KIND = Course.class.getSimpleName();
+
+    private CoursesDb coursesDb = new CoursesDb();
+
+    private DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+
+    private final Set<String> initialEntityCacheKinds = Config.ENTITY_CACHE_KINDS;
+
+    @AfterMethod
+    public void resetEntityCacheKinds() throws Exception {
+        setEntityCacheKinds(initialEntityCacheKinds);
+    }
+
+    @Test
+    public void testOfyForLoading_kindListed_readThroughEntityCache() throws Exception {
+        setEntityCacheKinds(Collections.singleton(COURSE_KIND));
+        assertTrue(OfyHelper.isEntityCacheEnabled(Course.class));
+
+        CourseAttributes course = createCourse("OfyHT.listed.course", "Cached name");
+        assertEquals("Cached name", loadCourseName(course.getId()));
+
+        ______TS("changed in datastore only: entity still read from the cache");
+
+        long hitsBefore = getEntityCacheHits();
+        setCourseNameInDatastoreOnly(course.getId(), "Datastore name");
+
+        assertEquals("Cached name", loadCourseName(course.getId()));
+        assertTrue(getEntityCacheHits() > hitsBefore);
+
+        ______TS("saved: cached entity invalidated");
+
+        course.setName("Saved name");
+        coursesDb.updateCourse(course);
+        setCourseNameInDatastoreOnly(course.getId(), "Datastore name after save");
+
+        assertEquals("Datastore name after save", loadCourseName(course.getId()));
+
+        ______TS("deleted: cached entity invalidated");
+
+        assertEquals("Datastore name after save", loadCourseName(course.getId()));
+        coursesDb.deleteCourse(course.getId());
+
+        ofy().clear();
+        assertNull(coursesDb.getCourse(course.getId()));
+    }
+
+    @Test
+    public void testOfyForLoading_kindNotListed_readFromDatastore() throws Exception {
+        setEntityCacheKinds(Collections.emptySet());
+        assertFalse(OfyHelper.isEntityCacheEnabled(Course.class));
+
+        CourseAttributes course = createCourse("OfyHT.unlisted.course", "Saved name");
+        assertEquals("Saved name", loadCourseName(course.getId()));
+
+        long hitsBefore = getEntityCacheHits();
+        setCourseNameInDatastoreOnly(course.getId(), "Datastore name");
+
+        assertEquals("Datastore name", loadCourseName(course.getId()));
+        assertEquals(hitsBefore, getEntityCacheHits());
+
+        coursesDb.deleteCourse(course.getId());
+    }
+
+    private CourseAttributes createCourse(String courseId, String courseName) throws Exception {
+        CourseAttributes course = CourseAttributes.builder(courseId, courseName, ZoneId.of("UTC")).build();
+        coursesDb.deleteCourse(courseId);
+        coursesDb.createEntity(course);
+        return course;
+    }
+
+    /**
+     * Loads the name of the course outside of the Objectify session cache,
+     * which would otherwise return the entity loaded before.
+     */
+    private String loadCourseName(String courseId) {
+        ofy().clear();
+        return coursesDb.getCourse(courseId).getName();
+    }
+
+    /**
+     * Changes the name of the course with the low-level datastore API, which bypasses the global entity cache.
+     */
+    private void setCourseNameInDatastoreOnly(String courseId, String courseName) throws Exception {
+        Entity entity = datastore.get(KeyFactory.createKey(COURSE_KIND, courseId));
+        entity.setProperty("name", courseName);
+        datastore.put(entity);
+    }
+
+    private static void setEntityCacheKinds(Set<String> entityCacheKinds) throws Exception {
+        Field field = Config.class.getDeclaredField("ENTITY_CACHE_KINDS");
+        field.setAccessible(true);
+
+        // remove final modifier from field
+        Field modifiersField = Field.class.getDeclaredField("modifiers");
+        modifiersField.setAccessible(true);
+        modifiersField.setInt(field, field.getModifiers() & ~Modifier.FINAL);
+
+        field.set(null, entityCacheKinds);
+    }
+
+    private long getEntityCacheHits() {
+        EntityMemcacheStats.Stat stat = OfyHelper.getEntityCacheStats().get(COURSE_KIND);
+        return stat == null ? 0 : stat.getHits();
+    }
+
+}
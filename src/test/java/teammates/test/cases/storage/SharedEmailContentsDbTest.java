@@ -0,0 +1,85 @@
+package teammates.test.cases.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.SharedEmailContentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.SharedEmailContentsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link SharedEmailContentsDb}.
+ */
+public class SharedEmailContentsDbTest extends BaseComponentTestCase {
+
+    private SharedEmailContentsDb sharedEmailContentsDb = new SharedEmailContentsDb();
+
+    @Test
+    public void testCreateAndGetSharedEmailContent() throws Exception {
+
+        ______TS("typical case");
+
+        SharedEmailContentAttributes content = SharedEmailContentAttributes.builder("<p>Dear ${userName},</p>").build();
+        sharedEmailContentsDb.createSharedEmailContent(content);
+
+        SharedEmailContentAttributes retrieved = sharedEmailContentsDb.getSharedEmailContent(content.getContentId());
+        assertEquals("<p>Dear ${userName},</p>", retrieved.getContent());
+        assertEquals(content.getCreatedAt().toEpochMilli(), retrieved.getCreatedAt().toEpochMilli());
+
+        ______TS("same text stored again: stored with an ID of its own");
+
+        SharedEmailContentAttributes sameContent =
+                SharedEmailContentAttributes.builder("<p>Dear ${userName},</p>").build();
+        sharedEmailContentsDb.createSharedEmailContent(sameContent);
+
+        assertFalse(sameContent.getContentId().equals(content.getContentId()));
+        assertNotNull(sharedEmailContentsDb.getSharedEmailContent(content.getContentId()));
+        assertNotNull(sharedEmailContentsDb.getSharedEmailContent(sameContent.getContentId()));
+
+        ______TS("non-existent content");
+
+        assertNull(sharedEmailContentsDb.getSharedEmailContent("non-existent-content-id"));
+
+        ______TS("null parameter");
+
+        try {
+            sharedEmailContentsDb.getSharedEmailContent(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteSharedEmailContentsCreatedBefore() throws Exception {
+        Instant now = Instant.now();
+        SharedEmailContentAttributes oldContent = SharedEmailContentAttributes.builder("<p>Old content</p>")
+                .withCreatedAt(now.minus(Duration.ofDays(3)))
+                .build();
+        SharedEmailContentAttributes newContent = SharedEmailContentAttributes.builder("<p>New content</p>")
+                .withCreatedAt(now)
+                .build();
+        sharedEmailContentsDb.createSharedEmailContent(oldContent);
+        sharedEmailContentsDb.createSharedEmailContent(newContent);
+
+        ______TS("typical case: only contents stored before the given time are deleted");
+
+        sharedEmailContentsDb.deleteSharedEmailContentsCreatedBefore(now.minus(Duration.ofDays(1)));
+
+        assertNull(sharedEmailContentsDb.getSharedEmailContent(oldContent.getContentId()));
+        assertNotNull(sharedEmailContentsDb.getSharedEmailContent(newContent.getContentId()));
+
+        ______TS("null parameter");
+
+        try {
+            sharedEmailContentsDb.deleteSharedEmailContentsCreatedBefore(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+}
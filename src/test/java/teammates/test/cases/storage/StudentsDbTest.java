@@ -3,6 +3,12 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -242,6 +248,79 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testCreateAndUpdateStudents() throws Exception {
+        String courseId = "bulk-enroll-course";
+        StudentAttributes existingStudent = StudentAttributes
+                .builder(courseId, "existing student", "existing@email.com")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .withGoogleId("existingGoogleId")
+                .build();
+        studentsDb.createEntity(existingStudent);
+
+        ______TS("success: students are created and updated together");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(courseId, "new student", "new@email.com")
+                .withComments("new comment")
+                .withTeam("Team 2")
+                .withSection("Section 2")
+                .build();
+        StudentAttributes modifiedStudent = StudentAttributes
+                .builder(courseId, "existing student", "existing@email.com")
+                .withComments("modified comment")
+                .withTeam("Team 2")
+                .withSection("Section 2")
+                .withGoogleId("existingGoogleId")
+                .build();
+
+        studentsDb.createAndUpdateStudents(Arrays.asList(newStudent), Arrays.asList(modifiedStudent), false);
+
+        assertTrue(studentsDb.getStudentForEmail(courseId, newStudent.email).isEnrollInfoSameAs(newStudent));
+        StudentAttributes updatedStudent = studentsDb.getStudentForEmail(courseId, modifiedStudent.email);
+        assertTrue(updatedStudent.isEnrollInfoSameAs(modifiedStudent));
+        assertEquals("existingGoogleId", updatedStudent.googleId);
+        assertEquals(2, studentsDb.getStudentsForCourse(courseId).size());
+
+        ______TS("failure: student to create already exists, nothing is written");
+
+        StudentAttributes anotherNewStudent = StudentAttributes
+                .builder(courseId, "another new student", "another@email.com")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .build();
+
+        try {
+            studentsDb.createAndUpdateStudents(Arrays.asList(anotherNewStudent, newStudent),
+                    new ArrayList<StudentAttributes>(), false);
+            signalFailureToDetectException();
+        } catch (EntityAlreadyExistsException e) {
+            AssertHelper.assertContains(newStudent.getIdentificationString(), e.getMessage());
+        }
+        assertNull(studentsDb.getStudentForEmail(courseId, anotherNewStudent.email));
+
+        ______TS("failure: student to update does not exist, nothing is written");
+
+        try {
+            studentsDb.createAndUpdateStudents(Arrays.asList(anotherNewStudent), Arrays.asList(
+                    StudentAttributes.builder(courseId, "non-existent student", "nonexistent@email.com")
+                            .withComments("")
+                            .withTeam("Team 1")
+                            .withSection("Section 1")
+                            .build()),
+                    false);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(StudentsDb.ERROR_UPDATE_NON_EXISTENT_STUDENT, e.getMessage());
+        }
+        assertNull(studentsDb.getStudentForEmail(courseId, anotherNewStudent.email));
+
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testDeleteStudent() throws InvalidParametersException, EntityDoesNotExistException {
@@ -285,6 +364,56 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testRebuildCourseStats() {
+        String courseId = "rebuild-stats-course";
+        StudentAttributes student = StudentAttributes
+                .builder(courseId, "valid student", "valid@email.com")
+                .withComments("")
+                .withTeam("validTeamName")
+                .withSection("validSectionName")
+                .withGoogleId("")
+                .build();
+
+        ______TS("course not tracked: course tracked with the students");
+
+        studentsDb.rebuildCourseStats(courseId, Arrays.asList(student), Instant.now());
+        assertEquals(1, studentsDb.getCourseStats(courseId).studentsTotal);
+
+        ______TS("counted before the statistics were last saved: recently saved statistics kept");
+
+        studentsDb.rebuildCourseStats(courseId, new ArrayList<>(), Instant.now().minus(Duration.ofMinutes(5)));
+        assertEquals(1, studentsDb.getCourseStats(courseId).studentsTotal);
+
+        ______TS("counted well after the statistics were last saved: statistics replaced");
+
+        studentsDb.rebuildCourseStats(courseId, new ArrayList<>(), Instant.now().plus(Duration.ofMinutes(5)));
+        assertEquals(0, studentsDb.getCourseStats(courseId).studentsTotal);
+
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+    }
+
+    @Test
+    public void testGetCourseIdsWithStudentsOrStatsSavedAfter() throws Exception {
+        Instant beforeSave = Instant.now().minus(Duration.ofSeconds(1));
+        StudentAttributes student = createNewStudent("saved.after@email.com");
+        studentsDb.rebuildCourseStats("stats-saved-after-course", new ArrayList<>(), Instant.now());
+
+        ______TS("students and statistics saved after the given time: their courses returned");
+
+        Set<String> courseIds = studentsDb.getCourseIdsWithStudentsOrStatsSavedAfter(beforeSave);
+        assertTrue(courseIds.contains(student.course));
+        assertTrue(courseIds.contains("stats-saved-after-course"));
+
+        ______TS("nothing saved after the given time: no courses returned");
+
+        assertTrue(studentsDb.getCourseIdsWithStudentsOrStatsSavedAfter(Instant.now().plus(Duration.ofDays(1)))
+                .isEmpty());
+
+        studentsDb.deleteStudentWithoutDocument(student.course, student.email);
+        studentsDb.deleteStudentsForCourseWithoutDocument("stats-saved-after-course");
+    }
+
     private StudentAttributes createNewStudent() throws InvalidParametersException {
         StudentAttributes s = StudentAttributes
                 .builder("valid-course", "valid student", "valid@email.com")
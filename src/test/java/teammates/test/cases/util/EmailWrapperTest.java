@@ -0,0 +1,42 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Template;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link EmailWrapper}.
+ */
+public class EmailWrapperTest extends BaseTestCase {
+
+    @Test
+    public void testSetContent() {
+        Template template = Template.compile("<p>Dear ${userName},</p><p>${message}</p>");
+        EmailWrapper email = new EmailWrapper();
+
+        ______TS("content set as template: rendered with the values of the email");
+
+        email.setContent(template, "${userName}", "User 1", "${message}", "Hello");
+
+        assertSame(template, email.getContentTemplate());
+        assertEquals(4, email.getContentValues().length);
+        assertEquals("<p>Dear User 1,</p><p>Hello</p>", email.getContent());
+
+        ______TS("content set as text: template and values cleared");
+
+        email.setContent("<p>Plain content</p>");
+
+        assertNull(email.getContentTemplate());
+        assertNull(email.getContentValues());
+        assertEquals("<p>Plain content</p>", email.getContent());
+
+        ______TS("content set as template again: rendered anew");
+
+        email.setContent(template, "${userName}", "User 2", "${message}", "Bye");
+
+        assertEquals("<p>Dear User 2,</p><p>Bye</p>", email.getContent());
+    }
+
+}
@@ -0,0 +1,79 @@
+package teammates.test.cases.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.GroupReceiverListReader;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link GroupReceiverListReader}.
+ */
+public class GroupReceiverListReaderTest extends BaseTestCase {
+
+    private static final String RECEIVER_LIST = "alice@example.com, bob@example.com,\n,charlie@example.com,";
+
+    @Test
+    public void testReadNextReceiver() throws IOException {
+        ______TS("typical case: whitespace removed and empty entries skipped");
+        assertEquals(Arrays.asList("alice@example.com", "bob@example.com", "charlie@example.com"),
+                readAll(RECEIVER_LIST, 0));
+
+        ______TS("empty list");
+        assertEquals(new ArrayList<String>(), readAll("", 0));
+        assertEquals(new ArrayList<String>(), readAll(" ,\n", 0));
+
+        ______TS("no trailing separator");
+        assertEquals(Arrays.asList("alice@example.com"), readAll("alice@example.com", 0));
+    }
+
+    @Test
+    public void testGetOffset_resumeFromOffset_remainingReceiversRead() throws IOException {
+        long offset;
+        try (GroupReceiverListReader reader = new GroupReceiverListReader(getStream(RECEIVER_LIST, 0), 0)) {
+            assertEquals(0, reader.getOffset());
+            assertEquals("alice@example.com", reader.readNextReceiver());
+            assertEquals("alice@example.com,".length(), reader.getOffset());
+            assertEquals("bob@example.com", reader.readNextReceiver());
+            offset = reader.getOffset();
+        }
+
+        assertEquals(Arrays.asList("charlie@example.com"), readAll(RECEIVER_LIST, offset));
+
+        ______TS("offset at end of list");
+        try (GroupReceiverListReader reader = new GroupReceiverListReader(getStream(RECEIVER_LIST, 0), 0)) {
+            while (reader.readNextReceiver() != null) {
+                // read the whole list
+            }
+            assertEquals(RECEIVER_LIST.length(), reader.getOffset());
+        }
+    }
+
+    private static List<String> readAll(String receiverList, long offset) throws IOException {
+        List<String> receivers = new ArrayList<>();
+        try (GroupReceiverListReader reader = new GroupReceiverListReader(getStream(receiverList, offset), offset)) {
+            String receiver = reader.readNextReceiver();
+            while (receiver != null) {
+                receivers.add(receiver);
+                receiver = reader.readNextReceiver();
+            }
+        }
+        return receivers;
+    }
+
+    /**
+     * Returns a stream of the list positioned at {@code offset}, like a stream of the stored file would be.
+     */
+    private static InputStream getStream(String receiverList, long offset) {
+        byte[] bytes = receiverList.getBytes(StandardCharsets.UTF_8);
+        return new ByteArrayInputStream(bytes, (int) offset, bytes.length - (int) offset);
+    }
+
+}
@@ -0,0 +1,43 @@
+package teammates.test.cases.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import com.google.gson.reflect.TypeToken;
+
+import teammates.common.util.JsonUtils;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link JsonUtils}.
+ */
+public class JsonUtilsTest extends BaseTestCase {
+
+    @Test
+    public void testDateTimeTypes_roundTrip_valuesPreserved() {
+        Map<String, Instant> instants = new HashMap<>();
+        instants.put("instant", Instant.parse("2018-04-01T12:30:45.123Z"));
+
+        String json = JsonUtils.toJson(instants);
+        assertTrue(json.contains("\"2018-04-01T12:30:45.123Z\""));
+
+        Map<String, Instant> parsedInstants =
+                JsonUtils.fromJson(json, new TypeToken<Map<String, Instant>>(){}.getType());
+        assertEquals(instants.get("instant"), parsedInstants.get("instant"));
+
+        ZoneId zoneId = ZoneId.of("Asia/Singapore");
+        assertEquals("\"Asia/Singapore\"", JsonUtils.toJson(zoneId, ZoneId.class));
+        assertEquals(zoneId, JsonUtils.fromJson(JsonUtils.toJson(zoneId, ZoneId.class), ZoneId.class));
+
+        Duration duration = Duration.ofMinutes(15);
+        assertEquals("15", JsonUtils.toJson(duration, Duration.class));
+        assertEquals(duration, JsonUtils.fromJson("15", Duration.class));
+        assertNull(JsonUtils.fromJson("null", Duration.class));
+    }
+
+}
@@ -0,0 +1,55 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Template;
+import teammates.common.util.Templates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Template}.
+ */
+public class TemplateTest extends BaseTestCase {
+
+    @Test
+    public void testRender() {
+        String text = "Hi ${userName}, ${courseName} (${courseId}) has ${unknown} ${ and $ {userName}. Bye ${userName}";
+        Template template = Template.compile(text);
+
+        ______TS("typical case: same result as replacing each key in turn");
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Programming",
+                "${courseId}", "CS1101"
+        };
+        assertEquals(Templates.populateTemplate(text, keyValuePairs), template.render(keyValuePairs));
+        assertEquals("Hi Alice, Programming (CS1101) has ${unknown} ${ and $ {userName}. Bye Alice",
+                template.render(keyValuePairs));
+
+        ______TS("no values: text is unchanged");
+        assertEquals(text, template.render());
+        assertEquals(text, template.getText());
+
+        ______TS("placeholders inside values are not replaced");
+        assertEquals("Hi ${courseId}, ${courseName} (CS1101) has ${unknown} ${ and $ {userName}. Bye ${courseId}",
+                template.render("${userName}", "${courseId}", "${courseId}", "CS1101"));
+
+        ______TS("render into shared builder");
+        StringBuilder builder = new StringBuilder("start:");
+        Template.compile("[${a}]").renderTo(builder, "${a}", "1");
+        Template.compile("[${a}]").renderTo(builder, "${a}", "2");
+        assertEquals("start:[1][2]", builder.toString());
+    }
+
+    @Test
+    public void testBind() {
+        Template template = Template.compile("<div>${fragment}</div><p>${userName}</p>");
+
+        Template boundTemplate = template.bind("${fragment}", "Join ${courseName}");
+
+        assertEquals("<div>Join ${courseName}</div><p>${userName}</p>", boundTemplate.getText());
+        assertEquals("<div>Join CS1101</div><p>Alice</p>",
+                boundTemplate.render("${courseName}", "CS1101", "${userName}", "Alice"));
+    }
+
+}
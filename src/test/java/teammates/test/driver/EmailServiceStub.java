@@ -0,0 +1,97 @@
+package teammates.test.driver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local stub of the HTTP API of email services, e.g. SendGrid and Mailgun.
+ *
+ * <p>The stub accepts every request and records its body without sending any email, so that
+ * the requests made by the email services can be checked, and their throughput measured, offline.
+ */
+public final class EmailServiceStub implements AutoCloseable {
+
+    private static final byte[] RESPONSE_BODY = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final List<String> requestBodies = Collections.synchronizedList(new ArrayList<>());
+
+    private EmailServiceStub(HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts a stub listening on a free local port.
+     */
+    public static EmailServiceStub start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        EmailServiceStub stub = new EmailServiceStub(server);
+        server.createContext("/", stub::handle);
+        server.start();
+        return stub;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = requestBody.read(buffer)) != -1) {
+                body.write(buffer, 0, length);
+            }
+            requestBodies.add(new String(body.toByteArray(), StandardCharsets.UTF_8));
+        }
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(RESPONSE_BODY);
+        }
+    }
+
+    /**
+     * Returns the host and port of the stub, e.g. {@code localhost:8080}.
+     */
+    public String getHost() {
+        return "localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the base URL of the stub, ending with a slash.
+     */
+    public String getUrl() {
+        return "http://" + getHost() + "/";
+    }
+
+    /**
+     * Returns the bodies of the requests received so far, in the order they were received.
+     */
+    public List<String> getRequestBodies() {
+        synchronized (requestBodies) {
+            return new ArrayList<>(requestBodies);
+        }
+    }
+
+    /**
+     * Forgets the requests received so far.
+     */
+    public void clear() {
+        requestBodies.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+}
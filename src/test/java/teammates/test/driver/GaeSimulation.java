@@ -14,8 +14,10 @@ import javax.servlet.http.HttpServletRequest;
 
 import com.google.appengine.api.log.dev.LocalLogService;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalImagesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -75,12 +77,14 @@ public class GaeSimulation {
         LocalUserServiceTestConfig localUserServices = new LocalUserServiceTestConfig();
         LocalDatastoreServiceTestConfig localDatastore = new LocalDatastoreServiceTestConfig();
         LocalMailServiceTestConfig localMail = new LocalMailServiceTestConfig();
+        LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
         LocalSearchServiceTestConfig localSearch = new LocalSearchServiceTestConfig();
         localSearch.setPersistent(false);
         LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
         LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
-        helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
-                                            localTasks, localSearch, localModules, localLog);
+        LocalImagesServiceTestConfig localImages = new LocalImagesServiceTestConfig();
+        helper = new LocalServiceTestHelper(localDatastore, localMail, localMemcache, localUserServices,
+                                            localTasks, localSearch, localModules, localLog, localImages);
 
         helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
         helper.setUp();
@@ -189,6 +193,23 @@ public class GaeSimulation {
         return action;
     }
 
+    /**
+     * Returns the context of a request to {@code uri} with the request headers {@code headers},
+     * in which the response to the request can be written and then inspected.
+     *
+     * @param parameters Parameters that appear in a HttpServletRequest received by the app.
+     */
+    public InvocationContext getInvocationContext(String uri, Map<String, String> headers, String... parameters) {
+        WebRequest request = createWebRequestWithParameters(uri, parameters);
+        headers.forEach(request::setHeaderField);
+
+        try {
+            return sc.newInvocation(request);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     /**
      * Tears down the GAE simulation.
      */
@@ -205,6 +226,18 @@ public class GaeSimulation {
 
     private HttpServletRequest createWebRequest(String uri, String... parameters) {
 
+        WebRequest request = createWebRequestWithParameters(uri, parameters);
+
+        try {
+            InvocationContext ic = sc.newInvocation(request);
+            return ic.getRequest();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private WebRequest createWebRequestWithParameters(String uri, String... parameters) {
+
         WebRequest request = new PostMethodWebRequest("http://localhost" + uri);
 
         if (Const.SystemParams.PAGES_REQUIRING_ORIGIN_VALIDATION.contains(uri)) {
@@ -226,12 +259,7 @@ public class GaeSimulation {
 
         paramMultiMap.forEach((key, values) -> request.setParameter(key, values.toArray(new String[0])));
 
-        try {
-            InvocationContext ic = sc.newInvocation(request);
-            return ic.getRequest();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return request;
     }
 
     /**
@@ -3,6 +3,7 @@ package teammates.test.driver;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
 
@@ -15,12 +16,30 @@ import teammates.logic.api.EmailSender;
 public class MockEmailSender extends EmailSender {
 
     private List<EmailWrapper> sentEmails = new ArrayList<>();
+    private String failingRecipient;
 
     @Override
     public void sendEmail(EmailWrapper email) {
         sentEmails.add(email);
     }
 
+    @Override
+    public void sendEmails(List<EmailWrapper> emails) throws EmailSendingException {
+        for (EmailWrapper email : emails) {
+            if (email.getRecipient().equals(failingRecipient)) {
+                throw new EmailSendingException(new Exception("Simulated failure to send to " + failingRecipient));
+            }
+        }
+        sentEmails.addAll(emails);
+    }
+
+    /**
+     * Makes the sending of emails to {@code recipient} fail, e.g. as if it were rejected by the email service.
+     */
+    public void setFailingRecipient(String recipient) {
+        failingRecipient = recipient;
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
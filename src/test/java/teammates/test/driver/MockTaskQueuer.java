@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import teammates.common.util.TaskWrapper;
 import teammates.logic.api.TaskQueuer;
@@ -17,6 +18,8 @@ import teammates.logic.api.TaskQueuer;
 public class MockTaskQueuer extends TaskQueuer {
 
     private List<TaskWrapper> tasksAdded = new ArrayList<>();
+    private List<TaskWrapper> tasksLeased = new ArrayList<>();
+    private List<TaskWrapper> tasksDeleted = new ArrayList<>();
 
     @Override
     protected void addTask(String queueName, String workerUrl, Map<String, String> paramMap) {
@@ -39,6 +42,41 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    protected void addTasks(List<TaskWrapper> tasks) {
+        // like a queue, named tasks which have been added are not added again
+        for (TaskWrapper task : tasks) {
+            boolean isAdded = task.getTaskName() != null
+                    && tasksAdded.stream().anyMatch(addedTask -> task.getTaskName().equals(addedTask.getTaskName()));
+            if (!isAdded) {
+                tasksAdded.add(task);
+            }
+        }
+    }
+
+    @Override
+    protected List<TaskWrapper> leaseTasks(String queueName, long leaseSeconds, int maxTasks) {
+        // lease time not tested; tasks which are leased but not deleted are not leased again
+        List<TaskWrapper> leasedTasks = tasksAdded.stream()
+                .filter(task -> queueName.equals(task.getQueueName()) && !tasksLeased.contains(task))
+                .limit(maxTasks)
+                .collect(Collectors.toList());
+        tasksLeased.addAll(leasedTasks);
+        return leasedTasks;
+    }
+
+    @Override
+    protected void deleteTasks(List<TaskWrapper> tasks) {
+        tasksDeleted.addAll(tasks);
+    }
+
+    /**
+     * Gets the tasks deleted from pull queues after being leased.
+     */
+    public List<TaskWrapper> getTasksDeleted() {
+        return tasksDeleted;
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;